@@ -2,9 +2,13 @@ package org.eclipse.rap.e4.internal;
 
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceReference;
 import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.event.EventAdmin;
+import org.osgi.service.event.EventConstants;
+import org.osgi.service.event.EventHandler;
 import org.osgi.util.tracker.ServiceTracker;
+import org.osgi.util.tracker.ServiceTrackerCustomizer;
 
 public class Activator implements BundleActivator {
 	private static Activator singleton;
@@ -13,6 +17,8 @@ public class Activator implements BundleActivator {
 	private ServiceRegistration handlerServiceReg;
 	
 	private ServiceTracker eventAdminTracker;
+	private ServiceTracker eventHandlerTracker;
+	private final ExternalEventHandlers externalEventHandlers = new ExternalEventHandlers();
 	private BundleContext bundleContext;
 
 	/*
@@ -26,6 +32,17 @@ public class Activator implements BundleActivator {
 	public void start(BundleContext context) throws Exception {
 		bundleContext = context;
 		singleton = this;
+		eventHandlerTracker = new ServiceTracker(context, EventHandler.class.getName(),
+				new ExternalEventHandlerCustomizer());
+		eventHandlerTracker.open();
+	}
+
+	/*
+	 * Returns whether an event handler service of another bundle is
+	 * registered for the given topic.
+	 */
+	public boolean hasExternalEventHandler(String topic) {
+		return externalEventHandlers.matches(topic);
 	}
 	
 	/*
@@ -53,6 +70,11 @@ public class Activator implements BundleActivator {
 			eventAdminTracker.close();
 			eventAdminTracker = null;
 		}
+		if (eventHandlerTracker != null) {
+			eventHandlerTracker.close();
+			eventHandlerTracker = null;
+		}
+		RAPEventBus.shutdown();
 		bundleContext = null;
 		singleton = null;
 	}
@@ -60,4 +82,24 @@ public class Activator implements BundleActivator {
 	public BundleContext getBundleContext() {
 		return bundleContext;
 	}
-}
\ No newline at end of file
+
+	// Tracks the topics of the event handlers that are not registered by this
+	// bundle, the handlers of the event buses are registered by this bundle
+	private final class ExternalEventHandlerCustomizer implements ServiceTrackerCustomizer {
+
+		public Object addingService(ServiceReference reference) {
+			if (reference.getBundle() == bundleContext.getBundle())
+				return null;
+			externalEventHandlers.put(reference, reference.getProperty(EventConstants.EVENT_TOPIC));
+			return reference;
+		}
+
+		public void modifiedService(ServiceReference reference, Object service) {
+			externalEventHandlers.put(reference, reference.getProperty(EventConstants.EVENT_TOPIC));
+		}
+
+		public void removedService(ServiceReference reference, Object service) {
+			externalEventHandlers.remove(reference);
+		}
+	}
+}
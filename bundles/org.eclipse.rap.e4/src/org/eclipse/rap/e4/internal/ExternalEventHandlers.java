@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The topics of the <code>EventHandler</code> services that other bundles
+ * have registered with the event admin. The event broker passes events on to
+ * the event admin only if one of these handlers is interested in them.
+ */
+final class ExternalEventHandlers {
+
+	private static final String WILDCARD = "*"; //$NON-NLS-1$
+
+	private final Map<Object, String[]> topics = new HashMap<Object, String[]>();
+
+	/**
+	 * Adds or replaces the topics of a handler.
+	 *
+	 * @param topicProperty the value of the handler's
+	 *            <code>EventConstants.EVENT_TOPIC</code> property
+	 */
+	synchronized void put(Object handler, Object topicProperty) {
+		String[] handlerTopics = toTopics(topicProperty);
+		if (handlerTopics.length == 0) {
+			topics.remove(handler);
+		} else {
+			topics.put(handler, handlerTopics);
+		}
+	}
+
+	synchronized void remove(Object handler) {
+		topics.remove(handler);
+	}
+
+	synchronized boolean matches(String topic) {
+		for (String[] handlerTopics : topics.values()) {
+			for (String handlerTopic : handlerTopics) {
+				if (matches(handlerTopic, topic))
+					return true;
+			}
+		}
+		return false;
+	}
+
+	static boolean matches(String handlerTopic, String topic) {
+		if (WILDCARD.equals(handlerTopic))
+			return true;
+		if (handlerTopic.endsWith("/" + WILDCARD)) //$NON-NLS-1$
+			return topic.startsWith(handlerTopic.substring(0, handlerTopic.length() - 1));
+		return handlerTopic.equals(topic);
+	}
+
+	private static String[] toTopics(Object topicProperty) {
+		if (topicProperty instanceof String)
+			return new String[] { (String) topicProperty };
+		if (topicProperty instanceof String[])
+			return (String[]) topicProperty;
+		if (topicProperty instanceof Collection<?>) {
+			Collection<?> collection = (Collection<?>) topicProperty;
+			return collection.toArray(new String[collection.size()]);
+		}
+		return new String[0];
+	}
+}
@@ -19,10 +19,9 @@ import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
 import org.eclipse.e4.ui.model.application.MApplication;
 import org.eclipse.e4.ui.workbench.IWorkbench;
 import org.eclipse.osgi.util.NLS;
+import org.eclipse.rap.e4.internal.RAPEventBus.Subscription;
 import org.osgi.framework.Bundle;
-import org.osgi.framework.BundleContext;
 import org.osgi.framework.BundleException;
-import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.event.Event;
 import org.osgi.service.event.EventAdmin;
 import org.osgi.service.event.EventConstants;
@@ -33,7 +32,9 @@ public class RAPEventBroker implements IEventBroker {
 
 	    private static final String	ASYNC_EVENT = "rap.async.event";
 
-		private Map<EventHandler, Collection<ServiceRegistration<?>>> registrations = new HashMap<EventHandler, Collection<ServiceRegistration<?>>>();
+		private Map<EventHandler, Collection<Subscription>> registrations = new HashMap<EventHandler, Collection<Subscription>>();
+
+		private RAPEventBus eventBus;
 
 		@Inject
 		Logger logger;
@@ -70,28 +71,36 @@ public class RAPEventBroker implements IEventBroker {
 			// placeholder
 		}
 
+		// Events are dispatched to the handlers of this instance by the event bus.
+		// They are passed on to the EventAdmin only if a handler that another
+		// bundle has registered as OSGi service listens to their topic.
 		public boolean send(String topic, Object data) {
 			Event event = constructEvent(topic, data, false);
-			EventAdmin eventAdmin = Activator.getDefault().getEventAdmin();
-			if (eventAdmin == null) {
-				logger.error(NLS.bind("No EventAdmin", event.toString()));
-				return false;
+			getEventBus().send(event);
+			EventAdmin eventAdmin = getExternalEventAdmin(event);
+			if (eventAdmin != null) {
+				eventAdmin.sendEvent(event);
 			}
-			eventAdmin.sendEvent(event);
 			return true;
 		}
 
 		public boolean post(String topic, Object data) {
 			Event event = constructEvent(topic, data, true);
-			EventAdmin eventAdmin = Activator.getDefault().getEventAdmin();
-			if (eventAdmin == null) {
-				logger.error(NLS.bind("No EventAdmin", event.toString()));
-				return false;
+			getEventBus().post(event);
+			EventAdmin eventAdmin = getExternalEventAdmin(event);
+			if (eventAdmin != null) {
+				eventAdmin.postEvent(event);
 			}
-			eventAdmin.postEvent(event);
 			return true;
 		}
 
+		private static EventAdmin getExternalEventAdmin(Event event) {
+			Activator activator = Activator.getDefault();
+			if (activator == null || !activator.hasExternalEventHandler(event.getTopic()))
+				return null;
+			return activator.getEventAdmin();
+		}
+
 		@SuppressWarnings("unchecked")
 		private Event constructEvent(String topic, Object data, boolean async) {
 			topic = rapifyTopic(instanceId, topic);
@@ -100,11 +109,13 @@ public class RAPEventBroker implements IEventBroker {
 				Dictionary<String,Object> properties = (Dictionary<String,Object>)data;
 				if (async)
 					properties.put(ASYNC_EVENT, Boolean.TRUE);
+				properties.put(RAPEventBus.BUS_EVENT, Boolean.TRUE);
 				event = new Event(topic, properties);
 			} else if (data instanceof Map<?,?>) {
 				Map<String,Object> properties = (Map<String,Object>)data;
 				if (async)
 					properties.put(ASYNC_EVENT, Boolean.TRUE);
+				properties.put(RAPEventBus.BUS_EVENT, Boolean.TRUE);
 				event = new Event(topic, properties);
 			} else {
 				Dictionary<String, Object> d = new Hashtable<String, Object>(3);
@@ -113,6 +124,7 @@ public class RAPEventBroker implements IEventBroker {
 					d.put(IEventBroker.DATA, data);
 				if (async)
 					d.put(ASYNC_EVENT, Boolean.TRUE);
+				d.put(RAPEventBus.BUS_EVENT, Boolean.TRUE);
 				event = new Event(topic, d);
 			}
 			return event;
@@ -124,35 +136,28 @@ public class RAPEventBroker implements IEventBroker {
 
 		public boolean subscribe(String topic, String filter, EventHandler eventHandler, boolean headless) {
 			topic = rapifyTopic(instanceId, topic);
-			BundleContext bundleContext = Activator.getDefault().getBundleContext();
-			if (bundleContext == null) {
-				logger.error(NLS.bind("No EventAdmin", topic));
+			EventHandler wrappedHandler = new RAPUIEventHandler(eventHandler, headless ? null : uiSync);
+			Subscription registration = getEventBus().subscribe(topic, filter, wrappedHandler);
+			if (registration == null) {
+				logger.error(NLS.bind("Invalid event filter {0}", filter));
 				return false;
 			}
-			String[] topics = new String[] {topic};
-			Dictionary<String, Object> d = new Hashtable<String, Object>();
-			d.put(EventConstants.EVENT_TOPIC, topics);
-			if (filter != null)
-				d.put(EventConstants.EVENT_FILTER, filter);
-			EventHandler wrappedHandler = new RAPUIEventHandler(eventHandler, headless ? null : uiSync);
-			ServiceRegistration<?> registration = bundleContext.registerService(
-					EventHandler.class.getName(), wrappedHandler, d);
-			Collection<ServiceRegistration<?>> handled = registrations
+			Collection<Subscription> handled = registrations
 					.get(eventHandler);
 			if (handled == null) {
 				registrations.put(eventHandler,
-						handled = new ArrayList<ServiceRegistration<?>>());
+						handled = new ArrayList<Subscription>());
 			}
 			handled.add(registration);
 			return true;
 		}
 
 		public boolean unsubscribe(EventHandler eventHandler) {
-			Collection<ServiceRegistration<?>> handled = registrations
+			Collection<Subscription> handled = registrations
 					.remove(eventHandler);
 			if (handled == null || handled.isEmpty())
 				return false;
-			for (ServiceRegistration<?> r : handled) {
+			for (Subscription r : handled) {
 				r.unregister();
 			}
 			return true;
@@ -160,16 +165,27 @@ public class RAPEventBroker implements IEventBroker {
 
 		@PreDestroy
 		void dispose() {
-			Collection<Collection<ServiceRegistration<?>>> values = new ArrayList<Collection<ServiceRegistration<?>>>(
+			Collection<Collection<Subscription>> values = new ArrayList<Collection<Subscription>>(
 					registrations.values());
 			registrations.clear();
-			for (Collection<ServiceRegistration<?>> handled : values) {
-				for (ServiceRegistration<?> registration : handled) {
-					// System.out.println("EventBroker dispose:" + registration[i] +
-					// ")");
+			for (Collection<Subscription> handled : values) {
+				for (Subscription registration : handled) {
 					registration.unregister();
 				}
 			}
+			synchronized (this) {
+				if (eventBus != null) {
+					eventBus.release();
+					eventBus = null;
+				}
+			}
+		}
+
+		private synchronized RAPEventBus getEventBus() {
+			if (eventBus == null) {
+				eventBus = RAPEventBus.acquire(instanceId);
+			}
+			return eventBus;
 		}
 
 		public static String rapifyTopic(String instanceId, String topic) {
@@ -0,0 +1,331 @@
+package org.eclipse.rap.e4.internal;
+
+import java.util.ArrayList;
+import java.util.Dictionary;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.Filter;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.framework.ServiceRegistration;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventConstants;
+import org.osgi.service.event.EventHandler;
+
+/**
+ * An in-memory event bus for the events of a single application instance.
+ * <p>
+ * The event broker and the event object suppliers of an application instance
+ * subscribe their handlers here instead of registering an OSGi
+ * <code>EventHandler</code> service per subscription. Handlers are kept in a
+ * trie of topic segments, so the cost of dispatching an event does not depend
+ * on the number of running application instances.
+ * </p>
+ * <p>
+ * Topics follow the OSGi event admin syntax, i.e. a topic may end with
+ * <code>/*</code> or be <code>*</code> to match all sub-topics. Like with the
+ * event admin, sent events are delivered synchronously and posted events are
+ * delivered asynchronously in the order they were posted.
+ * </p>
+ * <p>
+ * Events that other bundles send to the topics of the application instance
+ * through the event admin are delivered to the handlers of the bus as well.
+ * Events of the bus itself are passed on to the event admin by the event
+ * broker and carry the {@link #BUS_EVENT} property, so that they are not
+ * delivered twice.
+ * </p>
+ */
+public final class RAPEventBus {
+
+	/**
+	 * The event property that marks events which have already been delivered
+	 * by an event bus.
+	 */
+	public static final String BUS_EVENT = "rap.bus.event"; //$NON-NLS-1$
+
+	private static final Logger LOGGER = Logger.getLogger(RAPEventBus.class.getName());
+	private static final String WILDCARD = "*"; //$NON-NLS-1$
+	private static final Map<String, RAPEventBus> buses = new HashMap<String, RAPEventBus>();
+	private static ExecutorService asyncExecutor;
+
+	private final String instanceId;
+	private final Node root = new Node();
+	private final LinkedList<Event> postedEvents = new LinkedList<Event>();
+	private boolean delivering;
+	private int references;
+	private ServiceRegistration bridgeRegistration;
+
+	private RAPEventBus(String instanceId) {
+		this.instanceId = instanceId;
+	}
+
+	/**
+	 * Returns the event bus of the given application instance. Every call must
+	 * be paired with a call to {@link #release()}.
+	 */
+	public static RAPEventBus acquire(String instanceId) {
+		synchronized (buses) {
+			RAPEventBus bus = buses.get(instanceId);
+			if (bus == null) {
+				bus = new RAPEventBus(instanceId);
+				buses.put(instanceId, bus);
+				bus.registerBridge();
+			}
+			bus.references++;
+			return bus;
+		}
+	}
+
+	public void release() {
+		synchronized (buses) {
+			references--;
+			if (references == 0 && buses.get(instanceId) == this) {
+				buses.remove(instanceId);
+				unregisterBridge();
+			}
+		}
+	}
+
+	private void registerBridge() {
+		Activator activator = Activator.getDefault();
+		BundleContext context = activator == null ? null : activator.getBundleContext();
+		if (context != null) {
+			Dictionary<String, Object> properties = new Hashtable<String, Object>();
+			properties.put(EventConstants.EVENT_TOPIC, instanceId + "/" + WILDCARD); //$NON-NLS-1$
+			bridgeRegistration = context.registerService(EventHandler.class.getName(),
+					createBridge(), properties);
+		}
+	}
+
+	private void unregisterBridge() {
+		if (bridgeRegistration != null) {
+			try {
+				bridgeRegistration.unregister();
+			} catch (IllegalStateException e) {
+				// already unregistered when the bundle was stopped
+			}
+			bridgeRegistration = null;
+		}
+	}
+
+	/**
+	 * Returns the handler that delivers the events of the event admin to the
+	 * handlers of this bus.
+	 */
+	EventHandler createBridge() {
+		return new EventHandler() {
+			public void handleEvent(Event event) {
+				if (!Boolean.TRUE.equals(event.getProperty(BUS_EVENT))) {
+					send(event);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Stops the threads that deliver posted events. Called when the bundle is
+	 * stopped, a later post creates new threads. Events whose delivery has not
+	 * been started remain queued and are delivered with the next post.
+	 */
+	static void shutdown() {
+		synchronized (buses) {
+			if (asyncExecutor != null) {
+				for (Runnable runnable : asyncExecutor.shutdownNow()) {
+					if (runnable instanceof Delivery) {
+						((Delivery) runnable).getBus().stopDelivering();
+					}
+				}
+				asyncExecutor = null;
+			}
+		}
+	}
+
+	/**
+	 * Subscribes a handler for the given topic.
+	 *
+	 * @param filter an LDAP filter for the event properties or
+	 *            <code>null</code>
+	 * @return the subscription or <code>null</code> if the filter is invalid
+	 */
+	public Subscription subscribe(String topic, String filter, EventHandler handler) {
+		Filter eventFilter = null;
+		if (filter != null) {
+			try {
+				eventFilter = FrameworkUtil.createFilter(filter);
+			} catch (InvalidSyntaxException e) {
+				LOGGER.log(Level.SEVERE, "Invalid event filter: " + filter, e); //$NON-NLS-1$
+				return null;
+			}
+		}
+		synchronized (root) {
+			List<Subscription> list;
+			if (WILDCARD.equals(topic)) {
+				list = root.wildcardSubscriptions;
+			} else if (topic.endsWith("/" + WILDCARD)) { //$NON-NLS-1$
+				list = getNode(topic.substring(0, topic.length() - 2)).wildcardSubscriptions;
+			} else {
+				list = getNode(topic).subscriptions;
+			}
+			Subscription subscription = new Subscription(list, eventFilter, handler);
+			list.add(subscription);
+			return subscription;
+		}
+	}
+
+	/**
+	 * Delivers the event to all matching handlers in the calling thread.
+	 */
+	public void send(Event event) {
+		for (Subscription subscription : getSubscriptions(event.getTopic())) {
+			if (subscription.matches(event)) {
+				try {
+					subscription.handler.handleEvent(event);
+				} catch (RuntimeException e) {
+					LOGGER.log(Level.SEVERE, "Exception while dispatching event " + event, e); //$NON-NLS-1$
+				}
+			}
+		}
+	}
+
+	/**
+	 * Delivers the event to all matching handlers asynchronously.
+	 */
+	public void post(Event event) {
+		synchronized (postedEvents) {
+			postedEvents.add(event);
+			if (delivering)
+				return;
+			delivering = true;
+		}
+		try {
+			execute(new Delivery());
+		} catch (RejectedExecutionException e) {
+			LOGGER.log(Level.SEVERE, "Failed to deliver posted event " + event, e); //$NON-NLS-1$
+			stopDelivering();
+		}
+	}
+
+	private void stopDelivering() {
+		synchronized (postedEvents) {
+			delivering = false;
+		}
+	}
+
+	private void deliverPostedEvents() {
+		while (true) {
+			Event event;
+			synchronized (postedEvents) {
+				event = postedEvents.poll();
+				if (event == null) {
+					delivering = false;
+					return;
+				}
+			}
+			send(event);
+		}
+	}
+
+	// executes under the lock of shutdown, so a delivery is either run or
+	// returned by shutdownNow
+	private static void execute(Delivery delivery) {
+		synchronized (buses) {
+			if (asyncExecutor == null) {
+				asyncExecutor = Executors.newCachedThreadPool(new ThreadFactory() {
+					public Thread newThread(Runnable runnable) {
+						Thread thread = new Thread(runnable, "RAP Event Bus"); //$NON-NLS-1$
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+			}
+			asyncExecutor.execute(delivery);
+		}
+	}
+
+	private List<Subscription> getSubscriptions(String topic) {
+		List<Subscription> result = new ArrayList<Subscription>();
+		synchronized (root) {
+			Node node = root;
+			int start = 0;
+			while (node != null && start <= topic.length()) {
+				int end = topic.indexOf('/', start);
+				if (end == -1)
+					end = topic.length();
+				// a wildcard subscription matches all topics below its node
+				result.addAll(node.wildcardSubscriptions);
+				node = node.children.get(topic.substring(start, end));
+				start = end + 1;
+			}
+			if (node != null)
+				result.addAll(node.subscriptions);
+		}
+		return result;
+	}
+
+	private Node getNode(String topic) {
+		Node node = root;
+		for (String segment : topic.split("/")) { //$NON-NLS-1$
+			Node child = node.children.get(segment);
+			if (child == null) {
+				child = new Node();
+				node.children.put(segment, child);
+			}
+			node = child;
+		}
+		return node;
+	}
+
+	private final class Delivery implements Runnable {
+
+		public void run() {
+			deliverPostedEvents();
+		}
+
+		RAPEventBus getBus() {
+			return RAPEventBus.this;
+		}
+	}
+
+	private static final class Node {
+		final Map<String, Node> children = new HashMap<String, Node>();
+		final List<Subscription> subscriptions = new ArrayList<Subscription>();
+		final List<Subscription> wildcardSubscriptions = new ArrayList<Subscription>();
+	}
+
+	/**
+	 * A handler subscribed to the event bus.
+	 */
+	public final class Subscription {
+
+		private final List<Subscription> list;
+		private final Filter filter;
+		final EventHandler handler;
+
+		Subscription(List<Subscription> list, Filter filter, EventHandler handler) {
+			this.list = list;
+			this.filter = filter;
+			this.handler = handler;
+		}
+
+		boolean matches(Event event) {
+			return filter == null || event.matches(filter);
+		}
+
+		public void unregister() {
+			synchronized (root) {
+				list.remove(this);
+			}
+		}
+	}
+}
@@ -3,9 +3,7 @@ package org.eclipse.rap.e4.internal;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Collection;
-import java.util.Dictionary;
 import java.util.HashMap;
-import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -15,20 +13,17 @@ import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
 import org.eclipse.e4.core.di.IInjector;
-import org.eclipse.e4.core.di.InjectionException;
 import org.eclipse.e4.core.di.extensions.EventTopic;
 import org.eclipse.e4.core.di.internal.extensions.util.EventUtils;
 import org.eclipse.e4.core.di.suppliers.ExtendedObjectSupplier;
 import org.eclipse.e4.core.di.suppliers.IObjectDescriptor;
 import org.eclipse.e4.core.di.suppliers.IRequestor;
 import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
+import org.eclipse.rap.e4.internal.RAPEventBus.Subscription;
 import org.osgi.framework.Bundle;
-import org.osgi.framework.BundleContext;
 import org.osgi.framework.BundleException;
-import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.event.Event;
 import org.osgi.service.event.EventAdmin;
-import org.osgi.service.event.EventConstants;
 import org.osgi.service.event.EventHandler;
 
 @SuppressWarnings("restriction")
@@ -127,7 +122,9 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 
 	}
 
-	private Map<Subscriber, ServiceRegistration> registrations = new HashMap<Subscriber, ServiceRegistration>();
+	private Map<Subscriber, Subscription> registrations = new HashMap<Subscriber, Subscription>();
+
+	private RAPEventBus eventBus;
 
 	@Inject
 	@Named(E4Application.INSTANCEID)
@@ -150,12 +147,11 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 		if (descriptor == null)
 			return null;
 		String topic = getTopic(descriptor);
-		EventAdmin eventAdmin = getEventAdmin();
-		if (topic == null || eventAdmin == null || topic.length() == 0)
+		if (topic == null || topic.length() == 0)
 			return IInjector.NOT_A_VALUE;
 
 		if (track)
-			subscribe(topic, eventAdmin, requestor);
+			subscribe(topic, requestor);
 		else
 			unsubscribe(requestor);
 
@@ -169,21 +165,14 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 		return currentEvents.get(topic).getProperty(EventUtils.DATA);
 	}
 
-	private void subscribe(String topic, EventAdmin eventAdmin, IRequestor requestor) {
+	private void subscribe(String topic, IRequestor requestor) {
 		Subscriber subscriber = new Subscriber(requestor, topic);
 		synchronized (registrations) {
 			if (registrations.containsKey(subscriber))
 				return;
 		}
-		BundleContext bundleContext = Activator.getDefault().getBundleContext();
-		if (bundleContext == null)
-			throw new InjectionException("Unable to subscribe to events: org.eclipse.e4.core.di.extensions bundle is not activated"); //$NON-NLS-1$
-
-		String[] topics = new String[] {topic};
-		Dictionary<String, Object> d = new Hashtable<String, Object>();
-		d.put(EventConstants.EVENT_TOPIC, topics);
 		EventHandler wrappedHandler = makeHandler(topic, requestor);
-		ServiceRegistration registration = bundleContext.registerService(EventHandler.class.getName(), wrappedHandler, d);
+		Subscription registration = getEventBus().subscribe(topic, null, wrappedHandler);
 		// due to the way requestors are constructed this limited synch should be OK
 		synchronized (registrations) {
 			registrations.put(subscriber, registration);
@@ -211,13 +200,13 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 		if (requestor == null)
 			return;
 		synchronized (registrations) {
-			Iterator<Entry<Subscriber, ServiceRegistration>> i = registrations.entrySet().iterator();
+			Iterator<Entry<Subscriber, Subscription>> i = registrations.entrySet().iterator();
 			while (i.hasNext()) {
-				Entry<Subscriber, ServiceRegistration> entry = i.next();
+				Entry<Subscriber, Subscription> entry = i.next();
 				Subscriber key = entry.getKey();
 				if (!requestor.equals(key.getRequestor()))
 					continue;
-				ServiceRegistration registration = entry.getValue();
+				Subscription registration = entry.getValue();
 				registration.unregister();
 				i.remove();
 			}
@@ -226,15 +215,28 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 
 	@PreDestroy
 	public void dispose() {
-		ServiceRegistration[] array;
+		Subscription[] array;
 		synchronized (registrations) {
-			Collection<ServiceRegistration> values = registrations.values();
-			array = values.toArray(new ServiceRegistration[values.size()]);
+			Collection<Subscription> values = registrations.values();
+			array = values.toArray(new Subscription[values.size()]);
 			registrations.clear();
 		}
 		for (int i = 0; i < array.length; i++) {
 			array[i].unregister();
 		}
+		synchronized (this) {
+			if (eventBus != null) {
+				eventBus.release();
+				eventBus = null;
+			}
+		}
+	}
+
+	private synchronized RAPEventBus getEventBus() {
+		if (eventBus == null) {
+			eventBus = RAPEventBus.acquire(instanceId);
+		}
+		return eventBus;
 	}
 
 	private Class<?> getDesiredClass(Type desiredType) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2019 Raymond Augé and others.
+ * Copyright (c) 2014, 2026 Raymond Augé and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -867,6 +867,10 @@ public class HttpServiceRuntimeImpl implements HttpServiceRuntime,
 				props.put(HTTP_WHITEBOARD_CONTEXT_SELECT, getFilter(httpContextHolder.getServiceReference()));
 				props.put(Constants.SERVICE_RANKING, Integer.MAX_VALUE);
 				props.put(Const.EQUINOX_LEGACY_TCCL_PROP, Thread.currentThread().getContextClassLoader());
+				if ((initparams != null) && (initparams.get(Const.ASYNC_SUPPORTED) != null)) {
+					props.put(HTTP_WHITEBOARD_SERVLET_ASYNC_SUPPORTED,
+							Boolean.valueOf(String.valueOf(initparams.get(Const.ASYNC_SUPPORTED))));
+				}
 				fillInitParams(props, initparams, HTTP_WHITEBOARD_SERVLET_INIT_PARAM_PREFIX);
 
 				registration = bundle.getBundleContext().registerService(Servlet.class, legacyServlet, props);
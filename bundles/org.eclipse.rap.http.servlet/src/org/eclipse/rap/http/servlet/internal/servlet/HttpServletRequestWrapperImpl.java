@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2020 Cognos Incorporated, IBM Corporation and others.
+ * Copyright (c) 2005, 2026 Cognos Incorporated, IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -429,18 +429,30 @@ public class HttpServletRequestWrapperImpl extends HttpServletRequestWrapper {
 		return new ArrayList<>(getParts0());
 	}
 
+	@Override
+	public boolean isAsyncSupported() {
+		// async is only possible if both the registration and the container request support it
+		return isAsyncSupportedByRegistration() && request.isAsyncSupported();
+	}
+
 	public AsyncContext startAsync() throws IllegalStateException {
+		if (isAsyncSupportedByRegistration()) {
+			return request.startAsync();
+		}
+
+		EndpointRegistration<?> endpointRegistration = dispatchTargets.peek().getServletRegistration();
+		throw new IllegalStateException("Async not supported by " + endpointRegistration); //$NON-NLS-1$
+	}
+
+	private boolean isAsyncSupportedByRegistration() {
 		EndpointRegistration<?> endpointRegistration = dispatchTargets.peek().getServletRegistration();
 
 		if (endpointRegistration instanceof ServletRegistration) {
 			ServletRegistration servletRegistration = (ServletRegistration) endpointRegistration;
-
-			if (servletRegistration.getD().asyncSupported) {
-				return request.startAsync();
-			}
+			return servletRegistration.getD().asyncSupported;
 		}
 
-		throw new IllegalStateException("Async not supported by " + endpointRegistration); //$NON-NLS-1$
+		return false;
 	}
 
 	private List<Part> getParts0() throws IOException, ServletException {
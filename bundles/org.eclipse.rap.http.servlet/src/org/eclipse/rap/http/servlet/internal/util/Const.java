@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2019 Raymond Augé and others.
+ * Copyright (c) 2014, 2026 Raymond Augé and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ package org.eclipse.rap.http.servlet.internal.util;
 public class Const {
 
 	public static final String AMP = "&"; //$NON-NLS-1$
+	public static final String ASYNC_SUPPORTED = "async-supported"; //$NON-NLS-1$
 	public static final String BLANK = ""; //$NON-NLS-1$
 	public static final String CLOSE_PAREN = ")"; //$NON-NLS-1$
 	public static final String CONTEXT_PATH = "context.path"; //$NON-NLS-1$
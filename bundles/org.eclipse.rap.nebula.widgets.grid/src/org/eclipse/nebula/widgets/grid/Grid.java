@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2023 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,8 +15,12 @@ import static org.eclipse.swt.internal.widgets.MarkupUtil.isMarkupEnabledFor;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.MarkupTarget.TEXT;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.nebula.widgets.grid.internal.IGridAdapter;
 import org.eclipse.nebula.widgets.grid.internal.IScrollBarProxy;
@@ -34,11 +38,13 @@ import org.eclipse.rap.rwt.theme.BoxDimensions;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.SelectionListener;
 import org.eclipse.swt.events.TreeListener;
+import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.SerializableCompatibility;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.internal.widgets.ICellToolTipAdapter;
 import org.eclipse.swt.internal.widgets.ICellToolTipProvider;
 import org.eclipse.swt.internal.widgets.ItemProvider;
@@ -72,8 +78,12 @@ public class Grid extends Composite {
 
   private List<GridItem> items = new ArrayList<GridItem>();
   private List<GridItem> rootItems = new ArrayList<GridItem>();
-  private List<GridItem> selectedItems = new ArrayList<GridItem>();
-  private List<Point> selectedCells = new ArrayList<Point>();
+  // items before this index have an up-to-date GridItem#flatIndex
+  private int validFlatIndexCount;
+  private Set<GridItem> selectedItems = new LinkedHashSet<GridItem>();
+  private Set<Point> selectedCells = new LinkedHashSet<Point>();
+  // number of selected cells per row index
+  private Map<Integer, Integer> selectedCellCounts = new HashMap<Integer, Integer>();
   private List<GridColumn> columns = new ArrayList<GridColumn>();
   private List<GridColumn> displayOrderedColumns = new ArrayList<GridColumn>();
   private List<GridColumnGroup> columnGroups = new ArrayList<GridColumnGroup>();
@@ -102,6 +112,7 @@ public class Grid extends Composite {
   private IScrollBarProxy hScroll;
   private boolean scrollValuesObsolete;
   private boolean defaultRowHeadersTextObsolete;
+  private Color defaultRowHeaderBackground;
   private int topIndex = -1;
   private int bottomIndex = -1;
   private boolean bottomIndexShownCompletely;
@@ -306,9 +317,10 @@ public class Grid extends Composite {
    */
   public void setItemCount( int count ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     int itemCount = Math.max( 0, count );
     if( itemCount < items.size() ) {
-      selectedCells.clear();
+      clearSelectedCells();
     }
     while( itemCount < items.size() ) {
       int flatIndex = items.size() - 1;
@@ -453,7 +465,7 @@ public class Grid extends Composite {
     if( item == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
-    return item.getParent() == this ? items.indexOf( item ) : -1;
+    return item.getParent() == this ? internalIndexOf( item ) : -1;
   }
 
   /**
@@ -521,7 +533,7 @@ public class Grid extends Composite {
   public GridItem getNextVisibleItem( GridItem item ) {
     checkWidget();
     GridItem result = null;
-    int index = items.indexOf( item );
+    int index = internalIndexOf( item );
     if( index != items.size() - 1 ) {
       result = items.get( index + 1 );
       while( result != null && !result.isVisible() ) {
@@ -556,7 +568,7 @@ public class Grid extends Composite {
     if( item == null ) {
       index = items.size();
     } else {
-      index = items.indexOf( item );
+      index = internalIndexOf( item );
     }
     if( index > 0 ) {
       result = items.get( index - 1 );
@@ -760,6 +772,7 @@ public class Grid extends Composite {
    */
   public void setColumnOrder( int[] order ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( order == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -993,6 +1006,7 @@ public class Grid extends Composite {
    */
   public void clear( int index, boolean allChildren ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( index < 0 || index >= items.size() ) {
       SWT.error( SWT.ERROR_INVALID_RANGE );
     }
@@ -1025,6 +1039,7 @@ public class Grid extends Composite {
    */
   public void clear( int start, int end, boolean allChildren ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( start <= end ) {
       if( !( 0 <= start && start <= end && end < items.size() ) ) {
         SWT.error( SWT.ERROR_INVALID_RANGE );
@@ -1060,6 +1075,7 @@ public class Grid extends Composite {
    */
   public void clear( int[] indices, boolean allChildren ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( indices == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1095,6 +1111,7 @@ public class Grid extends Composite {
    */
   public void clearAll( boolean allChildren ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     int itemsCount = items.size();
     if( itemsCount > 0 ) {
       // [if] Note: The parameter allChildren has no effect as all items (not only rootItems)
@@ -1120,6 +1137,7 @@ public class Grid extends Composite {
    */
   public void setSelectionEnabled( boolean selectionEnabled ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( !selectionEnabled ) {
       selectedItems.clear();
     }
@@ -1181,6 +1199,7 @@ public class Grid extends Composite {
    */
   public void setCellSelectionEnabled( boolean cellSelection ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( cellSelection ) {
       if( ( getStyle() & SWT.SINGLE ) == 0 ) {
         // To keep compatibility, one can selected multiple cells
@@ -1188,7 +1207,7 @@ public class Grid extends Composite {
       }
       selectedItems.clear();
     } else {
-      selectedCells.clear();
+      clearSelectedCells();
     }
     cellSelectionEnabled = cellSelection;
   }
@@ -1221,6 +1240,7 @@ public class Grid extends Composite {
    */
   public void select( int index ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( selectionEnabled && isValidItemIndex( index ) ) {
       if( !cellSelectionEnabled && selectionType == SWT.SINGLE ) {
         selectedItems.clear();
@@ -1254,6 +1274,7 @@ public class Grid extends Composite {
    */
   public void select( int start, int end ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( selectionEnabled && !( selectionType == SWT.SINGLE && start != end ) ) {
       if( !cellSelectionEnabled && selectionType == SWT.SINGLE ) {
         selectedItems.clear();
@@ -1292,6 +1313,7 @@ public class Grid extends Composite {
    */
   public void select( int[] indices ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( indices == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1320,6 +1342,7 @@ public class Grid extends Composite {
    */
   public void selectAll() {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( selectionEnabled && selectionType != SWT.SINGLE ) {
       if( cellSelectionEnabled ) {
         selectAllCells();
@@ -1352,6 +1375,7 @@ public class Grid extends Composite {
    */
   public void selectCell( Point cell ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( cellSelectionEnabled ) {
       if( cell == null ) {
         SWT.error( SWT.ERROR_NULL_ARGUMENT );
@@ -1383,6 +1407,7 @@ public class Grid extends Composite {
    */
   public void selectCells( Point[] cells ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( cellSelectionEnabled ) {
       if( cells == null ) {
         SWT.error( SWT.ERROR_NULL_ARGUMENT );
@@ -1413,6 +1438,7 @@ public class Grid extends Composite {
    */
   public void selectAllCells() {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     internalSelectAll();
   }
 
@@ -1433,6 +1459,7 @@ public class Grid extends Composite {
    */
   public void selectColumn( int col ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     selectCells( getCells( getColumn( col ) ) );
   }
 
@@ -1474,6 +1501,7 @@ public class Grid extends Composite {
    */
   public void selectColumnGroup( GridColumnGroup colGroup ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     selectCells( getCells( colGroup ) );
   }
 
@@ -1494,6 +1522,7 @@ public class Grid extends Composite {
    */
   public void deselect( int index ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( isValidItemIndex( index ) ) {
       internalDeselect( index );
     }
@@ -1519,6 +1548,7 @@ public class Grid extends Composite {
    */
   public void deselect( int start, int end ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     for( int index = Math.max( 0, start ); index <= Math.min( items.size() - 1, end ); index++ ) {
       internalDeselect( index );
     }
@@ -1547,6 +1577,7 @@ public class Grid extends Composite {
    */
   public void deselect( int[] indices ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( indices == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1568,6 +1599,7 @@ public class Grid extends Composite {
    */
   public void deselectAll() {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     internalDeselectAll();
   }
 
@@ -1593,10 +1625,11 @@ public class Grid extends Composite {
    */
   public void deselectCell( Point cell ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( cell == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
-    selectedCells.remove( cell );
+    removeSelectedCell( cell );
   }
 
   /**
@@ -1622,6 +1655,7 @@ public class Grid extends Composite {
    */
   public void deselectCells( Point[] cells ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( cells == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1631,7 +1665,7 @@ public class Grid extends Composite {
       }
     }
     for( Point cell : cells ) {
-      selectedCells.remove( cell );
+      removeSelectedCell( cell );
     }
   }
 
@@ -1650,7 +1684,8 @@ public class Grid extends Composite {
    */
   public void deselectAllCells() {
     checkWidget();
-    selectedCells.clear();
+    DirtyWidgets.markDirty( this );
+    clearSelectedCells();
   }
 
   /**
@@ -1670,6 +1705,7 @@ public class Grid extends Composite {
    */
   public void setSelection( int index ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( selectionEnabled && isValidItemIndex( index ) ) {
       internalDeselectAll();
       internalSelect( index );
@@ -1700,6 +1736,7 @@ public class Grid extends Composite {
    */
   public void setSelection( int start, int end ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( selectionEnabled && !( selectionType == SWT.SINGLE && start != end ) ) {
       internalDeselectAll();
       for( int index = Math.max( 0, start ); index <= Math.min( items.size() - 1, end ); index++ ) {
@@ -1734,6 +1771,7 @@ public class Grid extends Composite {
    */
   public void setSelection( int[] indices ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( indices == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1772,6 +1810,7 @@ public class Grid extends Composite {
    */
   public void setSelection( GridItem[] items ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( items == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1782,7 +1821,7 @@ public class Grid extends Composite {
           if( item.isDisposed() ) {
             SWT.error( SWT.ERROR_INVALID_ARGUMENT );
           }
-          internalSelect( this.items.indexOf( item ) );
+          internalSelect( internalIndexOf( item ) );
         }
       }
     }
@@ -1810,14 +1849,11 @@ public class Grid extends Composite {
   public GridItem[] getSelection() {
     checkWidget();
     if( cellSelectionEnabled ) {
-      List<GridItem> items = new ArrayList<>();
+      Set<GridItem> items = new LinkedHashSet<>();
       int itemCount = getItemCount();
       for( Point cell : selectedCells ) {
         if( cell.y >= 0 && cell.y < itemCount ) {
-          GridItem item = getItem( cell.y );
-          if( !items.contains( item ) ) {
-            items.add( item );
-          }
+          items.add( getItem( cell.y ) );
         }
       }
       return items.toArray( new GridItem[] {} );
@@ -1840,12 +1876,9 @@ public class Grid extends Composite {
   public int getSelectionCount() {
     checkWidget();
     if( cellSelectionEnabled ) {
-      List<GridItem> items = new ArrayList<>();
+      Set<GridItem> items = new LinkedHashSet<>();
       for( Point cell : selectedCells ) {
-        GridItem item = getItem( cell.y );
-        if( !items.contains( item ) ) {
-          items.add( item );
-        }
+        items.add( getItem( cell.y ) );
       }
       return items.size();
     }
@@ -1895,6 +1928,7 @@ public class Grid extends Composite {
    */
   public void setCellSelection( Point cell ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( cellSelectionEnabled ) {
       if( cell == null ) {
         SWT.error( SWT.ERROR_NULL_ARGUMENT );
@@ -1902,7 +1936,7 @@ public class Grid extends Composite {
       if( !isValidCell( cell ) ) {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
       }
-      selectedCells.clear();
+      clearSelectedCells();
       addToCellSelection( cell );
     }
   }
@@ -1932,6 +1966,7 @@ public class Grid extends Composite {
    */
   public void setCellSelection( Point[] cells ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( cellSelectionEnabled ) {
       if( cells == null ) {
         SWT.error( SWT.ERROR_NULL_ARGUMENT );
@@ -1944,7 +1979,7 @@ public class Grid extends Composite {
           SWT.error( SWT.ERROR_INVALID_ARGUMENT );
         }
       }
-      selectedCells.clear();
+      clearSelectedCells();
       for( Point cell : cells ) {
         addToCellSelection( cell );
       }
@@ -1971,7 +2006,12 @@ public class Grid extends Composite {
    */
   public Point[] getCellSelection() {
     checkWidget();
-    return selectedCells.toArray( new Point[ selectedCells.size() ] );
+    Point[] result = new Point[ selectedCells.size() ];
+    int i = 0;
+    for( Point cell : selectedCells ) {
+      result[ i++ ] = new Point( cell.x, cell.y );
+    }
+    return result;
   }
 
   /**
@@ -1992,11 +2032,11 @@ public class Grid extends Composite {
     int result = -1;
     if( cellSelectionEnabled ) {
       if( selectedCells.size() != 0 ) {
-        result = selectedCells.get( 0 ).y;
+        result = selectedCells.iterator().next().y;
       }
     } else {
       if( selectedItems.size() != 0 ) {
-        result = items.indexOf( selectedItems.get( 0 ) );
+        result = internalIndexOf( selectedItems.iterator().next() );
       }
     }
     return result;
@@ -2025,23 +2065,20 @@ public class Grid extends Composite {
     checkWidget();
     int[] result = new int[ 0 ];
     if( cellSelectionEnabled ) {
-      List<GridItem> selectedRows = new ArrayList<GridItem>();
+      Set<GridItem> selectedRows = new LinkedHashSet<GridItem>();
       for( Point cell : selectedCells ) {
-        GridItem item = getItem( cell.y );
-        if( !selectedRows.contains( item ) ) {
-          selectedRows.add( item );
-        }
+        selectedRows.add( getItem( cell.y ) );
       }
       result = new int[ selectedRows.size() ];
-      for( int i = 0; i < result.length; i++ ) {
-        GridItem item = selectedRows.get( i );
-        result[ i ] = items.indexOf( item );
+      int i = 0;
+      for( GridItem item : selectedRows ) {
+        result[ i++ ] = internalIndexOf( item );
       }
     } else {
       result = new int[ selectedItems.size() ];
-      for( int i = 0; i < result.length; i++ ) {
-        GridItem item = selectedItems.get( i );
-        result[ i ] = items.indexOf( item );
+      int i = 0;
+      for( GridItem item : selectedItems ) {
+        result[ i++ ] = internalIndexOf( item );
       }
     }
     return result;
@@ -2067,11 +2104,7 @@ public class Grid extends Composite {
     boolean result = false;
     if( isValidItemIndex( index ) ) {
       if( cellSelectionEnabled ) {
-        for( Point cell : selectedCells ) {
-          if( cell.y == index ) {
-            result = true;
-          }
-        }
+        result = isRowSelected( index );
       } else {
         result = isSelected( items.get( index ) );
       }
@@ -2103,13 +2136,9 @@ public class Grid extends Composite {
     }
     boolean result = false;
     if( cellSelectionEnabled ) {
-      int index = items.indexOf( item );
+      int index = internalIndexOf( item );
       if( index != -1 ) {
-        for( Point cell : selectedCells ) {
-          if( cell.y == index ) {
-            result = true;
-          }
-        }
+        result = isRowSelected( index );
       }
     } else {
       result = selectedItems.contains( item );
@@ -2200,6 +2229,7 @@ public class Grid extends Composite {
    */
   public void remove( int index ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( index < 0 || index > items.size() - 1 ) {
       SWT.error( SWT.ERROR_INVALID_RANGE );
     }
@@ -2226,6 +2256,7 @@ public class Grid extends Composite {
    */
   public void remove( int start, int end ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     for( int i = end; i >= start; i-- ) {
       if( i < 0 || i > items.size() - 1 ) {
         SWT.error( SWT.ERROR_INVALID_RANGE );
@@ -2254,6 +2285,7 @@ public class Grid extends Composite {
    */
   public void remove( int[] indices ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( indices == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2283,6 +2315,7 @@ public class Grid extends Composite {
    */
   public void removeAll() {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     while( items.size() > 0 ) {
       int flatIndex = items.size() - 1;
       items.get( flatIndex ).dispose( flatIndex );
@@ -2303,6 +2336,7 @@ public class Grid extends Composite {
    */
   public void setHeaderVisible( boolean show ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( columnHeadersVisible != show ) {
       columnHeadersVisible = show;
       layoutCache.invalidateHeaderHeight();
@@ -2361,6 +2395,7 @@ public class Grid extends Composite {
    */
   public void setFooterVisible( boolean show ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( columnFootersVisible != show ) {
       columnFootersVisible = show;
       layoutCache.invalidateFooterHeight();
@@ -2434,6 +2469,7 @@ public class Grid extends Composite {
    */
   public void setLinesVisible( boolean linesVisible ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     this.linesVisible = linesVisible;
   }
 
@@ -2470,6 +2506,7 @@ public class Grid extends Composite {
    */
   public void setFocusItem( GridItem item ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( item == null || item.isDisposed() || item.getParent() != this || !item.isVisible() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -2514,6 +2551,7 @@ public class Grid extends Composite {
    */
   public void setFocusColumn( GridColumn column ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( column == null
         || column.isDisposed()
         || column.getParent() != this
@@ -2603,6 +2641,7 @@ public class Grid extends Composite {
    */
   public void setItemHeight( int height ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( height < 1 ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -2660,6 +2699,7 @@ public class Grid extends Composite {
    */
   public void setTopIndex( int index ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( isValidItemIndex( index ) ) {
       updateScrollBars();
       GridItem item = items.get( index );
@@ -2704,7 +2744,7 @@ public class Grid extends Composite {
             if( item.isVisible() ) {
               row--;
               if( row == 0 ) {
-                firstVisibleIndex = items.indexOf( item );
+                firstVisibleIndex = internalIndexOf( item );
               }
             }
           }
@@ -2733,6 +2773,7 @@ public class Grid extends Composite {
    */
   public void showItem( GridItem item ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( item == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2752,7 +2793,7 @@ public class Grid extends Composite {
           parent = parent.getParentItem();
         }
         if( !isShown( item ) ) {
-          setTopIndex( items.indexOf( item ) );
+          setTopIndex( internalIndexOf( item ) );
         }
       }
     }
@@ -2773,6 +2814,7 @@ public class Grid extends Composite {
    */
   public void showColumn( GridColumn column ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( column == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -2817,10 +2859,11 @@ public class Grid extends Composite {
    */
   public void showSelection() {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     GridItem item = null;
     if( cellSelectionEnabled ) {
       if( selectedCells.size() != 0 ) {
-        Point cell = selectedCells.get( 0 );
+        Point cell = selectedCells.iterator().next();
         item = getItem( cell.y );
         showItem( item );
         GridColumn column = getColumn( cell.x );
@@ -2828,7 +2871,7 @@ public class Grid extends Composite {
       }
     } else {
       if( selectedItems.size() != 0 ) {
-        item = selectedItems.get( 0 );
+        item = selectedItems.iterator().next();
         showItem( item );
       }
     }
@@ -2844,6 +2887,7 @@ public class Grid extends Composite {
    */
   public void setAutoHeight( boolean autoHeight ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( this.autoHeight != autoHeight ) {
       this.autoHeight = autoHeight;
       layoutCache.invalidateHeaderHeight();
@@ -2918,6 +2962,7 @@ public class Grid extends Composite {
    */
   public void setRowHeaderVisible( boolean show, int minWidth ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( rowHeadersColumn != null ) {
       if( show ) {
         rowHeadersColumn.setMinimumWidth( Math.max( 10, minWidth ) );
@@ -2940,6 +2985,7 @@ public class Grid extends Composite {
    */
   public void setItemHeaderWidth( int width ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( rowHeadersColumn != null ) {
       rowHeadersColumn.setWidth( width );
     }
@@ -2997,6 +3043,7 @@ public class Grid extends Composite {
    */
   public void setWordWrapHeader( boolean enabled ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( rowHeadersColumn != null ) {
       rowHeadersColumn.setWordWrap( enabled );
     }
@@ -3055,7 +3102,7 @@ public class Grid extends Composite {
       if( index >= rootItems.size() ) {
         flatIndex = -1;
       } else {
-        flatIndex = items.indexOf( rootItems.get( index ) );
+        flatIndex = internalIndexOf( rootItems.get( index ) );
       }
     } else if( !root ) {
       if( index >= parentItem.getItemCount() || index == -1 ) {
@@ -3064,9 +3111,9 @@ public class Grid extends Composite {
           int lastChildIndex = rightMostDescendent.getItemCount() - 1;
           rightMostDescendent = rightMostDescendent.getItem( lastChildIndex );
         }
-        flatIndex = items.indexOf( rightMostDescendent ) + 1;
+        flatIndex = internalIndexOf( rightMostDescendent ) + 1;
       } else {
-        flatIndex = items.indexOf( parentItem.getItem( index ) );
+        flatIndex = internalIndexOf( parentItem.getItem( index ) );
       }
     }
     if( flatIndex == -1 ) {
@@ -3076,6 +3123,7 @@ public class Grid extends Composite {
       items.add( flatIndex, item );
       row = flatIndex;
     }
+    invalidateFlatIndices( row );
     updateVisibleItems( 1 );
     scheduleRedraw();
     return row;
@@ -3083,11 +3131,13 @@ public class Grid extends Composite {
 
   void removeItem( int index ) {
     GridItem item = items.remove( index );
+    invalidateFlatIndices( index );
+    item.flatIndex = -1;
     if( !disposing ) {
-      selectedItems.remove (item );
+      selectedItems.remove( item );
       Point[] cells = getCells( item );
       for( int i = 0; i < cells.length; i++ ) {
-        selectedCells.remove( cells[ i ] );
+        removeSelectedCell( cells[ i ] );
       }
       if( focusItem == item ) {
         focusItem = null;
@@ -3146,18 +3196,12 @@ public class Grid extends Composite {
   void removeColumn( GridColumn column ) {
     int index = columns.indexOf( column );
     if( cellSelectionEnabled ) {
-      List<Point> removeSelectedCells = new ArrayList<>();
-      for( Point cell : selectedCells ) {
-        if( cell.x == index ) {
-          removeSelectedCells.add( cell );
-        }
-      }
-      if( removeSelectedCells.size() > 0 ) {
-        selectedCells.removeAll( removeSelectedCells );
-      }
-      for( Point cell : selectedCells ) {
-        if( cell.x >= index ) {
-          cell.x-- ;
+      // cells are hashed by their coordinates, re-insert them after the update
+      List<Point> cells = new ArrayList<>( selectedCells );
+      clearSelectedCells();
+      for( Point cell : cells ) {
+        if( cell.x != index ) {
+          addSelectedCell( new Point( cell.x > index ? cell.x - 1 : cell.x, cell.y ) );
         }
       }
     }
@@ -3247,7 +3291,7 @@ public class Grid extends Composite {
         y += getHeaderHeight();
       }
       int topIndex = getTopIndex();
-      int itemIndex = items.indexOf( item );
+      int itemIndex = internalIndexOf( item );
       if( itemIndex == -1 ) {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
       }
@@ -3274,7 +3318,7 @@ public class Grid extends Composite {
     checkWidget();
     boolean result = false;
     if( item.isVisible() ) {
-      int itemIndex = items.indexOf( item );
+      int itemIndex = internalIndexOf( item );
       if( itemIndex == -1 ) {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
       }
@@ -3489,7 +3533,7 @@ public class Grid extends Composite {
       GridItem item = items.get( index );
       if( cellSelectionEnabled ) {
         selectCells( getCells( item ) );
-      } else if( !selectedItems.contains( item ) ) {
+      } else {
         selectedItems.add( item );
       }
     }
@@ -3509,7 +3553,7 @@ public class Grid extends Composite {
       GridItem item = items.get( index );
       if( cellSelectionEnabled ) {
         deselectCells( getCells( item ) );
-      } else if( selectedItems.contains( item ) ) {
+      } else {
         selectedItems.remove( item );
       }
     }
@@ -3517,15 +3561,45 @@ public class Grid extends Composite {
 
   private void internalDeselectAll() {
     if( cellSelectionEnabled ) {
-      selectedCells.clear();
+      clearSelectedCells();
     } else {
       selectedItems.clear();
     }
   }
 
+  private boolean isRowSelected( int index ) {
+    return selectedCellCounts.containsKey( Integer.valueOf( index ) );
+  }
+
+  private void addSelectedCell( Point cell ) {
+    // copy the cell, as points are mutable and hashed by their coordinates
+    if( selectedCells.add( new Point( cell.x, cell.y ) ) ) {
+      Integer row = Integer.valueOf( cell.y );
+      Integer count = selectedCellCounts.get( row );
+      selectedCellCounts.put( row, Integer.valueOf( count == null ? 1 : count.intValue() + 1 ) );
+    }
+  }
+
+  private void removeSelectedCell( Point cell ) {
+    if( selectedCells.remove( cell ) ) {
+      Integer row = Integer.valueOf( cell.y );
+      int count = selectedCellCounts.get( row ).intValue();
+      if( count == 1 ) {
+        selectedCellCounts.remove( row );
+      } else {
+        selectedCellCounts.put( row, Integer.valueOf( count - 1 ) );
+      }
+    }
+  }
+
+  private void clearSelectedCells() {
+    selectedCells.clear();
+    selectedCellCounts.clear();
+  }
+
   private Point[] getCells( GridItem item ) {
     List<Point> cells = new ArrayList<>();
-    int itemIndex = items.indexOf( item );
+    int itemIndex = internalIndexOf( item );
     int span = 0;
     for( GridColumn nextCol : displayOrderedColumns ) {
       if( span > 0 ) {
@@ -3600,20 +3674,11 @@ public class Grid extends Composite {
     if( newCell.y < 0 || newCell.y >= items.size() ) {
       return;
     }
-    Iterator<Point> it = selectedCells.iterator();
-    boolean found = false;
-    while( it.hasNext() ) {
-      Point p = it.next();
-      if( newCell.equals( p ) ) {
-        found = true;
-        break;
-      }
-    }
-    if( !found ) {
+    if( !selectedCells.contains( newCell ) ) {
       if( selectionType == SWT.SINGLE && selectedCells.size() > 0 ) {
         return;
       }
-      selectedCells.add( newCell );
+      addSelectedCell( newCell );
     }
   }
 
@@ -4041,7 +4106,27 @@ public class Grid extends Composite {
   }
 
   int internalIndexOf( GridItem item ) {
-    return items.indexOf( item );
+    int index = item.flatIndex;
+    if( index < 0 || index >= validFlatIndexCount || items.get( index ) != item ) {
+      updateFlatIndices();
+      index = item.flatIndex;
+      if( index < 0 || index >= items.size() || items.get( index ) != item ) {
+        index = -1;
+      }
+    }
+    return index;
+  }
+
+  private void updateFlatIndices() {
+    int size = items.size();
+    for( int i = validFlatIndexCount; i < size; i++ ) {
+      items.get( i ).flatIndex = i;
+    }
+    validFlatIndexCount = size;
+  }
+
+  private void invalidateFlatIndices( int start ) {
+    validFlatIndexCount = Math.min( validFlatIndexCount, start );
   }
 
   void scheduleRedraw() {
@@ -4059,6 +4144,13 @@ public class Grid extends Composite {
     scrollValuesObsolete = true;
   }
 
+  Color getDefaultRowHeaderBackground() {
+    if( defaultRowHeaderBackground == null ) {
+      defaultRowHeaderBackground = new Color( getDisplay(), 231, 231, 231 );
+    }
+    return defaultRowHeaderBackground;
+  }
+
   void invalidateDefaultRowHeadersText() {
     defaultRowHeadersTextObsolete = true;
     redraw();
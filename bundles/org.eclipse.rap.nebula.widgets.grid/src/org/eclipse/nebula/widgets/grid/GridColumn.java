@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -25,6 +25,7 @@ import org.eclipse.swt.events.ControlListener;
 import org.eclipse.swt.events.SelectionListener;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.internal.widgets.MarkupValidator;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Item;
@@ -336,6 +337,7 @@ public class GridColumn extends Item {
    */
   public void setWidth( int width ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     internalSetWidth( width );
   }
 
@@ -364,6 +366,7 @@ public class GridColumn extends Item {
    */
   public void setMinimumWidth( int minimumWidth ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     this.minimumWidth = Math.max( 0, minimumWidth );
     if( minimumWidth > width ) {
       internalSetWidth( minimumWidth );
@@ -409,6 +412,7 @@ public class GridColumn extends Item {
    */
   public void setSort( int style ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( style == SWT.UP || style == SWT.DOWN || style == SWT.NONE ) {
       // TODO: [if] Currently, client implementation supports only one sort column
       if( style != SWT.NONE ) {
@@ -456,6 +460,7 @@ public class GridColumn extends Item {
    */
   public void setMoveable( boolean moveable ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     this.moveable = moveable;
     parent.redraw();
   }
@@ -492,6 +497,7 @@ public class GridColumn extends Item {
    */
   public void setResizeable( boolean resizeable ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     this.resizeable = resizeable;
   }
 
@@ -528,6 +534,7 @@ public class GridColumn extends Item {
    */
   public void setCheckable(boolean checkable) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     this.checkable = checkable;
   }
 
@@ -567,6 +574,7 @@ public class GridColumn extends Item {
    */
   public void setDetail( boolean detail ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     this.detail = detail;
   }
 
@@ -605,6 +613,7 @@ public class GridColumn extends Item {
    */
   public void setSummary( boolean summary ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     this.summary = summary;
   }
 
@@ -641,6 +650,7 @@ public class GridColumn extends Item {
    */
   public void setVisible( boolean visible ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     boolean before = isVisible();
     this.visible = visible;
     if( isVisible() != before ) {
@@ -740,6 +750,7 @@ public class GridColumn extends Item {
    */
   public void setTree( boolean tree ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( tree ) {
       parent.setTreeColumn( this );
     } else if( isTree() ) {
@@ -780,6 +791,7 @@ public class GridColumn extends Item {
    */
   public void setAlignment( int alignment ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( alignment == SWT.LEFT || alignment == SWT.CENTER || alignment == SWT.RIGHT ) {
       this.alignment = alignment;
     }
@@ -837,6 +849,7 @@ public class GridColumn extends Item {
    */
   public void setWordWrap( boolean wordWrap ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( this.wordWrap != wordWrap ) {
       this.wordWrap = wordWrap;
       parent.scheduleRedraw();
@@ -863,6 +876,7 @@ public class GridColumn extends Item {
    */
   public void setHeaderFont( Font font ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( font != null && font.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -903,6 +917,7 @@ public class GridColumn extends Item {
    */
   public void setHeaderTooltip( String toolTipText ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if(    toolTipText != null
         && isToolTipMarkupEnabledFor( this )
         && !isValidationDisabledFor( this ) )
@@ -940,6 +955,7 @@ public class GridColumn extends Item {
    */
   public void setHeaderWordWrap( boolean wordWrap ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( headerWordWrap != wordWrap ) {
       headerWordWrap = wordWrap;
       parent.layoutCache.invalidateHeaderHeight();
@@ -980,6 +996,7 @@ public class GridColumn extends Item {
    */
   public void setFooterText( String text ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1028,6 +1045,7 @@ public class GridColumn extends Item {
    */
   public void setFooterImage( Image image ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( image != null && image.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1074,6 +1092,7 @@ public class GridColumn extends Item {
    */
   public void setFooterFont( Font font ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( font != null && font.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1113,6 +1132,7 @@ public class GridColumn extends Item {
    */
   public void pack() {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     int newWidth = Math.max( getPreferredWidth(), parent.getMaxContentWidth( this ) );
     setWidth( newWidth );
     packed = true;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,6 +21,7 @@ import org.eclipse.swt.events.TreeListener;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.widgets.Item;
 import org.eclipse.swt.widgets.TypedListener;
 
@@ -189,6 +190,7 @@ public class GridColumnGroup extends Item {
    */
   public void setExpanded( boolean expanded ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( this.expanded != expanded ) {
       this.expanded = expanded;
       if( parent.getCellSelectionEnabled() ) {
@@ -267,6 +269,7 @@ public class GridColumnGroup extends Item {
    */
   public void setHeaderFont( Font font ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( font != null && font.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -298,6 +301,7 @@ public class GridColumnGroup extends Item {
    */
   public void setHeaderWordWrap( boolean wordWrap ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     headerWordWrap = wordWrap;
     parent.layoutCache.invalidateHeaderHeight();
     parent.scheduleRedraw();
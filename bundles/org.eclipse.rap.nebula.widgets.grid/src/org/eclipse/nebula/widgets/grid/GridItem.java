@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -29,6 +29,7 @@ import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.internal.widgets.IWidgetColorAdapter;
 import org.eclipse.swt.internal.widgets.IWidgetFontAdapter;
 import org.eclipse.swt.internal.widgets.MarkupValidator;
@@ -51,6 +52,9 @@ import org.eclipse.swt.widgets.Widget;
 @SuppressWarnings("restriction")
 public class GridItem extends Item {
 
+  // shared by all cells without data, must not be modified
+  private static final CellData DEFAULT_CELL_DATA = new CellData();
+
   private Grid parent;
   private GridItem parentItem;
   private GridItemData data;
@@ -59,6 +63,8 @@ public class GridItem extends Item {
   private boolean cached;
   private transient IGridItemAdapter gridItemAdapter;
   int index;
+  // cached index in the flat list of grid items, maintained by Grid#internalIndexOf()
+  int flatIndex = -1;
 
   /**
    * Creates a new instance of this class and places the item at the end of
@@ -187,7 +193,7 @@ public class GridItem extends Item {
     if( !parent.isDisposing() && !isDisposed() ) {
       if( data != null ) {
         for( int i = 0; i < parent.getColumnCount(); i++ ) {
-          CellData itemData = getCellData( i );
+          CellData itemData = findCellData( i );
           updateColumnImageCount( i, itemData.image, null );
           updateColumnTextCount( i, itemData.text, "" );
         }
@@ -459,6 +465,7 @@ public class GridItem extends Item {
    */
   public void setExpanded( boolean expanded ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( getItemData().expanded != expanded ) {
       getItemData().expanded = expanded;
       boolean unselected = false;
@@ -529,6 +536,7 @@ public class GridItem extends Item {
    */
   public void setFont( Font font ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( font != null && font.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -553,7 +561,7 @@ public class GridItem extends Item {
   public Font getFont() {
     checkWidget();
     handleVirtual();
-    Font defaultFont = getItemData().defaultFont;
+    Font defaultFont = data == null ? null : data.defaultFont;
     return defaultFont == null ? parent.getFont() : defaultFont;
   }
 
@@ -581,6 +589,7 @@ public class GridItem extends Item {
    */
   public void setFont( int index, Font font ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( font != null && font.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -607,7 +616,7 @@ public class GridItem extends Item {
   public Font getFont( int index ) {
     checkWidget();
     handleVirtual();
-    Font result = getCellData( index ).font;
+    Font result = findCellData( index ).font;
     if( result == null ) {
       result = getFont();
     }
@@ -636,6 +645,7 @@ public class GridItem extends Item {
    */
   public void setBackground( Color background ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( background != null && background.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -658,7 +668,7 @@ public class GridItem extends Item {
   public Color getBackground() {
     checkWidget();
     handleVirtual();
-    Color defaultBackground = getItemData().defaultBackground;
+    Color defaultBackground = data == null ? null : data.defaultBackground;
     return defaultBackground == null ? parent.getBackground() : defaultBackground;
   }
 
@@ -686,6 +696,7 @@ public class GridItem extends Item {
    */
   public void setBackground( int index, Color background ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( background != null && background.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -710,7 +721,7 @@ public class GridItem extends Item {
   public Color getBackground( int index ) {
     checkWidget();
     handleVirtual();
-    Color result = getCellData( index ).background;
+    Color result = findCellData( index ).background;
      if( result == null ) {
        result = getBackground();
      }
@@ -739,6 +750,7 @@ public class GridItem extends Item {
    */
   public void setForeground( Color foreground ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( foreground != null && foreground.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -761,7 +773,7 @@ public class GridItem extends Item {
   public Color getForeground() {
     checkWidget();
     handleVirtual();
-    Color defaultForeground = getItemData().defaultForeground;
+    Color defaultForeground = data == null ? null : data.defaultForeground;
     return defaultForeground == null ? parent.getForeground() : defaultForeground;
   }
 
@@ -789,6 +801,7 @@ public class GridItem extends Item {
    */
   public void setForeground( int index, Color foreground ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( foreground != null && foreground.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -813,7 +826,7 @@ public class GridItem extends Item {
   public Color getForeground( int index ) {
     checkWidget();
     handleVirtual();
-    Color result = getCellData( index ).foreground;
+    Color result = findCellData( index ).foreground;
     if( result == null ) {
       result = getForeground();
     }
@@ -826,6 +839,7 @@ public class GridItem extends Item {
   @Override
   public void setText( String string ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     setText( 0, string );
   }
 
@@ -859,6 +873,7 @@ public class GridItem extends Item {
    */
   public void setText( int index, String text ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -889,7 +904,7 @@ public class GridItem extends Item {
   public String getText( int index ) {
     checkWidget();
     handleVirtual();
-    return getCellData( index ).text;
+    return findCellData( index ).text;
   }
 
   /**
@@ -909,6 +924,7 @@ public class GridItem extends Item {
    */
   public void setToolTipText( int index, String tooltip ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     getCellData( index ).tooltip = tooltip;
     if( tooltip != null && tooltip.length() > 0 ) {
       parent.setCellToolTipsEnabled( true );
@@ -933,7 +949,7 @@ public class GridItem extends Item {
   public String getToolTipText( int index ) {
     checkWidget();
     handleVirtual();
-    return getCellData( index ).tooltip;
+    return findCellData( index ).tooltip;
   }
 
   /**
@@ -942,6 +958,7 @@ public class GridItem extends Item {
   @Override
   public void setImage( Image image ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     setImage( 0, image );
   }
 
@@ -975,6 +992,7 @@ public class GridItem extends Item {
    */
   public void setImage( int index, Image image ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( image != null && image.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1003,7 +1021,7 @@ public class GridItem extends Item {
   public Image getImage( int index ) {
     checkWidget();
     handleVirtual();
-    return getCellData( index ).image;
+    return findCellData( index ).image;
   }
 
   /**
@@ -1021,6 +1039,7 @@ public class GridItem extends Item {
    */
   public void setChecked( boolean checked ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     setChecked( 0, checked );
   }
 
@@ -1058,6 +1077,7 @@ public class GridItem extends Item {
    */
   public void setChecked( int index, boolean checked ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     // [if] TODO: probably need a check for parent.getColumn( index ).isCheck() ?
     getCellData( index ).checked = checked;
     markCached();
@@ -1080,7 +1100,7 @@ public class GridItem extends Item {
   public boolean getChecked( int index ) {
     checkWidget();
     handleVirtual();
-    return getCellData( index ).checked;
+    return findCellData( index ).checked;
   }
 
   /**
@@ -1100,6 +1120,7 @@ public class GridItem extends Item {
    */
   public void setGrayed( boolean grayed ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     setGrayed( 0, grayed );
   }
 
@@ -1141,6 +1162,7 @@ public class GridItem extends Item {
    */
   public void setGrayed( int index, boolean grayed ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     // [if] TODO: probably need a check for parent.getColumn( index ).isCheck() ?
     getCellData( index ).grayed = grayed;
     markCached();
@@ -1165,7 +1187,7 @@ public class GridItem extends Item {
   public boolean getGrayed( int index ) {
     checkWidget();
     handleVirtual();
-    return getCellData( index ).grayed;
+    return findCellData( index ).grayed;
   }
 
   /**
@@ -1188,6 +1210,7 @@ public class GridItem extends Item {
    */
   public void setCheckable( int index, boolean checked ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     // [if] TODO: probably need a check for parent.getColumn( index ).isCheck() ?
     getCellData( index ).checkable = checked;
     markCached();
@@ -1212,7 +1235,7 @@ public class GridItem extends Item {
   public boolean getCheckable( int index ) {
     checkWidget();
     handleVirtual();
-    boolean result = getCellData( index ).checkable;
+    boolean result = findCellData( index ).checkable;
     if( parent.getColumnCount() > 0 && !parent.getColumn( index ).getCheckable() ) {
       result = false;
     }
@@ -1239,6 +1262,7 @@ public class GridItem extends Item {
    */
   public void setColumnSpan( int index, int span ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     getCellData( index ).columnSpan = span;
     parent.setHasSpanning( true );
   }
@@ -1261,7 +1285,7 @@ public class GridItem extends Item {
    */
   public int getColumnSpan( int index ) {
     checkWidget();
-    return getCellData( index ).columnSpan;
+    return findCellData( index ).columnSpan;
   }
 
   /**
@@ -1279,6 +1303,7 @@ public class GridItem extends Item {
    */
   public void setHeight( int height ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( height < 1 ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1297,7 +1322,7 @@ public class GridItem extends Item {
    */
   public int getHeight() {
     checkWidget();
-    int customHeight = getItemData().customHeight;
+    int customHeight = data == null ? -1 : data.customHeight;
     return customHeight != -1 ? customHeight : parent.getItemHeight();
   }
 
@@ -1323,6 +1348,7 @@ public class GridItem extends Item {
    */
   public void setHeaderText( String text ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( parent.getRowHeadersColumn() != null ) {
       updateColumnTextCount( Integer.MIN_VALUE, internalGetHeaderText(), text );
       getItemData().headerText = text;
@@ -1347,7 +1373,7 @@ public class GridItem extends Item {
    */
   public String getHeaderText() {
     checkWidget();
-    return getItemData().headerText;
+    return data == null ? null : data.headerText;
   }
 
   /**
@@ -1368,6 +1394,7 @@ public class GridItem extends Item {
    */
   public void setHeaderImage( Image image ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( image != null && image.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1395,7 +1422,7 @@ public class GridItem extends Item {
    */
   public Image getHeaderImage() {
     checkWidget();
-    return getItemData().headerImage;
+    return data == null ? null : data.headerImage;
   }
 
   /**
@@ -1415,6 +1442,7 @@ public class GridItem extends Item {
    */
   public void setHeaderBackground( Color headerBackground ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( headerBackground != null && headerBackground.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1439,7 +1467,7 @@ public class GridItem extends Item {
    */
   public Color getHeaderBackground() {
     checkWidget();
-    return getItemData().headerBackground;
+    return data == null ? null : data.headerBackground;
   }
 
   /**
@@ -1459,6 +1487,7 @@ public class GridItem extends Item {
    */
   public void setHeaderForeground( Color headerForeground ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( headerForeground != null && headerForeground.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1483,7 +1512,7 @@ public class GridItem extends Item {
    */
   public Color getHeaderForeground() {
     checkWidget();
-    return getItemData().headerForeground;
+    return data == null ? null : data.headerForeground;
   }
 
   /**
@@ -1503,6 +1532,7 @@ public class GridItem extends Item {
    */
   public void setHeaderFont( Font headerFont ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( headerFont != null && headerFont.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1527,7 +1557,7 @@ public class GridItem extends Item {
    */
   public Font getHeaderFont() {
     checkWidget();
-    return getItemData().headerFont;
+    return data == null ? null : data.headerFont;
   }
 
   /**
@@ -1543,6 +1573,7 @@ public class GridItem extends Item {
    */
   public void pack() {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     // [if] As different item heights (wordwrap and autoHeight) are not supported,
     // we only invalidate the cache here
     parent.layoutCache.invalidateItemHeight();
@@ -1652,7 +1683,7 @@ public class GridItem extends Item {
   void clear( boolean allChildren ) {
     if( data != null ) {
       for( int i = 0; i < parent.getColumnCount(); i++ ) {
-        CellData cellData = getCellData( i );
+        CellData cellData = findCellData( i );
         updateColumnImageCount( i, cellData.image, null );
         updateColumnTextCount( i, cellData.text, "" );
       }
@@ -1709,7 +1740,7 @@ public class GridItem extends Item {
 
   private int getSpacing( int index ) {
     int result = 0;
-    String text = getCellData( index ).text;
+    String text = findCellData( index ).text;
     if( parent.hasColumnImages( index ) && text.length() > 0 ) {
       result = parent.getCellSpacing();
     }
@@ -1717,7 +1748,7 @@ public class GridItem extends Item {
   }
 
   private int getTextWidth( int index ) {
-    String text = getCellData( index ).text;
+    String text = findCellData( index ).text;
     if( text.length() > 0 ) {
       return stringExtent( internalGetFont( index ), text, isMarkupEnabledFor( parent ) ).x;
     }
@@ -1736,9 +1767,9 @@ public class GridItem extends Item {
   }
 
   private Font internalGetFont( int index ) {
-    Font result = getCellData( index ).font;
+    Font result = findCellData( index ).font;
     if( result == null ) {
-      result = getItemData().defaultFont;
+      result = data == null ? null : data.defaultFont;
     }
     if( result == null ) {
       result = parent.getFont();
@@ -1769,6 +1800,21 @@ public class GridItem extends Item {
     return getItemData().getCellData( index );
   }
 
+  /*
+   * Returns the cell data for reading without creating the item data or the cell data. The
+   * returned object must not be modified.
+   */
+  private CellData findCellData( int index ) {
+    if( data != null ) {
+      CellData result = data.findCellData( index );
+      return result == null ? DEFAULT_CELL_DATA : result;
+    }
+    if( index < 0 || index >= Math.max( 1, parent.getColumnCount() ) ) {
+      throw new IndexOutOfBoundsException( "Index: " + index );
+    }
+    return DEFAULT_CELL_DATA;
+  }
+
   private GridItemData getItemData() {
     ensureItemData();
     return data;
@@ -1803,7 +1849,7 @@ public class GridItem extends Item {
   void ensureItemData() {
     if( data == null ) {
       data = new GridItemData( parent.getColumnCount() );
-      data.defaultHeaderBackground = new Color( getDisplay(), 231, 231, 231 );
+      data.defaultHeaderBackground = parent.getDefaultRowHeaderBackground();
     }
   }
 
@@ -1893,17 +1939,17 @@ public class GridItem extends Item {
 
     @Override
     public Color getUserBackground() {
-      return getItemData().defaultBackground;
+      return data == null ? null : data.defaultBackground;
     }
 
     @Override
     public Color getUserForeground() {
-      return getItemData().defaultForeground;
+      return data == null ? null : data.defaultForeground;
     }
 
     @Override
     public Font getUserFont() {
-      return getItemData().defaultFont;
+      return data == null ? null : data.defaultFont;
     }
 
     @Override
@@ -1916,7 +1962,7 @@ public class GridItem extends Item {
         if( i == 0 && offset == 1 ) {
           text = internalGetHeaderText();
         } else {
-          text = getCellData( i - offset ).text;
+          text = findCellData( i - offset ).text;
         }
         if( !"".equals( text ) ) {
           if( result == null ) {
@@ -1937,9 +1983,9 @@ public class GridItem extends Item {
       for( int i = 0; i < columnCount; i++ ) {
         Image image = null;
         if( i == 0 && offset == 1 ) {
-          image = getItemData().headerImage;
+          image = data == null ? null : data.headerImage;
         } else {
-          image = getCellData( i - offset ).image;
+          image = findCellData( i - offset ).image;
         }
         if( image != null ) {
           if( result == null ) {
@@ -1961,7 +2007,7 @@ public class GridItem extends Item {
         if( i == 0 && offset == 1 ) {
           background = internalGetHeaderBackground();
         } else {
-          background = getCellData( i - offset ).background;
+          background = findCellData( i - offset ).background;
         }
         if( background != null ) {
           if( result == null ) {
@@ -1983,7 +2029,7 @@ public class GridItem extends Item {
         if( i == 0 && offset == 1 ) {
           foreground = getItemData().headerForeground;
         } else {
-          foreground = getCellData( i - offset ).foreground;
+          foreground = findCellData( i - offset ).foreground;
         }
         if( foreground != null ) {
           if( result == null ) {
@@ -2005,7 +2051,7 @@ public class GridItem extends Item {
         if( i == 0 && offset == 1 ) {
           font = getItemData().headerFont;
         } else {
-          font = getCellData( i - offset ).font;
+          font = findCellData( i - offset ).font;
         }
         if( font != null ) {
           if( result == null ) {
@@ -2023,7 +2069,7 @@ public class GridItem extends Item {
       int columnCount = Math.max( 1, getParent().getColumnCount() ) + offset;
       boolean[] result = null;
       for( int i = offset; i < columnCount; i++ ) {
-        boolean checked = getCellData( i - offset ).checked;
+        boolean checked = findCellData( i - offset ).checked;
         if( checked ) {
           if( result == null ) {
             result = new boolean[ columnCount ];
@@ -2040,7 +2086,7 @@ public class GridItem extends Item {
       int columnCount = Math.max( 1, getParent().getColumnCount() ) + offset;
       boolean[] result = null;
       for( int i = offset; i < columnCount; i++ ) {
-        boolean grayed = getCellData( i - offset ).grayed;
+        boolean grayed = findCellData( i - offset ).grayed;
         if( grayed ) {
           if( result == null ) {
             result = new boolean[ columnCount ];
@@ -2057,7 +2103,7 @@ public class GridItem extends Item {
       int columnCount = Math.max( 1, getParent().getColumnCount() ) + offset;
       boolean[] result = null;
       for( int i = offset; i < columnCount; i++ ) {
-        boolean checkable = getCellData( i - offset ).checkable;
+        boolean checkable = findCellData( i - offset ).checkable;
         if( !checkable ) {
           if( result == null ) {
             result = new boolean[ columnCount ];
@@ -2075,7 +2121,7 @@ public class GridItem extends Item {
       int columnCount = Math.max( 1, getParent().getColumnCount() ) + offset;
       int[] result = null;
       for( int i = offset; i < columnCount; i++ ) {
-        int span = getCellData( i - offset ).columnSpan;
+        int span = findCellData( i - offset ).columnSpan;
         if( span != 0 ) {
           if( result == null ) {
             result = new int[ columnCount ];
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2020 EclipseSource and others.
+ * Copyright (c) 2014, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
 package org.eclipse.nebula.widgets.grid.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.nebula.widgets.grid.GridItem;
@@ -37,13 +38,11 @@ public class GridItemData implements SerializableCompatibility {
   public boolean expanded;
 
   List<GridItem> children;
-  final List<CellData> cellData;
+  // cell data is created on first write, unset cells are null
+  CellData[] cellData;
 
   public GridItemData( int cells ) {
-    cellData = new ArrayList<CellData>();
-    for( int i = 0; i < Math.max( 1, cells ); i++ ) {
-      cellData.add( null );
-    }
+    cellData = new CellData[ Math.max( 1, cells ) ];
   }
 
   public List<GridItem> getChildren() {
@@ -54,30 +53,43 @@ public class GridItemData implements SerializableCompatibility {
   }
 
   public void addCellData( int index ) {
-    if( index == -1 ) {
-      cellData.add( null );
-    } else {
-      cellData.add( index, null );
+    int length = cellData.length;
+    int position = index == -1 ? length : index;
+    if( position < 0 || position > length ) {
+      throw new IndexOutOfBoundsException( "Index: " + index + ", Size: " + length );
     }
+    CellData[] newCellData = new CellData[ length + 1 ];
+    System.arraycopy( cellData, 0, newCellData, 0, position );
+    System.arraycopy( cellData, position, newCellData, position + 1, length - position );
+    cellData = newCellData;
   }
 
   public void removeCellData( int index ) {
-    if( cellData.size() > index ) {
-      cellData.remove( index );
+    int length = cellData.length;
+    if( length > index ) {
+      CellData[] newCellData = new CellData[ length - 1 ];
+      System.arraycopy( cellData, 0, newCellData, 0, index );
+      System.arraycopy( cellData, index + 1, newCellData, index, length - index - 1 );
+      cellData = newCellData;
     }
   }
 
   public CellData getCellData( int index ) {
-    if( cellData.get( index ) == null ) {
-      cellData.set( index, new CellData() );
+    if( cellData[ index ] == null ) {
+      cellData[ index ] = new CellData();
     }
-    return cellData.get( index );
+    return cellData[ index ];
+  }
+
+  /**
+   * Returns the cell data at the given index or <code>null</code> if it has not been created.
+   */
+  public CellData findCellData( int index ) {
+    return cellData[ index ];
   }
 
   public void clear() {
-    for( int index = 0; index < cellData.size(); index++ ) {
-      cellData.set( index, null );
-    }
+    Arrays.fill( cellData, null );
     defaultFont = null;
     defaultBackground = null;
     defaultForeground = null;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -29,6 +29,7 @@ import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Layout;
 
@@ -311,6 +312,7 @@ public class RichTextEditor extends Composite {
    */
   public void setText( String text ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -337,6 +339,7 @@ public class RichTextEditor extends Composite {
    */
   public void insertText( String text ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -362,6 +365,7 @@ public class RichTextEditor extends Composite {
    */
   public void setEditable( boolean editable ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( this.editable != editable ) {
       this.editable = editable;
       remoteObject.set( "editable", editable );
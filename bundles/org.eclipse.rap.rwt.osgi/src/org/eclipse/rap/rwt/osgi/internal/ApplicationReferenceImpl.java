@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,9 +12,12 @@
 package org.eclipse.rap.rwt.osgi.internal;
 
 import java.util.Collection;
+import java.util.Dictionary;
+import java.util.Hashtable;
 
 import org.eclipse.rap.rwt.application.ApplicationConfiguration;
 import org.eclipse.rap.rwt.application.ApplicationRunner;
+import org.eclipse.rap.rwt.engine.RWTResourceServlet;
 import org.eclipse.rap.rwt.engine.RWTServlet;
 import org.eclipse.rap.rwt.osgi.ApplicationReference;
 import org.eclipse.rap.rwt.service.ApplicationContext;
@@ -32,6 +35,8 @@ class ApplicationReferenceImpl implements ApplicationReference {
   static final String SERVLET_CONTEXT_FINDER_ALIAS = "/servlet_context_finder";
   static final String DEFAULT_ALIAS = "/rap";
   static final String RAP_HTTP_CONTEXT_CLASS_NAME = "org.eclipse.rap.ui.internal.RAPHttpContext";
+  // init parameter that enables async processing (used for server push) of a servlet
+  static final String ASYNC_SUPPORTED = "async-supported";
 
   private ApplicationConfiguration configuration;
   private HttpService httpService;
@@ -85,10 +90,10 @@ class ApplicationReferenceImpl implements ApplicationReference {
   private void registerServlets() {
     Collection<String> aliases = getServletPaths();
     if( aliases.isEmpty() ) {
-      registerServlet( DEFAULT_ALIAS, new RWTServlet() );
+      registerServlet( DEFAULT_ALIAS, new RWTServlet(), createAsyncInitParams() );
     }
     for( String alias : aliases ) {
-      registerServlet( alias, new RWTServlet() );
+      registerServlet( alias, new RWTServlet(), createAsyncInitParams() );
     }
   }
 
@@ -185,9 +190,16 @@ class ApplicationReferenceImpl implements ApplicationReference {
   }
 
   private void registerServlet( String alias, HttpServlet servlet ) {
+    registerServlet( alias, servlet, null );
+  }
+
+  private void registerServlet( String alias,
+                                HttpServlet servlet,
+                                Dictionary<String, String> initParams )
+  {
     try {
       HttpServlet wrapper = new CutOffContextPathWrapper( servlet, servletContextWrapper, alias );
-      httpService.registerServlet( getContextSegment() + alias, wrapper, null, httpContext );
+      httpService.registerServlet( getContextSegment() + alias, wrapper, initParams, httpContext );
     } catch( RuntimeException rte ) {
       throw rte;
     } catch( Exception shouldNotHappen ) {
@@ -195,16 +207,14 @@ class ApplicationReferenceImpl implements ApplicationReference {
     }
   }
 
+  private static Dictionary<String, String> createAsyncInitParams() {
+    Dictionary<String, String> result = new Hashtable<>();
+    result.put( ASYNC_SUPPORTED, "true" );
+    return result;
+  }
+
   private void registerResourceDirectory() {
-    String alias = ApplicationRunner.RESOURCES;
-    String location = contextLocation + "/" + alias;
-    try {
-      httpService.registerResources( getContextSegment() + "/" + alias, location, httpContext );
-    } catch( RuntimeException rte ) {
-      throw rte;
-    } catch( Exception shouldNotHappen ) {
-      throw new RuntimeException( shouldNotHappen );
-    }
+    registerServlet( "/" + ApplicationRunner.RESOURCES, new RWTResourceServlet() );
   }
 
   private void clearFields() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -28,11 +28,12 @@ class CutOffContextPathWrapper extends HttpServlet {
 
   static class RequestWrapper extends HttpServletRequestWrapper {
     private final String alias;
-    private final HttpSession httpSession;
+    private final ServletContext servletContext;
+    private HttpSession httpSession;
 
     RequestWrapper( HttpServletRequest request, ServletContext servletContext, String alias ) {
       super( request );
-      httpSession = new HttpSessionWrapper( request.getSession(), servletContext );
+      this.servletContext = servletContext;
       this.alias = alias;
     }
 
@@ -43,6 +44,11 @@ class CutOffContextPathWrapper extends HttpServlet {
 
     @Override
     public HttpSession getSession() {
+      // created lazily, resource requests must not create sessions
+      if( httpSession == null ) {
+        HttpServletRequest request = ( HttpServletRequest )getRequest();
+        httpSession = new HttpSessionWrapper( request.getSession(), servletContext );
+      }
       return httpSession;
     }
   }
@@ -17,6 +17,8 @@
  */
 package org.eclipse.rap.rwt.apache.batik.css.parser;
 
+import java.io.Serializable;
+
 import org.w3c.css.sac.Selector;
 import org.w3c.css.sac.SelectorList;
 
@@ -26,7 +28,7 @@ import org.w3c.css.sac.SelectorList;
  * @author <a href="mailto:stephane@hillion.org">Stephane Hillion</a>
  * @version $Id: CSSSelectorList.java,v 1.1 2010/04/14 15:16:16 rherrmann Exp $
  */
-public class CSSSelectorList implements SelectorList {
+public class CSSSelectorList implements SelectorList, Serializable {
 
     /**
      * The list.
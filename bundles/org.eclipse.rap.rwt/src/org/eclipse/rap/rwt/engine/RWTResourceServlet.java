@@ -0,0 +1,324 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.engine;
+
+import static jakarta.servlet.http.HttpServletResponse.SC_NOT_FOUND;
+import static jakarta.servlet.http.HttpServletResponse.SC_NOT_MODIFIED;
+import static jakarta.servlet.http.HttpServletResponse.SC_PARTIAL_CONTENT;
+import static jakarta.servlet.http.HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE;
+import static java.nio.file.StandardOpenOption.READ;
+import static org.eclipse.rap.rwt.internal.util.HTTP.ENCODING_GZIP;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_ACCEPT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_ACCEPT_RANGES;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_CACHE_CONTROL;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_CONTENT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_CONTENT_RANGE;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_ETAG;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_IF_NONE_MATCH;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_IF_RANGE;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_RANGE;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_VARY;
+import static org.eclipse.rap.rwt.internal.util.HTTP.acceptsEncoding;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.resources.ResourceManagerImpl;
+import org.eclipse.rap.rwt.internal.resources.ServedResource;
+import org.eclipse.rap.rwt.service.ResourceManager;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+
+/**
+ * A servlet that serves the resources registered with the <code>ResourceManager</code> of a RAP
+ * application.
+ * <p>
+ * Resources are served with strong entity tags, and conditional requests are answered with
+ * <code>304 Not Modified</code>. Resources whose names contain the RAP version or a hash of their
+ * content, like the client library and generated images, can be cached by browsers without
+ * revalidation. Text resources are compressed once when they are registered. Single byte ranges
+ * of uncompressed content can be requested with a <code>Range</code> header. If the servlet
+ * container provides its output stream as a <code>WritableByteChannel</code>, resources are
+ * transferred from their file channel without copying them to the heap.
+ * </p>
+ * <p>
+ * In an OSGi environment, this servlet is registered automatically. In a traditional web
+ * application, the resources directory is served by the servlet container unless this servlet is
+ * registered for it in the deployment descriptor like shown below.
+ * </p>
+ *
+ * <pre>
+ * &lt;servlet&gt;
+ *   &lt;servlet-name&gt;rwtResourceServlet&lt;/servlet-name&gt;
+ *   &lt;servlet-class&gt;org.eclipse.rap.rwt.engine.RWTResourceServlet&lt;/servlet-class&gt;
+ * &lt;/servlet&gt;
+ *
+ * &lt;servlet-mapping&gt;
+ *   &lt;servlet-name&gt;rwtResourceServlet&lt;/servlet-name&gt;
+ *   &lt;url-pattern&gt;/rwt-resources/*&lt;/url-pattern&gt;
+ * &lt;/servlet-mapping&gt;
+ * </pre>
+ *
+ * @since 4.5
+ * @noextend This class is not intended to be subclassed by clients.
+ */
+public class RWTResourceServlet extends HttpServlet {
+
+  private static final String CACHE_CONTROL_IMMUTABLE = "public, max-age=31536000, immutable";
+  private static final String CACHE_CONTROL_REVALIDATE = "no-cache";
+  private static final String CONTENT_TYPE_DEFAULT = "application/octet-stream";
+  private static final String RANGE_UNIT = "bytes";
+  private static final int TRANSFER_BUFFER_SIZE = 8 * 1024;
+  private static final long[] UNSATISFIABLE_RANGE = new long[ 0 ];
+
+  private ApplicationContextImpl applicationContext;
+
+  @Override
+  public String getServletInfo() {
+    return "RWT Resource Servlet";
+  }
+
+  @Override
+  public void init() throws ServletException {
+    applicationContext = ApplicationContextImpl.getFrom( getServletContext() );
+  }
+
+  @Override
+  public void doGet( HttpServletRequest request, HttpServletResponse response )
+    throws ServletException, IOException
+  {
+    String path = getResourcePath( request );
+    ServedResource resource = path != null ? findResource( path ) : null;
+    if( resource == null ) {
+      response.sendError( SC_NOT_FOUND );
+    } else {
+      sendResource( request, response, path, resource );
+    }
+  }
+
+  private void sendResource( HttpServletRequest request,
+                             HttpServletResponse response,
+                             String path,
+                             ServedResource resource )
+    throws IOException
+  {
+    long[] range = getRange( request, resource );
+    byte[] gzipContent = resource.getGzipContent();
+    // ranges refer to the uncompressed content
+    boolean compressed =    range == null
+                         && gzipContent != null
+                         && acceptsEncoding( request, ENCODING_GZIP );
+    String etag = compressed ? resource.getGzipETag() : resource.getETag();
+    response.setHeader( HEADER_ETAG, etag );
+    response.setHeader( HEADER_CACHE_CONTROL, getCacheControl( resource ) );
+    response.setHeader( HEADER_ACCEPT_RANGES, RANGE_UNIT );
+    if( gzipContent != null ) {
+      response.setHeader( HEADER_VARY, HEADER_ACCEPT_ENCODING );
+    }
+    if( matches( request.getHeader( HEADER_IF_NONE_MATCH ), etag ) ) {
+      response.setStatus( SC_NOT_MODIFIED );
+    } else if( range == UNSATISFIABLE_RANGE ) {
+      response.setHeader( HEADER_CONTENT_RANGE, RANGE_UNIT + " */" + resource.getLength() );
+      response.sendError( SC_REQUESTED_RANGE_NOT_SATISFIABLE );
+    } else {
+      response.setContentType( getContentType( path ) );
+      if( compressed ) {
+        response.setHeader( HEADER_CONTENT_ENCODING, ENCODING_GZIP );
+        response.setContentLength( gzipContent.length );
+        response.getOutputStream().write( gzipContent );
+      } else if( range != null ) {
+        long length = range[ 1 ] - range[ 0 ] + 1;
+        String contentRange = range[ 0 ] + "-" + range[ 1 ] + "/" + resource.getLength();
+        response.setStatus( SC_PARTIAL_CONTENT );
+        response.setHeader( HEADER_CONTENT_RANGE, RANGE_UNIT + " " + contentRange );
+        response.setContentLengthLong( length );
+        transfer( resource, range[ 0 ], length, response.getOutputStream() );
+      } else {
+        response.setContentLengthLong( resource.getLength() );
+        transfer( resource, 0, resource.getLength(), response.getOutputStream() );
+      }
+    }
+  }
+
+  /*
+   * Copies the requested part of the file to the response. If the servlet container exposes its
+   * output stream as a channel, the content is handed to FileChannel#transferTo, which lets the
+   * operating system send it without copying it to the heap. Any other output stream would be
+   * wrapped in a channel that copies through a temporary buffer, hence the content is copied
+   * through a small buffer directly.
+   */
+  private static void transfer( ServedResource resource,
+                                long position,
+                                long length,
+                                OutputStream outputStream )
+    throws IOException
+  {
+    try( FileChannel channel = FileChannel.open( resource.getFile().toPath(), READ ) ) {
+      if( outputStream instanceof WritableByteChannel ) {
+        transfer( channel, position, length, ( WritableByteChannel )outputStream );
+      } else {
+        copy( channel, position, length, outputStream );
+      }
+    }
+  }
+
+  private static void transfer( FileChannel channel,
+                                long position,
+                                long length,
+                                WritableByteChannel target )
+    throws IOException
+  {
+    long offset = position;
+    long remaining = length;
+    while( remaining > 0 ) {
+      long transferred = channel.transferTo( offset, remaining, target );
+      if( transferred <= 0 && offset >= channel.size() ) {
+        throw new IOException( "Resource truncated" );
+      }
+      offset += transferred;
+      remaining -= transferred;
+    }
+  }
+
+  private static void copy( FileChannel channel,
+                            long position,
+                            long length,
+                            OutputStream outputStream )
+    throws IOException
+  {
+    byte[] buffer = new byte[ ( int )Math.min( TRANSFER_BUFFER_SIZE, Math.max( length, 1 ) ) ];
+    ByteBuffer byteBuffer = ByteBuffer.wrap( buffer );
+    long offset = position;
+    long remaining = length;
+    while( remaining > 0 ) {
+      byteBuffer.clear();
+      byteBuffer.limit( ( int )Math.min( buffer.length, remaining ) );
+      int read = channel.read( byteBuffer, offset );
+      if( read == -1 ) {
+        throw new IOException( "Resource truncated" );
+      }
+      outputStream.write( buffer, 0, read );
+      offset += read;
+      remaining -= read;
+    }
+  }
+
+  private ServedResource findResource( String path ) {
+    ServedResource result = null;
+    if( applicationContext.allowsRequests() ) {
+      ResourceManager resourceManager = applicationContext.getResourceManager();
+      if( resourceManager instanceof ResourceManagerImpl ) {
+        result = ( ( ResourceManagerImpl )resourceManager ).getServedResource( path );
+      }
+    }
+    return result;
+  }
+
+  private String getContentType( String path ) {
+    String result = getServletContext().getMimeType( path );
+    return result != null ? result : CONTENT_TYPE_DEFAULT;
+  }
+
+  private static String getResourcePath( HttpServletRequest request ) {
+    String pathInfo = request.getPathInfo();
+    if( pathInfo == null || pathInfo.length() < 2 ) {
+      return null;
+    }
+    return pathInfo.substring( 1 );
+  }
+
+  private static String getCacheControl( ServedResource resource ) {
+    return resource.isImmutable() ? CACHE_CONTROL_IMMUTABLE : CACHE_CONTROL_REVALIDATE;
+  }
+
+  /*
+   * Returns the first and last byte position of the requested range, null to send the complete
+   * content, or UNSATISFIABLE_RANGE. Only single ranges are supported, requests for multiple
+   * ranges are answered with the complete content as permitted by RFC 9110, section 14.2.
+   */
+  static long[] getRange( HttpServletRequest request, ServedResource resource ) {
+    String header = request.getHeader( HEADER_RANGE );
+    if( header == null || !isIfRangeFulfilled( request, resource ) ) {
+      return null;
+    }
+    return parseRange( header, resource.getLength() );
+  }
+
+  static long[] parseRange( String header, long length ) {
+    String prefix = RANGE_UNIT + "=";
+    if( !header.startsWith( prefix ) || header.indexOf( ',' ) != -1 ) {
+      return null;
+    }
+    String spec = header.substring( prefix.length() ).trim();
+    int dash = spec.indexOf( '-' );
+    if( dash == -1 ) {
+      return null;
+    }
+    try {
+      String first = spec.substring( 0, dash ).trim();
+      String last = spec.substring( dash + 1 ).trim();
+      long start;
+      long end;
+      if( first.isEmpty() ) {
+        // suffix range, the last n bytes
+        long suffixLength = Long.parseLong( last );
+        if( suffixLength <= 0 ) {
+          return UNSATISFIABLE_RANGE;
+        }
+        start = Math.max( 0, length - suffixLength );
+        end = length - 1;
+      } else {
+        start = Long.parseLong( first );
+        end = last.isEmpty() ? length - 1 : Math.min( Long.parseLong( last ), length - 1 );
+        if( end < start ) {
+          return start < length ? null : UNSATISFIABLE_RANGE;
+        }
+      }
+      if( start >= length ) {
+        return UNSATISFIABLE_RANGE;
+      }
+      return new long[] { start, end };
+    } catch( @SuppressWarnings( "unused" ) NumberFormatException invalid ) {
+      return null;
+    }
+  }
+
+  private static boolean isIfRangeFulfilled( HttpServletRequest request, ServedResource resource ) {
+    String ifRange = request.getHeader( HEADER_IF_RANGE );
+    // If-Range requires a strong comparison
+    return ifRange == null || resource.getETag().equals( ifRange.trim() );
+  }
+
+  static boolean matches( String ifNoneMatch, String etag ) {
+    if( ifNoneMatch != null ) {
+      for( String element : ifNoneMatch.split( "," ) ) {
+        String candidate = element.trim();
+        // weak comparison as required for If-None-Match (RFC 9110, section 13.1.2)
+        if( candidate.startsWith( "W/" ) ) {
+          candidate = candidate.substring( 2 );
+        }
+        if( "*".equals( candidate ) || etag.equals( candidate ) ) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2025 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -55,6 +55,11 @@ import jakarta.servlet.http.HttpSession;
  * application.
  * </p>
  *
+ * <p>
+ * Enabling async support for the servlet allows server push requests to be suspended instead of
+ * blocking a container thread while they wait for UI updates.
+ * </p>
+ *
  * <pre>
  * &lt;context-param&gt;
  *   &lt;param-name&gt;org.eclipse.rap.applicationConfiguration&lt;/param-name&gt;
@@ -68,6 +73,7 @@ import jakarta.servlet.http.HttpSession;
  * &lt;servlet&gt;
  *   &lt;servlet-name&gt;rwtServlet&lt;/servlet-name&gt;
  *   &lt;servlet-class&gt;org.eclipse.rap.rwt.engine.RWTServlet&lt;/servlet-class&gt;
+ *   &lt;async-supported&gt;true&lt;/async-supported&gt;
  * &lt;/servlet&gt;
  *
  * &lt;servlet-mapping&gt;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2024 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,6 +20,18 @@ public final class RWTProperties {
   public static final String TEXT_SIZE_STORE_SIZE = "org.eclipse.rap.rwt.textSizeStoreSize";
   public static final String TEXT_SIZE_STORE_SESSION_SCOPED = "org.eclipse.rap.rwt.textSizeStoreSessionScoped";
   public static final String ENABLE_LOAD_TESTS = "org.eclipse.rap.rwt.enableLoadTests";
+  public static final String DIRTY_RENDERING = "org.eclipse.rap.rwt.dirtyRendering";
+  public static final String VIRTUAL_UI_THREAD = "org.eclipse.rap.rwt.virtualUIThread";
+  public static final String STREAMING_RESPONSE = "org.eclipse.rap.rwt.streamingResponse";
+  public static final String LAST_RESPONSE_BUFFER_SIZE = "org.eclipse.rap.rwt.lastResponseBufferSize";
+  public static final String LAST_RESPONSE_COMPRESSION_THRESHOLD
+    = "org.eclipse.rap.rwt.lastResponseCompressionThreshold";
+  public static final String RESPONSE_COMPRESSION_THRESHOLD = "org.eclipse.rap.rwt.responseCompressionThreshold";
+  public static final String FONT_METRICS = "org.eclipse.rap.rwt.fontMetrics";
+  public static final String FONT_METRICS_DIRECTORY = "org.eclipse.rap.rwt.fontMetricsDirectory";
+  public static final String IMAGE_DATA_CACHE_SIZE = "org.eclipse.rap.rwt.imageDataCacheSize";
+  public static final String THEME_SNAPSHOT_DIRECTORY
+    = "org.eclipse.rap.rwt.themeSnapshotDirectory";
 
   /*
    * Used in conjunction with <code>WidgetUtil#CUSTOM_WIDGET_ID</code>,
@@ -55,6 +67,54 @@ public final class RWTProperties {
     return getBooleanProperty( ENABLE_LOAD_TESTS, false );
   }
 
+  public static boolean isDirtyRenderingEnabled() {
+    return getBooleanProperty( DIRTY_RENDERING, false );
+  }
+
+  public static boolean isVirtualUIThreadEnabled() {
+    return getBooleanProperty( VIRTUAL_UI_THREAD, false );
+  }
+
+  public static boolean isStreamingResponseEnabled() {
+    return getBooleanProperty( STREAMING_RESPONSE, false );
+  }
+
+  public static int getLastResponseBufferSize( int defaultValue ) {
+    return getIntProperty( LAST_RESPONSE_BUFFER_SIZE, defaultValue );
+  }
+
+  /*
+   * Returns the minimal size in bytes of an uncompressed last response to be kept
+   * gzip-compressed, or a negative value if it must not be compressed.
+   */
+  public static int getLastResponseCompressionThreshold() {
+    return getIntProperty( LAST_RESPONSE_COMPRESSION_THRESHOLD, -1 );
+  }
+
+  /*
+   * Returns the minimal size in bytes of a UI response to be sent gzip-compressed, or a
+   * negative value if responses must not be compressed.
+   */
+  public static int getResponseCompressionThreshold() {
+    return getIntProperty( RESPONSE_COMPRESSION_THRESHOLD, -1 );
+  }
+
+  public static boolean isFontMetricsEnabled() {
+    return getBooleanProperty( FONT_METRICS, false );
+  }
+
+  public static String getFontMetricsDirectory() {
+    return System.getProperty( FONT_METRICS_DIRECTORY );
+  }
+
+  public static int getImageDataCacheSize( int defaultValue ) {
+    return getIntProperty( IMAGE_DATA_CACHE_SIZE, defaultValue );
+  }
+
+  public static String getThemeSnapshotDirectory() {
+    return System.getProperty( THEME_SNAPSHOT_DIRECTORY );
+  }
+
   public static boolean getBooleanProperty( String name, boolean defaultValue ) {
     String value = System.getProperty( name );
     return value == null ? defaultValue : value.equalsIgnoreCase( "true" );
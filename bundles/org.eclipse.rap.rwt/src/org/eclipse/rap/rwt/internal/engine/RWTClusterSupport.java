@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -28,8 +28,30 @@ import org.eclipse.rap.rwt.internal.service.UISessionImpl;
 import org.eclipse.rap.rwt.service.UISession;
 
 
+/**
+ * Prepares deserialized UI sessions for the request and flags the UI session for replication
+ * afterwards, unless the request has been marked with {@link #markSessionUnchanged}.
+ * <p>
+ * The UI session is always replicated as a whole. Replicating only the changes of a request is
+ * not supported: servlet containers replicate per session attribute, and the widgets, their
+ * remote adapters and the other objects of a UI session reference each other, so that parts of
+ * it that are serialized separately would not resolve to the same instances after
+ * deserialization.
+ * </p>
+ */
 public class RWTClusterSupport implements Filter {
 
+  private static final String ATTR_SESSION_UNCHANGED
+    = RWTClusterSupport.class.getName() + "#sessionUnchanged";
+
+  /**
+   * Marks the given request as one that does not change the serializable state of its UI
+   * session. The UI session is not flagged for replication after such a request.
+   */
+  public static void markSessionUnchanged( ServletRequest request ) {
+    request.setAttribute( ATTR_SESSION_UNCHANGED, Boolean.TRUE );
+  }
+
   @Override
   public void init( FilterConfig filterConfig ) {
   }
@@ -71,7 +93,7 @@ public class RWTClusterSupport implements Filter {
 
   private static void afterService( ServletRequest request ) {
     HttpSession httpSession = getHttpSession( request );
-    if( httpSession != null ) {
+    if( httpSession != null && !isSessionUnchanged( request ) ) {
       afterService( httpSession, getConnectionId( request ) );
     }
   }
@@ -93,6 +115,10 @@ public class RWTClusterSupport implements Filter {
     }
   }
 
+  private static boolean isSessionUnchanged( ServletRequest request ) {
+    return request.getAttribute( ATTR_SESSION_UNCHANGED ) != null;
+  }
+
   private static HttpSession getHttpSession( ServletRequest request ) {
     return ( ( HttpServletRequest )request ).getSession( false );
   }
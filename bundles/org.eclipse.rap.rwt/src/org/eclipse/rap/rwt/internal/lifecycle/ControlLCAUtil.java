@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,9 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderListene
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderToolTipMarkupEnabled;
 import static org.eclipse.swt.internal.widgets.ControlUtil.getControlAdapter;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 import org.eclipse.rap.rwt.internal.util.ActiveKeysUtil;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.internal.widgets.ControlRemoteAdapter;
@@ -78,6 +81,46 @@ public class ControlLCAUtil {
     renderListenHelp( control );
   }
 
+  /**
+   * Computes the tab indices of all controls of the given shell, but in contrast to the
+   * recalculation during rendering, only controls whose tab index actually changes are updated.
+   */
+  public static void updateTabIndices( Shell shell ) {
+    Map<Control, Integer> tabIndices = new IdentityHashMap<>();
+    computeTabIndices( shell, 1, tabIndices );
+    updateTabIndices( shell, tabIndices );
+  }
+
+  private static void updateTabIndices( Composite composite, Map<Control, Integer> tabIndices ) {
+    for( Control control : composite.getChildren() ) {
+      Integer tabIndex = tabIndices.get( control );
+      int index = tabIndex == null ? -1 : tabIndex.intValue();
+      IControlAdapter controlAdapter = getControlAdapter( control );
+      if( controlAdapter.getTabIndex() != index ) {
+        controlAdapter.setTabIndex( index );
+      }
+      if( control instanceof Composite ) {
+        updateTabIndices( ( Composite )control, tabIndices );
+      }
+    }
+  }
+
+  private static int computeTabIndices( Composite composite,
+                                        int startIndex,
+                                        Map<Control, Integer> tabIndices )
+  {
+    int result = startIndex;
+    for( Control control : composite.getTabList() ) {
+      tabIndices.put( control, Integer.valueOf( result ) );
+      // for Links, leave a range out to be assigned to hrefs on the client
+      result += control instanceof Link ? 300 : 1;
+      if( control instanceof Composite ) {
+        result = computeTabIndices( ( Composite )control, result, tabIndices );
+      }
+    }
+    return result;
+  }
+
   private static void recalculateTabIndex( Shell shell ) {
     resetTabIndices( shell );
     // tabIndex must be a positive value
@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.rap.rwt.internal.lifecycle.UIThread.UIThreadTerminatedError;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.service.ServiceContext;
+import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.rap.rwt.service.UISession;
+
+
+/**
+ * A UI thread holder that runs the UI code on a virtual thread if the JVM supports it. Other
+ * than <code>UIThread</code>, the hand-off between request thread and UI thread is implemented
+ * with a <code>ReentrantLock</code> and a <code>Condition</code>, which do not pin the carrier
+ * thread of a waiting virtual thread.
+ * <p>
+ * The lock returned by <code>getLock()</code> is a <code>ReentrantLock</code> that must be held
+ * when calling <code>switchThread()</code>.
+ * </p>
+ */
+final class VirtualUIThread implements IUIThreadHolder, ISessionShutdownAdapter {
+
+  private static final ThreadLocal<VirtualUIThread> CURRENT = new ThreadLocal<>();
+
+  private final Thread thread;
+  private final ReentrantLock lock;
+  private final Condition switched;
+  private ServiceContext serviceContext;
+  private UISession uiSession;
+  private Runnable shutdownCallback;
+  private volatile boolean uiThreadTerminating;
+
+  VirtualUIThread( final Runnable runnable ) {
+    lock = new ReentrantLock();
+    switched = lock.newCondition();
+    thread = createThread( new Runnable() {
+      @Override
+      public void run() {
+        CURRENT.set( VirtualUIThread.this );
+        try {
+          runnable.run();
+        } finally {
+          CURRENT.remove();
+        }
+      }
+    } );
+  }
+
+  static IUIThreadHolder getCurrent() {
+    return CURRENT.get();
+  }
+
+  //////////////////////////
+  // interface IThreadHolder
+
+  @Override
+  public void setServiceContext( ServiceContext serviceContext ) {
+    this.serviceContext = serviceContext;
+  }
+
+  @Override
+  public void updateServiceContext() {
+    if( ContextProvider.hasContext() ) {
+      ContextProvider.releaseContextHolder();
+    }
+    ContextProvider.setContext( serviceContext );
+  }
+
+  @Override
+  public void switchThread() {
+    lock.lock();
+    try {
+      checkAndReportTerminatedUIThread();
+      switched.signalAll();
+      boolean done = false;
+      while( !done ) {
+        try {
+          switched.await();
+          done = true;
+        } catch( InterruptedException e ) {
+          handleInterruptInSwitchThread( e );
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void checkAndReportTerminatedUIThread() {
+    if( !thread.isAlive() ) {
+      String msg
+        = "Thread '"
+        + Thread.currentThread()
+        + "' is waiting for already terminated UIThread";
+      ServletLog.log( "", new RuntimeException( msg ) );
+    }
+  }
+
+  private void handleInterruptInSwitchThread( InterruptedException e )
+    throws UIThreadTerminatedError
+  {
+    Thread.interrupted();
+    if( uiThreadTerminating ) {
+      // Equip the UI thread that is continuing its execution with a
+      // service context and the proper phase (see terminateThread).
+      updateServiceContext();
+      CurrentPhase.set( PhaseId.PROCESS_ACTION );
+      uiThreadTerminating = false;
+      throw new UIThreadTerminatedError();
+    }
+    if( Thread.currentThread() != thread ) {
+      String msg = "Received InterruptedException on request thread";
+      ServletLog.log( msg, e );
+    }
+  }
+
+  @Override
+  public void terminateThread() {
+    // Prepare a service context to be used by the UI thread that may continue
+    // to run as a result of the interrupt call
+    ServiceContext serviceContext = ContextUtil.createFakeContext( uiSession );
+    setServiceContext( serviceContext );
+    uiThreadTerminating = true;
+    // interrupt the UI thread that is expected to wait in switchThread or already be terminated
+    lock.lock();
+    try {
+      thread.interrupt();
+    } finally {
+      lock.unlock();
+    }
+    try {
+      thread.join();
+    } catch( InterruptedException e ) {
+      String msg = "Received InterruptedException while terminating UIThread";
+      ServletLog.log( msg, e );
+    }
+    uiThreadTerminating = false;
+  }
+
+  @Override
+  public Thread getThread() {
+    return thread;
+  }
+
+  @Override
+  public Object getLock() {
+    return lock;
+  }
+
+  ////////////////////////////////////
+  // interface ISessionShutdownAdapter
+
+  @Override
+  public void setUISession( UISession uiSession ) {
+    this.uiSession = uiSession;
+  }
+
+  @Override
+  public void setShutdownCallback( Runnable shutdownCallback ) {
+    this.shutdownCallback = shutdownCallback;
+  }
+
+  @Override
+  public void interceptShutdown() {
+    terminateThread();
+  }
+
+  @Override
+  public void processShutdown() {
+    UIThread.processShutdown( this, uiSession, shutdownCallback );
+  }
+
+  //////////////////
+  // thread creation
+
+  // Virtual threads are created reflectively as RWT still runs on Java 17
+  private static Thread createThread( Runnable runnable ) {
+    Method ofVirtual = getOfVirtualMethod();
+    if( ofVirtual != null ) {
+      try {
+        Object builder = ofVirtual.invoke( null );
+        Class<?> builderType = ofVirtual.getReturnType();
+        Method unstarted = builderType.getMethod( "unstarted", Runnable.class );
+        return ( Thread )unstarted.invoke( builder, runnable );
+      } catch( ReflectiveOperationException exception ) {
+        ServletLog.log( "Failed to create virtual UI thread", exception );
+      }
+    }
+    return new Thread( runnable );
+  }
+
+  private static Method getOfVirtualMethod() {
+    try {
+      return Thread.class.getMethod( "ofVirtual" );
+    } catch( @SuppressWarnings( "unused" ) NoSuchMethodException exception ) {
+      return null;
+    }
+  }
+
+}
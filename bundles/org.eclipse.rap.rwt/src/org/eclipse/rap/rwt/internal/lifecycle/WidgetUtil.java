@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,9 +13,12 @@ package org.eclipse.rap.rwt.internal.lifecycle;
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
+import org.eclipse.swt.internal.widgets.IDisplayAdapter;
+import org.eclipse.swt.internal.widgets.WidgetIndex;
 import org.eclipse.swt.internal.widgets.WidgetTreeUtil;
 import org.eclipse.swt.internal.widgets.WidgetTreeVisitor;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.Widget;
 
 
@@ -49,22 +52,54 @@ public final class WidgetUtil {
     return lca;
   }
 
-  public static Widget find( Composite root, final String id ) {
-    final Widget[] result = { null };
+  public static Widget find( Composite root, String id ) {
+    Widget result = null;
     if( id != null ) {
-      WidgetTreeUtil.accept( root, new WidgetTreeVisitor() {
-        @Override
-        public boolean visit( Widget widget ) {
-          if( getId( widget ).equals( id ) ) {
-            result[ 0 ] = widget;
-          }
-          return result[ 0 ] == null;
+      WidgetIndex widgetIndex = getWidgetIndex( root );
+      result = widgetIndex.get( id );
+      if( result == null ) {
+        // widgets are not indexed after deserialization
+        result = findInTree( root, id );
+        if( result != null ) {
+          widgetIndex.add( id, result );
         }
-      } );
+      } else if( !isInTree( root, result ) ) {
+        result = null;
+      }
     }
+    return result;
+  }
+
+  private static Widget findInTree( Composite root, final String id ) {
+    final Widget[] result = { null };
+    WidgetTreeUtil.accept( root, new WidgetTreeVisitor() {
+      @Override
+      public boolean visit( Widget widget ) {
+        if( getId( widget ).equals( id ) ) {
+          result[ 0 ] = widget;
+        }
+        return result[ 0 ] == null;
+      }
+    } );
     return result[ 0 ];
   }
 
+  private static boolean isInTree( Composite root, Widget widget ) {
+    Widget current = widget;
+    while( current != null && current != root ) {
+      // shells are not part of the widget tree of their parent
+      if( current instanceof Shell ) {
+        return false;
+      }
+      current = getAdapter( current ).getParent();
+    }
+    return current == root;
+  }
+
+  private static WidgetIndex getWidgetIndex( Composite root ) {
+    return root.getDisplay().getAdapter( IDisplayAdapter.class ).getWidgetIndex();
+  }
+
   public static void registerDataKeys( String... keys ) {
     ParamCheck.notNull( keys, "keys" );
     WidgetDataUtil.registerDataKeys( keys );
@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2010, 2015 EclipseSource and others.
+* Copyright (c) 2010, 2026 EclipseSource and others.
 * All rights reserved. This program and the accompanying materials
 * are made available under the terms of the Eclipse Public License v1.0
 * which accompanies this distribution, and is available at
@@ -10,6 +10,8 @@
 *******************************************************************************/
 package org.eclipse.rap.rwt.internal.protocol;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -26,12 +28,30 @@ public class ProtocolMessageWriter {
 
   private final JsonObject head;
   private final List<Operation> operations;
+  private final StringBuilder serializedOperations;
+  private final Writer serializedOperationsWriter;
   private Operation pendingOperation;
   private boolean alreadyCreated;
 
   public ProtocolMessageWriter() {
+    this( false );
+  }
+
+  /**
+   * Creates a writer that optionally serializes each operation as soon as no further properties
+   * can be added to it (i.e. when the next operation is appended). This way, the JSON objects of
+   * the operations can be garbage collected while the response is still being rendered.
+   */
+  public ProtocolMessageWriter( boolean streaming ) {
     head = new JsonObject();
     operations = new ArrayList<>();
+    if( streaming ) {
+      serializedOperations = new StringBuilder();
+      serializedOperationsWriter = new StringBuilderWriter( serializedOperations );
+    } else {
+      serializedOperations = null;
+      serializedOperationsWriter = null;
+    }
   }
 
   public void appendHead( String property, int value ) {
@@ -118,6 +138,9 @@ public class ProtocolMessageWriter {
 
   private ResponseMessage createMessageObject() {
     appendPendingOperation();
+    if( serializedOperations != null ) {
+      return new SerializedResponseMessage( head, serializedOperations.toString() );
+    }
     return new ResponseMessage( head, operations );
   }
 
@@ -131,7 +154,24 @@ public class ProtocolMessageWriter {
 
   private void appendPendingOperation() {
     if( pendingOperation != null ) {
-      operations.add( pendingOperation );
+      if( serializedOperations != null ) {
+        serializeOperation( pendingOperation );
+      } else {
+        operations.add( pendingOperation );
+      }
+      pendingOperation = null;
+    }
+  }
+
+  private void serializeOperation( Operation operation ) {
+    if( serializedOperations.length() > 0 ) {
+      serializedOperations.append( ',' );
+    }
+    try {
+      operation.toJson().writeTo( serializedOperationsWriter );
+    } catch( IOException exception ) {
+      // StringBuilderWriter does not throw IOExceptions
+      throw new IllegalStateException( "Failed to serialize operation", exception );
     }
   }
 
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import static org.eclipse.rap.rwt.internal.protocol.OperationReader.readOperation;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.json.JsonValue;
+
+
+/**
+ * A response message whose operations have already been serialized by a streaming
+ * <code>ProtocolMessageWriter</code>. The operations are only parsed again if they are
+ * explicitly requested, e.g. by a message filter. In this case, the parsed operations are written
+ * instead.
+ */
+class SerializedResponseMessage extends ResponseMessage {
+
+  private final String operationsJson;
+  private transient List<Operation> operations;
+
+  SerializedResponseMessage( JsonObject head, String operationsJson ) {
+    super( head, new ArrayList<Operation>() );
+    this.operationsJson = operationsJson;
+  }
+
+  @Override
+  public List<Operation> getOperations() {
+    if( operations == null ) {
+      operations = parseOperations( operationsJson );
+    }
+    return operations;
+  }
+
+  @Override
+  protected void writeOperations( Writer writer ) throws IOException {
+    if( operations != null ) {
+      // the parsed operations may have been modified
+      super.writeOperations( writer );
+    } else {
+      writer.write( operationsJson );
+    }
+  }
+
+  private static List<Operation> parseOperations( String json ) {
+    JsonArray operationsArray = JsonArray.readFrom( "[" + json + "]" );
+    List<Operation> result = new ArrayList<>( operationsArray.size() );
+    for( JsonValue operation : operationsArray ) {
+      result.add( readOperation( operation ) );
+    }
+    return result;
+  }
+
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import java.io.Writer;
+
+
+/**
+ * An unsynchronized writer that appends to a <code>StringBuilder</code>. Unlike
+ * <code>StringWriter</code>, it does not acquire a lock for every write, and it does not wrap a
+ * <code>StringBuffer</code>.
+ */
+final class StringBuilderWriter extends Writer {
+
+  private final StringBuilder builder;
+
+  StringBuilderWriter( StringBuilder builder ) {
+    this.builder = builder;
+  }
+
+  @Override
+  public void write( int c ) {
+    builder.append( ( char )c );
+  }
+
+  @Override
+  public void write( char[] buffer, int offset, int length ) {
+    builder.append( buffer, offset, length );
+  }
+
+  @Override
+  public void write( String string ) {
+    builder.append( string );
+  }
+
+  @Override
+  public void write( String string, int offset, int length ) {
+    builder.append( string, offset, offset + length );
+  }
+
+  @Override
+  public Writer append( CharSequence sequence ) {
+    builder.append( sequence );
+    return this;
+  }
+
+  @Override
+  public void flush() {
+    // nothing to flush
+  }
+
+  @Override
+  public void close() {
+    // nothing to close
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -28,7 +28,8 @@ public class RemoteObjectLifeCycleAdapter {
 
   public static void readData( ClientMessage message ) {
     RemoteObjectRegistry registry = RemoteObjectRegistry.getInstance();
-    for( RemoteObjectImpl remoteObject : registry.getRemoteObjects() ) {
+    for( String target : message.getAllTargets() ) {
+      RemoteObjectImpl remoteObject = registry.get( target );
       if( remoteObject instanceof DeferredRemoteObject ) {
         dispatchOperations( message, remoteObject );
       }
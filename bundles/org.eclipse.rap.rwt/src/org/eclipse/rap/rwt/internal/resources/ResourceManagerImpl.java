@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,8 +12,6 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.resources;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -21,9 +19,14 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.rap.rwt.internal.util.StreamUtil;
@@ -46,12 +49,17 @@ import org.eclipse.rap.rwt.service.ResourceManager;
  */
 public class ResourceManagerImpl implements ResourceManager {
 
+  private static final List<String> COMPRESSIBLE_EXTENSIONS
+    = Arrays.asList( "js", "json", "css", "html", "htm", "svg", "txt", "xml" );
+
   private final ResourceDirectory resourceDirectory;
   private final Set<String> resources;
+  private final Map<String,ServedResource> servedResources;
 
   public ResourceManagerImpl( ResourceDirectory resourceDirectory ) {
     this.resourceDirectory = resourceDirectory;
     resources = Collections.synchronizedSet( new HashSet<String>() );
+    servedResources = new ConcurrentHashMap<>();
   }
 
   /////////////////////////////
@@ -84,12 +92,27 @@ public class ResourceManagerImpl implements ResourceManager {
     internalRegister( path, inputStream );
   }
 
+  /**
+   * Registers a resource whose path is derived from its content, like the hash-named images
+   * generated by the image factory. As the content for such a path never changes, the resource
+   * is served with a long-lived immutable cache header. All other resources have to be
+   * revalidated by the client, using the ETag.
+   */
+  public void registerImmutable( String path, InputStream inputStream ) {
+    register( path, inputStream );
+    ServedResource servedResource = servedResources.get( getRequestPath( path ) );
+    if( servedResource != null ) {
+      servedResource.markImmutable();
+    }
+  }
+
   @Override
   public boolean unregister( String name ) {
     ParamCheck.notNull( name, "name" );
     boolean result = false;
     if( resources.remove( name ) ) {
       result = true;
+      servedResources.remove( getRequestPath( name ) );
       File file = getDiskLocation( name );
       file.delete();
     }
@@ -126,6 +149,16 @@ public class ResourceManagerImpl implements ResourceManager {
     return result;
   }
 
+  /**
+   * Returns the registered resource for the given path relative to the resources directory, as
+   * found in the URLs returned by <code>getLocation()</code>, or <code>null</code> if there is no
+   * such resource.
+   */
+  public ServedResource getServedResource( String path ) {
+    ParamCheck.notNull( path, "path" );
+    return servedResources.get( path );
+  }
+
   //////////////////
   // helping methods
 
@@ -133,36 +166,41 @@ public class ResourceManagerImpl implements ResourceManager {
     return new StringBuilder()
       .append( ResourceDirectory.DIRNAME )
       .append( "/" )
-      .append( escapeResourceName( resourceName.replace( '\\', '/' ) ) )
+      .append( getRequestPath( resourceName ) )
       .toString();
   }
 
+  private static String getRequestPath( String resourceName ) {
+    return escapeResourceName( resourceName.replace( '\\', '/' ) );
+  }
+
   private void internalRegister( String name, InputStream inputStream ) {
     File location = getDiskLocation( name );
+    long length;
     try {
       createDirectories( location );
-      writeResource( inputStream, location );
+      length = writeResource( inputStream, location );
     } catch ( IOException ioe ) {
       throw new RuntimeException( "Failed to register resource: " + name, ioe );
     }
+    ServedResource servedResource = new ServedResource( location, length, isCompressible( name ) );
+    servedResources.put( getRequestPath( name ), servedResource );
     resources.add( name );
   }
 
-  private static void writeResource( InputStream inputStream, File location )
-    throws IOException
-  {
-    BufferedInputStream bufferedStream = new BufferedInputStream( inputStream );
-    OutputStream outputStream = new BufferedOutputStream( new FileOutputStream( location ) );
-    try {
-      byte[] buffer = new byte[ 256 ];
-      int read = bufferedStream.read( buffer );
-      while( read != -1 ) {
-        outputStream.write( buffer, 0, read );
-        read = bufferedStream.read( buffer );
-      }
-    } finally {
-      outputStream.close();
+  private static long writeResource( InputStream inputStream, File location ) throws IOException {
+    try( OutputStream outputStream = new FileOutputStream( location ) ) {
+      return inputStream.transferTo( outputStream );
+    }
+  }
+
+  private static boolean isCompressible( String name ) {
+    int index = name.lastIndexOf( '.' );
+    if( index == -1 ) {
+      return false;
     }
+    String extension = name.substring( index + 1 ).toLowerCase( Locale.ENGLISH );
+    return COMPRESSIBLE_EXTENSIONS.contains( extension );
   }
 
   private static void createDirectories( File file ) throws IOException {
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * Describes a registered resource as served by the <code>RWTResourceServlet</code>: the file it
+ * is stored in, a strong entity tag derived from its content and an optional precompressed
+ * variant. The entity tag and the compressed variant are computed when the resource is
+ * requested for the first time, so that registering resources that are never served through the
+ * servlet does not cost anything.
+ * <p>
+ * This class is not intended to be used by clients.
+ * </p>
+ */
+public final class ServedResource {
+
+  private static final int BUFFER_SIZE = 8 * 1024;
+  // resources smaller than this are not worth compressing
+  private static final int MIN_COMPRESSION_SIZE = 1024;
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private final File file;
+  private final long length;
+  private final boolean compressible;
+  private volatile boolean immutable;
+  private String etag;
+  private byte[] gzipContent;
+
+  ServedResource( File file, long length, boolean compressible ) {
+    this.file = file;
+    this.length = length;
+    this.compressible = compressible && length >= MIN_COMPRESSION_SIZE;
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  public long getLength() {
+    return length;
+  }
+
+  /**
+   * Returns the quoted entity tag of the uncompressed content.
+   */
+  public String getETag() {
+    return "\"" + getContentHash() + "\"";
+  }
+
+  /**
+   * Returns the quoted entity tag of the gzip compressed content. It differs from the tag of the
+   * uncompressed content as both are different representations of the resource.
+   */
+  public String getGzipETag() {
+    return "\"" + getContentHash() + "-gz\"";
+  }
+
+  /**
+   * Returns the gzip compressed content, or <code>null</code> if the resource is not
+   * compressible.
+   */
+  public byte[] getGzipContent() {
+    if( !compressible ) {
+      return null;
+    }
+    synchronized( this ) {
+      readContent();
+      return gzipContent;
+    }
+  }
+
+  /**
+   * Returns whether the content of this resource never changes under its name, i.e. the name
+   * contains a version or a hash of the content.
+   */
+  public boolean isImmutable() {
+    return immutable;
+  }
+
+  void markImmutable() {
+    immutable = true;
+  }
+
+  private synchronized String getContentHash() {
+    readContent();
+    return etag;
+  }
+
+  // computes the hash and the compressed variant in a single pass over the file
+  private void readContent() {
+    if( etag == null ) {
+      MessageDigest digest = createDigest();
+      ByteArrayOutputStream compressed = compressible ? new ByteArrayOutputStream() : null;
+      try( InputStream inputStream = new FileInputStream( file ) ) {
+        GZIPOutputStream gzipStream = null;
+        if( compressed != null ) {
+          gzipStream = new GZIPOutputStream( compressed );
+        }
+        byte[] buffer = new byte[ BUFFER_SIZE ];
+        int read = inputStream.read( buffer );
+        while( read != -1 ) {
+          digest.update( buffer, 0, read );
+          if( gzipStream != null ) {
+            gzipStream.write( buffer, 0, read );
+          }
+          read = inputStream.read( buffer );
+        }
+        if( gzipStream != null ) {
+          gzipStream.close();
+          // serving the compressed variant only pays off if it is smaller
+          gzipContent = compressed.size() < length ? compressed.toByteArray() : null;
+        }
+      } catch( IOException ioe ) {
+        throw new RuntimeException( "Failed to read resource: " + file, ioe );
+      }
+      etag = toHex( digest.digest() );
+    }
+  }
+
+  private static MessageDigest createDigest() {
+    try {
+      return MessageDigest.getInstance( "SHA-1" );
+    } catch( NoSuchAlgorithmException shouldNotHappen ) {
+      throw new RuntimeException( shouldNotHappen );
+    }
+  }
+
+  private static String toHex( byte[] bytes ) {
+    char[] result = new char[ bytes.length * 2 ];
+    for( int i = 0; i < bytes.length; i++ ) {
+      result[ i * 2 ] = HEX_DIGITS[ ( bytes[ i ] >> 4 ) & 0xF ];
+      result[ i * 2 + 1 ] = HEX_DIGITS[ bytes[ i ] & 0xF ];
+    }
+    return new String( result );
+  }
+
+}
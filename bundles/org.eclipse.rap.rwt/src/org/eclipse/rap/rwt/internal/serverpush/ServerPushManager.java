@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,10 +11,19 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.serverpush;
 
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 
 import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServiceStore;
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
@@ -40,6 +49,7 @@ public final class ServerPushManager implements SerializableCompatibility {
   private int requestCheckInterval;
   private int requestReleaseInterval;
   private transient ServerPushRequestTracker serverPushRequestTracker;
+  private transient AsyncPushRequest asyncPushRequest;
 
   private ServerPushManager() {
     lock = new SerializableLock();
@@ -56,7 +66,7 @@ public final class ServerPushManager implements SerializableCompatibility {
 
   public boolean isCallBackRequestBlocked() {
     synchronized( lock ) {
-      return !serverPushRequestTracker.hasActive();
+      return !serverPushRequestTracker.hasActive() || asyncPushRequest != null;
     }
   }
 
@@ -71,6 +81,9 @@ public final class ServerPushManager implements SerializableCompatibility {
   public void releaseBlockedRequest() {
     synchronized( lock ) {
       lock.notifyAll();
+      if( asyncPushRequest != null ) {
+        asyncPushRequest.check();
+      }
     }
   }
 
@@ -128,6 +141,38 @@ public final class ServerPushManager implements SerializableCompatibility {
     return isServerPushActive() || forceServerPushForPendingRunnables();
   }
 
+  void processRequest( HttpServletRequest request, HttpServletResponse response ) {
+    if( request.isAsyncSupported() ) {
+      processAsyncRequest( request );
+    } else {
+      processRequest( response );
+    }
+  }
+
+  /*
+   * Other than processRequest( HttpServletResponse ), the request is suspended instead of
+   * blocking the container thread while waiting. It is completed when the conditions of
+   * canReleaseBlockedRequest() are met, the checks are triggered by releaseBlockedRequest() and
+   * scheduled on the application-wide timer executor.
+   */
+  private void processAsyncRequest( HttpServletRequest request ) {
+    synchronized( lock ) {
+      if( asyncPushRequest != null ) {
+        // only the most recent callback request is kept open
+        asyncPushRequest.release();
+      }
+      if( isCallBackRequestBlocked() ) {
+        releaseBlockedRequest();
+      }
+      long requestStartTime = System.currentTimeMillis();
+      if( mustBlockCallBackRequest( requestStartTime ) ) {
+        UISession uiSession = ContextProvider.getUISession();
+        asyncPushRequest = new AsyncPushRequest( request.startAsync(), uiSession, requestStartTime );
+        asyncPushRequest.start();
+      }
+    }
+  }
+
   void processRequest( HttpServletResponse response ) {
     synchronized( lock ) {
       if( isCallBackRequestBlocked() ) {
@@ -197,7 +242,13 @@ public final class ServerPushManager implements SerializableCompatibility {
   }
 
   static boolean isSessionExpired( long requestStartTime, long currentTime ) {
-    UISession uiSession = ContextProvider.getUISession();
+    return isSessionExpired( ContextProvider.getUISession(), requestStartTime, currentTime );
+  }
+
+  private static boolean isSessionExpired( UISession uiSession,
+                                           long requestStartTime,
+                                           long currentTime )
+  {
     if( uiSession == null ) {
       return true;
     }
@@ -218,6 +269,122 @@ public final class ServerPushManager implements SerializableCompatibility {
     return result;
   }
 
+  private static ScheduledExecutorService getExecutor( UISession uiSession ) {
+    ApplicationContextImpl applicationContext
+      = ( ApplicationContextImpl )uiSession.getApplicationContext();
+    return applicationContext.getTimerExecService().getExecutor();
+  }
+
+  /*
+   * Registered as UISessionListener, hence it is serialized with the UI session while the
+   * request is suspended. The request itself is bound to the current container and is not
+   * restored, a deserialized instance is never the current request of its manager.
+   */
+  private final class AsyncPushRequest implements AsyncListener, UISessionListener {
+
+    private transient final AsyncContext asyncContext;
+    private transient final UISession uiSession;
+    private final long requestStartTime;
+    private transient final ScheduledExecutorService executor;
+    private transient ScheduledFuture<?> scheduledCheck;
+
+    private AsyncPushRequest( AsyncContext asyncContext,
+                              UISession uiSession,
+                              long requestStartTime )
+    {
+      this.asyncContext = asyncContext;
+      this.uiSession = uiSession;
+      this.requestStartTime = requestStartTime;
+      executor = getExecutor( uiSession );
+    }
+
+    void start() {
+      // timeouts are handled by the scheduled checks
+      asyncContext.setTimeout( 0 );
+      asyncContext.addListener( this );
+      uiSession.addUISessionListener( this );
+      scheduleCheck( System.currentTimeMillis() );
+    }
+
+    void check() {
+      synchronized( lock ) {
+        if( asyncPushRequest == this ) {
+          long currentTime = System.currentTimeMillis();
+          if(    !mustBlockCallBackRequest( requestStartTime, currentTime )
+              || isSessionExpired( uiSession, requestStartTime, currentTime ) )
+          {
+            release();
+          } else {
+            scheduleCheck( currentTime );
+          }
+        }
+      }
+    }
+
+    void release() {
+      synchronized( lock ) {
+        if( asyncPushRequest == this ) {
+          asyncPushRequest = null;
+          cancelScheduledCheck();
+          uiSession.removeUISessionListener( this );
+          try {
+            asyncContext.complete();
+          } catch( @SuppressWarnings( "unused" ) IllegalStateException exception ) {
+            // the request has already been completed by the container
+          }
+        }
+      }
+    }
+
+    private void scheduleCheck( long currentTime ) {
+      cancelScheduledCheck();
+      long elapsed = currentTime - requestStartTime;
+      long delay = requestCheckInterval - elapsed;
+      if( hasRunnables ) {
+        delay = Math.min( delay, requestReleaseInterval - elapsed );
+      }
+      scheduledCheck = executor.schedule( new Runnable() {
+        @Override
+        public void run() {
+          check();
+        }
+      }, Math.max( 0, delay ), TimeUnit.MILLISECONDS );
+    }
+
+    private void cancelScheduledCheck() {
+      if( scheduledCheck != null ) {
+        scheduledCheck.cancel( false );
+        scheduledCheck = null;
+      }
+    }
+
+    @Override
+    public void beforeDestroy( UISessionEvent event ) {
+      release();
+    }
+
+    @Override
+    public void onComplete( AsyncEvent event ) {
+      release();
+    }
+
+    @Override
+    public void onTimeout( AsyncEvent event ) {
+      release();
+    }
+
+    @Override
+    public void onError( AsyncEvent event ) {
+      release();
+    }
+
+    @Override
+    public void onStartAsync( AsyncEvent event ) {
+      // nothing to do
+    }
+
+  }
+
   private static class TerminationListener implements UISessionListener {
 
     private transient final Thread currentThread;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,7 @@ import java.io.IOException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import org.eclipse.rap.rwt.internal.engine.RWTClusterSupport;
 import org.eclipse.rap.rwt.service.ServiceHandler;
 
 
@@ -30,8 +31,10 @@ public class ServerPushServiceHandler implements ServiceHandler {
     throws IOException
   {
     setResponseHeaders( response );
+    // Server push requests only change transient state, no need to replicate the UI session
+    RWTClusterSupport.markSessionUnchanged( request );
     if( getUISession() != null ) {
-      ServerPushManager.getInstance().processRequest( response );
+      ServerPushManager.getInstance().processRequest( request, response );
     }
   }
 
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+
+
+/**
+ * The last response that is kept in the UI session to answer duplicate requests. Only the encoded
+ * response is kept. If it has been sent gzip-compressed, or if it exceeded the size limit while
+ * being recorded, the compressed bytes are kept and can be sent again as they are. Other
+ * uncompressed responses are only compressed for the buffer if a compression threshold is
+ * configured. Responses that exceed the limit even when compressed are not kept at all, a
+ * duplicate request is then answered like a request with an invalid request counter.
+ */
+final class BufferedResponse implements Serializable {
+
+  private static final int DEFAULT_MAX_SIZE = 4 * 1024 * 1024;
+  private static final int MAX_SIZE = RWTProperties.getLastResponseBufferSize( DEFAULT_MAX_SIZE );
+  private static final int COMPRESSION_THRESHOLD
+    = RWTProperties.getLastResponseCompressionThreshold();
+
+  private final byte[] bytes;
+  private final boolean compressed;
+  // size in bytes of the uncompressed response
+  private final int contentLength;
+
+  private BufferedResponse( byte[] bytes, boolean compressed, int contentLength ) {
+    this.bytes = bytes;
+    this.compressed = compressed;
+    this.contentLength = contentLength;
+  }
+
+  static BufferedResponse create( byte[] bytes, boolean compressed, int contentLength ) {
+    return create( bytes, compressed, contentLength, MAX_SIZE, COMPRESSION_THRESHOLD );
+  }
+
+  /*
+   * Creates a buffered response from the recorded bytes of a response. Returns null if there are
+   * no bytes (i.e. they exceeded the limit while being recorded) or if they exceed the limit.
+   */
+  static BufferedResponse create( byte[] bytes,
+                                  boolean compressed,
+                                  int contentLength,
+                                  int maxSize,
+                                  int compressionThreshold )
+  {
+    if( bytes == null || bytes.length > maxSize ) {
+      return null;
+    }
+    if( !compressed && compressionThreshold >= 0 && bytes.length > compressionThreshold ) {
+      return new BufferedResponse( compress( bytes ), true, contentLength );
+    }
+    return new BufferedResponse( bytes, compressed, contentLength );
+  }
+
+  static int getMaxSize() {
+    return MAX_SIZE;
+  }
+
+  boolean isCompressed() {
+    return compressed;
+  }
+
+  int getSize() {
+    return bytes.length;
+  }
+
+  int getContentLength() {
+    return contentLength;
+  }
+
+  byte[] getBytes() {
+    return bytes;
+  }
+
+  /*
+   * Writes the uncompressed response to the given stream.
+   */
+  void writeTo( OutputStream outputStream ) throws IOException {
+    if( compressed ) {
+      try( InputStream gzipStream = new GZIPInputStream( new ByteArrayInputStream( bytes ) ) ) {
+        gzipStream.transferTo( outputStream );
+      }
+    } else {
+      outputStream.write( bytes );
+    }
+  }
+
+  static byte[] compress( byte[] bytes ) {
+    ByteArrayOutputStream result = new ByteArrayOutputStream( bytes.length / 4 );
+    try( GZIPOutputStream gzipStream = new GZIPOutputStream( result ) ) {
+      gzipStream.write( bytes );
+    } catch( IOException exception ) {
+      // in-memory streams do not throw IOExceptions
+      throw new IllegalStateException( "Failed to compress response", exception );
+    }
+    return result.toByteArray();
+  }
+
+}
@@ -0,0 +1,284 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.rap.rwt.internal.util.HTTP.ENCODING_GZIP;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_ACCEPT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_CONTENT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_VARY;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+
+/**
+ * Writes a UI response to the client in a single pass. The characters are encoded to UTF-8 once,
+ * the encoded bytes are then held back until their size reaches the compression threshold. From
+ * then on, they are gzip-compressed directly into the output stream of the servlet response.
+ * Smaller responses are written to the output stream as they are when this writer is closed.
+ * <p>
+ * Optionally, the bytes that are actually sent to the client are recorded up to a given limit, so
+ * that they can be kept as buffered response without encoding the response again. Uncompressed
+ * bytes that exceed the limit are gzip-compressed for the recording.
+ * </p>
+ */
+final class CompressingResponseWriter extends Writer {
+
+  private final HttpServletResponse response;
+  private final int compressionThreshold;
+  private final Recording recording;
+  private final Writer encoder;
+  private ByteArrayOutputStream pending;
+  private OutputStream target;
+  private GZIPOutputStream gzipStream;
+  private int contentLength;
+
+  /**
+   * @param compressionThreshold the minimal size in bytes of a response to be compressed, or a
+   *          negative value if the response must not be compressed
+   * @param recordingLimit the maximal number of sent bytes to record, or a negative value if the
+   *          sent bytes are not recorded
+   */
+  CompressingResponseWriter( HttpServletResponse response,
+                             int compressionThreshold,
+                             int recordingLimit )
+  {
+    this.response = response;
+    this.compressionThreshold = compressionThreshold;
+    recording = recordingLimit >= 0 ? new Recording( recordingLimit ) : null;
+    encoder = new OutputStreamWriter( new EncodedOutput(), UTF_8 );
+    if( compressionThreshold >= 0 ) {
+      pending = new ByteArrayOutputStream();
+    }
+  }
+
+  @Override
+  public void write( int c ) throws IOException {
+    encoder.write( c );
+  }
+
+  @Override
+  public void write( String string ) throws IOException {
+    encoder.write( string );
+  }
+
+  @Override
+  public void write( String string, int offset, int length ) throws IOException {
+    encoder.write( string, offset, length );
+  }
+
+  @Override
+  public void write( char[] buffer, int offset, int length ) throws IOException {
+    encoder.write( buffer, offset, length );
+  }
+
+  @Override
+  public void flush() throws IOException {
+    // flushing would commit the response before compression is decided
+  }
+
+  @Override
+  public void close() throws IOException {
+    encoder.flush();
+    if( pending != null ) {
+      // the response is smaller than the compression threshold
+      ByteArrayOutputStream content = pending;
+      pending = null;
+      content.writeTo( getTarget() );
+    }
+    if( gzipStream != null ) {
+      gzipStream.finish();
+    }
+    getTarget().flush();
+  }
+
+  boolean isCompressed() {
+    return gzipStream != null;
+  }
+
+  /*
+   * Returns the size in bytes of the uncompressed response.
+   */
+  int getContentLength() {
+    return contentLength;
+  }
+
+  /*
+   * Returns the bytes that have been sent to the client, or null if they have not been recorded
+   * or exceeded the recording limit.
+   */
+  byte[] getRecordedBytes() {
+    return recording != null ? recording.toByteArray() : null;
+  }
+
+  /*
+   * Returns whether the recorded bytes are gzip-compressed, either because they have been sent
+   * compressed or because they have been compressed for the recording.
+   */
+  boolean isRecordingCompressed() {
+    return recording != null && recording.isCompressed();
+  }
+
+  private void startCompression() throws IOException {
+    response.setHeader( HEADER_CONTENT_ENCODING, ENCODING_GZIP );
+    response.setHeader( HEADER_VARY, HEADER_ACCEPT_ENCODING );
+    if( recording != null ) {
+      recording.setCompressed();
+    }
+    gzipStream = new GZIPOutputStream( getOutputStream() );
+    target = gzipStream;
+    ByteArrayOutputStream content = pending;
+    pending = null;
+    content.writeTo( gzipStream );
+  }
+
+  private OutputStream getTarget() throws IOException {
+    if( target == null ) {
+      target = getOutputStream();
+    }
+    return target;
+  }
+
+  private OutputStream getOutputStream() throws IOException {
+    OutputStream result = response.getOutputStream();
+    if( recording != null ) {
+      result = new FilterOutputStream( result ) {
+        @Override
+        public void write( byte[] bytes, int offset, int length ) throws IOException {
+          out.write( bytes, offset, length );
+          recording.write( bytes, offset, length );
+        }
+      };
+    }
+    return result;
+  }
+
+  /*
+   * Receives the encoded bytes of the response and decides whether to compress them.
+   */
+  private final class EncodedOutput extends OutputStream {
+
+    @Override
+    public void write( int b ) throws IOException {
+      write( new byte[] { ( byte )b }, 0, 1 );
+    }
+
+    @Override
+    public void write( byte[] bytes, int offset, int length ) throws IOException {
+      contentLength += length;
+      if( pending != null ) {
+        pending.write( bytes, offset, length );
+        if( contentLength >= compressionThreshold ) {
+          startCompression();
+        }
+      } else {
+        getTarget().write( bytes, offset, length );
+      }
+    }
+
+  }
+
+  private static final class Recording extends OutputStream {
+
+    private final int limit;
+    private ByteArrayOutputStream bytes;
+    private GZIPOutputStream gzipStream;
+    private boolean compressed;
+
+    Recording( int limit ) {
+      this.limit = limit;
+      bytes = new ByteArrayOutputStream();
+    }
+
+    /*
+     * Marks the recorded bytes as already compressed, they are then not compressed again.
+     */
+    void setCompressed() {
+      compressed = true;
+    }
+
+    boolean isCompressed() {
+      return compressed || gzipStream != null;
+    }
+
+    @Override
+    public void write( int b ) {
+      write( new byte[] { ( byte )b }, 0, 1 );
+    }
+
+    @Override
+    public void write( byte[] buffer, int offset, int length ) {
+      if( bytes != null ) {
+        if( gzipStream == null && bytes.size() + length > limit && !compressed ) {
+          startCompression();
+        }
+        if( gzipStream != null ) {
+          writeCompressed( buffer, offset, length );
+        } else {
+          bytes.write( buffer, offset, length );
+        }
+        if( bytes.size() > limit ) {
+          release();
+        }
+      }
+    }
+
+    byte[] toByteArray() {
+      if( bytes != null && gzipStream != null ) {
+        try {
+          gzipStream.finish();
+        } catch( IOException exception ) {
+          // in-memory streams do not throw IOExceptions
+          throw new IllegalStateException( "Failed to compress response", exception );
+        }
+        if( bytes.size() > limit ) {
+          release();
+        }
+      }
+      return bytes != null ? bytes.toByteArray() : null;
+    }
+
+    private void startCompression() {
+      byte[] recorded = bytes.toByteArray();
+      bytes = new ByteArrayOutputStream();
+      try {
+        gzipStream = new GZIPOutputStream( bytes );
+      } catch( IOException exception ) {
+        throw new IllegalStateException( "Failed to compress response", exception );
+      }
+      writeCompressed( recorded, 0, recorded.length );
+    }
+
+    private void writeCompressed( byte[] buffer, int offset, int length ) {
+      try {
+        gzipStream.write( buffer, offset, length );
+      } catch( IOException exception ) {
+        throw new IllegalStateException( "Failed to compress response", exception );
+      }
+    }
+
+    // releases the recorded bytes, the response is too large to be kept
+    private void release() {
+      bytes = null;
+      gzipStream = null;
+    }
+
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,10 +18,16 @@ import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.SHUTDOWN;
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getUISession;
 import static org.eclipse.rap.rwt.internal.util.HTTP.CHARSET_UTF_8;
 import static org.eclipse.rap.rwt.internal.util.HTTP.CONTENT_TYPE_JSON;
+import static org.eclipse.rap.rwt.internal.util.HTTP.ENCODING_GZIP;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_ACCEPT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_CONTENT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_VARY;
+import static org.eclipse.rap.rwt.internal.util.HTTP.acceptsEncoding;
 
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.util.zip.GZIPOutputStream;
 
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,6 +35,7 @@ import jakarta.servlet.http.HttpServletResponse;
 
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.lifecycle.RequestCounter;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessage;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
@@ -42,8 +49,8 @@ import org.eclipse.rap.rwt.service.UISession;
 public class LifeCycleServiceHandler implements ServiceHandler {
 
   private static final String PROP_ERROR = "error";
-  private static final String ATTR_LAST_RESPONSE_MESSAGE
-    = LifeCycleServiceHandler.class.getName() + "#lastResponseMessage";
+  private static final String ATTR_LAST_RESPONSE
+    = LifeCycleServiceHandler.class.getName() + "#lastResponse";
 
   private final MessageChainReference messageChainReference;
 
@@ -91,14 +98,15 @@ public class LifeCycleServiceHandler implements ServiceHandler {
       shutdownUISession();
       writeEmptyMessage( response );
     } else if( !isRequestCounterValid( requestMessage ) ) {
-      if( isDuplicateRequest( requestMessage ) ) {
-        writeBufferedResponse( response );
+      BufferedResponse bufferedResponse = getBufferedResponse();
+      if( isDuplicateRequest( requestMessage ) && bufferedResponse != null ) {
+        writeBufferedResponse( bufferedResponse, request, response );
       } else {
         writeInvalidRequestCounterError( response );
       }
     } else {
       ResponseMessage responseMessage = processMessage( requestMessage );
-      writeResponseMessage( responseMessage, response );
+      writeResponseMessage( responseMessage, request, response );
       RequestCounter.getInstance().nextRequestId();
     }
   }
@@ -165,7 +173,7 @@ public class LifeCycleServiceHandler implements ServiceHandler {
     response.setStatus( statusCode );
     ProtocolMessageWriter writer = new ProtocolMessageWriter();
     writer.appendHead( PROP_ERROR, JsonValue.valueOf( errorType ) );
-    writer.createMessage().toJson().writeTo( response.getWriter() );
+    writer.createMessage().writeTo( response.getWriter() );
   }
 
   private static boolean isSessionShutdown( RequestMessage requestMessage ) {
@@ -178,30 +186,84 @@ public class LifeCycleServiceHandler implements ServiceHandler {
   }
 
   private static void writeEmptyMessage( ServletResponse response ) throws IOException {
-    new ProtocolMessageWriter().createMessage().toJson().writeTo( response.getWriter() );
+    new ProtocolMessageWriter().createMessage().writeTo( response.getWriter() );
   }
 
   private static void writeResponseMessage( ResponseMessage responseMessage,
-                                            ServletResponse response )
+                                            HttpServletRequest request,
+                                            HttpServletResponse response )
     throws IOException
   {
-    bufferMessage( responseMessage );
-    responseMessage.toJson().writeTo( response.getWriter() );
+    // Write and compress the response in one pass, recording the sent bytes for the buffer
+    CompressingResponseWriter writer
+      = new CompressingResponseWriter( response,
+                                       getCompressionThreshold( request ),
+                                       BufferedResponse.getMaxSize() );
+    responseMessage.writeTo( writer );
+    writer.close();
+    bufferResponse( BufferedResponse.create( writer.getRecordedBytes(),
+                                             writer.isRecordingCompressed(),
+                                             writer.getContentLength() ) );
   }
 
-  private static void writeBufferedResponse( HttpServletResponse response ) throws IOException {
-    getBufferedMessage().toJson().writeTo( response.getWriter() );
+  /*
+   * Sends the kept bytes of the last response again, without decoding them. They are only
+   * compressed or decompressed if the client does not accept them as they are.
+   */
+  private static void writeBufferedResponse( BufferedResponse bufferedResponse,
+                                             HttpServletRequest request,
+                                             HttpServletResponse response )
+    throws IOException
+  {
+    int compressionThreshold = getCompressionThreshold( request );
+    boolean compressionAccepted =    compressionThreshold >= 0
+                                  && bufferedResponse.getContentLength() >= compressionThreshold;
+    if( bufferedResponse.isCompressed() && compressionAccepted ) {
+      writeCompressed( response, bufferedResponse.getBytes() );
+    } else if( compressionAccepted ) {
+      response.setHeader( HEADER_CONTENT_ENCODING, ENCODING_GZIP );
+      response.setHeader( HEADER_VARY, HEADER_ACCEPT_ENCODING );
+      GZIPOutputStream gzipStream = new GZIPOutputStream( response.getOutputStream() );
+      bufferedResponse.writeTo( gzipStream );
+      gzipStream.finish();
+    } else {
+      response.setContentLength( bufferedResponse.getContentLength() );
+      bufferedResponse.writeTo( response.getOutputStream() );
+    }
+  }
+
+  /*
+   * Returns the minimal size in bytes of a response to be sent gzip-compressed, or a negative
+   * value if the response must not be compressed.
+   */
+  private static int getCompressionThreshold( HttpServletRequest request ) {
+    int threshold = RWTProperties.getResponseCompressionThreshold();
+    return threshold >= 0 && acceptsEncoding( request, ENCODING_GZIP ) ? threshold : -1;
+  }
+
+  private static void writeCompressed( HttpServletResponse response, byte[] compressed )
+    throws IOException
+  {
+    response.setHeader( HEADER_CONTENT_ENCODING, ENCODING_GZIP );
+    response.setHeader( HEADER_VARY, HEADER_ACCEPT_ENCODING );
+    response.setContentLength( compressed.length );
+    response.getOutputStream().write( compressed );
   }
 
-  private static void bufferMessage( ResponseMessage responseMessage ) {
+  private static void bufferResponse( BufferedResponse bufferedResponse ) {
     UISession uiSession = getUISession();
     if( uiSession != null ) {
-      uiSession.setAttribute( ATTR_LAST_RESPONSE_MESSAGE, responseMessage );
+      // Keep only the encoded response instead of the message objects, see BufferedResponse
+      if( bufferedResponse != null ) {
+        uiSession.setAttribute( ATTR_LAST_RESPONSE, bufferedResponse );
+      } else {
+        uiSession.removeAttribute( ATTR_LAST_RESPONSE );
+      }
     }
   }
 
-  private static ResponseMessage getBufferedMessage() {
-    return ( ResponseMessage )getUISession().getAttribute( ATTR_LAST_RESPONSE_MESSAGE );
+  private static BufferedResponse getBufferedResponse() {
+    return ( BufferedResponse )getUISession().getAttribute( ATTR_LAST_RESPONSE );
   }
 
 }
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.eclipse.swt.SWT;
+
+
+/**
+ * A table of glyph advances of a font family in a given style, used to estimate text widths.
+ * <p>
+ * The advances are stored for a reference font size and scale linearly with the font size.
+ * Tables can be created from the AWT font metrics of the server, or built offline with
+ * <code>create()</code> and <code>write()</code> and read with <code>read()</code>.
+ * </p>
+ * <p>
+ * Binary format: magic number, version, first character, number of characters, default advance
+ * and one advance per character, all advances as floats for the reference size.
+ * </p>
+ */
+final class FontMetricsTable {
+
+  static final int REFERENCE_SIZE = 100;
+  static final char FIRST_CHAR = 0x20;
+  static final char LAST_CHAR = 0x24F;
+
+  private static final int MAGIC = 0x52574d54; // "RWMT"
+  private static final int VERSION = 1;
+
+  private final char firstChar;
+  private final float[] advances;
+  private final float defaultAdvance;
+
+  FontMetricsTable( char firstChar, float[] advances, float defaultAdvance ) {
+    this.firstChar = firstChar;
+    this.advances = advances;
+    this.defaultAdvance = defaultAdvance;
+  }
+
+  /**
+   * Returns the width of a given string in pixels for the given font size. Line breaks are
+   * ignored.
+   */
+  float getWidth( String string, int size ) {
+    float result = 0;
+    int length = string.length();
+    for( int i = 0; i < length; i++ ) {
+      result += getAdvance( string.charAt( i ) );
+    }
+    return result * size / REFERENCE_SIZE;
+  }
+
+  float getAdvance( char ch ) {
+    int index = ch - firstChar;
+    if( index >= 0 && index < advances.length ) {
+      return advances[ index ];
+    }
+    return defaultAdvance;
+  }
+
+  void write( OutputStream outputStream ) throws IOException {
+    DataOutputStream dataStream = new DataOutputStream( outputStream );
+    dataStream.writeInt( MAGIC );
+    dataStream.writeShort( VERSION );
+    dataStream.writeChar( firstChar );
+    dataStream.writeInt( advances.length );
+    dataStream.writeFloat( defaultAdvance );
+    for( float advance : advances ) {
+      dataStream.writeFloat( advance );
+    }
+    dataStream.flush();
+  }
+
+  static FontMetricsTable read( InputStream inputStream ) throws IOException {
+    DataInputStream dataStream = new DataInputStream( inputStream );
+    if( dataStream.readInt() != MAGIC || dataStream.readShort() != VERSION ) {
+      throw new IOException( "Not a font metrics table" );
+    }
+    char firstChar = dataStream.readChar();
+    int count = dataStream.readInt();
+    if( count < 0 || count > Character.MAX_VALUE ) {
+      throw new IOException( "Invalid font metrics table size: " + count );
+    }
+    float defaultAdvance = dataStream.readFloat();
+    float[] advances = new float[ count ];
+    for( int i = 0; i < count; i++ ) {
+      advances[ i ] = dataStream.readFloat();
+    }
+    return new FontMetricsTable( firstChar, advances, defaultAdvance );
+  }
+
+  /**
+   * Creates a table from the AWT metrics of the given font family.
+   *
+   * @param family an AWT font family name or logical font name
+   * @param style the SWT font style, a combination of <code>SWT.BOLD</code> and
+   *          <code>SWT.ITALIC</code>
+   */
+  static FontMetricsTable create( String family, int style ) {
+    java.awt.Font font = new java.awt.Font( family, toAwtStyle( style ), REFERENCE_SIZE );
+    FontRenderContext context = new FontRenderContext( null, true, true );
+    char[] chars = new char[ LAST_CHAR - FIRST_CHAR + 1 ];
+    for( int i = 0; i < chars.length; i++ ) {
+      chars[ i ] = ( char )( FIRST_CHAR + i );
+    }
+    GlyphVector glyphs = font.createGlyphVector( context, chars );
+    float[] advances = new float[ chars.length ];
+    float asciiSum = 0;
+    int asciiCount = 0;
+    for( int i = 0; i < chars.length; i++ ) {
+      if( font.canDisplay( chars[ i ] ) ) {
+        advances[ i ] = glyphs.getGlyphMetrics( i ).getAdvance();
+        if( chars[ i ] < 0x7F ) {
+          asciiSum += advances[ i ];
+          asciiCount++;
+        }
+      } else {
+        advances[ i ] = -1;
+      }
+    }
+    float defaultAdvance = asciiCount > 0 ? asciiSum / asciiCount : REFERENCE_SIZE * 0.48f;
+    for( int i = 0; i < advances.length; i++ ) {
+      if( advances[ i ] < 0 ) {
+        advances[ i ] = defaultAdvance;
+      }
+    }
+    return new FontMetricsTable( FIRST_CHAR, advances, defaultAdvance );
+  }
+
+  private static int toAwtStyle( int style ) {
+    int result = java.awt.Font.PLAIN;
+    if( ( style & SWT.BOLD ) != 0 ) {
+      result |= java.awt.Font.BOLD;
+    }
+    if( ( style & SWT.ITALIC ) != 0 ) {
+      result |= java.awt.Font.ITALIC;
+    }
+    return result;
+  }
+
+}
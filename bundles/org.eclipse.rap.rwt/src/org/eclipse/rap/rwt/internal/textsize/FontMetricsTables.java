@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import java.awt.GraphicsEnvironment;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.FontData;
+
+
+/**
+ * Provides the font metrics tables used by <code>TextSizeEstimation</code>.
+ * <p>
+ * Tables are looked up by the font name (which may be a CSS font family list) and style. A table
+ * is read from the directory given by the system property
+ * <code>org.eclipse.rap.rwt.fontMetricsDirectory</code> if it contains a table for one of the
+ * families, otherwise it is created from the AWT metrics of the first family that is available
+ * on the server. Tables are only provided if the system property
+ * <code>org.eclipse.rap.rwt.fontMetrics</code> is set to <code>true</code>.
+ * </p>
+ */
+final class FontMetricsTables {
+
+  private static final String FILE_EXTENSION = ".metrics";
+  private static final FontMetricsTable NONE = new FontMetricsTable( ' ', new float[ 0 ], 0 );
+
+  private static final Map<String,FontMetricsTable> tables = new ConcurrentHashMap<>();
+  private static final boolean enabled = RWTProperties.isFontMetricsEnabled();
+  private static volatile Set<String> availableFamilies;
+
+  static FontMetricsTable getTable( FontData fontData ) {
+    if( !enabled && tables.isEmpty() ) {
+      return null;
+    }
+    String key = getKey( fontData.getName(), fontData.getStyle() );
+    FontMetricsTable result = tables.get( key );
+    if( result == null && enabled ) {
+      result = loadTable( fontData.getName(), fontData.getStyle() );
+      FontMetricsTable existing = tables.putIfAbsent( key, result );
+      if( existing != null ) {
+        result = existing;
+      }
+    }
+    return result == NONE ? null : result;
+  }
+
+  static void register( String fontName, int style, FontMetricsTable table ) {
+    tables.put( getKey( fontName, style ), table );
+  }
+
+  /*
+   * Returns true if text sizes are estimated from font metrics tables.
+   */
+  static boolean isEnabled() {
+    return enabled || !tables.isEmpty();
+  }
+
+  static void clear() {
+    tables.clear();
+  }
+
+  static String getFileName( String family, int style ) {
+    StringBuilder result = new StringBuilder();
+    result.append( family.trim().toLowerCase( Locale.ENGLISH ).replace( ' ', '_' ) );
+    if( ( style & SWT.BOLD ) != 0 ) {
+      result.append( "-bold" );
+    }
+    if( ( style & SWT.ITALIC ) != 0 ) {
+      result.append( "-italic" );
+    }
+    result.append( FILE_EXTENSION );
+    return result.toString();
+  }
+
+  static List<String> getFamilies( String fontName ) {
+    List<String> result = new ArrayList<>();
+    for( String family : fontName.split( "," ) ) {
+      String trimmed = family.trim();
+      if( trimmed.length() > 1 && ( trimmed.charAt( 0 ) == '"' || trimmed.charAt( 0 ) == '\'' ) ) {
+        trimmed = trimmed.substring( 1, trimmed.length() - 1 ).trim();
+      }
+      if( trimmed.length() > 0 ) {
+        result.add( trimmed );
+      }
+    }
+    return result;
+  }
+
+  private static String getKey( String fontName, int style ) {
+    return fontName + "|" + ( style & ( SWT.BOLD | SWT.ITALIC ) );
+  }
+
+  private static FontMetricsTable loadTable( String fontName, int style ) {
+    List<String> families = getFamilies( fontName );
+    FontMetricsTable result = readTable( families, style );
+    if( result == null ) {
+      result = createTable( families, style );
+    }
+    return result == null ? NONE : result;
+  }
+
+  private static FontMetricsTable readTable( List<String> families, int style ) {
+    String directory = RWTProperties.getFontMetricsDirectory();
+    if( directory != null ) {
+      for( String family : families ) {
+        File file = new File( directory, getFileName( family, style ) );
+        if( file.isFile() ) {
+          try( InputStream inputStream = new FileInputStream( file ) ) {
+            return FontMetricsTable.read( inputStream );
+          } catch( IOException exception ) {
+            ServletLog.log( "Failed to read font metrics table " + file, exception );
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  private static FontMetricsTable createTable( List<String> families, int style ) {
+    try {
+      String family = findAwtFamily( families );
+      return family == null ? null : FontMetricsTable.create( family, style );
+    } catch( RuntimeException | LinkageError | InternalError exception ) {
+      // AWT fonts may not be usable on headless servers without fontconfig
+      ServletLog.log( "Failed to create font metrics table for " + families, exception );
+      return null;
+    }
+  }
+
+  private static String findAwtFamily( List<String> families ) {
+    Set<String> available = getAvailableFamilies();
+    for( String family : families ) {
+      String lowerCase = family.toLowerCase( Locale.ENGLISH );
+      if( available.contains( lowerCase ) ) {
+        return family;
+      }
+      if( "sans-serif".equals( lowerCase ) ) {
+        return java.awt.Font.SANS_SERIF;
+      }
+      if( "serif".equals( lowerCase ) ) {
+        return java.awt.Font.SERIF;
+      }
+      if( "monospace".equals( lowerCase ) ) {
+        return java.awt.Font.MONOSPACED;
+      }
+    }
+    return families.isEmpty() ? null : java.awt.Font.SANS_SERIF;
+  }
+
+  private static Set<String> getAvailableFamilies() {
+    if( availableFamilies == null ) {
+      GraphicsEnvironment environment = GraphicsEnvironment.getLocalGraphicsEnvironment();
+      Set<String> result = new HashSet<>();
+      for( String family : environment.getAvailableFontFamilyNames( Locale.ENGLISH ) ) {
+        result.add( family.toLowerCase( Locale.ENGLISH ) );
+      }
+      availableFamilies = result;
+    }
+    return availableFamilies;
+  }
+
+  private FontMetricsTables() {
+    // prevent instantiation
+  }
+
+}
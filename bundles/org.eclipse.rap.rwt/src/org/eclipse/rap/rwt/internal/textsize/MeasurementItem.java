@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@ package org.eclipse.rap.rwt.internal.textsize;
 
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.internal.SerializableCompatibility;
 
 
@@ -20,14 +21,25 @@ class MeasurementItem implements SerializableCompatibility {
   private final FontData fontData;
   private final String string;
   private final int mode;
+  private final Point estimatedSize;
 
   MeasurementItem( String textToMeasure, FontData fontData, int wrapWidth, int mode ) {
+    this( textToMeasure, fontData, wrapWidth, mode, null );
+  }
+
+  MeasurementItem( String textToMeasure,
+                   FontData fontData,
+                   int wrapWidth,
+                   int mode,
+                   Point estimatedSize )
+  {
     ParamCheck.notNull( textToMeasure, "textToMeasure" );
     ParamCheck.notNull( fontData, "fontData" );
     this.wrapWidth = wrapWidth;
     this.fontData = fontData;
     this.string = textToMeasure;
     this.mode = mode;
+    this.estimatedSize = estimatedSize;
   }
 
   FontData getFontData() {
@@ -46,6 +58,14 @@ class MeasurementItem implements SerializableCompatibility {
     return mode;
   }
 
+  /*
+   * Returns the size that has been estimated and used for layouting before the item was
+   * measured, or null if unknown. Not considered in equals and hashCode.
+   */
+  Point getEstimatedSize() {
+    return estimatedSize;
+  }
+
   @Override
   public int hashCode() {
     final int prime = 31;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -145,8 +145,14 @@ class MeasurementOperator implements SerializableCompatibility {
       }
     }
 
+    /*
+     * Returns true if the layout has to be recalculated. Only estimations from font metrics
+     * tables are considered exact enough to skip the recalculation, if none of the measured sizes
+     * differs from the size that has been estimated for it.
+     */
     private boolean handleMeasuredTextSizes( JsonObject results ) {
-      int originalItemsSize = items.size();
+      boolean compareEstimations = FontMetricsTables.isEnabled();
+      boolean changed = false;
       Iterator<MeasurementItem> itemList = items.iterator();
       while( itemList.hasNext() ) {
         MeasurementItem item = itemList.next();
@@ -154,9 +160,10 @@ class MeasurementOperator implements SerializableCompatibility {
         if( size != null ) {
           storeTextMeasurement( item, size );
           itemList.remove();
+          changed |= !compareEstimations || !size.equals( item.getEstimatedSize() );
         }
       }
-      return originalItemsSize != items.size();
+      return changed;
     }
 
     private Point readMeasuredSize( JsonObject results, String id ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -22,6 +22,7 @@ class ProbeResult implements SerializableCompatibility {
   private final Point size;
   private final Probe probe;
   private transient float avgCharWidth;
+  private transient float metricsScale;
 
   ProbeResult( Probe probe, Point size ) {
     this.probe = probe;
@@ -44,4 +45,17 @@ class ProbeResult implements SerializableCompatibility {
     }
     return avgCharWidth;
   }
+
+  /*
+   * Returns the ratio between the measured probe width and the width computed from the given
+   * font metrics table. Used to calibrate the server side metrics to the fonts of the client.
+   */
+  float getMetricsScale( FontMetricsTable table ) {
+    if( metricsScale == 0 ) {
+      float width = table.getWidth( probe.getText(), probe.getFontData().getHeight() );
+      metricsScale = width > 0 && size.x > 0 ? size.x / width : 1;
+    }
+    return metricsScale;
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 Innoopract Informationssysteme GmbH.
+ * Copyright (c) 2006, 2026 Innoopract Informationssysteme GmbH.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -185,9 +185,22 @@ public final class TextSizeEstimation {
   }
 
   /**
-   * Returns the width of a given string in pixels. Line breaks are ignored.
+   * Returns the width of a given string in pixels. Line breaks are ignored. If a font metrics
+   * table is available for the font, the width is computed from the glyph advances, calibrated
+   * with the probe result of the font if present. Otherwise, the average character width is
+   * used.
    */
   private static int getLineWidth( String line, Font font ) {
+    FontData fontData = FontUtil.getData( font );
+    FontMetricsTable table = FontMetricsTables.getTable( fontData );
+    if( table != null ) {
+      float width = table.getWidth( line, fontData.getHeight() );
+      ProbeResultStore probeStore = ProbeResultStore.getInstance();
+      if( probeStore.containsProbeResult( fontData ) ) {
+        width *= probeStore.getProbeResult( fontData ).getMetricsScale( table );
+      }
+      return Math.round( width );
+    }
     return Math.round( getAvgCharWidth( font ) * line.length() );
   }
 
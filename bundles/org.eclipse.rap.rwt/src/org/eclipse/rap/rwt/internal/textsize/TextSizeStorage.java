@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,58 +14,42 @@ package org.eclipse.rap.rwt.internal.textsize;
 import static org.eclipse.rap.rwt.internal.RWTProperties.getTextSizeStoreSize;
 
 import java.io.Serializable;
-import java.math.BigDecimal;
 import java.text.MessageFormat;
-import java.util.Arrays;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
 import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.Point;
 
 
+/**
+ * Stores the measured text sizes, usually shared by all sessions of an application.
+ * <p>
+ * The text sizes are distributed over a fixed number of segments, each of them an open
+ * addressing hash table with primitive <code>int</code> keys. Lookups do not acquire a lock,
+ * stores only lock the affected segment. When a segment is full, a single entry is evicted using
+ * the clock (second chance) algorithm: entries that have been looked up since the clock hand
+ * passed them last are spared once.
+ * </p>
+ */
 public final class TextSizeStorage implements Serializable {
 
   public static final int MIN_STORE_SIZE = 1000;
   public static final int DEFAULT_STORE_SIZE = 10000;
 
+  private static final int SEGMENT_SHIFT = 4;
+  private static final int SEGMENT_COUNT = 1 << SEGMENT_SHIFT;
+
   private final SerializableLock lock;
   // access is guarded by 'lock'
   private final Set<FontData> fontDatas;
-  // access is guarded by 'lock'
-  private final Map<Integer,Entry> data;
+  private volatile Segment[] segments;
   private int maximumStoreSize;
-  private int clearRange;
-  private long clock;
-
-
-  private static class Entry implements Serializable {
-    private Point point;
-    private long timeStamp;
-  }
-
-  private static class EntryComparator implements Comparator<Entry>, Serializable {
-
-    @Override
-    public int compare( Entry entry1, Entry entry2 ) {
-      int result = 0;
-      if( entry1.timeStamp > entry2.timeStamp ) {
-        result = 1;
-      } else if( entry1.timeStamp < entry2.timeStamp ) {
-        result = -1;
-      }
-      return result;
-    }
-  }
-
 
   public TextSizeStorage() {
     lock = new SerializableLock();
-    data = new HashMap<>();
     fontDatas = new HashSet<>();
     setMaximumStoreSize( getTextSizeStoreSize( DEFAULT_STORE_SIZE ) );
   }
@@ -85,59 +69,46 @@ public final class TextSizeStorage implements Serializable {
     }
   }
 
-  Point lookupTextSize( Integer key ) {
-    Point result = null;
-    synchronized( lock ) {
-      Entry entry = data.get( key );
-      if( entry != null ) {
-        updateTimestamp( entry );
-        result = entry.point;
-      }
-    }
-    result = defensiveCopy( result );
-    return result;
+  Point lookupTextSize( int key ) {
+    int hash = spread( key );
+    Entry entry = segments[ hash >>> ( 32 - SEGMENT_SHIFT ) ].get( key, hash );
+    return entry == null ? null : new Point( entry.width, entry.height );
   }
 
-  void storeTextSize( Integer key, Point size ) {
-    Entry entry = new Entry();
-    entry.point = defensiveCopy( size );
-    updateTimestamp( entry );
-    synchronized( lock ) {
-      data.put( key, entry );
-      handleOverFlow();
-    }
+  void storeTextSize( int key, Point size ) {
+    int hash = spread( key );
+    segments[ hash >>> ( 32 - SEGMENT_SHIFT ) ].put( new Entry( key, size ), hash );
   }
 
   ////////////////////
   // overflow handling
 
+  /*
+   * Changing the maximum store size discards all stored text sizes.
+   */
   void setMaximumStoreSize( int maximumStoreSize ) {
     checkLowerStoreSizeBoundary( maximumStoreSize );
-    calculateClearRange( maximumStoreSize );
+    Segment[] newSegments = new Segment[ SEGMENT_COUNT ];
+    for( int i = 0; i < SEGMENT_COUNT; i++ ) {
+      int remainder = i < maximumStoreSize % SEGMENT_COUNT ? 1 : 0;
+      newSegments[ i ] = new Segment( maximumStoreSize / SEGMENT_COUNT + remainder );
+    }
     this.maximumStoreSize = maximumStoreSize;
+    segments = newSegments;
   }
 
   int getMaximumStoreSize() {
     return maximumStoreSize;
   }
 
-  private void handleOverFlow() {
-    if( data.size() >= maximumStoreSize ) {
-      Entry[] entries = sortEntries();
-      for( int i = 0; i < clearRange; i++ ) {
-        data.values().remove( entries[ i ] );
-      }
+  int getSize() {
+    int result = 0;
+    for( Segment segment : segments ) {
+      result += segment.getSize();
     }
-  }
-
-  private Entry[] sortEntries() {
-    Entry[] result = new Entry[ data.size() ];
-    data.values().toArray( result );
-    Arrays.sort( result, new EntryComparator() );
     return result;
   }
 
-
   //////////////////
   // helping methods
 
@@ -149,18 +120,129 @@ public final class TextSizeStorage implements Serializable {
     }
   }
 
-  private static Point defensiveCopy( Point point ) {
-    return point == null ? null : new Point( point.x, point.y );
+  // The keys are hash codes already, mixing them spreads them over segments and slots
+  private static int spread( int key ) {
+    int hash = key * 0x9E3779B9;
+    return hash ^ ( hash >>> 16 );
   }
 
-  private void updateTimestamp( Entry entry ) {
-    entry.timeStamp = clock++;
+  private static final class Entry implements Serializable {
+
+    private final int key;
+    private final int width;
+    private final int height;
+    private volatile boolean referenced;
+
+    Entry( int key, Point size ) {
+      this.key = key;
+      width = size.x;
+      height = size.y;
+    }
+
   }
 
-  private void calculateClearRange( int maximumStoreSize ) {
-    BigDecimal ten = new BigDecimal( 10 );
-    BigDecimal bdStoreSize = new BigDecimal( maximumStoreSize );
-    clearRange = bdStoreSize.divide( ten, 0, BigDecimal.ROUND_HALF_UP ).intValue();
+  private static final class Segment implements Serializable {
+
+    private final int capacity;
+    private final int mask;
+    // slots are read without locking, writes are guarded by 'this'
+    private final AtomicReferenceArray<Entry> table;
+    // access is guarded by 'this'
+    private int size;
+    private int hand;
+
+    Segment( int capacity ) {
+      this.capacity = capacity;
+      // keep the load factor below 0.5 to keep probe sequences short
+      int length = Integer.highestOneBit( capacity ) << 2;
+      mask = length - 1;
+      table = new AtomicReferenceArray<>( length );
+    }
+
+    Entry get( int key, int hash ) {
+      int index = hash & mask;
+      Entry entry = table.get( index );
+      while( entry != null ) {
+        if( entry.key == key ) {
+          if( !entry.referenced ) {
+            entry.referenced = true;
+          }
+          return entry;
+        }
+        index = ( index + 1 ) & mask;
+        entry = table.get( index );
+      }
+      return null;
+    }
+
+    synchronized void put( Entry newEntry, int hash ) {
+      int index = findSlot( newEntry.key, hash );
+      if( table.get( index ) == null ) {
+        if( size >= capacity ) {
+          evict();
+          index = findSlot( newEntry.key, hash );
+        }
+        size++;
+      }
+      table.set( index, newEntry );
+    }
+
+    synchronized int getSize() {
+      return size;
+    }
+
+    private int findSlot( int key, int hash ) {
+      int index = hash & mask;
+      Entry entry = table.get( index );
+      while( entry != null && entry.key != key ) {
+        index = ( index + 1 ) & mask;
+        entry = table.get( index );
+      }
+      return index;
+    }
+
+    private void evict() {
+      while( true ) {
+        Entry entry = table.get( hand );
+        if( entry != null ) {
+          if( !entry.referenced ) {
+            remove( hand );
+            size--;
+            return;
+          }
+          entry.referenced = false;
+        }
+        hand = ( hand + 1 ) & mask;
+      }
+    }
+
+    /*
+     * Removes the entry at the given index and shifts subsequent entries of the same probe
+     * sequence back, so that no tombstones are needed. A concurrent lookup may miss an entry
+     * while it is moved, which only causes the text to be measured again.
+     */
+    private void remove( int index ) {
+      int free = index;
+      table.set( free, null );
+      int current = free;
+      while( true ) {
+        current = ( current + 1 ) & mask;
+        Entry entry = table.get( current );
+        if( entry == null ) {
+          return;
+        }
+        int home = spread( entry.key ) & mask;
+        boolean movable = current > free
+                        ? home <= free || home > current
+                        : home <= free && home > current;
+        if( movable ) {
+          table.set( free, entry );
+          table.set( current, null );
+          free = current;
+        }
+      }
+    }
+
   }
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2022 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -115,7 +115,9 @@ public class TextSizeUtil {
       if( loadTestsEnabled ) {
         store( font, string, normalizedWrapWidth, mode, result );
       } else if( !isTemporaryResize() ) {
-        addItemToMeasure( font, string, normalizedWrapWidth, mode );
+        // copy the estimation, the returned point may be modified by the caller
+        Point estimatedSize = new Point( result.x, result.y );
+        addItemToMeasure( font, string, normalizedWrapWidth, mode, estimatedSize );
       }
     }
 
@@ -181,9 +183,14 @@ public class TextSizeUtil {
     return result;
   }
 
-  private static void addItemToMeasure( Font font, String string, int wrapWidth, int mode ) {
+  private static void addItemToMeasure( Font font,
+                                        String string,
+                                        int wrapWidth,
+                                        int mode,
+                                        Point estimatedSize )
+  {
     String measurementString = createMeasurementString( string, mode );
-    MeasurementUtil.addItemToMeasure( measurementString, font, wrapWidth, mode );
+    MeasurementUtil.addItemToMeasure( measurementString, font, wrapWidth, mode, estimatedSize );
   }
 
   private static String createMeasurementString( String string, int mode ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2015 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,7 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.theme;
 
+import java.io.Serializable;
 import java.util.Arrays;
 
 
@@ -84,7 +85,7 @@ public class CssAnimation implements CssValue {
     return result.toString();
   }
 
-  public static final class Animation {
+  public static final class Animation implements Serializable {
 
     private static final String[] PREDEFINED_NAMES = {
       "hoverIn",
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,8 +11,10 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.theme;
 
+import java.io.Serializable;
 
-public interface CssValue {
+
+public interface CssValue extends Serializable {
 
   /**
    * Returns a default representation of the value, that can also be applied to
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,11 +18,16 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.text.MessageFormat;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleAdapterUtil;
@@ -101,7 +106,8 @@ public class ThemeManager {
     themeableWidgets = new ThemeableWidgetHolder();
     appearances = new ArrayList<>();
     themeAdapterManager = new ThemeAdapterManager();
-    resolvedPackageNames = new HashMap<>();
+    // accessed concurrently while the themeable widgets are loaded
+    resolvedPackageNames = new ConcurrentHashMap<>();
     initialized = false;
     createAndAddFallbackTheme();
     addDefaultThemableWidgets();
@@ -117,11 +123,12 @@ public class ThemeManager {
 
   public void activate() {
     if( !initialized ) {
-      initializeThemeableWidgets();
-      Collection<Theme> allThemes = themes.values();
-      ThemeableWidget[] allThemeableWidgets = themeableWidgets.getAll();
-      for( Theme theme : allThemes ) {
-        theme.initialize( allThemeableWidgets );
+      ExecutorService executor = createExecutor();
+      try {
+        initializeThemeableWidgets( executor );
+        initializeThemes( executor );
+      } finally {
+        executor.shutdownNow();
       }
       initialized = true;
     }
@@ -243,10 +250,102 @@ public class ThemeManager {
     themes.put( FALLBACK_THEME_ID, fallbackTheme );
   }
 
-  private void initializeThemeableWidgets() {
+  /*
+   * The resources of the themeable widgets are parsed in parallel. Appearances and default style
+   * sheets are added afterwards in the order in which the widgets have been added.
+   */
+  private void initializeThemeableWidgets( ExecutorService executor ) {
     ThemeableWidget[] widgets = themeableWidgets.getAll();
-    for( ThemeableWidget widget : widgets ) {
-      loadThemeableWidgetResources( widget );
+    List<List<String>> widgetAppearances = new ArrayList<>();
+    List<Runnable> tasks = new ArrayList<>();
+    for( final ThemeableWidget widget : widgets ) {
+      final List<String> loadedAppearances = new ArrayList<>();
+      widgetAppearances.add( loadedAppearances );
+      tasks.add( new Runnable() {
+        @Override
+        public void run() {
+          loadThemeableWidgetResources( widget, loadedAppearances );
+        }
+      } );
+    }
+    runInParallel( executor, tasks );
+    for( int i = 0; i < widgets.length; i++ ) {
+      appearances.addAll( widgetAppearances.get( i ) );
+      if( widgets[ i ].defaultStyleSheet != null ) {
+        fallbackTheme.addStyleSheet( widgets[ i ].defaultStyleSheet );
+      }
+    }
+  }
+
+  private void initializeThemes( ExecutorService executor ) {
+    final ThemeableWidget[] allThemeableWidgets = themeableWidgets.getAll();
+    List<Runnable> tasks = new ArrayList<>();
+    for( final Theme theme : themes.values() ) {
+      tasks.add( new Runnable() {
+        @Override
+        public void run() {
+          theme.initialize( allThemeableWidgets );
+        }
+      } );
+    }
+    runInParallel( executor, tasks );
+  }
+
+  /*
+   * The pool is bounded by the number of processors and only exists while the theme manager is
+   * activated, hence no threads are left behind for the lifetime of the application.
+   */
+  private static ExecutorService createExecutor() {
+    int poolSize = Math.max( 1, Runtime.getRuntime().availableProcessors() );
+    return Executors.newFixedThreadPool( poolSize, new ThreadFactory() {
+      @Override
+      public Thread newThread( Runnable runnable ) {
+        Thread thread = new Thread( runnable, "RWT theme initializer" );
+        thread.setDaemon( true );
+        return thread;
+      }
+    } );
+  }
+
+  /*
+   * Runs the given tasks and waits for all of them to complete. The first exception thrown by a
+   * task is rethrown.
+   */
+  private static void runInParallel( ExecutorService executor, List<Runnable> tasks ) {
+    List<Future<?>> futures = new ArrayList<>();
+    for( Runnable task : tasks ) {
+      futures.add( executor.submit( task ) );
+    }
+    RuntimeException exception = null;
+    for( Future<?> future : futures ) {
+      try {
+        waitFor( future );
+      } catch( RuntimeException taskException ) {
+        if( exception == null ) {
+          exception = taskException;
+        }
+      }
+    }
+    if( exception != null ) {
+      throw exception;
+    }
+  }
+
+  private static void waitFor( Future<?> future ) {
+    try {
+      future.get();
+    } catch( ExecutionException exception ) {
+      Throwable cause = exception.getCause();
+      if( cause instanceof RuntimeException ) {
+        throw ( RuntimeException )cause;
+      }
+      if( cause instanceof Error ) {
+        throw ( Error )cause;
+      }
+      throw new ThemeManagerException( "Failed to initialize themes", cause );
+    } catch( InterruptedException exception ) {
+      Thread.currentThread().interrupt();
+      throw new ThemeManagerException( "Interrupted while initializing themes", exception );
     }
   }
 
@@ -256,19 +355,18 @@ public class ThemeManager {
     }
   }
 
-  private void loadThemeableWidgetResources( ThemeableWidget themeWidget ) {
+  private void loadThemeableWidgetResources( ThemeableWidget themeWidget,
+                                            List<String> loadedAppearances )
+  {
     String className = LifeCycleAdapterUtil.getSimpleClassName( themeWidget.className );
     String[] variants = LifeCycleAdapterUtil.getKitPackageVariants( themeWidget.className );
     boolean found = false;
     try {
       for( int i = 0; i < variants.length && !found ; i++ ) {
         found |= loadThemeDef( themeWidget, variants[ i ], className );
-        found |= loadAppearanceJs( themeWidget, variants[ i ], className );
+        found |= loadAppearanceJs( themeWidget, variants[ i ], className, loadedAppearances );
         found |= loadDefaultCss( themeWidget, variants[ i ], className );
       }
-      if( themeWidget.defaultStyleSheet != null ) {
-        fallbackTheme.addStyleSheet( themeWidget.defaultStyleSheet );
-      }
     } catch( IOException e ) {
       String msg = "Failed to initialize themeable widget: " + themeWidget.className;
       throw new ThemeManagerException( msg, e );
@@ -298,7 +396,10 @@ public class ThemeManager {
     return result;
   }
 
-  private boolean loadAppearanceJs( ThemeableWidget themeWidget, String pkgName, String className )
+  private boolean loadAppearanceJs( ThemeableWidget themeWidget,
+                                    String pkgName,
+                                    String className,
+                                    List<String> loadedAppearances )
     throws IOException
   {
     boolean result = false;
@@ -308,7 +409,7 @@ public class ThemeManager {
     if( inStream != null ) {
       try {
         String content = AppearancesUtil.readAppearanceFile( inStream );
-        appearances.add( content );
+        loadedAppearances.add( content );
         result = true;
       } finally {
         inStream.close();
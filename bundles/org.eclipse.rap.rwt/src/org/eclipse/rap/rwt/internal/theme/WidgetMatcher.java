@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,8 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.theme;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -26,24 +28,41 @@ public final class WidgetMatcher implements ValueSelector {
   }
 
   private final Map<String, Constraint> constraintMap;
+  private final Map<String, Integer> styleMap;
+  private final Map<ConditionalValue[], CompiledValues> compiledValuesMap;
 
   public WidgetMatcher() {
     // This map is accessed by all UI sessions simultaneously. However, We don't need to
     // synchronize get and put since constraints are deterministic, i.e. in case of concurrent
     // insertions one constraint overwriting the other is not critical.
     constraintMap = new ConcurrentHashMap<>();
+    styleMap = new ConcurrentHashMap<>();
+    // Keyed by the identity of the values arrays, which are created once per theme, element and
+    // property by CssValuesMap. Like constraints, compiled values are deterministic.
+    compiledValuesMap = new ConcurrentHashMap<>();
   }
 
   public void addStyle( String string, int style ) {
     constraintMap.put( "[" + string, createStyleConstraint( style ) );
+    styleMap.put( "[" + string, Integer.valueOf( style ) );
+    compiledValuesMap.clear();
   }
 
   public void addState( String string, Constraint constraint ) {
     constraintMap.put( ":" + string, constraint );
+    compiledValuesMap.clear();
   }
 
   @Override
   public CssValue select( Widget widget, ConditionalValue... values ) {
+    CompiledValues compiledValues = compiledValuesMap.get( values );
+    if( compiledValues == null ) {
+      compiledValues = compile( values );
+      compiledValuesMap.put( values, compiledValues );
+    }
+    if( compiledValues != CompiledValues.NOT_COMPILABLE ) {
+      return compiledValues.select( widget );
+    }
     CssValue result = null;
     for( int i = 0; i < values.length && result == null; i++ ) {
       ConditionalValue condValue = values[ i ];
@@ -55,6 +74,49 @@ public final class WidgetMatcher implements ValueSelector {
     return result;
   }
 
+  /*
+   * Resolves the constraint strings of the given values once. Style constraints with a single
+   * style bit are combined into a bit mask, variant constraints are compared to the variant of the
+   * widget and all other constraints are numbered, so that each of them is evaluated at most once
+   * per selection.
+   */
+  private CompiledValues compile( ConditionalValue[] values ) {
+    List<Constraint> constraints = new ArrayList<>();
+    CompiledValue[] compiledValues = new CompiledValue[ values.length ];
+    for( int i = 0; i < values.length; i++ ) {
+      CompiledValue compiledValue = new CompiledValue( values[ i ].value );
+      for( String string : values[ i ].constraints ) {
+        Integer style = styleMap.get( string );
+        if( style != null && Integer.bitCount( style.intValue() ) == 1 ) {
+          compiledValue.styles |= style.intValue();
+        } else if( string.startsWith( "." ) ) {
+          String variant = string.substring( 1 );
+          if( compiledValue.variant != null && !compiledValue.variant.equals( variant ) ) {
+            compiledValue.matchable = false;
+          }
+          compiledValue.variant = variant;
+        } else {
+          Constraint constraint = getConstraint( string );
+          if( constraint == null ) {
+            compiledValue.matchable = false;
+          } else {
+            int index = constraints.indexOf( constraint );
+            if( index == -1 ) {
+              index = constraints.size();
+              constraints.add( constraint );
+            }
+            if( index >= Long.SIZE ) {
+              return CompiledValues.NOT_COMPILABLE;
+            }
+            compiledValue.constraints |= 1L << index;
+          }
+        }
+      }
+      compiledValues[ i ] = compiledValue;
+    }
+    return new CompiledValues( compiledValues, constraints.toArray( new Constraint[ 0 ] ) );
+  }
+
   private boolean matches( Widget widget, String[] constraints ) {
     for( String string : constraints ) {
       Constraint constraint = getConstraint( string );
@@ -97,4 +159,81 @@ public final class WidgetMatcher implements ValueSelector {
     return actualVariant != null && actualVariant.equals( variant );
   }
 
+  private static final class CompiledValue {
+
+    final CssValue value;
+    int styles;
+    String variant;
+    long constraints;
+    boolean matchable = true;
+
+    CompiledValue( CssValue value ) {
+      this.value = value;
+    }
+
+  }
+
+  private static final class CompiledValues {
+
+    static final CompiledValues NOT_COMPILABLE = new CompiledValues( null, null );
+
+    private final CompiledValue[] values;
+    private final Constraint[] constraints;
+    private final boolean hasStyles;
+    private final boolean hasVariants;
+
+    CompiledValues( CompiledValue[] values, Constraint[] constraints ) {
+      this.values = values;
+      this.constraints = constraints;
+      hasStyles = values != null && hasStyles( values );
+      hasVariants = values != null && hasVariants( values );
+    }
+
+    CssValue select( Widget widget ) {
+      int style = hasStyles ? widget.getStyle() : 0;
+      String variant = hasVariants ? WidgetUtil.getVariant( widget ) : null;
+      long evaluated = 0;
+      long satisfied = 0;
+      for( CompiledValue value : values ) {
+        if(    value.matchable
+            && ( style & value.styles ) == value.styles
+            && ( value.variant == null || value.variant.equals( variant ) ) )
+        {
+          long pending = value.constraints & ~evaluated;
+          while( pending != 0 ) {
+            long bit = Long.lowestOneBit( pending );
+            if( constraints[ Long.numberOfTrailingZeros( bit ) ].matches( widget ) ) {
+              satisfied |= bit;
+            }
+            evaluated |= bit;
+            pending &= ~bit;
+          }
+          if( ( satisfied & value.constraints ) == value.constraints ) {
+            return value.value;
+          }
+        }
+      }
+      return null;
+    }
+
+    private static boolean hasStyles( CompiledValue[] values ) {
+      for( CompiledValue value : values ) {
+        if( value.styles != 0 ) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private static boolean hasVariants( CompiledValue[] values ) {
+      for( CompiledValue value : values ) {
+        if( value.variant != null ) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,8 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.theme.css;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.text.MessageFormat;
@@ -18,6 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.rap.rwt.apache.batik.css.parser.ParseException;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.theme.ThemeManagerException;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.rap.rwt.service.ResourceLoader;
@@ -72,10 +75,39 @@ public class CssFileReader {
     return parseStyleSheet( inputStream, fileName, loader );
   }
 
+  /*
+   * Style sheets are read from a snapshot if a snapshot directory is configured and the style
+   * sheet has not changed since the snapshot was written.
+   */
   private static StyleSheet parseStyleSheet( InputStream inputStream,
                                              String fileName,
                                              ResourceLoader loader )
     throws IOException
+  {
+    String snapshotDirectory = RWTProperties.getThemeSnapshotDirectory();
+    if( snapshotDirectory == null ) {
+      return parseStyleSheetContent( inputStream, fileName, loader );
+    }
+    byte[] content;
+    try {
+      content = inputStream.readAllBytes();
+    } finally {
+      inputStream.close();
+    }
+    File directory = new File( snapshotDirectory );
+    String key = StyleSheetSnapshots.getKey( fileName, content );
+    StyleSheet styleSheet = StyleSheetSnapshots.read( directory, key, loader );
+    if( styleSheet == null ) {
+      styleSheet = parseStyleSheetContent( new ByteArrayInputStream( content ), fileName, loader );
+      StyleSheetSnapshots.write( directory, key, styleSheet, loader );
+    }
+    return styleSheet;
+  }
+
+  private static StyleSheet parseStyleSheetContent( InputStream inputStream,
+                                                    String fileName,
+                                                    ResourceLoader loader )
+    throws IOException
   {
     StyleSheet styleSheet;
     try {
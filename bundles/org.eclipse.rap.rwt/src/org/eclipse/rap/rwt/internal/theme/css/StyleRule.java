@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,13 +11,15 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.theme.css;
 
+import java.io.Serializable;
+
 import org.w3c.css.sac.SelectorList;
 
 /**
  * Instances of this class represent a single rule in a CSS style sheet
  * including selector list and property map.
  */
-public class StyleRule {
+public class StyleRule implements Serializable {
 
   private final SelectorList selectors;
 
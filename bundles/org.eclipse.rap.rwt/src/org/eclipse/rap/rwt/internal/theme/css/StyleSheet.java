@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,9 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.theme.css;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -26,11 +29,11 @@ import org.w3c.css.sac.SelectorList;
 /**
  * Instances of this class represent a parsed CSS stylesheet.
  */
-public final class StyleSheet {
+public final class StyleSheet implements Serializable {
   private static final SelectorWrapperComparator COMPARATOR = new SelectorWrapperComparator();
 
   private final StyleRule[] styleRules;
-  private SelectorWrapper[] selectorWrappers;
+  private transient SelectorWrapper[] selectorWrappers;
 
   public StyleSheet( StyleRule[] styleRules ) {
     this.styleRules = styleRules.clone();
@@ -83,6 +86,11 @@ public final class StyleSheet {
     return buffer.toString();
   }
 
+  private void readObject( ObjectInputStream stream ) throws IOException, ClassNotFoundException {
+    stream.defaultReadObject();
+    createSelectorWrappers();
+  }
+
   private static boolean containsConstraintsAlready( List<ConditionalValue> conditionalValuesList,
                                                      String[] constraints )
   {
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.theme.css;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.rap.rwt.service.ResourceLoader;
+
+
+/**
+ * Stores parsed style sheets as binary snapshots in a directory, so that a style sheet is not
+ * parsed again after a restart unless its content has changed.
+ * <p>
+ * Snapshots are keyed by a hash of the file name and the content of the style sheet. The resource
+ * loader of the style sheet is not stored, the loader that is passed when a snapshot is read is
+ * bound to its images and cursors instead. The images referenced by a style sheet are not part of
+ * the key, hence the snapshot directory must be cleared when an image is replaced without a
+ * change of the style sheet. Snapshots that cannot be read are ignored and written again.
+ * </p>
+ */
+final class StyleSheetSnapshots {
+
+  private static final String FILE_EXTENSION = ".snapshot";
+  // must be incremented when the serialized form of the style sheet classes changes
+  private static final int VERSION = 1;
+  private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+    "org.eclipse.rap.rwt.internal.theme.**;org.eclipse.rap.rwt.theme.*;"
+    + "org.eclipse.rap.rwt.apache.batik.css.parser.*;org.w3c.css.sac.*;"
+    + "java.lang.*;java.util.*;!*" );
+
+  static String getKey( String fileName, byte[] content ) {
+    MessageDigest digest = createDigest();
+    digest.update( ( VERSION + ":" + fileName + ":" ).getBytes( UTF_8 ) );
+    digest.update( content );
+    StringBuilder result = new StringBuilder();
+    for( byte value : digest.digest() ) {
+      result.append( String.format( "%02x", Integer.valueOf( value & 0xff ) ) );
+    }
+    return result.toString();
+  }
+
+  /*
+   * Returns the style sheet of the snapshot with the given key or null if there is no readable
+   * snapshot.
+   */
+  static StyleSheet read( File directory, String key, ResourceLoader loader ) {
+    File file = getFile( directory, key );
+    if( file.isFile() ) {
+      try( InputStream inputStream = new BufferedInputStream( new FileInputStream( file ) );
+           ObjectInputStream objectStream = new SnapshotInputStream( inputStream, loader ) )
+      {
+        return ( StyleSheet )objectStream.readObject();
+      } catch( IOException | ClassNotFoundException | RuntimeException exception ) {
+        ServletLog.log( "Failed to read style sheet snapshot " + file, exception );
+      }
+    }
+    return null;
+  }
+
+  static void write( File directory, String key, StyleSheet styleSheet, ResourceLoader loader ) {
+    File file = getFile( directory, key );
+    try {
+      Files.createDirectories( directory.toPath() );
+      // written to a temporary file first, other application contexts may read the snapshot
+      File tempFile = File.createTempFile( key, ".tmp", directory );
+      try {
+        try( OutputStream fileStream = new FileOutputStream( tempFile );
+             OutputStream outputStream = new BufferedOutputStream( fileStream );
+             ObjectOutputStream objectStream = new SnapshotOutputStream( outputStream, loader ) )
+        {
+          objectStream.writeObject( styleSheet );
+        }
+        Files.move( tempFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE );
+      } finally {
+        Files.deleteIfExists( tempFile.toPath() );
+      }
+    } catch( IOException | RuntimeException exception ) {
+      ServletLog.log( "Failed to write style sheet snapshot " + file, exception );
+    }
+  }
+
+  private static File getFile( File directory, String key ) {
+    return new File( directory, key + FILE_EXTENSION );
+  }
+
+  private static MessageDigest createDigest() {
+    try {
+      return MessageDigest.getInstance( "SHA-1" );
+    } catch( NoSuchAlgorithmException exception ) {
+      throw new IllegalStateException( "SHA-1 not available", exception );
+    }
+  }
+
+  private StyleSheetSnapshots() {
+    // prevent instantiation
+  }
+
+  /*
+   * Stands in for the resource loader of the style sheet in a snapshot.
+   */
+  private static final class LoaderPlaceholder implements Serializable {
+  }
+
+  private static final class SnapshotOutputStream extends ObjectOutputStream {
+
+    private final ResourceLoader loader;
+
+    SnapshotOutputStream( OutputStream outputStream, ResourceLoader loader ) throws IOException {
+      super( outputStream );
+      this.loader = loader;
+      enableReplaceObject( true );
+    }
+
+    @Override
+    protected Object replaceObject( Object object ) {
+      return object != null && object == loader ? new LoaderPlaceholder() : object;
+    }
+  }
+
+  private static final class SnapshotInputStream extends ObjectInputStream {
+
+    private final ResourceLoader loader;
+
+    SnapshotInputStream( InputStream inputStream, ResourceLoader loader ) throws IOException {
+      super( inputStream );
+      this.loader = loader;
+      setObjectInputFilter( FILTER );
+      enableResolveObject( true );
+    }
+
+    @Override
+    protected Object resolveObject( Object object ) {
+      return object instanceof LoaderPlaceholder ? loader : object;
+    }
+  }
+
+}
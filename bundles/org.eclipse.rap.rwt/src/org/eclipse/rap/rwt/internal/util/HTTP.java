@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2025 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -36,6 +36,17 @@ public final class HTTP {
   public static final String METHOD_GET = "GET";
   public static final String METHOD_POST = "POST";
   public static final String HEADER_ACCEPT = "Accept";
+  public static final String HEADER_ACCEPT_ENCODING = "Accept-Encoding";
+  public static final String HEADER_CONTENT_ENCODING = "Content-Encoding";
+  public static final String HEADER_VARY = "Vary";
+  public static final String HEADER_ETAG = "ETag";
+  public static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+  public static final String HEADER_CACHE_CONTROL = "Cache-Control";
+  public static final String HEADER_RANGE = "Range";
+  public static final String HEADER_IF_RANGE = "If-Range";
+  public static final String HEADER_CONTENT_RANGE = "Content-Range";
+  public static final String HEADER_ACCEPT_RANGES = "Accept-Ranges";
+  public static final String ENCODING_GZIP = "gzip";
 
   public static String getParameter( HttpServletRequest request, String name ) {
     // Note: Using getParameter directly in Tomcat 11 will parse the request body.
@@ -94,6 +105,28 @@ public final class HTTP {
     return result;
   }
 
+  /**
+   * Returns whether the given content coding is listed in the <code>Accept-Encoding</code> header
+   * of the request and not explicitly refused with a quality value of zero.
+   */
+  public static boolean acceptsEncoding( HttpServletRequest request, String encoding ) {
+    String acceptEncoding = request.getHeader( HEADER_ACCEPT_ENCODING );
+    if( acceptEncoding != null ) {
+      for( String element : acceptEncoding.split( "," ) ) {
+        String[] parts = element.split( ";" );
+        if( parts[ 0 ].trim().equalsIgnoreCase( encoding ) ) {
+          return parts.length < 2 || !isZeroQuality( parts[ 1 ] );
+        }
+      }
+    }
+    return false;
+  }
+
+  private static boolean isZeroQuality( String parameter ) {
+    String value = parameter.trim().toLowerCase( Locale.ENGLISH );
+    return value.startsWith( "q=" ) && value.substring( 2 ).matches( "0(\\.0*)?" );
+  }
+
   private HTTP() {
     // prevent instantiation
   }
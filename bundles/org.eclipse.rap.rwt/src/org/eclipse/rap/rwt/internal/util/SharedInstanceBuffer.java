@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,65 +10,133 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.util;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 
+/**
+ * A buffer of shared instances that are created on demand.
+ * <p>
+ * Instances are created per key: while an instance is being created, only threads that ask for
+ * the same key wait for it, all other keys can be read and created concurrently. The instance
+ * creator is called outside of any lock shared between keys.
+ * </p>
+ */
 public class SharedInstanceBuffer<K, I> implements Serializable {
 
-  private final Lock readLock;
-  private final Lock writeLock;
-  private final Map<K, I> store;
+  private static final Object NULL_KEY = new Object();
+
+  private transient ConcurrentMap<Object, Future<I>> store;
 
   public SharedInstanceBuffer() {
-    ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
-    readLock = readWriteLock.readLock();
-    writeLock = readWriteLock.writeLock();
-    store = new HashMap<>();
+    store = new ConcurrentHashMap<>();
   }
 
-  public I get( K key, InstanceCreator<K, I> instanceCreator ) {
-    I result = getInstance( key );
+  public I get( final K key, final InstanceCreator<K, I> instanceCreator ) {
+    Object storeKey = toStoreKey( key );
+    Future<I> result = store.get( storeKey );
     if( result == null ) {
-      result = createInstance( key, instanceCreator );
+      ParamCheck.notNull( instanceCreator, "instanceCreator" );
+      FutureTask<I> task = new FutureTask<>( new Callable<I>() {
+        @Override
+        public I call() {
+          return instanceCreator.createInstance( key );
+        }
+      } );
+      result = store.putIfAbsent( storeKey, task );
+      if( result == null ) {
+        result = task;
+        task.run();
+      }
     }
-    return result;
+    return getInstance( storeKey, result );
   }
 
   public I remove( K key ) {
-    writeLock.lock();
+    Future<I> removed = store.remove( toStoreKey( key ) );
+    return removed == null ? null : getInstance( null, removed );
+  }
+
+  private I getInstance( Object storeKey, Future<I> future ) {
+    boolean interrupted = false;
     try {
-      return store.remove( key );
+      while( true ) {
+        try {
+          return future.get();
+        } catch( @SuppressWarnings( "unused" ) InterruptedException exception ) {
+          interrupted = true;
+        } catch( ExecutionException exception ) {
+          if( storeKey != null ) {
+            // Allow subsequent calls to retry the creation
+            store.remove( storeKey, future );
+          }
+          throw unwrap( exception );
+        }
+      }
     } finally {
-      writeLock.unlock();
+      if( interrupted ) {
+        Thread.currentThread().interrupt();
+      }
     }
   }
 
-  private I getInstance( K key ) {
-    readLock.lock();
-    try {
-      return store.get( key );
-    } finally {
-      readLock.unlock();
+  private static RuntimeException unwrap( ExecutionException exception ) {
+    Throwable cause = exception.getCause();
+    if( cause instanceof RuntimeException ) {
+      return ( RuntimeException )cause;
     }
+    if( cause instanceof Error ) {
+      throw ( Error )cause;
+    }
+    return new RuntimeException( cause );
   }
 
-  private I createInstance( K key, InstanceCreator<K, I> instanceCreator ) {
-    writeLock.lock();
-    try {
-      // Re-check because another thread might have acquired write lock and created an instance
-      // before we did. See doc on ReentrantReadWriteLock.
-      I result = store.get( key );
-      if( result == null ) {
-        result = instanceCreator.createInstance( key );
-        store.put( key, result );
+  private static Object toStoreKey( Object key ) {
+    return key == null ? NULL_KEY : key;
+  }
+
+  private void writeObject( ObjectOutputStream stream ) throws IOException {
+    // Only instances that have been created successfully are serialized
+    Map<Object, I> instances = new HashMap<>();
+    for( Map.Entry<Object, Future<I>> entry : store.entrySet() ) {
+      Future<I> future = entry.getValue();
+      if( future.isDone() ) {
+        try {
+          Object key = entry.getKey() == NULL_KEY ? null : entry.getKey();
+          instances.put( key, future.get() );
+        } catch( @SuppressWarnings( "unused" ) InterruptedException | ExecutionException exception ) {
+          // ignore failed creations, they are retried on demand
+        }
       }
-      return result;
-    } finally {
-      writeLock.unlock();
+    }
+    stream.defaultWriteObject();
+    stream.writeObject( instances );
+  }
+
+  @SuppressWarnings( "unchecked" )
+  private void readObject( ObjectInputStream stream ) throws IOException, ClassNotFoundException {
+    stream.defaultReadObject();
+    Map<Object, I> instances = ( Map<Object, I> )stream.readObject();
+    store = new ConcurrentHashMap<>();
+    for( Map.Entry<Object, I> entry : instances.entrySet() ) {
+      FutureTask<I> future = new FutureTask<>( new Runnable() {
+        @Override
+        public void run() {
+          // the instance has been created before serialization
+        }
+      }, entry.getValue() );
+      future.run();
+      store.put( toStoreKey( entry.getKey() ), future );
     }
   }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2018 EclipseSource and others.
+ * Copyright (c) 2013, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -29,6 +29,7 @@ import org.eclipse.rap.rwt.scripting.ClientListener;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.internal.events.EventLCAUtil;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Event;
@@ -155,6 +156,7 @@ public class DropDown extends Widget {
    */
   public void setItems( String[] items ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( items == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -205,6 +207,7 @@ public class DropDown extends Widget {
    */
   public void setSelectionIndex( int selection ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( selectionIndex != selection && selection >= -1 && selection < items.size() ) {
       setSelectionIndexImpl( selection );
       remoteObject.set( "selectionIndex", selection );
@@ -239,6 +242,7 @@ public class DropDown extends Widget {
    */
   public void setVisibleItemCount( int itemCount ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( visibleItemCount != itemCount ) {
       visibleItemCount = itemCount;
       remoteObject.set( "visibleItemCount", itemCount );
@@ -273,6 +277,7 @@ public class DropDown extends Widget {
    */
   public void setVisible( boolean visible ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( visibility != visible ) {
       setVisibleImpl( visible );
       remoteObject.set( "visible", visible );
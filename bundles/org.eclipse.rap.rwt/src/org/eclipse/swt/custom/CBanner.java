@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2006 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,6 +21,7 @@ import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.SerializableCompatibility;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Layout;
@@ -373,6 +374,7 @@ public class CBanner extends Composite {
    */
   public void setBottom( Control control ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( control != null && control.getParent() != this ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -423,6 +425,7 @@ public class CBanner extends Composite {
    */
   public void setLeft( Control control ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( control != null && control.getParent() != this ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -452,6 +455,7 @@ public class CBanner extends Composite {
    */
   public void setRight( Control control ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( control != null && control.getParent() != this ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -479,6 +483,7 @@ public class CBanner extends Composite {
    */
   public void setRightMinimumSize( Point size ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( size == null || size.x < SWT.DEFAULT || size.y < SWT.DEFAULT )
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     rightMinWidth = size.x;
@@ -501,6 +506,7 @@ public class CBanner extends Composite {
    */
   public void setRightWidth( int width ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( width < SWT.DEFAULT )
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     rightWidth = width;
@@ -521,6 +527,7 @@ public class CBanner extends Composite {
    */
   public void setSimple( boolean simple ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( this.simple != simple ) {
       this.simple = simple;
       if( simple ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2024 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -36,6 +36,7 @@ import org.eclipse.swt.internal.custom.ICTabFolderAdapter;
 import org.eclipse.swt.internal.custom.ctabfolderkit.CTabFolderLCA;
 import org.eclipse.swt.internal.custom.ctabfolderkit.CTabFolderThemeAdapter;
 import org.eclipse.swt.internal.events.EventTypes;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.internal.widgets.IItemHolderAdapter;
 import org.eclipse.swt.internal.widgets.IWidgetGraphicsAdapter;
 import org.eclipse.swt.internal.widgets.ItemHolder;
@@ -342,6 +343,7 @@ public class CTabFolder extends Composite {
    */
   public void setSelection( int index ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( index >= 0 && index <= itemHolder.size() - 1 ) {
       if( selectedIndex != index ) {
         int oldSelectionIndex = selectedIndex;
@@ -397,6 +399,7 @@ public class CTabFolder extends Composite {
    */
   public void setSelection( CTabItem item ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( item == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -437,6 +440,7 @@ public class CTabFolder extends Composite {
    */
   public void showSelection () {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( selectedIndex != -1 ) {
       showItem( getSelection() );
     }
@@ -462,6 +466,7 @@ public class CTabFolder extends Composite {
    */
   public void showItem( CTabItem item ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( item == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -524,6 +529,7 @@ public class CTabFolder extends Composite {
    */
   public void setMRUVisible( boolean show ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( mru != show ) {
       mru = show;
       if( !mru ) {
@@ -589,6 +595,7 @@ public class CTabFolder extends Composite {
    */
   public void setMaximizeVisible( boolean maximizeVisible ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( showMax != maximizeVisible ) {
       showMax = maximizeVisible;
       updateItems();
@@ -624,6 +631,7 @@ public class CTabFolder extends Composite {
    */
   public void setMinimizeVisible( boolean minimizeVisible ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( showMin != minimizeVisible ) {
       showMin = minimizeVisible;
       updateItems();
@@ -659,6 +667,7 @@ public class CTabFolder extends Composite {
    */
   public void setMinimized( boolean minimized ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( this.minimized != minimized ) {
       if( minimized && maximized ) {
         setMaximized( false );
@@ -694,6 +703,7 @@ public class CTabFolder extends Composite {
    */
   public void setMaximized( boolean maximized ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( this.maximized != maximized ) {
       if( maximized && minimized ) {
         setMinimized( false );
@@ -757,6 +767,7 @@ public class CTabFolder extends Composite {
    */
   public void setTabHeight( int height ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( height < -1 ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -810,6 +821,7 @@ public class CTabFolder extends Composite {
    */
   public void setMinimumCharacters( int minimumCharacters ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( minimumCharacters < 0 ) {
       SWT.error( SWT.ERROR_INVALID_RANGE );
     }
@@ -856,6 +868,7 @@ public class CTabFolder extends Composite {
    */
   public void setSingle( boolean single ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( this.single != single ) {
       this.single = single;
       updateItemsWithResizeEvent();
@@ -891,6 +904,7 @@ public class CTabFolder extends Composite {
    */
   public void setTabPosition( int position ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( position != SWT.TOP && position != SWT.BOTTOM ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -930,6 +944,7 @@ public class CTabFolder extends Composite {
    */
   public void setBorderVisible( boolean show ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( ( borderLeft != 1 ) != !show ) {
       borderLeft = borderRight = show ? 1 : 0;
       borderTop = onBottom ? borderLeft : 0;
@@ -965,6 +980,7 @@ public class CTabFolder extends Composite {
    */
   public void setUnselectedImageVisible( boolean visible ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( showUnselectedImage != visible ) {
       showUnselectedImage = visible;
       updateItems();
@@ -995,6 +1011,7 @@ public class CTabFolder extends Composite {
    */
   public void setUnselectedCloseVisible( boolean visible ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( showUnselectedClose != visible ) {
       showUnselectedClose = visible;
       updateItems();
@@ -1053,6 +1070,7 @@ public class CTabFolder extends Composite {
    */
   public void setSelectionBackground( Color color ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( null != color && color.isDisposed() ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1144,6 +1162,7 @@ public class CTabFolder extends Composite {
    */
   public void setSelectionBackground( Color[] colors, int[] percents, boolean vertical ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( colors != null ) {
       for( int i = 0; i < colors.length; i++ ) {
         if( colors[ i ] != null && colors[ i ].isDisposed() ) {
@@ -1207,6 +1226,7 @@ public class CTabFolder extends Composite {
    */
   public void setSelectionBackground( Image image ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     selectionBgImage = image;
   }
 
@@ -1222,6 +1242,7 @@ public class CTabFolder extends Composite {
    */
   public void setSelectionForeground( Color color ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     selectionForeground = color;
   }
 
@@ -1268,6 +1289,7 @@ public class CTabFolder extends Composite {
    */
   public void setTopRight( Control control ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     setTopRight( control, SWT.RIGHT );
   }
 
@@ -1295,6 +1317,7 @@ public class CTabFolder extends Composite {
    */
   public void setTopRight( Control control, int alignment ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( alignment != SWT.RIGHT && alignment != SWT.FILL ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1371,6 +1394,7 @@ public class CTabFolder extends Composite {
   @Override
   public void setFont( Font font ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( font != getFont() ) {
       super.setFont( font );
       if( !updateTabHeight( false ) ) {
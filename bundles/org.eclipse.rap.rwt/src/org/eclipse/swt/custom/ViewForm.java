@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2006 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,7 @@ import org.eclipse.swt.events.DisposeListener;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Layout;
@@ -323,6 +324,7 @@ public class ViewForm extends Composite {
    */
   public void setContent( Control content ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( content != null && content.getParent() != this ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -381,6 +383,7 @@ public class ViewForm extends Composite {
    */
   public void setTopCenter( Control topCenter ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( topCenter != null && topCenter.getParent() != this ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -410,6 +413,7 @@ public class ViewForm extends Composite {
    */
   public void setTopLeft( Control c ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( c != null && c.getParent() != this ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -440,6 +444,7 @@ public class ViewForm extends Composite {
    */
   public void setTopRight( Control c ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( c != null && c.getParent() != this ) {
       SWT.error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -464,6 +469,7 @@ public class ViewForm extends Composite {
    */
   public void setBorderVisible( boolean show ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( showBorder == show )
       return;
     showBorder = show;
@@ -495,6 +501,7 @@ public class ViewForm extends Composite {
    */
   public void setTopCenterSeparate( boolean show ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     separateTopCenter = show;
     layout(false);
   }
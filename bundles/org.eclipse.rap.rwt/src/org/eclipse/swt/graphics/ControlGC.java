@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2021 Rüdiger Herrmann and others.
+ * Copyright (c) 2011, 2026 Rüdiger Herrmann and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -29,6 +29,7 @@ import org.eclipse.swt.internal.graphics.GCOperation.FillGradientRectangle;
 import org.eclipse.swt.internal.graphics.GCOperation.SetClipping;
 import org.eclipse.swt.internal.graphics.GCOperation.SetProperty;
 import org.eclipse.swt.internal.graphics.GCOperation.SetTransform;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.widgets.Control;
 
 
@@ -301,6 +302,7 @@ class ControlGC extends GCDelegate {
   private void addGCOperation( GCOperation operation ) {
     GCAdapter adapter = getGCAdapter();
     if( adapter != null ) {
+      DirtyWidgets.markDirty( control );
       adapter.addGCOperation( operation );
     }
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -101,7 +101,9 @@ public class Image extends Resource implements Drawable {
    * </ul>
    * @exception SWTException <ul>
    *    <li>ERROR_IO - if an IO error occurs while reading from the stream</li>
-   *    <li>ERROR_INVALID_IMAGE - if the image stream contains invalid data </li>
+   *    <li>ERROR_INVALID_IMAGE - if the image stream contains invalid data. The pixel data of
+   *    PNG, GIF, JPEG and BMP images is not decoded here, if it is corrupt this error is reported
+   *    by {@link #getImageData()}</li>
    *    <li>ERROR_UNSUPPORTED_DEPTH - if the image stream describes an image with an unsupported depth</li>
    *    <li>ERROR_UNSUPPORTED_FORMAT - if the image stream contains an unrecognized format</li>
    * </ul>
@@ -137,7 +139,9 @@ public class Image extends Resource implements Drawable {
    * </ul>
    * @exception SWTException <ul>
    *    <li>ERROR_IO - if an IO error occurs while reading from the file</li>
-   *    <li>ERROR_INVALID_IMAGE - if the image file contains invalid data </li>
+   *    <li>ERROR_INVALID_IMAGE - if the image file contains invalid data. The pixel data of
+   *    PNG, GIF, JPEG and BMP images is not decoded here, if it is corrupt this error is reported
+   *    by {@link #getImageData()}</li>
    *    <li>ERROR_UNSUPPORTED_DEPTH - if the image file describes an image with an unsupported depth</li>
    *    <li>ERROR_UNSUPPORTED_FORMAT - if the image file contains an unrecognized format</li>
    * </ul>
@@ -200,7 +204,8 @@ public class Image extends Resource implements Drawable {
         internalImage = srcImage.internalImage;
       break;
       case SWT.IMAGE_DISABLE: {
-        ImageData data = srcImage.getImageData();
+        // the source data is only read, no need to copy it
+        ImageData data = srcImage.getSharedImageData();
         PaletteData palette = data.palette;
         RGB[] rgbs = new RGB[ 3 ];
         rgbs[ 0 ] = device.getSystemColor( SWT.COLOR_BLACK ).getRGB();
@@ -436,7 +441,8 @@ public class Image extends Resource implements Drawable {
    *
    * @exception SWTException <ul>
    *    <li>ERROR_GRAPHIC_DISPOSED - if the receiver has been disposed</li>
-   *    <li>ERROR_INVALID_IMAGE - if the image is not a bitmap or an icon</li>
+   *    <li>ERROR_INVALID_IMAGE - if the image is not a bitmap or an icon, or if the pixel data
+   *    of the image is corrupt</li>
    * </ul>
    *
    * @see ImageData
@@ -456,6 +462,20 @@ public class Image extends Resource implements Drawable {
     return result;
   }
 
+  private ImageData getSharedImageData() {
+    if( isDisposed() ) {
+      SWT.error( SWT.ERROR_GRAPHIC_DISPOSED );
+    }
+    ImageData result;
+    if( device != null ) {
+      ApplicationContextImpl applicationContext = getApplicationContext();
+      result = applicationContext.getImageDataFactory().findSharedImageData( internalImage );
+    } else {
+      result = internalImage.getImageData();
+    }
+    return result;
+  }
+
   /**
    * Sets the color to which to map the transparent pixel.
    * <p>
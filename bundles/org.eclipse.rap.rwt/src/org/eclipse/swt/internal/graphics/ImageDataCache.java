@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2012 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,46 +11,154 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.graphics;
 
-import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.swt.graphics.ImageData;
 
 
 /**
- * Cache for small image data, mainly for decorator images.
+ * Least recently used cache for decoded image data, limited by the total size of the cached
+ * image data in bytes.
+ * <p>
+ * The maximum size can be configured with the system property
+ * <code>org.eclipse.rap.rwt.imageDataCacheSize</code>. A single image data that is larger than
+ * an eighth of the maximum size is not cached.
+ * </p>
  */
-final class ImageDataCache {
+public final class ImageDataCache {
 
-  /** Maximum size of image data that is being cached */
-  private static final int MAX_DATA_SIZE = 1024;
+  public static final int DEFAULT_MAX_SIZE = 4 * 1024 * 1024;
 
-  private final Map<InternalImage,ImageData> cache;
+  private final int maxSize;
+  private final int maxDataSize;
   private final Object cacheLock;
+  // access is guarded by 'cacheLock'
+  private final LinkedHashMap<InternalImage,ImageData> cache;
+  private long size;
+  private long hitCount;
+  private long missCount;
+  private long evictionCount;
 
   ImageDataCache() {
+    this( RWTProperties.getImageDataCacheSize( DEFAULT_MAX_SIZE ) );
+  }
+
+  ImageDataCache( int maxSize ) {
+    this.maxSize = Math.max( 0, maxSize );
+    maxDataSize = this.maxSize / 8;
     cacheLock = new Object();
-    cache = new HashMap<InternalImage,ImageData>( 25 );
+    cache = new LinkedHashMap<>( 32, 0.75f, true );
   }
 
+  /**
+   * Returns a copy of the cached image data, or <code>null</code> if not cached.
+   */
   ImageData getImageData( InternalImage internalImage ) {
+    ImageData cached = getSharedImageData( internalImage );
+    return cached != null ? ( ImageData )cached.clone() : null;
+  }
+
+  /**
+   * Returns the cached image data itself, or <code>null</code> if not cached. The returned
+   * instance is shared and must not be modified.
+   */
+  ImageData getSharedImageData( InternalImage internalImage ) {
     ParamCheck.notNull( internalImage, "internalImage" );
-    ImageData cached;
     synchronized( cacheLock ) {
-      cached = cache.get( internalImage );
+      ImageData cached = cache.get( internalImage );
+      if( cached != null ) {
+        hitCount++;
+      } else {
+        missCount++;
+      }
+      return cached;
     }
-    return cached != null ? ( ImageData )cached.clone() : null;
   }
 
+  /**
+   * Stores a copy of the given image data.
+   */
   void putImageData( InternalImage internalImage, ImageData imageData ) {
     ParamCheck.notNull( internalImage, "internalImage" );
     ParamCheck.notNull( imageData, "imageData" );
-    if( imageData.data.length <= MAX_DATA_SIZE ) {
+    if( getSize( imageData ) <= maxDataSize ) {
+      putSharedImageData( internalImage, ( ImageData )imageData.clone() );
+    }
+  }
+
+  /**
+   * Stores the given image data itself. The caller must not modify it afterwards.
+   */
+  void putSharedImageData( InternalImage internalImage, ImageData imageData ) {
+    ParamCheck.notNull( internalImage, "internalImage" );
+    ParamCheck.notNull( imageData, "imageData" );
+    long dataSize = getSize( imageData );
+    if( dataSize <= maxDataSize ) {
       synchronized( cacheLock ) {
-        // TODO [rst] Implement replacement strategy (LRU or LFU)
-        cache.put( internalImage, ( ImageData )imageData.clone() );
+        ImageData previous = cache.put( internalImage, imageData );
+        if( previous != null ) {
+          size -= getSize( previous );
+        }
+        size += dataSize;
+        evict();
       }
     }
   }
+
+  public long getHitCount() {
+    synchronized( cacheLock ) {
+      return hitCount;
+    }
+  }
+
+  public long getMissCount() {
+    synchronized( cacheLock ) {
+      return missCount;
+    }
+  }
+
+  public long getEvictionCount() {
+    synchronized( cacheLock ) {
+      return evictionCount;
+    }
+  }
+
+  /**
+   * Returns the total size of the cached image data in bytes.
+   */
+  public long getSize() {
+    synchronized( cacheLock ) {
+      return size;
+    }
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  private void evict() {
+    Iterator<Map.Entry<InternalImage,ImageData>> iterator = cache.entrySet().iterator();
+    while( size > maxSize && iterator.hasNext() ) {
+      ImageData eldest = iterator.next().getValue();
+      iterator.remove();
+      size -= getSize( eldest );
+      evictionCount++;
+    }
+  }
+
+  private static long getSize( ImageData imageData ) {
+    long result = length( imageData.data );
+    result += length( imageData.alphaData );
+    result += length( imageData.maskData );
+    return result;
+  }
+
+  private static int length( byte[] bytes ) {
+    return bytes == null ? 0 : bytes.length;
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,6 +15,8 @@ import java.io.InputStream;
 
 import org.eclipse.rap.rwt.internal.util.StreamUtil;
 import org.eclipse.rap.rwt.service.ResourceManager;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.ImageData;
 
 
@@ -42,6 +44,29 @@ public class ImageDataFactory {
     return result;
   }
 
+  /**
+   * Returns the image data of the given image without copying it. The returned image data may be
+   * shared with other callers and must not be modified.
+   */
+  public ImageData findSharedImageData( InternalImage internalImage ) {
+    ImageData result = imageDataCache.getSharedImageData( internalImage );
+    if( result == null ) {
+      result = createImageData( internalImage );
+      if( result != null ) {
+        imageDataCache.putSharedImageData( internalImage, result );
+      }
+    }
+    return result;
+  }
+
+  public ImageDataCache getImageDataCache() {
+    return imageDataCache;
+  }
+
+  /*
+   * Images with a known format are registered without being decoded (see InternalImageFactory),
+   * their content is validated here when they are decoded for the first time.
+   */
   private ImageData createImageData( InternalImage internalImage ) {
     ImageData result = null;
     String imagePath = internalImage.getResourceName();
@@ -49,6 +74,10 @@ public class ImageDataFactory {
     if( inputStream != null ) {
       try {
         result = new ImageData( inputStream );
+      } catch( SWTException exception ) {
+        throw exception;
+      } catch( RuntimeException exception ) {
+        SWT.error( SWT.ERROR_INVALID_IMAGE, exception );
       } finally {
         StreamUtil.close( inputStream );
       }
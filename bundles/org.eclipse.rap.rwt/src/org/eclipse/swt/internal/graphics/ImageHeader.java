@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.graphics;
+
+import org.eclipse.swt.SWT;
+
+
+/**
+ * Reads the type and the size of an image from the headers of its encoded bytes, without
+ * decoding the pixel data.
+ * <p>
+ * Supported are PNG (IHDR chunk), JPEG (SOF segment), GIF (first image descriptor) and BMP
+ * (DIB header). For other formats or malformed headers, <code>read()</code> returns
+ * <code>null</code> and the image has to be decoded.
+ * </p>
+ */
+final class ImageHeader {
+
+  private static final byte[] PNG_SIGNATURE
+    = { ( byte )0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
+  private static final byte[] GIF87A_SIGNATURE = { 'G', 'I', 'F', '8', '7', 'a' };
+  private static final byte[] GIF89A_SIGNATURE = { 'G', 'I', 'F', '8', '9', 'a' };
+  private static final byte[] BMP_SIGNATURE = { 'B', 'M' };
+
+  private final int type;
+  private final int width;
+  private final int height;
+
+  private ImageHeader( int type, int width, int height ) {
+    this.type = type;
+    this.width = width;
+    this.height = height;
+  }
+
+  int getType() {
+    return type;
+  }
+
+  int getWidth() {
+    return width;
+  }
+
+  int getHeight() {
+    return height;
+  }
+
+  static ImageHeader read( byte[] bytes ) {
+    ImageHeader result = null;
+    try {
+      if( startsWith( bytes, PNG_SIGNATURE ) ) {
+        result = readPng( bytes );
+      } else if( bytes.length > 2 && u8( bytes, 0 ) == 0xFF && u8( bytes, 1 ) == 0xD8 ) {
+        result = readJpeg( bytes );
+      } else if( startsWith( bytes, GIF87A_SIGNATURE ) || startsWith( bytes, GIF89A_SIGNATURE ) ) {
+        result = readGif( bytes );
+      } else if( startsWith( bytes, BMP_SIGNATURE ) ) {
+        result = readBmp( bytes );
+      }
+    } catch( @SuppressWarnings( "unused" ) ArrayIndexOutOfBoundsException truncated ) {
+      result = null;
+    }
+    return result != null && result.width > 0 && result.height > 0 ? result : null;
+  }
+
+  private static ImageHeader readPng( byte[] bytes ) {
+    // signature, chunk length, "IHDR", width, height
+    if( bytes[ 12 ] != 'I' || bytes[ 13 ] != 'H' || bytes[ 14 ] != 'D' || bytes[ 15 ] != 'R' ) {
+      return null;
+    }
+    return new ImageHeader( SWT.IMAGE_PNG, s32be( bytes, 16 ), s32be( bytes, 20 ) );
+  }
+
+  private static ImageHeader readJpeg( byte[] bytes ) {
+    int offset = 2;
+    while( offset < bytes.length ) {
+      if( u8( bytes, offset ) != 0xFF ) {
+        return null;
+      }
+      // markers may be preceded by fill bytes
+      while( u8( bytes, offset ) == 0xFF ) {
+        offset++;
+      }
+      int marker = u8( bytes, offset++ );
+      if( marker == 0x01 || marker >= 0xD0 && marker <= 0xD8 ) {
+        continue;
+      }
+      if( marker == 0xD9 || marker == 0xDA ) {
+        // end of image or start of scan before any frame header
+        return null;
+      }
+      if( isStartOfFrame( marker ) ) {
+        // length, precision, height, width
+        int width = u16be( bytes, offset + 5 );
+        int height = u16be( bytes, offset + 3 );
+        return new ImageHeader( SWT.IMAGE_JPEG, width, height );
+      }
+      offset += u16be( bytes, offset );
+    }
+    return null;
+  }
+
+  private static boolean isStartOfFrame( int marker ) {
+    return    marker >= 0xC0
+           && marker <= 0xCF
+           && marker != 0xC4
+           && marker != 0xC8
+           && marker != 0xCC;
+  }
+
+  private static ImageHeader readGif( byte[] bytes ) {
+    // SWT creates the image data from the first image descriptor, not the logical screen
+    int offset = 13;
+    int flags = u8( bytes, 10 );
+    if( ( flags & 0x80 ) != 0 ) {
+      offset += 3 << ( ( flags & 0x07 ) + 1 );
+    }
+    while( offset < bytes.length ) {
+      int block = u8( bytes, offset++ );
+      if( block == 0x2C ) {
+        // left, top, width, height
+        int width = u16le( bytes, offset + 4 );
+        int height = u16le( bytes, offset + 6 );
+        return new ImageHeader( SWT.IMAGE_GIF, width, height );
+      }
+      if( block != 0x21 ) {
+        return null;
+      }
+      // skip extension label and data sub-blocks
+      offset++;
+      int size = u8( bytes, offset++ );
+      while( size != 0 ) {
+        offset += size;
+        size = u8( bytes, offset++ );
+      }
+    }
+    return null;
+  }
+
+  private static ImageHeader readBmp( byte[] bytes ) {
+    int headerSize = s32le( bytes, 14 );
+    if( headerSize == 12 ) {
+      return new ImageHeader( SWT.IMAGE_BMP, u16le( bytes, 18 ), u16le( bytes, 20 ) );
+    }
+    if( headerSize < 40 ) {
+      return null;
+    }
+    int compression = s32le( bytes, 30 );
+    int type = compression == 1 || compression == 2 ? SWT.IMAGE_BMP_RLE : SWT.IMAGE_BMP;
+    // negative heights denote top-down bitmaps
+    return new ImageHeader( type, s32le( bytes, 18 ), Math.abs( s32le( bytes, 22 ) ) );
+  }
+
+  private static boolean startsWith( byte[] bytes, byte[] prefix ) {
+    if( bytes.length < prefix.length ) {
+      return false;
+    }
+    for( int i = 0; i < prefix.length; i++ ) {
+      if( bytes[ i ] != prefix[ i ] ) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int u8( byte[] bytes, int offset ) {
+    return bytes[ offset ] & 0xFF;
+  }
+
+  private static int u16be( byte[] bytes, int offset ) {
+    return u8( bytes, offset ) << 8 | u8( bytes, offset + 1 );
+  }
+
+  private static int u16le( byte[] bytes, int offset ) {
+    return u8( bytes, offset ) | u8( bytes, offset + 1 ) << 8;
+  }
+
+  private static int s32be( byte[] bytes, int offset ) {
+    return u16be( bytes, offset ) << 16 | u16be( bytes, offset + 2 );
+  }
+
+  private static int s32le( byte[] bytes, int offset ) {
+    return u16le( bytes, offset ) | u16le( bytes, offset + 2 ) << 16;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2023 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,7 +11,6 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.graphics;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
@@ -20,8 +19,10 @@ import java.io.InputStream;
 import java.util.zip.CRC32;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.resources.ResourceManagerImpl;
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer;
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
+import org.eclipse.rap.rwt.service.ResourceManager;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.ImageData;
@@ -47,13 +48,11 @@ public class InternalImageFactory {
   }
 
   public InternalImage findInternalImage( InputStream stream ) {
-    final BufferedInputStream bufferedStream = new BufferedInputStream( stream );
-    final ImageData imageData = readImageData( bufferedStream );
-    final String path = createGeneratedImagePath( imageData );
-    return cache.get( path, new InstanceCreator<String, InternalImage>() {
+    final EncodedImage encodedImage = new EncodedImage( readBytes( stream ) );
+    return cache.get( encodedImage.path, new InstanceCreator<String, InternalImage>() {
       @Override
       public InternalImage createInstance( String path ) {
-        return createInternalImage( path, bufferedStream, imageData );
+        return encodedImage.createInternalImage();
       }
     } );
   }
@@ -73,10 +72,7 @@ public class InternalImageFactory {
     return cache.get( key, new InstanceCreator<String, InternalImage>() {
       @Override
       public InternalImage createInstance( String key ) {
-        BufferedInputStream bufferedStream = new BufferedInputStream( inputStream );
-        ImageData imageData = readImageData( bufferedStream );
-        String path = createGeneratedImagePath( imageData );
-        return createInternalImage( path, bufferedStream, imageData );
+        return createInternalImage( inputStream );
       }
     } );
   }
@@ -107,6 +103,14 @@ public class InternalImageFactory {
     return result;
   }
 
+  private static byte[] readBytes( InputStream stream ) {
+    try {
+      return stream.readAllBytes();
+    } catch( IOException exception ) {
+      throw new SWTException( SWT.ERROR_IO, exception.getMessage() );
+    }
+  }
+
   static InputStream createInputStream( ImageData imageData ) {
     ImageLoader imageLoader = new ImageLoader();
     ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
@@ -132,20 +136,30 @@ public class InternalImageFactory {
   }
 
   private static InternalImage createInternalImage( InputStream stream ) {
-    InputStream bufferedStream = new BufferedInputStream( stream );
-    ImageData imageData = readImageData( bufferedStream );
-    String path = createGeneratedImagePath( imageData );
-    return createInternalImage( path, bufferedStream, imageData );
+    return new EncodedImage( readBytes( stream ) ).createInternalImage();
   }
 
   private static InternalImage createInternalImage( String path,
                                                     InputStream stream,
                                                     ImageData imageData )
   {
-    RWT.getResourceManager().register( path, stream );
+    registerGeneratedImage( path, stream );
     return new InternalImage( path, imageData.width, imageData.height, false );
   }
 
+  /*
+   * Generated images are named by a hash of their content and can therefore be cached by the
+   * client without revalidation.
+   */
+  private static void registerGeneratedImage( String path, InputStream stream ) {
+    ResourceManager resourceManager = RWT.getResourceManager();
+    if( resourceManager instanceof ResourceManagerImpl ) {
+      ( ( ResourceManagerImpl )resourceManager ).registerImmutable( path, stream );
+    } else {
+      resourceManager.register( path, stream );
+    }
+  }
+
   private static int getOutputFormat( ImageData imageData ) {
     int result = imageData.type;
     if( imageData.type == SWT.IMAGE_UNDEFINED ) {
@@ -154,8 +168,18 @@ public class InternalImageFactory {
     return result;
   }
 
+  private static String createGeneratedImagePath( byte[] bytes, ImageHeader header ) {
+    CRC32 crc32 = new CRC32();
+    crc32.update( bytes );
+    return "generated/" + Long.toHexString( crc32.getValue() ) + getExtension( header.getType() );
+  }
+
   private static String createGeneratedImagePath( ImageData data ) {
-    int outputFormat = getOutputFormat( data );
+    String hash = getHash( data ) + getExtension( getOutputFormat( data ) );
+    return "generated/" + hash;
+  }
+
+  private static String getExtension( int outputFormat ) {
     String extension;
     switch( outputFormat ) {
       case SWT.IMAGE_BMP:
@@ -179,8 +203,7 @@ public class InternalImageFactory {
         extension = ".png";
         break;
     }
-    String hash = getHash( data ) + extension;
-    return "generated/" + hash;
+    return extension;
   }
 
   /*
@@ -237,4 +260,40 @@ public class InternalImageFactory {
     crc32.update( imageData.disposalMethod );
     return Long.toHexString( crc32.getValue() );
   }
+
+  /*
+   * Images with a known format are not decoded, their size is read from the image header and
+   * the resource name is derived from the encoded bytes. Hence an image whose header is valid
+   * but whose pixel data is corrupt is accepted here. It fails with SWT.ERROR_INVALID_IMAGE
+   * when its image data is decoded for the first time (see ImageDataFactory). Images in other
+   * formats are decoded and validated right away.
+   */
+  private static final class EncodedImage {
+
+    private final byte[] bytes;
+    private final String path;
+    private final int width;
+    private final int height;
+
+    EncodedImage( byte[] bytes ) {
+      this.bytes = bytes;
+      ImageHeader header = ImageHeader.read( bytes );
+      if( header == null ) {
+        ImageData imageData = readImageData( new ByteArrayInputStream( bytes ) );
+        path = createGeneratedImagePath( imageData );
+        width = imageData.width;
+        height = imageData.height;
+      } else {
+        path = createGeneratedImagePath( bytes, header );
+        width = header.getWidth();
+        height = header.getHeight();
+      }
+    }
+
+    InternalImage createInternalImage() {
+      registerGeneratedImage( path, new ByteArrayInputStream( bytes ) );
+      return new InternalImage( path, width, height, false );
+    }
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 EclipseSource and others.
+ * Copyright (c) 2009, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -25,6 +25,7 @@ import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.internal.widgets.controldecoratorkit.ControlDecoratorLCA;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.TypedListener;
@@ -63,6 +64,7 @@ public class ControlDecorator extends Decorator {
 
   public void setImage( Image image ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     this.image = image;
   }
 
@@ -73,6 +75,7 @@ public class ControlDecorator extends Decorator {
 
   public void setText( String text ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     String newText = text == null ? "" : text;
     if( isMarkupEnabledFor( this ) && !isValidationDisabledFor( this ) ) {
       MarkupValidator.getInstance().validate( newText );
@@ -94,6 +97,7 @@ public class ControlDecorator extends Decorator {
 
   public void setShowOnlyOnFocus( boolean showOnlyOnFocus ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     if( this.showOnlyOnFocus != showOnlyOnFocus ) {
       this.showOnlyOnFocus = showOnlyOnFocus;
       if( showOnlyOnFocus ) {
@@ -111,6 +115,7 @@ public class ControlDecorator extends Decorator {
 
   public void setShowHover( boolean showHover ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     this.showHover = showHover;
   }
 
@@ -121,16 +126,19 @@ public class ControlDecorator extends Decorator {
 
   public void setMarginWidth( int marginWidth ) {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     this.marginWidth = marginWidth;
   }
 
   public void show() {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     visible = true;
   }
 
   public void hide() {
     checkWidget();
+    DirtyWidgets.markDirty( this );
     visible = false;
   }
 
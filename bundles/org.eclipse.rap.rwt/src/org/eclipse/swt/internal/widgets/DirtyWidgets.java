@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getAdapter;
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getLCA;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.swt.widgets.Item;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.ScrollBar;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Widget;
+
+
+/**
+ * Keeps track of the widgets whose rendered state is changed between the read data and the
+ * render phase.
+ * <p>
+ * Instead of preserving and rendering all widgets of all shells in every request, a widget is
+ * preserved lazily right before one of its rendered properties is changed for the first time
+ * (like listeners and data are preserved in <code>Widget</code>). Only these widgets and the
+ * widgets that are not yet initialized have to be rendered and cleared afterwards.
+ * </p>
+ * <p>
+ * Since the rendered state of a control may depend on its items (e.g. the item metrics of a
+ * table), items and scroll bars also mark their owning control.
+ * </p>
+ * <p>
+ * The shells in which the child list or the tab list of a composite has been changed are
+ * recorded separately, as only their tab indices have to be recomputed.
+ * </p>
+ */
+public final class DirtyWidgets {
+
+  private static final boolean ENABLED = RWTProperties.isDirtyRenderingEnabled();
+
+  private final boolean enabled;
+  private final List<Widget> widgets;
+  private final Set<Shell> tabOrderChangedShells;
+  private boolean tracking;
+  private boolean suspended;
+
+  public DirtyWidgets() {
+    this( ENABLED );
+  }
+
+  public DirtyWidgets( boolean enabled ) {
+    this.enabled = enabled;
+    widgets = new ArrayList<>();
+    tabOrderChangedShells = Collections.newSetFromMap( new IdentityHashMap<Shell, Boolean>() );
+  }
+
+  public static void markDirty( Widget widget ) {
+    getDirtyWidgets( widget ).add( widget );
+  }
+
+  public static void markTree( Widget root ) {
+    final DirtyWidgets dirtyWidgets = getDirtyWidgets( root );
+    if( dirtyWidgets.tracking ) {
+      WidgetTreeUtil.accept( root, new WidgetTreeVisitor() {
+        @Override
+        public boolean visit( Widget widget ) {
+          dirtyWidgets.add( widget );
+          return true;
+        }
+      } );
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void startTracking() {
+    tracking = true;
+  }
+
+  public void stopTracking() {
+    tracking = false;
+  }
+
+  public boolean isTracking() {
+    return tracking;
+  }
+
+  public void add( Widget widget ) {
+    if( tracking && !suspended ) {
+      Widget owner = widget;
+      while( owner instanceof Item || owner instanceof ScrollBar ) {
+        owner = getAdapter( owner ).getParent();
+        if( owner != null ) {
+          markWidget( owner );
+        }
+      }
+      markWidget( widget );
+    }
+  }
+
+  public List<Widget> getWidgets() {
+    return widgets;
+  }
+
+  public void markTabOrderChanged( Composite composite ) {
+    if( tracking && !composite.isDisposed() ) {
+      tabOrderChangedShells.add( composite.getShell() );
+    }
+  }
+
+  public Set<Shell> getTabOrderChangedShells() {
+    return tabOrderChangedShells;
+  }
+
+  public void clear() {
+    tracking = false;
+    for( Widget widget : widgets ) {
+      if( !widget.isDisposed() ) {
+        WidgetRemoteAdapter adapter = ( WidgetRemoteAdapter )getAdapter( widget );
+        adapter.setDirty( false );
+        adapter.clearPreserved();
+      }
+    }
+    widgets.clear();
+    tabOrderChangedShells.clear();
+  }
+
+  private void markWidget( Widget widget ) {
+    if( !widget.isDisposed() ) {
+      WidgetRemoteAdapter adapter = ( WidgetRemoteAdapter )getAdapter( widget );
+      // Widgets that are not yet initialized are rendered completely
+      if( adapter.isInitialized() && !adapter.isDirty() ) {
+        suspended = true;
+        try {
+          adapter.setDirty( true );
+          adapter.clearPreserved();
+          getLCA( widget ).preserveValues( widget );
+        } finally {
+          suspended = false;
+        }
+        widgets.add( widget );
+      }
+    }
+  }
+
+  private static DirtyWidgets getDirtyWidgets( Widget widget ) {
+    return widget.getDisplay().getAdapter( IDisplayAdapter.class ).getDirtyWidgets();
+  }
+
+}
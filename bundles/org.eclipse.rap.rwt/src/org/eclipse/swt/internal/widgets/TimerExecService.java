@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+
+
+/**
+ * Provides the executor that runs the <code>Display#timerExec()</code> tasks of all UI sessions
+ * of an application. The tasks only hand over their runnable to the display of the session,
+ * therefore a single thread is sufficient.
+ */
+public class TimerExecService {
+
+  private final Object lock;
+  private ScheduledThreadPoolExecutor executor;
+  private boolean shutdown;
+
+  public TimerExecService() {
+    lock = new Object();
+  }
+
+  /**
+   * Returns the shared executor, which is created on first access.
+   *
+   * @throws IllegalStateException if the service has already been shut down
+   */
+  public ScheduledExecutorService getExecutor() {
+    ScheduledExecutorService result = findExecutor();
+    if( result == null ) {
+      throw new IllegalStateException( "TimerExecService has been shut down" );
+    }
+    return result;
+  }
+
+  /**
+   * Returns the shared executor, which is created on first access, or <code>null</code> if the
+   * service has already been shut down.
+   */
+  public ScheduledExecutorService findExecutor() {
+    synchronized( lock ) {
+      if( shutdown ) {
+        return null;
+      }
+      if( executor == null ) {
+        executor = createExecutor();
+      }
+      return executor;
+    }
+  }
+
+  /**
+   * Accepts new work again after the service has been shut down, e.g. when the application
+   * context is activated again.
+   */
+  public void activate() {
+    synchronized( lock ) {
+      shutdown = false;
+    }
+  }
+
+  public void shutdown() {
+    synchronized( lock ) {
+      shutdown = true;
+      if( executor != null ) {
+        executor.shutdownNow();
+        executor = null;
+      }
+    }
+  }
+
+  private static ScheduledThreadPoolExecutor createExecutor() {
+    ScheduledThreadPoolExecutor result = new ScheduledThreadPoolExecutor( 1, new ThreadFactory() {
+      @Override
+      public Thread newThread( Runnable runnable ) {
+        Thread thread = new Thread( runnable, "RWT timerExec scheduler" );
+        thread.setDaemon( true );
+        return thread;
+      }
+    } );
+    // Canceled tasks would otherwise stay in the queue until their delay has elapsed
+    result.setRemoveOnCancelPolicy( true );
+    return result;
+  }
+
+}
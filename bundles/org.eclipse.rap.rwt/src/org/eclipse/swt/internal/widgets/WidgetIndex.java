@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.swt.widgets.Widget;
+
+
+/**
+ * Maps the ids of the widgets of a display to the widgets. A widget is added when its id is
+ * created and removed when it is disposed. Widgets are only weakly referenced.
+ * <p>
+ * The index is not serialized with the display. After a session has been deserialized, widgets
+ * have to be found by other means and can be added again.
+ * </p>
+ */
+public final class WidgetIndex {
+
+  private final Map<String, WidgetReference> widgets;
+  private final ReferenceQueue<Widget> queue;
+
+  public WidgetIndex() {
+    widgets = new HashMap<>();
+    queue = new ReferenceQueue<>();
+  }
+
+  public void add( String id, Widget widget ) {
+    purge();
+    widgets.put( id, new WidgetReference( id, widget, queue ) );
+  }
+
+  public void remove( String id ) {
+    widgets.remove( id );
+  }
+
+  public Widget get( String id ) {
+    Widget result = null;
+    WidgetReference reference = widgets.get( id );
+    if( reference != null ) {
+      result = reference.get();
+      if( result == null ) {
+        widgets.remove( id );
+      }
+    }
+    return result;
+  }
+
+  private void purge() {
+    Reference<? extends Widget> reference = queue.poll();
+    while( reference != null ) {
+      String id = ( ( WidgetReference )reference ).id;
+      if( widgets.get( id ) == reference ) {
+        widgets.remove( id );
+      }
+      reference = queue.poll();
+    }
+  }
+
+  private static final class WidgetReference extends WeakReference<Widget> {
+
+    final String id;
+
+    WidgetReference( String id, Widget widget, ReferenceQueue<Widget> queue ) {
+      super( widget, queue );
+      this.id = id;
+    }
+
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -38,6 +38,7 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
   private transient Runnable[] renderRunnables;
   private transient Object[] data;
   private transient String variant;
+  private transient boolean dirty;
 
   public WidgetRemoteAdapter( String id ) {
     this.id = id;
@@ -128,6 +129,14 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
     variant = null;
   }
 
+  public void setDirty( boolean dirty ) {
+    this.dirty = dirty;
+  }
+
+  public boolean isDirty() {
+    return dirty;
+  }
+
   protected void markPreserved( int index ) {
     preserved |= ( 1 << index );
   }
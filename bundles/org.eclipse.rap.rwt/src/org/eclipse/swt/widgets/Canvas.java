@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,7 @@ import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.graphics.GCAdapter;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.internal.widgets.canvaskit.CanvasLCA;
 
 
@@ -182,6 +183,7 @@ public class Canvas extends Composite {
   }
 
   private void repaint( Rectangle paintRect ) {
+    DirtyWidgets.markDirty( this );
     if( gcAdapter != null ) {
       gcAdapter.clearGCOperations();
       gcAdapter.setForceRedraw( true );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -783,6 +783,7 @@ public class Composite extends Scrollable {
       newList = new Control[ tabList.length ];
       System.arraycopy( tabList, 0, newList, 0, tabList.length );
     }
+    display.markTabOrderChanged( this );
     this.tabList = newList;
   }
 
@@ -875,16 +876,22 @@ public class Composite extends Scrollable {
   }
 
   void addChild( Control control ) {
+    display.markDirty( this );
+    display.markTabOrderChanged( this );
     getRemoteAdapter().preserveChildren( children.toArray( new Control[ 0 ] ) );
     children.add( control );
   }
 
   void removeChild( Control control ) {
+    display.markDirty( this );
+    display.markTabOrderChanged( this );
     getRemoteAdapter().preserveChildren( children.toArray( new Control[ 0 ] ) );
     children.remove( control );
   }
 
   void moveAbove( Control control1, Control control2 ) {
+    display.markDirty( this );
+    display.markTabOrderChanged( this );
     getRemoteAdapter().preserveChildren( children.toArray( new Control[ 0 ] ) );
     children.remove( control1 );
     int index = control2 != null ? children.indexOf( control2 ) : 0;
@@ -892,6 +899,8 @@ public class Composite extends Scrollable {
   }
 
   void moveBelow( Control control1, Control control2 ) {
+    display.markDirty( this );
+    display.markTabOrderChanged( this );
     getRemoteAdapter().preserveChildren( children.toArray( new Control[ 0 ] ) );
     children.remove( control1 );
     int index = control2 != null ? children.indexOf( control2 ) + 1 : children.size();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -88,6 +88,7 @@ public abstract class Control extends Widget implements Drawable {
     @Override
     public void setTabIndex( int index ) {
       if( takesFocus() ) {
+        display.markDirty( Control.this );
         getRemoteAdapter().preserveTabIndex( tabIndex );
         tabIndex = index;
       }
@@ -515,6 +516,7 @@ public abstract class Control extends Widget implements Drawable {
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
+    display.markDirty( this );
     getRemoteAdapter().preserveBackground( background, backgroundTransparency );
     background = color;
     updateBackground();
@@ -582,6 +584,7 @@ public abstract class Control extends Widget implements Drawable {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
     if( backgroundImage != image ) {
+      display.markDirty( this );
       getRemoteAdapter().preserveBackgroundImage( backgroundImage );
       backgroundImage = image;
     }
@@ -628,6 +631,7 @@ public abstract class Control extends Widget implements Drawable {
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
+    display.markDirty( this );
     getRemoteAdapter().preserveForeground( foreground );
     foreground = color;
   }
@@ -702,6 +706,7 @@ public abstract class Control extends Widget implements Drawable {
    * Applies the background according to PARENT_BACKGROUND state.
    */
   private void updateBackground() {
+    display.markDirty( this );
     getRemoteAdapter().preserveBackground( background, backgroundTransparency );
     backgroundTransparency =    background == null
                              && backgroundImage == null
@@ -747,6 +752,7 @@ public abstract class Control extends Widget implements Drawable {
     if( font != null && font.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
+    display.markDirty( this );
     getRemoteAdapter().preserveFont( this.font );
     this.font = font;
   }
@@ -799,6 +805,7 @@ public abstract class Control extends Widget implements Drawable {
     if( cursor != null && cursor.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
+    display.markDirty( this );
     getRemoteAdapter().preserveCursor( this.cursor );
     this.cursor = cursor;
   }
@@ -1413,6 +1420,7 @@ public abstract class Control extends Widget implements Drawable {
     {
       MarkupValidator.getInstance().validate( toolTipText );
     }
+    display.markDirty( this );
     getRemoteAdapter().preserveToolTipText( this.toolTipText );
     this.toolTipText = toolTipText;
   }
@@ -2252,6 +2260,7 @@ public abstract class Control extends Widget implements Drawable {
       if( oldShell != newShell || oldDecorations != newDecorations ) {
         fixChildren( newShell, oldShell, newDecorations, oldDecorations );
       }
+      display.markDirty( this );
       getRemoteAdapter().preserveParent( this.parent );
       ReparentedControls.add( this );
       this.parent = parent;
@@ -2298,6 +2307,7 @@ public abstract class Control extends Widget implements Drawable {
     if( ( orientation & flags ) == 0 || ( orientation & flags ) == flags ) {
       return;
     }
+    display.markDirty( this );
     getRemoteAdapter().preserveOrientation( style & flags );
     style &= ~SWT.MIRRORED;
     style &= ~flags;
@@ -2512,6 +2522,7 @@ public abstract class Control extends Widget implements Drawable {
         String mesg = "Illegal value for RWT.ACTIVE_KEYS in data, must be a string array";
         throw new IllegalArgumentException( mesg );
       }
+      display.markDirty( this );
       ActiveKeysUtil.preserveActiveKeys( this );
     }
     if( RWT.CANCEL_KEYS.equals( key ) ) {
@@ -2519,6 +2530,7 @@ public abstract class Control extends Widget implements Drawable {
         String mesg = "Illegal value for RWT.CANCEL_KEYS in data, must be a string array";
         throw new IllegalArgumentException( mesg );
       }
+      display.markDirty( this );
       ActiveKeysUtil.preserveCancelKeys( this );
     }
     if( RWT.CUSTOM_VARIANT.equals( key ) ) {
@@ -2598,13 +2610,17 @@ public abstract class Control extends Widget implements Drawable {
   }
 
   void _setBounds( Rectangle rectangle ) {
-    getRemoteAdapter().preserveBounds( bounds );
+    rectangle.width = Math.max( 0, rectangle.width );
+    rectangle.height = Math.max( 0, rectangle.height );
+    if( !rectangle.equals( bounds ) ) {
+      display.markDirty( this );
+      getRemoteAdapter().preserveBounds( bounds );
+    }
     bounds = rectangle;
-    bounds.width = Math.max( 0, bounds.width );
-    bounds.height = Math.max( 0, bounds.height );
   }
 
   private void _setMenu( Menu menu ) {
+    display.markDirty( this );
     getRemoteAdapter().preserveMenu( this.menu );
     this.menu = menu;
   }
@@ -2730,9 +2746,11 @@ public abstract class Control extends Widget implements Drawable {
 
   private void preserveState( int flag ) {
     if( ( flag & DISABLED ) != 0 ) {
+      display.markDirty( this );
       getRemoteAdapter().preserveEnabled( !hasState( DISABLED ) );
     }
     if( ( flag & HIDDEN ) != 0 ) {
+      display.markDirty( this );
       getRemoteAdapter().preserveVisible( !hasState( HIDDEN ) );
     }
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -578,6 +578,7 @@ public class CoolItem extends Item {
    */
   public void setControl( Control control ) {
     checkWidget();
+    display.markDirty( this );
     if ( control != null ) {
       if ( control.isDisposed() ) {
         error( SWT.ERROR_INVALID_ARGUMENT );
@@ -616,6 +617,7 @@ public class CoolItem extends Item {
    */
   public void setMinimumSize( int width, int height ) {
     checkWidget();
+    display.markDirty( this );
     Point point = parent.fixPoint( width, height );
     minimumWidth = point.x;
     minimumHeight = point.y;
@@ -642,6 +644,7 @@ public class CoolItem extends Item {
    */
   public void setMinimumSize( Point size ) {
     checkWidget();
+    display.markDirty( this );
     if ( size == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -665,6 +668,7 @@ public class CoolItem extends Item {
    */
   public void setPreferredSize( int width, int height ) {
     checkWidget();
+    display.markDirty( this );
     ideal = true;
     Point point = parent.fixPoint( width, height );
     preferredWidth = Math.max( point.x, MINIMUM_WIDTH );
@@ -690,6 +694,7 @@ public class CoolItem extends Item {
    */
   public void setPreferredSize( Point size ) {
     checkWidget();
+    display.markDirty( this );
     if ( size == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -717,6 +722,7 @@ public class CoolItem extends Item {
    */
   public void setSize( int width, int height ) {
     checkWidget();
+    display.markDirty( this );
     int newHeight = height;
     int newWidth = width;
     Point point = parent.fixPoint( newWidth, newHeight );
@@ -763,6 +769,7 @@ public class CoolItem extends Item {
    */
   public void setSize( Point size ) {
     checkWidget();
+    display.markDirty( this );
     if ( size == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -85,6 +85,7 @@ public class Decorations extends Canvas {
    */
   public void setImages( Image[] images ) {
     checkWidget();
+    display.markDirty( this );
     if( images == null ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -148,6 +149,7 @@ public class Decorations extends Canvas {
    */
   public void setImage( Image image ) {
     checkWidget();
+    display.markDirty( this );
     this.image = image;
   }
 
@@ -195,6 +197,7 @@ public class Decorations extends Canvas {
    */
   public void setText( String text ) {
     checkWidget();
+    display.markDirty( this );
     if( text == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -237,6 +240,7 @@ public class Decorations extends Canvas {
    */
   public void setMenuBar( Menu menuBar ) {
     checkWidget();
+    display.markDirty( this );
     if( this.menuBar != menuBar ) {
       if( menuBar != null ) {
         if( menuBar.isDisposed() ) {
@@ -305,6 +309,7 @@ public class Decorations extends Canvas {
    */
   public void setDefaultButton( Button button ) {
     checkWidget();
+    display.markDirty( this );
     if( button != null ) {
       if( button.isDisposed() ) {
         error( SWT.ERROR_INVALID_ARGUMENT );
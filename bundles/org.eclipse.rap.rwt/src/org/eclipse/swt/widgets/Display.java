@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2021 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -62,8 +62,10 @@ import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.events.EventList;
 import org.eclipse.swt.internal.events.EventUtil;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.internal.widgets.IdGenerator;
+import org.eclipse.swt.internal.widgets.WidgetIndex;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
 import org.eclipse.swt.internal.widgets.WidgetTreeUtil;
 import org.eclipse.swt.internal.widgets.WidgetTreeVisitor;
@@ -249,6 +251,8 @@ public class Display extends Device implements Adaptable {
 
   private Synchronizer synchronizer;
   private TimerExecScheduler scheduler;
+  private transient DirtyWidgets dirtyWidgets;
+  private transient WidgetIndex widgetIndex;
 
   /**
    * Constructs a new instance of this class.
@@ -894,6 +898,25 @@ public class Display extends Device implements Adaptable {
     }
   }
 
+  final void markDirty( Widget widget ) {
+    if( dirtyWidgets != null ) {
+      dirtyWidgets.add( widget );
+    }
+  }
+
+  final void markTabOrderChanged( Composite composite ) {
+    if( dirtyWidgets != null ) {
+      dirtyWidgets.markTabOrderChanged( composite );
+    }
+  }
+
+  final WidgetIndex getWidgetIndex() {
+    if( widgetIndex == null ) {
+      widgetIndex = new WidgetIndex();
+    }
+    return widgetIndex;
+  }
+
   ////////////////////
   // Thread management
 
@@ -1305,6 +1328,7 @@ public class Display extends Device implements Adaptable {
 
   void redrawControl( Control control, boolean redraw ) {
     if( redraw ) {
+      markDirty( control );
       if( redrawControls == null ) {
         redrawControls = new LinkedList<>();
       }
@@ -2476,6 +2500,19 @@ public class Display extends Device implements Adaptable {
       return Display.this.isListening( eventType );
     }
 
+    @Override
+    public DirtyWidgets getDirtyWidgets() {
+      if( dirtyWidgets == null ) {
+        dirtyWidgets = new DirtyWidgets();
+      }
+      return dirtyWidgets;
+    }
+
+    @Override
+    public WidgetIndex getWidgetIndex() {
+      return Display.this.getWidgetIndex();
+    }
+
   }
 
 }
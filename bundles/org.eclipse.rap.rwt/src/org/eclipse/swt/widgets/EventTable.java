@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,9 @@
  *******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.EventListener;
 
 import org.eclipse.rap.rwt.scripting.ClientListener;
@@ -22,16 +25,23 @@ import org.eclipse.swt.internal.events.EventLCAUtil;
 /**
  * Instances of this class implement a simple look up mechanism that maps an event type to a
  * listener. Multiple listeners for the same event type are supported.
+ * <p>
+ * The serialized form consists of the number of hooked listeners followed by the type and the
+ * listener of each of them. It differs from the form of RAP 4.4 and earlier, which wrote the
+ * listener arrays by default serialization. UI sessions cannot be replicated between nodes that
+ * run RAP versions with different forms.
+ * </p>
  */
 // copied from SWT
 @SuppressWarnings( "all" )
 class EventTable implements SerializableCompatibility {
 
+  private static final long serialVersionUID = 1L;
   private static final Listener[] EMPTY_LISTENERS = new Listener[ 0 ];
   private static final int GROW_SIZE = 4;
-  private int[] types;
-  private Listener[] listeners;
-  private int level;
+  private transient int[] types;
+  private transient Listener[] listeners;
+  private transient int level;
 
   public Listener[] getListeners( int eventType ) {
     if( types == null ) {
@@ -203,4 +213,32 @@ class EventTable implements SerializableCompatibility {
     return result;
   }
 
+  // The arrays are over-allocated and may contain removed slots, only hooked listeners are
+  // written. Tables are not serialized while sending events, hence the level is not written.
+  private void writeObject( ObjectOutputStream stream ) throws IOException {
+    stream.defaultWriteObject();
+    stream.writeInt( size() );
+    if( types != null ) {
+      for( int i = 0; i < types.length; i++ ) {
+        if( types[ i ] != 0 ) {
+          stream.writeInt( types[ i ] );
+          stream.writeObject( listeners[ i ] );
+        }
+      }
+    }
+  }
+
+  private void readObject( ObjectInputStream stream ) throws IOException, ClassNotFoundException {
+    stream.defaultReadObject();
+    int size = stream.readInt();
+    if( size > 0 ) {
+      types = new int[ size ];
+      listeners = new Listener[ size ];
+      for( int i = 0; i < size; i++ ) {
+        types[ i ] = stream.readInt();
+        listeners[ i ] = ( Listener )stream.readObject();
+      }
+    }
+  }
+
 }
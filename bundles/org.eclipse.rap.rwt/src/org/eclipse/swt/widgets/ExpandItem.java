@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -319,6 +319,7 @@ public class ExpandItem extends Item {
    */
   public void setControl( Control control ) {
     checkWidget();
+    display.markDirty( this );
     if( control != null ) {
       if( control.isDisposed() ) {
         error( SWT.ERROR_INVALID_ARGUMENT );
@@ -355,6 +356,7 @@ public class ExpandItem extends Item {
    */
   public void setExpanded( boolean expanded ) {
     checkWidget();
+    display.markDirty( this );
     this.expanded = expanded;
     parent.showItem( this );
   }
@@ -373,6 +375,7 @@ public class ExpandItem extends Item {
    */
   public void setHeight( int height ) {
     checkWidget();
+    display.markDirty( this );
     if( height >= 0 ) {
       setBounds( 0, 0, width, height, false, true );
       if( expanded ) {
@@ -384,6 +387,7 @@ public class ExpandItem extends Item {
   @Override
   public void setImage( Image image ) {
     checkWidget();
+    display.markDirty( this );
     if( image != getImage() ) {
       super.setImage( image );
       updateBounds();
@@ -404,6 +408,7 @@ public class ExpandItem extends Item {
   @Override
   public void setText( String string ) {
     checkWidget();
+    display.markDirty( this );
     if( string == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -239,6 +239,7 @@ public class List extends Scrollable {
   // TODO [rh] selection is not scrolled into view (see List.js)
   public void setSelection( int selection ) {
     checkWidget();
+    display.markDirty( this );
     model.setSelection( selection );
     updateFocusIndexAfterSelectionChange();
   }
@@ -266,6 +267,7 @@ public class List extends Scrollable {
    */
   public void setSelection( int[] selection ) {
     checkWidget();
+    display.markDirty( this );
     model.setSelection( selection );
     updateFocusIndexAfterSelectionChange();
   }
@@ -293,6 +295,7 @@ public class List extends Scrollable {
    */
   public void setSelection( int start, int end ) {
     checkWidget();
+    display.markDirty( this );
     model.setSelection( start, end );
     updateFocusIndexAfterSelectionChange();
   }
@@ -321,6 +324,7 @@ public class List extends Scrollable {
    */
   public void setSelection( String[] selection ) {
     checkWidget();
+    display.markDirty( this );
     model.setSelection( selection );
     updateFocusIndexAfterSelectionChange();
   }
@@ -339,6 +343,7 @@ public class List extends Scrollable {
    */
   public void select( int index ) {
     checkWidget();
+    display.markDirty( this );
     if( ( style & SWT.SINGLE ) != 0 ) {
       if( index >= 0 && index < model.getItemCount() ) {
         model.setSelection( index );
@@ -372,6 +377,7 @@ public class List extends Scrollable {
    */
   public void select( int[] indices ) {
     checkWidget();
+    display.markDirty( this );
     if( indices == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -410,6 +416,7 @@ public class List extends Scrollable {
    */
   public void select( int start, int end ) {
     checkWidget();
+    display.markDirty( this );
     if( end >= 0 && start <= end && ( ( style & SWT.SINGLE ) == 0 || start == end ) ) {
       int count = model.getItemCount();
       if( count != 0 && start < count ) {
@@ -438,6 +445,7 @@ public class List extends Scrollable {
    */
   public void selectAll() {
     checkWidget();
+    display.markDirty( this );
     model.selectAll();
     updateFocusIndexAfterSelectionChange();
   }
@@ -452,6 +460,7 @@ public class List extends Scrollable {
    */
   public void deselectAll() {
     checkWidget();
+    display.markDirty( this );
     model.deselectAll();
     updateFocusIndexAfterSelectionChange();
   }
@@ -472,6 +481,7 @@ public class List extends Scrollable {
    */
   public void deselect( int index ) {
     checkWidget();
+    display.markDirty( this );
     removeFromSelection( index );
   }
 
@@ -494,6 +504,7 @@ public class List extends Scrollable {
    */
   public void deselect( int start, int end ) {
     checkWidget();
+    display.markDirty( this );
     if( start == 0 && end == model.getItemCount() - 1 ) {
       deselectAll();
     } else {
@@ -525,6 +536,7 @@ public class List extends Scrollable {
    */
   public void deselect( int [] indices ) {
     checkWidget();
+    display.markDirty( this );
     if( indices == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -599,6 +611,7 @@ public class List extends Scrollable {
    */
   public void setTopIndex( int topIndex ) {
     checkWidget();
+    display.markDirty( this );
     int count = model.getItemCount();
     if( this.topIndex != topIndex && topIndex >= 0 && topIndex < count ) {
       this.topIndex = topIndex;
@@ -638,6 +651,7 @@ public class List extends Scrollable {
    */
   public void showSelection() {
     checkWidget();
+    display.markDirty( this );
     int index = getSelectionIndex();
     if( index != -1 ) {
       int itemCount = getVisibleItemCount();
@@ -687,6 +701,7 @@ public class List extends Scrollable {
    */
   public void add( String string ) {
     checkWidget();
+    display.markDirty( this );
     model.add( string );
     updateFocusIndexAfterItemChange();
     updateScrollBars();
@@ -717,6 +732,7 @@ public class List extends Scrollable {
    */
   public void add( String string, int index ) {
     checkWidget();
+    display.markDirty( this );
     model.add( string, index );
     updateFocusIndexAfterItemChange();
     updateScrollBars();
@@ -738,6 +754,7 @@ public class List extends Scrollable {
    */
   public void remove( int index ) {
     checkWidget();
+    display.markDirty( this );
     model.remove( index );
     updateFocusIndexAfterItemChange();
     adjustTopIndex();
@@ -762,6 +779,7 @@ public class List extends Scrollable {
    */
   public void remove( int start, int end ) {
     checkWidget();
+    display.markDirty( this );
     model.remove( start, end );
     updateFocusIndexAfterItemChange();
     adjustTopIndex();
@@ -785,6 +803,7 @@ public class List extends Scrollable {
    */
   public void remove( int[] indices ) {
     checkWidget();
+    display.markDirty( this );
     model.remove( indices );
     updateFocusIndexAfterItemChange();
     adjustTopIndex();
@@ -809,6 +828,7 @@ public class List extends Scrollable {
    */
   public void remove( String string ) {
     checkWidget();
+    display.markDirty( this );
     model.remove( string );
     updateFocusIndexAfterItemChange();
     adjustTopIndex();
@@ -825,6 +845,7 @@ public class List extends Scrollable {
    */
   public void removeAll() {
     checkWidget();
+    display.markDirty( this );
     model.removeAll();
     updateFocusIndexAfterItemChange();
     adjustTopIndex();
@@ -851,6 +872,7 @@ public class List extends Scrollable {
    */
   public void setItem( int index, String string ) {
     checkWidget();
+    display.markDirty( this );
     validateMarkup( new String[] { string } );
     model.setItem( index, string );
     updateScrollBars();
@@ -872,6 +894,7 @@ public class List extends Scrollable {
    */
   public void setItems( String[] items ) {
     checkWidget();
+    display.markDirty( this );
     validateMarkup( items );
     model.setItems( items );
     updateScrollBars();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -474,6 +474,7 @@ public class Shell extends Decorations {
    */
   public void setActive() {
     checkWidget();
+    display.markDirty( this );
     if( isVisible() ) {
       display.setActiveShell( this );
     }
@@ -501,6 +502,7 @@ public class Shell extends Decorations {
    */
   public void forceActive() {
     checkWidget();
+    display.markDirty( this );
     setActive();
   }
 
@@ -653,6 +655,7 @@ public class Shell extends Decorations {
   @Override
   public void setEnabled( boolean enabled ) {
     checkWidget();
+    display.markDirty( this );
     if( getEnabled() != enabled ) {
       super.setEnabled( enabled );
       if( enabled ) {
@@ -681,6 +684,7 @@ public class Shell extends Decorations {
   @Override
   public void setVisible( boolean visible ) {
     checkWidget();
+    display.markDirty( this );
     boolean wasVisible = getVisible();
     super.setVisible( visible );
     // Emulate OS behavior: in SWT, a layout is triggered during
@@ -714,6 +718,7 @@ public class Shell extends Decorations {
    */
   public void open() {
     checkWidget();
+    display.markDirty( this );
     // Order of setActiveShell/bringToTop/setVisible is crucial
     display.setActiveShell( this );
     bringToTop();
@@ -740,6 +745,7 @@ public class Shell extends Decorations {
    */
   public void close() {
     checkWidget();
+    display.markDirty( this );
     ProcessActionRunner.add( new Runnable() {
       @Override
       public void run() {
@@ -772,6 +778,7 @@ public class Shell extends Decorations {
    */
   public void setAlpha( int alpha ) {
     checkWidget();
+    display.markDirty( this );
     this.alpha = alpha & 0xFF;
   }
 
@@ -807,6 +814,7 @@ public class Shell extends Decorations {
    */
   public void setModified ( boolean modified ) {
     checkWidget();
+    display.markDirty( this );
     this.modified = modified;
   }
 
@@ -843,6 +851,7 @@ public class Shell extends Decorations {
    */
   public void setMinimumSize( int width, int height ) {
     checkWidget();
+    display.markDirty( this );
     minWidth = Math.max( MIN_WIDTH_LIMIT, width );
     minHeight = Math.max( getMinHeightLimit(), height );
     Point size = getSize();
@@ -872,6 +881,7 @@ public class Shell extends Decorations {
    */
   public void setMinimumSize( Point size ) {
     checkWidget();
+    display.markDirty( this );
     if( size == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1112,6 +1122,7 @@ public class Shell extends Decorations {
    */
   public void setMinimized( boolean minimized ) {
     checkWidget();
+    display.markDirty( this );
     if( minimized ) {
       mode |= MODE_MINIMIZED;
     } else {
@@ -1147,6 +1158,7 @@ public class Shell extends Decorations {
    */
   public void setMaximized( boolean maximized ) {
     checkWidget();
+    display.markDirty( this );
     if( ( mode & MODE_FULLSCREEN ) == 0 ) {
       if( maximized ) {
         if( ( mode & MODE_MAXIMIZED ) == 0 ) {
@@ -1230,6 +1242,7 @@ public class Shell extends Decorations {
    */
   public void setFullScreen( boolean fullScreen ) {
     checkWidget();
+    display.markDirty( this );
     if( ( ( mode & MODE_FULLSCREEN ) != 0 ) != fullScreen ) {
       if( fullScreen ) {
         setActive();
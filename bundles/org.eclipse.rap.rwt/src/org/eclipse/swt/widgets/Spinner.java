@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -149,6 +149,7 @@ public class Spinner extends Composite {
    */
   public void setDigits( int value ) {
     checkWidget();
+    display.markDirty( this );
     if( value < 0 ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -188,6 +189,7 @@ public class Spinner extends Composite {
    */
   public void setIncrement( int value ) {
     checkWidget();
+    display.markDirty( this );
     if( value >= 1 ) {
       increment = value;
     }
@@ -223,6 +225,7 @@ public class Spinner extends Composite {
    */
   public void setMinimum( int value ) {
     checkWidget();
+    display.markDirty( this );
     if( value <= maximum ) {
       minimum = value;
       if( selection < minimum ) {
@@ -261,6 +264,7 @@ public class Spinner extends Composite {
    */
   public void setMaximum( int value ) {
     checkWidget();
+    display.markDirty( this );
     if( value >= minimum ) {
       maximum = value;
       if( selection > maximum ) {
@@ -299,6 +303,7 @@ public class Spinner extends Composite {
    */
   public void setPageIncrement( int value ) {
     checkWidget();
+    display.markDirty( this );
     if( value >= 1 ) {
       pageIncrement = value;
     }
@@ -334,6 +339,7 @@ public class Spinner extends Composite {
    */
   public void setSelection( int value ) {
     checkWidget();
+    display.markDirty( this );
     selection = Math.min( Math.max( minimum, value ), maximum );
     notifyListeners( SWT.Modify, new Event() );
   }
@@ -367,6 +373,7 @@ public class Spinner extends Composite {
                          int pageIncrement )
   {
     checkWidget();
+    display.markDirty( this );
     if( maximum >= minimum && digits >= 0 && increment >= 1 && pageIncrement >= 1 ) {
       this.minimum = minimum;
       this.maximum = maximum;
@@ -430,6 +437,7 @@ public class Spinner extends Composite {
    */
   public void setTextLimit( int textLimit ) {
     checkWidget();
+    display.markDirty( this );
     if( textLimit == 0 ) {
       error( SWT.ERROR_CANNOT_BE_ZERO );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -281,6 +281,7 @@ public class TabFolder extends Composite {
    */
   public void setSelection( TabItem item ) {
     checkWidget();
+    display.markDirty( this );
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -304,6 +305,7 @@ public class TabFolder extends Composite {
    */
   public void setSelection( TabItem[] items ) {
     checkWidget();
+    display.markDirty( this );
     if( items == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
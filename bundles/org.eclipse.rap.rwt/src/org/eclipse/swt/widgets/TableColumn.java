@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -185,6 +185,7 @@ public class TableColumn extends Item {
    */
   public void setToolTipText( String toolTipText ) {
     checkWidget();
+    display.markDirty( this );
     if(    toolTipText != null
         && isToolTipMarkupEnabledFor( this )
         && !isValidationDisabledFor( this ) )
@@ -224,6 +225,7 @@ public class TableColumn extends Item {
    */
   public void setAlignment( int alignment ) {
     checkWidget();
+    display.markDirty( this );
     if( ( alignment & ( SWT.LEFT | SWT.RIGHT | SWT.CENTER ) ) != 0 ) {
       style &= ~( SWT.LEFT | SWT.RIGHT | SWT.CENTER );
       style |= alignment & ( SWT.LEFT | SWT.RIGHT | SWT.CENTER );
@@ -266,6 +268,7 @@ public class TableColumn extends Item {
    */
   public void setWidth( int width ) {
     checkWidget();
+    display.markDirty( this );
     if( width >= 0 ) {
       this.width = width;
       parent.updateScrollBars();
@@ -287,6 +290,7 @@ public class TableColumn extends Item {
    */
   public void pack() {
     checkWidget();
+    display.markDirty( this );
     int width = getPreferredWidth();
     if( width != getWidth() ) {
       setWidth( width );
@@ -315,6 +319,7 @@ public class TableColumn extends Item {
    */
   public void setMoveable( boolean moveable ) {
     checkWidget();
+    display.markDirty( this );
     this.moveable = moveable;
   }
 
@@ -357,6 +362,7 @@ public class TableColumn extends Item {
    */
   public void setResizable( boolean resizable ) {
     checkWidget();
+    display.markDirty( this );
     this.resizable = resizable;
   }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -178,6 +178,7 @@ public class TableItem extends Item {
   @Override
   public void setText( String text ) {
     checkWidget();
+    display.markDirty( this );
     setText( 0, text );
   }
 
@@ -197,6 +198,7 @@ public class TableItem extends Item {
    */
   public void setText( int index, String text ) {
     checkWidget();
+    display.markDirty( this );
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -235,6 +237,7 @@ public class TableItem extends Item {
    */
   public void setText( String[] strings ) {
     checkWidget();
+    display.markDirty( this );
     if( strings == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -282,6 +285,7 @@ public class TableItem extends Item {
   @Override
   public void setImage( Image image ) {
     checkWidget();
+    display.markDirty( this );
     setImage( 0, image );
   }
 
@@ -301,6 +305,7 @@ public class TableItem extends Item {
    */
   public void setImage( int index, Image image ) {
     checkWidget();
+    display.markDirty( this );
     if( image != null && image.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -336,6 +341,7 @@ public class TableItem extends Item {
    */
   public void setImage( Image[] images ) {
     checkWidget();
+    display.markDirty( this );
     if( images == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -403,6 +409,7 @@ public class TableItem extends Item {
    */
   public void setBackground( Color color ) {
     checkWidget();
+    display.markDirty( this );
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -456,6 +463,7 @@ public class TableItem extends Item {
    */
   public void setBackground( int index, Color color ) {
     checkWidget();
+    display.markDirty( this );
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -513,6 +521,7 @@ public class TableItem extends Item {
    */
   public void setForeground( Color color ) {
     checkWidget();
+    display.markDirty( this );
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -565,6 +574,7 @@ public class TableItem extends Item {
    */
   public void setForeground( int index, Color color ) {
     checkWidget();
+    display.markDirty( this );
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -620,6 +630,7 @@ public class TableItem extends Item {
    */
   public void setFont( Font font ) {
     checkWidget();
+    display.markDirty( this );
     if( font != null && font.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -677,6 +688,7 @@ public class TableItem extends Item {
    */
   public void setFont( int index, Font font ) {
     checkWidget();
+    display.markDirty( this );
     if( font != null && font.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -734,6 +746,7 @@ public class TableItem extends Item {
    */
   public void setChecked( boolean checked ) {
     checkWidget();
+    display.markDirty( this );
     if( ( parent.style & SWT.CHECK ) != 0 ) {
       if( this.checked != checked ) {
         this.checked = checked;
@@ -779,6 +792,7 @@ public class TableItem extends Item {
    */
   public void setGrayed( boolean grayed ) {
     checkWidget();
+    display.markDirty( this );
     if( ( parent.style & SWT.CHECK ) != 0 ) {
       if( this.grayed != grayed ) {
         this.grayed = grayed;
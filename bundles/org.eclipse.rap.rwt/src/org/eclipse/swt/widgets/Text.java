@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2021 Innoopract Informationssysteme GmbH.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -178,6 +178,7 @@ public class Text extends Scrollable {
    */
   public void setText( String text ) {
     checkWidget();
+    display.markDirty( this );
     if( text == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -225,6 +226,7 @@ public class Text extends Scrollable {
    */
   public void setTextChars( char[] text ) {
     checkWidget();
+    display.markDirty( this );
     if( text == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -316,6 +318,7 @@ public class Text extends Scrollable {
   // TODO [rh] fire VerifyEvent missing
   public void append( String string ) {
     checkWidget();
+    display.markDirty( this );
     if( string == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -376,6 +379,7 @@ public class Text extends Scrollable {
    */
   public void setMessage( String message ) {
     checkWidget();
+    display.markDirty( this );
     if( message == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -427,6 +431,7 @@ public class Text extends Scrollable {
    */
   public void setEchoChar( char echo ) {
     checkWidget();
+    display.markDirty( this );
     if( ( style & SWT.MULTI ) == 0 ) {
       echoChar = echo;
     }
@@ -481,6 +486,7 @@ public class Text extends Scrollable {
    */
   public void setTextLimit( int textLimit ) {
     checkWidget();
+    display.markDirty( this );
     if( textLimit == 0 ) {
       error( SWT.ERROR_CANNOT_BE_ZERO );
     }
@@ -553,6 +559,7 @@ public class Text extends Scrollable {
    */
   public void setSelection( int start ) {
     checkWidget();
+    display.markDirty( this );
     setSelection( start, start );
  }
 
@@ -583,6 +590,7 @@ public class Text extends Scrollable {
    */
   public void setSelection( int start, int end ) {
     checkWidget();
+    display.markDirty( this );
     int validatedStart = selection.x;
     int validatedEnd = selection.y;
     if( start >= 0 && end >= start ) {
@@ -627,6 +635,7 @@ public class Text extends Scrollable {
    */
   public void setSelection( Point selection ) {
     checkWidget();
+    display.markDirty( this );
     if( selection == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -696,6 +705,7 @@ public class Text extends Scrollable {
    */
   public void clearSelection() {
     checkWidget();
+    display.markDirty( this );
     selection.x = selection.y;
   }
 
@@ -709,6 +719,7 @@ public class Text extends Scrollable {
    */
   public void selectAll() {
     checkWidget();
+    display.markDirty( this );
     selection.x = 0;
     selection.y = text.length();
   }
@@ -744,6 +755,7 @@ public class Text extends Scrollable {
    */
   public void setEditable( boolean editable ) {
     checkWidget();
+    display.markDirty( this );
     style &= ~SWT.READ_ONLY;
     if( !editable ) {
       style |= SWT.READ_ONLY;
@@ -783,6 +795,7 @@ public class Text extends Scrollable {
    */
   public void insert( String string ) {
     checkWidget();
+    display.markDirty( this );
     if( string == null ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1045,6 +1058,7 @@ public class Text extends Scrollable {
    */
   public void cut() {
     checkWidget();
+    display.markDirty( this );
     if( ( style & SWT.READ_ONLY ) == 0 ) {
       try {
         Clipboard clipboard = new Clipboard( display );
@@ -1107,6 +1121,7 @@ public class Text extends Scrollable {
    */
   public void paste() {
     checkWidget();
+    display.markDirty( this );
     if( ( style & SWT.READ_ONLY ) == 0 ) {
       try {
         Clipboard clipboard = new Clipboard( display );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2016 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,11 +17,12 @@ import java.io.ObjectInputValidation;
 import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Date;
-import java.util.LinkedList;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.engine.PostDeserialization;
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
 import org.eclipse.rap.rwt.service.UISession;
@@ -33,20 +34,27 @@ class TimerExecScheduler implements SerializableCompatibility {
 
   final Display display;
   final ServerPushManager serverPushManager;
-  private final Collection<TimerExecTask> tasks;
-  private transient Timer timer;
+  private final Map<Runnable, TimerExecTask> tasks;
 
   TimerExecScheduler( Display display ) {
     this.display = display;
     serverPushManager = ServerPushManager.getInstance();
-    tasks = new LinkedList<>();
+    tasks = new IdentityHashMap<>();
   }
 
   void schedule( int milliseconds, Runnable runnable ) {
     synchronized( display.getDeviceLock() ) {
-      initializeTimer();
-      TimerExecTask task = findOrAddTask( runnable );
-      timer.schedule( task, milliseconds );
+      ScheduledExecutorService executor = getExecutor();
+      // After the application has been shut down, the runnable would never be executed
+      if( executor != null ) {
+        TimerExecTask task = findOrAddTask( runnable );
+        try {
+          task.schedule( executor, milliseconds );
+        } catch( RejectedExecutionException exception ) {
+          // the executor has been shut down concurrently
+          cancel( runnable );
+        }
+      }
     }
   }
 
@@ -59,34 +67,30 @@ class TimerExecScheduler implements SerializableCompatibility {
 
   void dispose() {
     synchronized( display.getDeviceLock() ) {
-      Collection<TimerExecTask> tasksToCancel = new ArrayList<>( tasks );
+      Collection<TimerExecTask> tasksToCancel = new ArrayList<>( tasks.values() );
       tasksToCancel.forEach( task -> task.cancel() );
-      if( timer != null ) {
-        timer.cancel();
-      }
       tasks.clear();
     }
-  }  
-
-  private void initializeTimer() {
-    if( timer == null ) {
-      timer = createTimer();
-    }
   }
 
-  Timer createTimer() {
-    return new Timer( "RWT timerExec scheduler", true );
+  /*
+   * Returns the shared executor of the application, or null if the application has been shut
+   * down.
+   */
+  ScheduledExecutorService getExecutor() {
+    UISession uiSession = getUISession();
+    ApplicationContextImpl applicationContext
+      = ( ApplicationContextImpl )uiSession.getApplicationContext();
+    return applicationContext.getTimerExecService().findExecutor();
   }
 
   private TimerExecTask findOrAddTask( Runnable runnable ) {
     synchronized( display.getDeviceLock() ) {
-      for( TimerExecTask task : tasks ) {
-        if( task.getRunnable() == runnable ) {
-          return task;
-        }
+      TimerExecTask task = tasks.get( runnable );
+      if( task == null ) {
+        task = createTask( runnable );
+        tasks.put( runnable, task );
       }
-      TimerExecTask task = createTask( runnable );
-      tasks.add( task );
       return task;
     }
   }
@@ -97,33 +101,39 @@ class TimerExecScheduler implements SerializableCompatibility {
 
   private TimerExecTask findAndRemoveTask( Runnable runnable ) {
     synchronized( display.getDeviceLock() ) {
-      for( TimerExecTask task : tasks ) {
-        if( task.getRunnable() == runnable ) {
-          tasks.remove( task );
-          return task;
-        }
-      }
+      return tasks.remove( runnable );
     }
-    return null;
   }
 
-  void removeTask( TimerTask task ) {
+  void removeTask( TimerExecTask task ) {
     synchronized( display.getDeviceLock() ) {
-      tasks.remove( task );
+      if( tasks.get( task.getRunnable() ) == task ) {
+        tasks.remove( task.getRunnable() );
+      }
     }
   }
 
   private void rescheduleTasks() {
     synchronized( display.getDeviceLock() ) {
       if( tasks.size() > 0 ) {
-        initializeTimer();
-        for( TimerExecTask task : tasks ) {
-          timer.schedule( task, new Date( task.scheduledExecutionTime() ) );
+        ScheduledExecutorService executor = getExecutor();
+        if( executor == null ) {
+          dispose();
+        } else {
+          long now = System.currentTimeMillis();
+          for( TimerExecTask task : tasks.values() ) {
+            task.schedule( executor, Math.max( 0, task.getExecutionTime() - now ) );
+          }
         }
       }
     }
   }
 
+  private UISession getUISession() {
+    IDisplayAdapter adapter = display.getAdapter( IDisplayAdapter.class );
+    return adapter.getUISession();
+  }
+
   private void writeObject( ObjectOutputStream stream ) throws IOException {
     synchronized( display.getDeviceLock() ) {
       stream.defaultWriteObject();
@@ -146,10 +156,5 @@ class TimerExecScheduler implements SerializableCompatibility {
         }
       } );
     }
-
-    private UISession getUISession() {
-      IDisplayAdapter adapter = display.getAdapter( IDisplayAdapter.class );
-      return adapter.getUISession();
-    }
   }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2019 Rüdiger Herrmann and others.
+ * Copyright (c) 2011, 2026 Rüdiger Herrmann and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -173,6 +173,7 @@ public class ToolTip extends Widget {
    */
   public void setAutoHide( boolean autoHide ) {
     checkWidget();
+    display.markDirty( this );
     this.autoHide = autoHide;
   }
 
@@ -238,6 +239,7 @@ public class ToolTip extends Widget {
    */
   public void setVisible( boolean visible ) {
     checkWidget();
+    display.markDirty( this );
     this.visible = visible;
   }
 
@@ -272,6 +274,7 @@ public class ToolTip extends Widget {
    */
   public void setText( String text ) {
     checkWidget();
+    display.markDirty( this );
     if( text == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -312,6 +315,7 @@ public class ToolTip extends Widget {
    */
   public void setMessage( String message ) {
     checkWidget();
+    display.markDirty( this );
     if( message == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -340,6 +344,7 @@ public class ToolTip extends Widget {
    */
   public void setLocation( int x, int y ) {
     checkWidget();
+    display.markDirty( this );
     this.x = x;
     this.y = y;
   }
@@ -368,6 +373,7 @@ public class ToolTip extends Widget {
    */
   public void setLocation( Point location ) {
     checkWidget();
+    display.markDirty( this );
     if( location == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -143,8 +143,9 @@ public class Tree extends Composite {
   private boolean hasHScrollBar;
   private Point itemImageSize;
   LayoutCache layoutCache;
-  boolean isFlatIndexValid;
-  private int visibleItemsCount;
+  private final VisibleItemCounter visibleItemCounter;
+  // the number of visible items the top item index has been adjusted to
+  private int topItemIndexItemsCount;
   private int preloadedItems;
 
   /**
@@ -183,6 +184,7 @@ public class Tree extends Composite {
     super( parent, checkStyle( style ) );
     columnHolder = new ItemHolder<>( TreeColumn.class );
     treeAdapter = new InternalTreeAdapter();
+    visibleItemCounter = new VisibleItemCounter();
     setTreeEmpty();
     sortDirection = SWT.NONE;
     selection = EMPTY_SELECTION;
@@ -266,6 +268,7 @@ public class Tree extends Composite {
    */
   public void setItemCount( int count ) {
     checkWidget();
+    display.markDirty( this );
     int oldItemCount = itemCount;
     int newItemCount = Math.max( 0, count );
     if( newItemCount != oldItemCount ) {
@@ -289,7 +292,7 @@ public class Tree extends Composite {
         }
       }
       itemCount = newItemCount;
-      invalidateFlatIndex();
+      visibleItemCounter.recount( items, itemCount );
       updateScrollBars();
       redraw();
     }
@@ -427,6 +430,7 @@ public class Tree extends Composite {
    */
   public void removeAll() {
     checkWidget();
+    display.markDirty( this );
     for( int i = itemCount - 1; i >= 0; i-- ) {
       if( items[ i ] != null ) {
         items[ i ].dispose();
@@ -435,6 +439,7 @@ public class Tree extends Composite {
       }
     }
     setTreeEmpty();
+    visibleItemCounter.recount( items, itemCount );
     selection = EMPTY_SELECTION;
   }
 
@@ -457,6 +462,7 @@ public class Tree extends Composite {
    */
   public void showItem( TreeItem item ) {
     checkWidget();
+    display.markDirty( this );
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -504,6 +510,7 @@ public class Tree extends Composite {
    */
   public void setTopItem( TreeItem item ) {
     checkWidget();
+    display.markDirty( this );
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -538,8 +545,7 @@ public class Tree extends Composite {
     checkWidget();
     TreeItem result = null;
     if( itemCount > 0 ) {
-      List<TreeItem> visibleItems = collectVisibleItems( null );
-      result = visibleItems.get( getTopItemIndex() );
+      result = getVisibleItem( getTopItemIndex(), false );
     }
     return result;
   }
@@ -553,7 +559,7 @@ public class Tree extends Composite {
   }
 
   int getTopItemIndex() {
-    if( !isVisibleItemsCountValid() ) {
+    if( topItemIndexItemsCount != getVisibleItemsCount() ) {
       adjustTopItemIndex();
     }
     return topItemIndex;
@@ -579,6 +585,7 @@ public class Tree extends Composite {
    */
   public void showColumn( TreeColumn column ) {
     checkWidget();
+    display.markDirty( this );
     if( column == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -630,6 +637,7 @@ public class Tree extends Composite {
    */
   public void showSelection() {
     checkWidget();
+    display.markDirty( this );
     if( selection.length == 0 ) {
       return;
     }
@@ -696,6 +704,7 @@ public class Tree extends Composite {
    */
   public void setSelection( TreeItem selection ) {
     checkWidget();
+    display.markDirty( this );
     if( selection == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -727,6 +736,7 @@ public class Tree extends Composite {
    */
   public void setSelection( TreeItem[] selection ) {
     checkWidget();
+    display.markDirty( this );
     if( selection == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -787,6 +797,7 @@ public class Tree extends Composite {
    */
   public void select( TreeItem item ) {
     checkWidget();
+    display.markDirty( this );
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -819,6 +830,7 @@ public class Tree extends Composite {
    */
   public void selectAll() {
     checkWidget();
+    display.markDirty( this );
     if( ( style & SWT.MULTI ) != 0 ) {
       final java.util.List<TreeItem> allItems = new ArrayList<>();
       WidgetTreeUtil.accept( this, new WidgetTreeVisitor() {
@@ -854,6 +866,7 @@ public class Tree extends Composite {
    */
   public void deselect( TreeItem item ) {
     checkWidget();
+    display.markDirty( this );
     if( item == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -879,6 +892,7 @@ public class Tree extends Composite {
    */
   public void deselectAll() {
     checkWidget();
+    display.markDirty( this );
     selection = EMPTY_SELECTION;
   }
 
@@ -900,6 +914,7 @@ public class Tree extends Composite {
    */
   public void setLinesVisible( boolean value ) {
     checkWidget();
+    display.markDirty( this );
     if( linesVisible == value ) {
       return; /* no change */
     }
@@ -967,6 +982,7 @@ public class Tree extends Composite {
    */
   public void clear( int index, boolean recursive ) {
     checkWidget();
+    display.markDirty( this );
     if( index < 0 || index >= itemCount ) {
       error( SWT.ERROR_INVALID_RANGE );
     }
@@ -1012,9 +1028,8 @@ public class Tree extends Composite {
     }
     TreeItem result = null;
     int index = ( point.y - getHeaderHeight() ) / getItemHeight() + getTopItemIndex();
-    List<TreeItem> visibleItems = collectVisibleItems( null );
-    if( 0 <= index && index < visibleItems.size() ) {
-      result = visibleItems.get( index );
+    if( 0 <= index && index < getVisibleItemsCount() ) {
+      result = getVisibleItem( index, false );
     }
     return result;
   }
@@ -1062,6 +1077,7 @@ public class Tree extends Composite {
    */
   public void clearAll( boolean recursive ) {
     checkWidget();
+    display.markDirty( this );
     for( int i = 0; i < itemCount; i++ ) {
       TreeItem item = items[ i ];
       if( item != null ) {
@@ -1205,6 +1221,7 @@ public class Tree extends Composite {
    */
   public void setHeaderVisible( boolean value ) {
     checkWidget();
+    display.markDirty( this );
     if( headerVisible != value ) {
       headerVisible = value;
       layoutCache.invalidateHeaderHeight();
@@ -1249,6 +1266,7 @@ public class Tree extends Composite {
    */
   public void setHeaderBackground( Color color ) {
     checkWidget();
+    display.markDirty( this );
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1287,6 +1305,7 @@ public class Tree extends Composite {
    */
   public void setHeaderForeground( Color color ) {
     checkWidget();
+    display.markDirty( this );
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1422,6 +1441,7 @@ public class Tree extends Composite {
    */
   public void setColumnOrder( int[] order ) {
     checkWidget();
+    display.markDirty( this );
     if( order == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1476,6 +1496,7 @@ public class Tree extends Composite {
    */
   public void setSortColumn( TreeColumn column ) {
     checkWidget();
+    display.markDirty( this );
     if( column != null && column.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1504,6 +1525,7 @@ public class Tree extends Composite {
    */
   public void setSortDirection( int direction ) {
     checkWidget();
+    display.markDirty( this );
     if( direction != SWT.UP && direction != SWT.DOWN && direction != SWT.NONE )
     {
       return;
@@ -2180,6 +2202,7 @@ public class Tree extends Composite {
 
   private void adjustTopItemIndex() {
     int visibleItems = getVisibleItemsCount();
+    topItemIndexItemsCount = visibleItems;
     int visibleRows = getVisibleRowCount( false );
     int correction = visibleRows == 0 ? 1 : 0;
     if( topItemIndex > visibleItems - visibleRows - correction ) {
@@ -2201,80 +2224,50 @@ public class Tree extends Composite {
   }
 
   private int getVisibleItemsCount() {
-    if( !isVisibleItemsCountValid() ) {
-      visibleItemsCount = collectVisibleItems( null ).size();
-    }
-    return visibleItemsCount;
+    return visibleItemCounter.getTotal();
   }
 
-  private boolean isVisibleItemsCountValid() {
-    return visibleItemsCount != -1;
+  /*
+   * Returns the item at the given flat index, i.e. the index among all items that are not
+   * hidden in collapsed parents. Items of a virtual tree that have not been created yet are only
+   * created if requested, otherwise null is returned for them.
+   */
+  TreeItem getVisibleItem( int flatIndex, boolean create ) {
+    int index = visibleItemCounter.findIndex( items, itemCount, flatIndex );
+    int offset = flatIndex - visibleItemCounter.getRowsBefore( items, itemCount, index );
+    TreeItem item = create ? _getItem( index ) : items[ index ];
+    return offset == 0 ? item : item.getVisibleItem( offset - 1, create );
   }
 
-  private List<TreeItem> collectVisibleItems( TreeItem parentItem ) {
-    List<TreeItem> result = new ArrayList<>();
-    TreeItem[] items = parentItem == null ? this.items : parentItem.items;
-    int itemCount = parentItem == null ? this.itemCount : parentItem.itemCount;
-    for( int i = 0; i < itemCount; i++ ) {
-      TreeItem item = items[ i ];
-      result.add( item );
-      if( item != null && item.getExpanded() ) {
-        result.addAll( collectVisibleItems( item ) );
-      }
-    }
-    return result;
+  int getRowsBefore( int index ) {
+    return visibleItemCounter.getRowsBefore( items, itemCount, index );
   }
 
-  // tree out of sync: handling count and virtual in refresh
-  void updateAllItems() {
-    List<TreeItem> pendings = new ArrayList<>();
-
-    int flatIndex = 0;
-    for( int index = 0; index < itemCount; index++ ) {
-      flatIndex = updateAllItemsRecursively( null, index, flatIndex, pendings );
-    }
-
-    isFlatIndexValid = true;
-    visibleItemsCount = flatIndex;
-    
-    for( TreeItem ti: pendings )  {
-      if( !isDisposed() && !ti.isDisposed() ) {
-        checkData( ti, ti.getParentItem() != null ? ti.getParentItem().indexOf(ti) : indexOf(ti) );
-      }
-    }
-    
+  void visibleItemCountChanged( int index, int delta ) {
+    visibleItemCounter.itemChanged( index, delta );
   }
 
   // tree out of sync: handling count and virtual in refresh
-  private int updateAllItemsRecursively( TreeItem parent, int index, int flatIndex, List<TreeItem> pendings ) {
-    int newFlatIndex = flatIndex;
-    TreeItem item = parent == null ? items[ index ] : parent.items[ index ];
-    if( shouldResolveItem( flatIndex ) ) {
-      if( item == null ) {
-        item = parent == null ? _getItem( index ) : parent._getItem( index );
-      }
-      if( isVirtual() && !item.isCached() ) {
-        pendings.add( item );        
+  void updateAllItems() {
+    if( isVirtual() ) {
+      List<TreeItem> pendings = new ArrayList<>();
+      int topIndex = getTopItemIndex();
+      int startIndex = Math.max( 0, topIndex - preloadedItems );
+      int endIndex = topIndex + getVisibleRowCount( true ) + preloadedItems;
+      endIndex = Math.min( endIndex, getVisibleItemsCount() );
+      for( int flatIndex = startIndex; flatIndex < endIndex; flatIndex++ ) {
+        TreeItem item = getVisibleItem( flatIndex, true );
+        if( !item.isCached() ) {
+          pendings.add( item );
+        }
       }
-    }
-    if( item != null ) {
-      item.setFlatIndex( newFlatIndex );
-    }
-    newFlatIndex++;
-    if( item != null && item.getExpanded() ) {
-      for( int i = 0; i < item.itemCount; i++ ) {
-        newFlatIndex = updateAllItemsRecursively( item, i, newFlatIndex, pendings );
+      for( TreeItem item : pendings ) {
+        if( !isDisposed() && !item.isDisposed() ) {
+          TreeItem parentItem = item.getParentItem();
+          checkData( item, parentItem != null ? parentItem.indexOf( item ) : indexOf( item ) );
+        }
       }
     }
-    return newFlatIndex;
-  }
-
-  private boolean shouldResolveItem( int flatIndex ) {
-    int visibleRows = getVisibleRowCount( true );
-    int topIndex = getTopItemIndex();
-    int startIndex = topIndex - preloadedItems;
-    int endIndex = topIndex + visibleRows + preloadedItems;
-    return isVirtual() ? flatIndex >= startIndex && flatIndex < endIndex : false;
   }
 
   final boolean checkData( TreeItem item, int index ) {
@@ -2293,11 +2286,6 @@ public class Tree extends Composite {
     return result;
   }
 
-  void invalidateFlatIndex() {
-    visibleItemsCount = -1;
-    isFlatIndexValid = false;
-  }
-
   private static int checkStyle( int style ) {
     int result = style;
     if( ( style & SWT.NO_SCROLL ) == 0 ) {
@@ -2352,13 +2340,7 @@ public class Tree extends Composite {
   boolean needsVScrollBar() {
     int availableHeight = getClientArea().height;
     int height = getHeaderHeight();
-    height += itemCount * getItemHeight();
-    for( int i = 0; i < itemCount; i++ ) {
-      TreeItem item = items[ i ];
-      if( item != null && item.getExpanded() ) {
-        height += item.getInnerHeight();
-      }
-    }
+    height += getVisibleItemsCount() * getItemHeight();
     return height > availableHeight;
   }
 
@@ -2425,9 +2407,11 @@ public class Tree extends Composite {
     items[ index ] = item;
     itemCount++;
     adjustItemIndices( index );
+    visibleItemCounter.itemsChanged( item.getVisibleItemCount() );
   }
 
   void destroyItem( int index ) {
+    visibleItemCounter.itemsChanged( -VisibleItemCounter.getRowCount( items[ index ] ) );
     itemCount--;
     if( itemCount == 0 ) {
       setTreeEmpty();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -415,6 +415,7 @@ public class TreeColumn extends Item {
    */
   public void pack() {
     checkWidget();
+    display.markDirty( this );
     int newWidth = getPreferredWidth();
     int contentWidth = parent.getMaxContentWidth( this );
     newWidth = Math.max( newWidth, contentWidth );
@@ -440,6 +441,7 @@ public class TreeColumn extends Item {
    */
   public void setAlignment( int alignment ) {
     checkWidget();
+    display.markDirty( this );
     if( ( alignment & ( SWT.LEFT | SWT.RIGHT | SWT.CENTER ) ) == 0 ) {
       return;
     }
@@ -471,6 +473,7 @@ public class TreeColumn extends Item {
    */
   public void setMoveable( boolean moveable ) {
     checkWidget();
+    display.markDirty( this );
     this.moveable = moveable;
   }
 
@@ -487,6 +490,7 @@ public class TreeColumn extends Item {
    */
   public void setResizable( boolean value ) {
     checkWidget();
+    display.markDirty( this );
     resizable = value;
   }
 
@@ -499,6 +503,7 @@ public class TreeColumn extends Item {
   @Override
   public void setText( String value ) {
     checkWidget();
+    display.markDirty( this );
     if( value == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -521,6 +526,7 @@ public class TreeColumn extends Item {
    */
   public void setToolTipText( String toolTipText ) {
     checkWidget();
+    display.markDirty( this );
     if(    toolTipText != null
         && isToolTipMarkupEnabledFor( this )
         && !isValidationDisabledFor( this ) )
@@ -542,6 +548,7 @@ public class TreeColumn extends Item {
    */
   public void setWidth( int value ) {
     checkWidget();
+    display.markDirty( this );
     if( value >= 0 && width != value ) {
       width = value;
       parent.updateScrollBars();
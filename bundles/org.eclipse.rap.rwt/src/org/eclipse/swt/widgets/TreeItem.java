@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -67,7 +67,7 @@ public class TreeItem extends Item {
   private boolean grayed;
   int depth;
   private boolean cached;
-  private int flatIndex;
+  private VisibleItemCounter visibleItemCounter;
 
   /**
    * Constructs a new instance of this class given its parent (which must be a
@@ -222,7 +222,6 @@ public class TreeItem extends Item {
     if( parentItem != null ) {
       depth = parentItem.depth + 1;
     }
-    parent.invalidateFlatIndex();
     setEmpty();
     if( create ) {
       int numberOfItems;
@@ -282,9 +281,19 @@ public class TreeItem extends Item {
     items[ index ] = item;
     itemCount++;
     adjustItemIndices( index );
+    int rows = item.getVisibleItemCount();
+    getVisibleItemCounter().itemsChanged( rows );
+    if( expanded ) {
+      notifyVisibleItemCountChanged( rows );
+    }
   }
 
   private void destroyItem( int index ) {
+    int rows = VisibleItemCounter.getRowCount( items[ index ] );
+    getVisibleItemCounter().itemsChanged( -rows );
+    if( expanded ) {
+      notifyVisibleItemCountChanged( -rows );
+    }
     itemCount--;
     if( itemCount == 0 ) {
       setEmpty();
@@ -374,13 +383,15 @@ public class TreeItem extends Item {
    */
   public void setExpanded( boolean expanded ) {
     checkWidget();
+    display.markDirty( this );
     if( this.expanded != expanded && ( !expanded || itemCount > 0 ) ) {
+      int oldVisibleItemCount = getVisibleItemCount();
       this.expanded = expanded;
+      notifyVisibleItemCountChanged( getVisibleItemCount() - oldVisibleItemCount );
       if( !expanded ) {
         updateSelection();
       }
       markCached();
-      parent.invalidateFlatIndex();
       parent.updateScrollBars();
       parent.updateAllItems();
     }
@@ -544,6 +555,7 @@ public class TreeItem extends Item {
    */
   public void setBackground( int index, Color color ) {
     checkWidget();
+    display.markDirty( this );
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -577,6 +589,7 @@ public class TreeItem extends Item {
    */
   public void setFont( int index, Font font ) {
     checkWidget();
+    display.markDirty( this );
     if( font != null && font.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -611,6 +624,7 @@ public class TreeItem extends Item {
    */
   public void setForeground( int index, Color color ) {
     checkWidget();
+    display.markDirty( this );
     if( color != null && color.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -643,6 +657,7 @@ public class TreeItem extends Item {
    */
   public void setFont( Font font ) {
     checkWidget();
+    display.markDirty( this );
     if( font != null && font.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -699,6 +714,7 @@ public class TreeItem extends Item {
    */
   public void setBackground( Color value ) {
     checkWidget();
+    display.markDirty( this );
     if( value != null && value.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -774,6 +790,7 @@ public class TreeItem extends Item {
    */
   public void setForeground( Color value ) {
     checkWidget();
+    display.markDirty( this );
     if( value != null && value.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -796,6 +813,7 @@ public class TreeItem extends Item {
    */
   public void setChecked( boolean checked ) {
     checkWidget();
+    display.markDirty( this );
     if( ( parent.getStyle() & SWT.CHECK ) != 0 ) {
       if( this.checked != checked ) {
         this.checked = checked;
@@ -835,6 +853,7 @@ public class TreeItem extends Item {
    */
   public void setGrayed( boolean grayed ) {
     checkWidget();
+    display.markDirty( this );
     if( ( parent.getStyle() & SWT.CHECK ) != 0 ) {
       if( this.grayed != grayed ) {
         this.grayed = grayed;
@@ -949,6 +968,7 @@ public class TreeItem extends Item {
    */
   public void setText( String[] value ) {
     checkWidget();
+    display.markDirty( this );
     if( value == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -973,6 +993,7 @@ public class TreeItem extends Item {
   @Override
   public void setText( String text ) {
     checkWidget();
+    display.markDirty( this );
     setText( 0, text );
   }
 
@@ -990,6 +1011,7 @@ public class TreeItem extends Item {
    */
   public void setText( int index, String text ) {
     checkWidget();
+    display.markDirty( this );
     if( text == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1124,6 +1146,7 @@ public class TreeItem extends Item {
    */
   public void clear( int index, boolean recursive ) {
     checkWidget();
+    display.markDirty( this );
     if( index < 0 || index >= itemCount ) {
       error( SWT.ERROR_INVALID_RANGE );
     }
@@ -1142,6 +1165,7 @@ public class TreeItem extends Item {
   @Override
   public void setImage( Image image ) {
     checkWidget();
+    display.markDirty( this );
     setImage( 0, image );
   }
 
@@ -1162,6 +1186,7 @@ public class TreeItem extends Item {
    */
   public void setImage( int index, Image image ) {
     checkWidget();
+    display.markDirty( this );
     if( image != null && image.isDisposed() ) {
       error( SWT.ERROR_INVALID_ARGUMENT );
     }
@@ -1199,6 +1224,7 @@ public class TreeItem extends Item {
    */
   public void setImage( Image[] value ) {
     checkWidget();
+    display.markDirty( this );
     if( value == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
@@ -1403,6 +1429,7 @@ public class TreeItem extends Item {
   // tree out of sync: check parent disposed 
   public void removeAll() {
     checkWidget();
+    display.markDirty( this );
     if( !parent.checkData( this, this.index ) ) {
       error( SWT.ERROR_WIDGET_DISPOSED );
     }
@@ -1414,6 +1441,7 @@ public class TreeItem extends Item {
       }
     }
     setEmpty();
+    recountVisibleItems();
   }   
 
   /**
@@ -1428,6 +1456,7 @@ public class TreeItem extends Item {
    */
   public void setItemCount( int count ) {
     checkWidget();
+    display.markDirty( this );
     int oldItemCount = itemCount;
     int newItemCount = Math.max( 0, count );
     if( newItemCount != oldItemCount ) {
@@ -1449,7 +1478,7 @@ public class TreeItem extends Item {
         }
       }
       itemCount = newItemCount;
-      parent.invalidateFlatIndex();
+      recountVisibleItems();
       parent.updateScrollBars();
       parent.redraw();
     }
@@ -1475,7 +1504,6 @@ public class TreeItem extends Item {
       parent.destroyItem( index );
     }
     if( !parent.isInDispose() ) {
-      parent.invalidateFlatIndex();
       parent.removeFromSelection( this );
       parent.updateScrollBars();
     }
@@ -1501,14 +1529,68 @@ public class TreeItem extends Item {
   }
 
   int getFlatIndex() {
-    if( !parent.isFlatIndexValid ) {
-      parent.updateAllItems();
+    if( parentItem == null ) {
+      return parent.getRowsBefore( index );
+    }
+    return parentItem.getFlatIndex() + 1 + parentItem.getRowsBefore( index );
+  }
+
+  int getRowsBefore( int index ) {
+    return getVisibleItemCounter().getRowsBefore( items, itemCount, index );
+  }
+
+  /*
+   * Returns the number of rows occupied by the receiver and its visible descendants.
+   */
+  int getVisibleItemCount() {
+    int result = 1;
+    if( expanded && visibleItemCounter != null ) {
+      result += visibleItemCounter.getTotal();
+    }
+    return result;
+  }
+
+  /*
+   * Returns the visible descendant at the given offset below the receiver, see
+   * Tree#getVisibleItem().
+   */
+  TreeItem getVisibleItem( int offset, boolean create ) {
+    VisibleItemCounter counter = getVisibleItemCounter();
+    int index = counter.findIndex( items, itemCount, offset );
+    int rest = offset - counter.getRowsBefore( items, itemCount, index );
+    TreeItem item = create ? _getItem( index ) : items[ index ];
+    return rest == 0 ? item : item.getVisibleItem( rest - 1, create );
+  }
+
+  private void visibleItemCountChanged( int index, int delta ) {
+    getVisibleItemCounter().itemChanged( index, delta );
+    if( expanded ) {
+      notifyVisibleItemCountChanged( delta );
     }
-    return flatIndex;
   }
 
-  void setFlatIndex( int flatIndex ) {
-    this.flatIndex = flatIndex;
+  private void notifyVisibleItemCountChanged( int delta ) {
+    if( delta != 0 ) {
+      if( parentItem != null ) {
+        parentItem.visibleItemCountChanged( index, delta );
+      } else {
+        parent.visibleItemCountChanged( index, delta );
+      }
+    }
+  }
+
+  private void recountVisibleItems() {
+    int delta = getVisibleItemCounter().recount( items, itemCount );
+    if( expanded ) {
+      notifyVisibleItemCountChanged( delta );
+    }
+  }
+
+  private VisibleItemCounter getVisibleItemCounter() {
+    if( visibleItemCounter == null ) {
+      visibleItemCounter = new VisibleItemCounter();
+    }
+    return visibleItemCounter;
   }
 
   boolean hasPreferredWidthBuffer( int index ) {
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import org.eclipse.swt.internal.SerializableCompatibility;
+
+
+/*
+ * Counts the visible rows of the child items of a tree or tree item. The number of rows of a
+ * child is one plus the rows of its children if it is expanded. An item that has not been
+ * created yet (virtual tree) occupies one row.
+ *
+ * The total is updated incrementally. Prefix sums are kept in a Fenwick tree, so that flat
+ * indices can be computed and items can be found by their flat index in O(log n). The Fenwick
+ * tree is rebuilt lazily after the list of children has changed.
+ */
+final class VisibleItemCounter implements SerializableCompatibility {
+
+  private int total;
+  // 1-based Fenwick tree of the row counts of the children, null if outdated
+  private int[] sums;
+
+  int getTotal() {
+    return total;
+  }
+
+  /*
+   * A child has been inserted or removed.
+   */
+  void itemsChanged( int delta ) {
+    total += delta;
+    sums = null;
+  }
+
+  /*
+   * The row count of the child at the given index has changed.
+   */
+  void itemChanged( int index, int delta ) {
+    total += delta;
+    if( sums != null ) {
+      for( int i = index + 1; i < sums.length; i += i & -i ) {
+        sums[ i ] += delta;
+      }
+    }
+  }
+
+  /*
+   * Recounts the rows of all children and returns the difference to the previous total.
+   */
+  int recount( TreeItem[] items, int count ) {
+    int oldTotal = total;
+    rebuild( items, count );
+    return total - oldTotal;
+  }
+
+  /*
+   * Returns the number of rows occupied by the children before the given index.
+   */
+  int getRowsBefore( TreeItem[] items, int count, int index ) {
+    ensureSums( items, count );
+    int result = 0;
+    for( int i = index; i > 0; i -= i & -i ) {
+      result += sums[ i ];
+    }
+    return result;
+  }
+
+  /*
+   * Returns the index of the child that occupies the row with the given offset, which must be
+   * less than the total.
+   */
+  int findIndex( TreeItem[] items, int count, int offset ) {
+    ensureSums( items, count );
+    int result = 0;
+    int remaining = offset;
+    int step = Integer.highestOneBit( Math.max( 1, sums.length - 1 ) );
+    while( step > 0 ) {
+      int next = result + step;
+      if( next < sums.length && sums[ next ] <= remaining ) {
+        result = next;
+        remaining -= sums[ next ];
+      }
+      step >>= 1;
+    }
+    return result;
+  }
+
+  private void ensureSums( TreeItem[] items, int count ) {
+    if( sums == null || sums.length != count + 1 ) {
+      rebuild( items, count );
+    }
+  }
+
+  private void rebuild( TreeItem[] items, int count ) {
+    sums = new int[ count + 1 ];
+    int sum = 0;
+    for( int i = 0; i < count; i++ ) {
+      int rows = getRowCount( items[ i ] );
+      sums[ i + 1 ] = rows;
+      sum += rows;
+    }
+    for( int i = 1; i <= count; i++ ) {
+      int parent = i + ( i & -i );
+      if( parent <= count ) {
+        sums[ parent ] += sums[ i ];
+      }
+    }
+    total = sum;
+  }
+
+  static int getRowCount( TreeItem item ) {
+    return item == null ? 1 : item.getVisibleItemCount();
+  }
+
+}
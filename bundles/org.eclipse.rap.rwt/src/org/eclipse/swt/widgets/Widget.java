@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -163,6 +163,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
     display = parent.display;
     reskinWidget();
     remoteAdapter = new ParentHolderRemoteAdapter( parent );
+    display.markDirty( parent );
   }
 
   /**
@@ -327,9 +328,11 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
       if( value != null ) {
         checkCustomVariant( value );
       }
+      display.markDirty( this );
       WidgetLCAUtil.preserveCustomVariant( this );
     }
     if( WidgetDataUtil.getDataKeys().contains( key ) ) {
+      display.markDirty( this );
       WidgetLCAUtil.preserveData( this );
     }
     int index = 1;
@@ -973,6 +976,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
       if( !isValidThread() ) {
         error( SWT.ERROR_THREAD_INVALID_ACCESS );
       }
+      display.markDirty( this );
       if( !hasState( DISPOSE_SENT ) ) {
         addState( DISPOSE_SENT );
         notifyListeners( SWT.Dispose, new Event() );
@@ -984,7 +988,9 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
         addState( RELEASED );
         releaseParent();
         releaseWidget();
-        getAdapter( RemoteAdapter.class ).markDisposed( this );
+        RemoteAdapter adapter = getAdapter( RemoteAdapter.class );
+        adapter.markDisposed( this );
+        display.getWidgetIndex().remove( adapter.getId() );
       }
     }
   }
@@ -1168,6 +1174,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
   }
 
   private void preserveListeners() {
+    display.markDirty( this );
     WidgetRemoteAdapter adapter = ( WidgetRemoteAdapter )ensureRemoteAdapter();
     if( !( adapter ).hasPreservedListeners() ) {
       WidgetLCAUtil.preserveListeners( this, eventTable != null ? eventTable.getEventList() : 0 );
@@ -1185,6 +1192,7 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
 
   private RemoteAdapter createRemoteAdapter( Widget parent ) {
     String id = IdGenerator.getInstance( RWT.getUISession( display ) ).createId( this );
+    display.getWidgetIndex().add( id, this );
     return createRemoteAdapter( parent, id );
   }
 
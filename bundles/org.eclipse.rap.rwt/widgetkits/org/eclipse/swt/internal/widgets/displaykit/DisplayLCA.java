@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2022 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -22,31 +22,43 @@ import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemot
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getRequest;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.client.WebClient;
 import org.eclipse.rap.rwt.client.service.ExitConfirmation;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.lifecycle.ControlLCAUtil;
 import org.eclipse.rap.rwt.internal.lifecycle.DisposedWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointRegistration;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.lifecycle.ReparentedControls;
 import org.eclipse.rap.rwt.internal.lifecycle.UITestUtil;
+import org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessage;
 import org.eclipse.rap.rwt.internal.protocol.Operation;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolUtil;
 import org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory;
+import org.eclipse.rap.rwt.internal.remote.DeferredRemoteObject;
+import org.eclipse.rap.rwt.internal.remote.RemoteObjectImpl;
 import org.eclipse.rap.rwt.internal.remote.RemoteObjectLifeCycleAdapter;
+import org.eclipse.rap.rwt.internal.remote.RemoteObjectRegistry;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.textsize.MeasurementUtil;
 import org.eclipse.rap.rwt.internal.util.ActiveKeysUtil;
 import org.eclipse.rap.rwt.remote.OperationHandler;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.internal.widgets.ControlRemoteAdapter;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
 import org.eclipse.swt.internal.widgets.WidgetTreeUtil;
@@ -67,7 +79,7 @@ public class DisplayLCA {
 
   public void readData( Display display ) {
     handleOperations( display );
-    visitWidgets( display );
+    readWidgets( display );
     DNDSupport.handleOperations();
     RemoteObjectLifeCycleAdapter.readData( ProtocolUtil.getClientMessage() );
   }
@@ -80,7 +92,9 @@ public class DisplayLCA {
     ActiveKeysUtil.preserveActiveKeys( display );
     ActiveKeysUtil.preserveCancelKeys( display );
     ActiveKeysUtil.preserveMnemonicActivator( display );
-    if( adapter.isInitialized() ) {
+    if( isDirtyRendering( display ) ) {
+      getDirtyWidgets( display ).startTracking();
+    } else if( adapter.isInitialized() ) {
       for( Shell shell : getShells( display ) ) {
         WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
           @Override
@@ -94,6 +108,10 @@ public class DisplayLCA {
   }
 
   public void render( Display display ) throws IOException {
+    if( isDirtyRendering( display ) ) {
+      updateTabIndices( display );
+      getDirtyWidgets( display ).stopTracking();
+    }
     renderOverflow( display );
     renderDisableShutdownRequest( display );
     renderReparentControls();
@@ -116,6 +134,10 @@ public class DisplayLCA {
 
   public void clearPreserved( Display display ) {
     ( ( WidgetRemoteAdapter )getAdapter( display ) ).clearPreserved();
+    if( isDirtyRendering( display ) ) {
+      getDirtyWidgets( display ).clear();
+      return;
+    }
     for( Shell shell : getShells( display ) ) {
       WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
         @Override
@@ -138,19 +160,44 @@ public class DisplayLCA {
     }
   }
 
-  private static void visitWidgets( Display display ) {
-    WidgetTreeVisitor visitor = new WidgetTreeVisitor() {
-      @Override
-      public boolean visit( Widget widget ) {
-        getLCA( widget ).readData( widget );
-        return true;
+  /*
+   * Only widgets that are targeted by the current message have something to read. They are
+   * resolved by their id, regardless of the operation handler of their remote object. Shells are
+   * always read, as their LCA preserves the bounds of the menu bar before reading.
+   */
+  private static void readWidgets( Display display ) {
+    Shell[] shells = getShells( display );
+    for( Shell shell : shells ) {
+      if( !shell.isDisposed() ) {
+        getLCA( shell ).readData( shell );
+      }
+    }
+    ClientMessage clientMessage = ProtocolUtil.getClientMessage();
+    for( String target : clientMessage.getAllTargets() ) {
+      if( isWidgetTarget( display, target ) ) {
+        Widget widget = findWidget( display, shells, target );
+        if( widget != null && !widget.isDisposed() && !( widget instanceof Shell ) ) {
+          getLCA( widget ).readData( widget );
+        }
       }
-    };
-    for( Shell shell : getShells( display ) ) {
-      WidgetTreeUtil.accept( shell, visitor );
     }
   }
 
+  private static boolean isWidgetTarget( Display display, String target ) {
+    // remote objects created through the connection do not belong to widgets
+    RemoteObjectImpl remoteObject = RemoteObjectRegistry.getInstance().get( target );
+    return !target.equals( getId( display ) ) && !( remoteObject instanceof DeferredRemoteObject );
+  }
+
+  private static Widget findWidget( Display display, Shell[] shells, String id ) {
+    Widget result = getDisplayAdapter( display ).getWidgetIndex().get( id );
+    for( int i = 0; result == null && i < shells.length; i++ ) {
+      // falls back to the widget tree if the widget has not been indexed
+      result = WidgetUtil.find( shells[ i ], id );
+    }
+    return result;
+  }
+
   private static void renderOverflow( Display display ) {
     if( !getAdapter( display ).isInitialized() ) {
       String overflow = getEntryPointProperties().get( WebClient.PAGE_OVERFLOW );
@@ -181,10 +228,72 @@ public class DisplayLCA {
   }
 
   private static void renderShells( Display display ) throws IOException {
-    RenderVisitor visitor = new RenderVisitor();
+    if( isDirtyRendering( display ) ) {
+      renderDirtyWidgets( display );
+    } else {
+      RenderVisitor visitor = new RenderVisitor();
+      for( Shell shell : getShells( display ) ) {
+        WidgetTreeUtil.accept( shell, visitor );
+        visitor.reThrowProblem();
+      }
+    }
+  }
+
+  private static void renderDirtyWidgets( Display display ) throws IOException {
+    DirtyRenderVisitor visitor = new DirtyRenderVisitor();
     for( Shell shell : getShells( display ) ) {
-      WidgetTreeUtil.accept( shell, visitor );
-      visitor.reThrowProblem();
+      if( !getAdapter( shell ).isInitialized() ) {
+        WidgetTreeUtil.accept( shell, visitor );
+        visitor.reThrowProblem();
+      }
+    }
+    // parents are rendered before their children, like in a full tree traversal
+    for( List<Widget> widgets : sortByDepth( getDirtyWidgets( display ).getWidgets() ) ) {
+      for( Widget widget : widgets ) {
+        if( !widget.isDisposed() ) {
+          WidgetTreeUtil.accept( widget, visitor );
+          visitor.reThrowProblem();
+        }
+      }
+    }
+    visitor.clearPreservedOfCreated();
+  }
+
+  private static Collection<List<Widget>> sortByDepth( List<Widget> widgets ) {
+    SortedMap<Integer, List<Widget>> result = new TreeMap<>();
+    for( Widget widget : widgets ) {
+      Integer depth = Integer.valueOf( getDepth( widget ) );
+      List<Widget> list = result.get( depth );
+      if( list == null ) {
+        list = new ArrayList<>();
+        result.put( depth, list );
+      }
+      list.add( widget );
+    }
+    return result.values();
+  }
+
+  private static int getDepth( Widget widget ) {
+    int result = 0;
+    Widget parent = getAdapter( widget ).getParent();
+    while( parent != null ) {
+      result++;
+      parent = getAdapter( parent ).getParent();
+    }
+    return result;
+  }
+
+  /*
+   * Tab indices are computed for all controls of a shell when the shell is rendered. As only
+   * dirty widgets are rendered, shells in which the child list or the tab list of a composite
+   * has changed are updated while tracking is still active, which marks every control with a
+   * changed tab index.
+   */
+  private static void updateTabIndices( Display display ) {
+    for( Shell shell : getDirtyWidgets( display ).getTabOrderChangedShells() ) {
+      if( !shell.isDisposed() ) {
+        ControlLCAUtil.updateTabIndices( shell );
+      }
     }
   }
 
@@ -298,11 +407,19 @@ public class DisplayLCA {
     return display.getAdapter( IDisplayAdapter.class );
   }
 
+  private static boolean isDirtyRendering( Display display ) {
+    return getDirtyWidgets( display ).isEnabled() && getAdapter( display ).isInitialized();
+  }
+
+  private static DirtyWidgets getDirtyWidgets( Display display ) {
+    return getDisplayAdapter( display ).getDirtyWidgets();
+  }
+
   private static Shell[] getShells( Display display ) {
     return getDisplayAdapter( display ).getShells();
   }
 
-  private static final class RenderVisitor implements WidgetTreeVisitor {
+  private static class RenderVisitor implements WidgetTreeVisitor {
 
     private IOException ioProblem;
 
@@ -319,7 +436,7 @@ public class DisplayLCA {
       return true;
     }
 
-    private void reThrowProblem() throws IOException {
+    void reThrowProblem() throws IOException {
       if( ioProblem != null ) {
         throw ioProblem;
       }
@@ -338,4 +455,46 @@ public class DisplayLCA {
     }
   }
 
+  /*
+   * Renders only dirty widgets and widgets that are not yet initialized. Every widget is
+   * rendered at most once, even if it is reachable from more than one dirty widget. The
+   * preserved values of created widgets are cleared after rendering, as these widgets are not
+   * tracked as dirty.
+   */
+  private static final class DirtyRenderVisitor extends RenderVisitor {
+
+    private final Set<Widget> rendered;
+    private final List<Widget> created;
+
+    DirtyRenderVisitor() {
+      rendered = Collections.newSetFromMap( new IdentityHashMap<Widget, Boolean>() );
+      created = new ArrayList<>();
+    }
+
+    @Override
+    public boolean visit( Widget widget ) {
+      WidgetRemoteAdapter adapter = ( WidgetRemoteAdapter )getAdapter( widget );
+      boolean initialized = adapter.isInitialized();
+      if( initialized && !adapter.isDirty() ) {
+        return false;
+      }
+      if( !rendered.add( widget ) ) {
+        return false;
+      }
+      if( !initialized ) {
+        created.add( widget );
+      }
+      return super.visit( widget );
+    }
+
+    void clearPreservedOfCreated() {
+      for( Widget widget : created ) {
+        if( !widget.isDisposed() ) {
+          ( ( WidgetRemoteAdapter )getAdapter( widget ) ).clearPreserved();
+        }
+      }
+    }
+
+  }
+
 }
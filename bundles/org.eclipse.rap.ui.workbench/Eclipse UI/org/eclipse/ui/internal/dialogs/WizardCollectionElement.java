@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -25,7 +25,9 @@ import org.eclipse.ui.IPluginContribution;
 import org.eclipse.ui.ISharedImages;
 import org.eclipse.ui.activities.WorkbenchActivityHelper;
 import org.eclipse.ui.internal.WorkbenchImages;
+import org.eclipse.ui.internal.WorkbenchMessages;
 import org.eclipse.ui.internal.registry.IWorkbenchRegistryConstants;
+import org.eclipse.ui.internal.registry.WizardsRegistryReader;
 import org.eclipse.ui.model.AdaptableList;
 import org.eclipse.ui.model.IWorkbenchAdapter;
 import org.eclipse.ui.wizards.IWizardCategory;
@@ -206,6 +208,12 @@ public class WizardCollectionElement extends AdaptableList implements
      * Returns the label for this collection.
      */
     public String getLabel(Object o) {
+    	// RAP: multi-user i18n, collection elements are shared by all
+    	// sessions, use the locale of the current session for the "Other" label
+    	if (configElement == null && name == null
+    			&& WizardsRegistryReader.UNCATEGORIZED_WIZARD_CATEGORY.equals(id)) {
+    		return WorkbenchMessages.get().NewWizardsRegistryReader_otherCategory;
+    	}
     	return configElement != null ? configElement
 				.getAttribute(IWorkbenchRegistryConstants.ATT_NAME) : name;
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -25,7 +25,6 @@ import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExtensionRegistry;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.ui.activities.WorkbenchActivityHelper;
-import org.eclipse.ui.internal.WorkbenchMessages;
 import org.eclipse.ui.internal.WorkbenchPlugin;
 import org.eclipse.ui.internal.dialogs.WizardCollectionElement;
 import org.eclipse.ui.internal.dialogs.WorkbenchWizardElement;
@@ -395,9 +394,9 @@ public class WizardsRegistryReader extends RegistryReader {
         if (otherCategory == null) {
 			otherCategory = createCollectionElement(root,
                     UNCATEGORIZED_WIZARD_CATEGORY, null,
-// RAP [rst] multi-user i18n
+// RAP: multi-user i18n, the label is resolved by the collection element
 //                    UNCATEGORIZED_WIZARD_CATEGORY_LABEL);
-                    WorkbenchMessages.get().NewWizardsRegistryReader_otherCategory);
+                    null);
 		}
 
         otherCategory.add(element);
@@ -480,10 +479,23 @@ public class WizardsRegistryReader extends RegistryReader {
      * @return the primary wizards
      */
     public WorkbenchWizardElement [] getPrimaryWizards() {
+        return (WorkbenchWizardElement[]) WorkbenchActivityHelper
+                .restrictArray(getUnrestrictedPrimaryWizards());
+    }
+
+    /**
+     * Returns the list of wizards that are considered 'primary', regardless
+     * of the activities that are enabled in the current session.
+     * 
+     * @return the primary wizards
+     */
+    // RAP: the primary wizards are shared by all sessions, see
+    // SharedWizardElements
+    public WorkbenchWizardElement [] getUnrestrictedPrimaryWizards() {
         if (!areWizardsRead()) {
             readWizards();
         }
-        return (WorkbenchWizardElement[]) WorkbenchActivityHelper.restrictArray(primaryWizards);
+        return primaryWizards;
     }
 
 
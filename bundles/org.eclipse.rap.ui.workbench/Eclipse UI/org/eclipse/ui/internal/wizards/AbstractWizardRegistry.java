@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2006 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.ui.internal.wizards;
 
+import org.eclipse.ui.activities.WorkbenchActivityHelper;
 import org.eclipse.ui.internal.dialogs.WizardCollectionElement;
 import org.eclipse.ui.internal.dialogs.WorkbenchWizardElement;
 import org.eclipse.ui.wizards.IWizardCategory;
@@ -77,7 +78,10 @@ public abstract class AbstractWizardRegistry implements IWizardRegistry {
 	 */
 	public IWizardDescriptor[] getPrimaryWizards() {
 		initialize();
-		return primaryWizards;
+		// RAP: the primary wizards may be shared by all sessions,
+		// restrict them to the activities of the current session
+		return (IWizardDescriptor[]) WorkbenchActivityHelper
+				.restrictArray(primaryWizards);
 	}
 
 	/*
@@ -117,7 +121,7 @@ public abstract class AbstractWizardRegistry implements IWizardRegistry {
 	 * 
 	 * @return whether the registry has been read
 	 */
-	private boolean isInitialized() {
+	protected boolean isInitialized() {
 		return initialized;
 	}
 
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.wizards;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IExtensionRegistry;
+import org.eclipse.core.runtime.IRegistryChangeEvent;
+import org.eclipse.core.runtime.IRegistryChangeListener;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.rap.rwt.service.ApplicationContext;
+import org.eclipse.rap.rwt.service.ApplicationContextEvent;
+import org.eclipse.rap.rwt.service.ApplicationContextListener;
+import org.eclipse.ui.internal.dialogs.WizardCollectionElement;
+import org.eclipse.ui.internal.dialogs.WorkbenchWizardElement;
+import org.eclipse.ui.internal.registry.WizardsRegistryReader;
+
+/**
+ * Holds the wizard elements that are read from the wizard extension points of
+ * an application. The elements are not modified after they have been read and
+ * are shared by the wizard registries of all UI sessions.
+ * <p>
+ * When an extension point changes, the elements read from it are marked as
+ * stale and read again on the next access.
+ * </p>
+ */
+public final class SharedWizardElements {
+
+	/**
+	 * The wizard elements read from one extension point. The primary wizards
+	 * are not restricted by the activities of a session.
+	 */
+	public static final class Snapshot {
+
+		private final WizardCollectionElement wizardElements;
+
+		private final WorkbenchWizardElement[] primaryWizards;
+
+		private volatile boolean stale;
+
+		private Snapshot(WizardCollectionElement wizardElements,
+				WorkbenchWizardElement[] primaryWizards) {
+			this.wizardElements = wizardElements;
+			this.primaryWizards = primaryWizards;
+		}
+
+		public WizardCollectionElement getWizardElements() {
+			return wizardElements;
+		}
+
+		public WorkbenchWizardElement[] getPrimaryWizards() {
+			return primaryWizards;
+		}
+
+		/**
+		 * Return whether the extension point has changed since the elements
+		 * have been read.
+		 *
+		 * @return whether the elements are outdated
+		 */
+		public boolean isStale() {
+			return stale;
+		}
+	}
+
+	private final Map<String, Snapshot> snapshots = new HashMap<String, Snapshot>();
+
+	private IRegistryChangeListener registryChangeListener;
+
+	/**
+	 * Return the instance of this class that belongs to the application of
+	 * the current UI session.
+	 *
+	 * @return the shared wizard elements of the current application
+	 */
+	public static SharedWizardElements getInstance() {
+		return SingletonUtil.getUniqueInstance(SharedWizardElements.class,
+				RWT.getApplicationContext());
+	}
+
+	private SharedWizardElements() {
+		super();
+	}
+
+	/**
+	 * Return the wizard elements of the given extension point, reading them
+	 * if necessary.
+	 *
+	 * @param pluginId
+	 *            the namespace of the extension point
+	 * @param extensionPointId
+	 *            the simple id of the extension point
+	 * @return the current snapshot of the wizard elements
+	 */
+	public synchronized Snapshot getSnapshot(String pluginId,
+			String extensionPointId) {
+		String key = pluginId + '.' + extensionPointId;
+		Snapshot result = snapshots.get(key);
+		if (result == null) {
+			addRegistryChangeListener();
+			WizardsRegistryReader reader = new WizardsRegistryReader(pluginId,
+					extensionPointId);
+			WizardCollectionElement wizardElements = reader.getWizardElements();
+			result = new Snapshot(wizardElements, reader
+					.getUnrestrictedPrimaryWizards());
+			snapshots.put(key, result);
+		}
+		return result;
+	}
+
+	private synchronized void handleRegistryChanges(IRegistryChangeEvent event) {
+		Iterator<Map.Entry<String, Snapshot>> iterator = snapshots.entrySet()
+				.iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<String, Snapshot> entry = iterator.next();
+			String key = entry.getKey();
+			int index = key.lastIndexOf('.');
+			if (event.getExtensionDeltas(key.substring(0, index), key
+					.substring(index + 1)).length > 0) {
+				entry.getValue().stale = true;
+				iterator.remove();
+			}
+		}
+	}
+
+	private void addRegistryChangeListener() {
+		if (registryChangeListener != null) {
+			return;
+		}
+		final IExtensionRegistry registry = Platform.getExtensionRegistry();
+		registryChangeListener = new IRegistryChangeListener() {
+			public void registryChanged(IRegistryChangeEvent event) {
+				handleRegistryChanges(event);
+			}
+		};
+		registry.addRegistryChangeListener(registryChangeListener);
+		ApplicationContext applicationContext = RWT.getApplicationContext();
+		applicationContext.addApplicationContextListener(new ApplicationContextListener() {
+			public void beforeDestroy(ApplicationContextEvent event) {
+				registry.removeRegistryChangeListener(registryChangeListener);
+			}
+		});
+	}
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ExternalEventHandlers_Test {
+
+	private ExternalEventHandlers handlers;
+
+	@Before
+	public void setUp() {
+		handlers = new ExternalEventHandlers();
+	}
+
+	@Test
+	public void testMatches_withoutHandlers() {
+		assertFalse(handlers.matches("instance/org/eclipse/test"));
+	}
+
+	@Test
+	public void testMatches_withTopic() {
+		handlers.put("handler", "instance/org/eclipse/test");
+
+		assertTrue(handlers.matches("instance/org/eclipse/test"));
+		assertFalse(handlers.matches("instance/org/eclipse/test/sub"));
+		assertFalse(handlers.matches("instance/org/eclipse"));
+	}
+
+	@Test
+	public void testMatches_withWildcardTopic() {
+		handlers.put("handler", "instance/org/*");
+
+		assertTrue(handlers.matches("instance/org/eclipse"));
+		assertTrue(handlers.matches("instance/org/eclipse/test"));
+		assertFalse(handlers.matches("instance/org"));
+		assertFalse(handlers.matches("instance/organization"));
+	}
+
+	@Test
+	public void testMatches_withAllTopics() {
+		handlers.put("handler", "*");
+
+		assertTrue(handlers.matches("instance/org/eclipse/test"));
+	}
+
+	@Test
+	public void testMatches_withTopicArray() {
+		handlers.put("handler", new String[] { "instance/a", "instance/b" });
+
+		assertTrue(handlers.matches("instance/b"));
+		assertFalse(handlers.matches("instance/c"));
+	}
+
+	@Test
+	public void testMatches_withTopicCollection() {
+		handlers.put("handler", Arrays.asList("instance/a", "instance/b"));
+
+		assertTrue(handlers.matches("instance/a"));
+	}
+
+	@Test
+	public void testMatches_withoutTopicProperty() {
+		handlers.put("handler", null);
+
+		assertFalse(handlers.matches("instance/a"));
+	}
+
+	@Test
+	public void testMatches_afterRemove() {
+		handlers.put("handler", "*");
+
+		handlers.remove("handler");
+
+		assertFalse(handlers.matches("instance/a"));
+	}
+
+	@Test
+	public void testMatches_afterModification() {
+		handlers.put("handler", "instance/a");
+
+		handlers.put("handler", "instance/b");
+
+		assertFalse(handlers.matches("instance/a"));
+		assertTrue(handlers.matches("instance/b"));
+	}
+}
@@ -0,0 +1,273 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
+
+public class RAPEventBus_Test {
+
+	private RAPEventBus bus;
+
+	@Before
+	public void setUp() {
+		bus = RAPEventBus.acquire("instance");
+	}
+
+	@After
+	public void tearDown() {
+		bus.release();
+		RAPEventBus.shutdown();
+	}
+
+	@Test
+	public void testAcquire_returnsSameBusForInstance() {
+		RAPEventBus other = RAPEventBus.acquire("instance");
+		try {
+			assertSame(bus, other);
+		} finally {
+			other.release();
+		}
+	}
+
+	@Test
+	public void testAcquire_returnsDifferentBusForOtherInstance() {
+		RAPEventBus other = RAPEventBus.acquire("other");
+		try {
+			assertNotSame(bus, other);
+		} finally {
+			other.release();
+		}
+	}
+
+	@Test
+	public void testAcquire_afterLastRelease() {
+		RAPEventBus other = RAPEventBus.acquire("other");
+		other.release();
+
+		RAPEventBus next = RAPEventBus.acquire("other");
+		try {
+			assertNotSame(other, next);
+		} finally {
+			next.release();
+		}
+	}
+
+	@Test
+	public void testSend_toTopic() {
+		RecordingHandler handler = new RecordingHandler();
+		bus.subscribe("org/eclipse/test", null, handler);
+
+		bus.send(createEvent("org/eclipse/test"));
+		bus.send(createEvent("org/eclipse/other"));
+		bus.send(createEvent("org/eclipse/test/sub"));
+
+		assertEquals(Arrays.asList("org/eclipse/test"), handler.getTopics());
+	}
+
+	@Test
+	public void testSend_toWildcardTopic() {
+		RecordingHandler handler = new RecordingHandler();
+		bus.subscribe("org/eclipse/*", null, handler);
+
+		bus.send(createEvent("org/eclipse"));
+		bus.send(createEvent("org/eclipse/test"));
+		bus.send(createEvent("org/eclipse/test/sub"));
+		bus.send(createEvent("org/other"));
+
+		assertEquals(Arrays.asList("org/eclipse/test", "org/eclipse/test/sub"),
+				handler.getTopics());
+	}
+
+	@Test
+	public void testSend_toAllTopics() {
+		RecordingHandler handler = new RecordingHandler();
+		bus.subscribe("*", null, handler);
+
+		bus.send(createEvent("org"));
+		bus.send(createEvent("org/eclipse/test"));
+
+		assertEquals(Arrays.asList("org", "org/eclipse/test"), handler.getTopics());
+	}
+
+	@Test
+	public void testSend_withFilter() {
+		RecordingHandler handler = new RecordingHandler();
+		bus.subscribe("org/eclipse/test", "(name=foo)", handler);
+
+		bus.send(createEvent("org/eclipse/test", "name", "bar"));
+		bus.send(createEvent("org/eclipse/test", "name", "foo"));
+
+		assertEquals(1, handler.getEvents().size());
+		assertEquals("foo", handler.getEvents().get(0).getProperty("name"));
+	}
+
+	@Test
+	public void testSubscribe_withInvalidFilter() {
+		assertNull(bus.subscribe("org/eclipse/test", "(name=", new RecordingHandler()));
+	}
+
+	@Test
+	public void testSend_afterUnregister() {
+		RecordingHandler handler = new RecordingHandler();
+		RAPEventBus.Subscription subscription = bus.subscribe("org/eclipse/test", null,
+				handler);
+
+		subscription.unregister();
+		bus.send(createEvent("org/eclipse/test"));
+
+		assertTrue(handler.getEvents().isEmpty());
+	}
+
+	@Test
+	public void testSend_doesNotDeliverToOtherInstance() {
+		RecordingHandler handler = new RecordingHandler();
+		RAPEventBus other = RAPEventBus.acquire("other");
+		try {
+			other.subscribe("org/eclipse/test", null, handler);
+
+			bus.send(createEvent("org/eclipse/test"));
+		} finally {
+			other.release();
+		}
+
+		assertTrue(handler.getEvents().isEmpty());
+	}
+
+	@Test
+	public void testSend_continuesAfterFailingHandler() {
+		RecordingHandler handler = new RecordingHandler();
+		bus.subscribe("org/eclipse/test", null, new EventHandler() {
+			public void handleEvent(Event event) {
+				throw new RuntimeException("expected");
+			}
+		});
+		bus.subscribe("org/eclipse/test", null, handler);
+
+		bus.send(createEvent("org/eclipse/test"));
+
+		assertEquals(1, handler.getEvents().size());
+	}
+
+	@Test
+	public void testPost_deliversInOrder() throws InterruptedException {
+		int eventCount = 50;
+		RecordingHandler handler = new RecordingHandler(eventCount);
+		bus.subscribe("org/eclipse/*", null, handler);
+
+		List<String> expected = new ArrayList<String>();
+		for (int i = 0; i < eventCount; i++) {
+			String topic = "org/eclipse/event" + i;
+			expected.add(topic);
+			bus.post(createEvent(topic));
+		}
+
+		assertTrue(handler.await());
+		assertEquals(expected, handler.getTopics());
+	}
+
+	@Test
+	public void testPost_afterShutdown() throws InterruptedException {
+		RecordingHandler handler = new RecordingHandler(1);
+		bus.subscribe("org/eclipse/test", null, handler);
+
+		RAPEventBus.shutdown();
+		bus.post(createEvent("org/eclipse/test"));
+
+		assertTrue(handler.await());
+	}
+
+	@Test
+	public void testBridge_deliversEventAdminEvent() {
+		RecordingHandler handler = new RecordingHandler();
+		bus.subscribe("instance/org/eclipse/test", null, handler);
+
+		bus.createBridge().handleEvent(createEvent("instance/org/eclipse/test"));
+
+		assertEquals(Arrays.asList("instance/org/eclipse/test"), handler.getTopics());
+	}
+
+	@Test
+	public void testBridge_ignoresBusEvent() {
+		RecordingHandler handler = new RecordingHandler();
+		bus.subscribe("instance/org/eclipse/test", null, handler);
+
+		bus.createBridge().handleEvent(createEvent("instance/org/eclipse/test",
+				RAPEventBus.BUS_EVENT, Boolean.TRUE));
+
+		assertTrue(handler.getEvents().isEmpty());
+	}
+
+	private static Event createEvent(String topic) {
+		return new Event(topic, new HashMap<String, Object>());
+	}
+
+	private static Event createEvent(String topic, String key, Object value) {
+		Map<String, Object> properties = new HashMap<String, Object>();
+		properties.put(key, value);
+		return new Event(topic, properties);
+	}
+
+	private static final class RecordingHandler implements EventHandler {
+
+		private final List<Event> events = Collections.synchronizedList(new ArrayList<Event>());
+		private final CountDownLatch latch;
+
+		RecordingHandler() {
+			this(0);
+		}
+
+		RecordingHandler(int expectedEvents) {
+			latch = new CountDownLatch(expectedEvents);
+		}
+
+		public void handleEvent(Event event) {
+			events.add(event);
+			latch.countDown();
+		}
+
+		boolean await() throws InterruptedException {
+			return latch.await(5, TimeUnit.SECONDS);
+		}
+
+		List<Event> getEvents() {
+			return events;
+		}
+
+		List<String> getTopics() {
+			List<String> result = new ArrayList<String>();
+			synchronized (events) {
+				for (Event event : events) {
+					result.add(event.getTopic());
+				}
+			}
+			return result;
+		}
+	}
+}
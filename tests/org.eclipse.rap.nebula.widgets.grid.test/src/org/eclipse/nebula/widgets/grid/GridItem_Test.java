@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -128,6 +128,43 @@ public class GridItem_Test {
     assertFalse( item.isResolved() );
   }
 
+  @Test
+  public void testGetters_onVirtual_doNotResolveItem() {
+    grid = new Grid( shell, SWT.VIRTUAL );
+    createGridColumns( grid, 3, SWT.NONE );
+    grid.setItemCount( 1 );
+    GridItem item = grid.getItem( 0 );
+
+    item.getText( 1 );
+    item.getFont( 1 );
+    item.getBackground();
+    item.getChecked( 2 );
+    item.getHeight();
+
+    assertFalse( item.isResolved() );
+  }
+
+  @Test
+  public void testGetters_onVirtual_returnDefaultValues() {
+    grid = new Grid( shell, SWT.VIRTUAL );
+    createGridColumns( grid, 3, SWT.NONE );
+    grid.setItemCount( 1 );
+    GridItem item = grid.getItem( 0 );
+
+    assertEquals( "", item.getText( 1 ) );
+    assertSame( grid.getFont(), item.getFont( 1 ) );
+    assertTrue( item.getCheckable( 2 ) );
+    assertEquals( 0, item.getColumnSpan( 0 ) );
+  }
+
+  @Test( expected = IndexOutOfBoundsException.class )
+  public void testGetText_onVirtual_InvalidColumn() {
+    grid = new Grid( shell, SWT.VIRTUAL );
+    grid.setItemCount( 1 );
+
+    grid.getItem( 0 ).getText( 5 );
+  }
+
   @Test
   public void testGetItemCount() {
     createGridItems( grid, 1, 10 );
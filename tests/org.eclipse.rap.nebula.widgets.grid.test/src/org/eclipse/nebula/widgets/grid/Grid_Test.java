@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2023 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -293,6 +293,29 @@ public class Grid_Test {
     assertEquals( 2, grid.indexOf( items[ 4 ] ) );
   }
 
+  @Test
+  public void testIndexOf_AfterInsert() {
+    GridItem[] items = createGridItems( grid, 3, 1 );
+
+    GridItem item = new GridItem( grid, SWT.NONE, 1 );
+
+    assertEquals( 0, grid.indexOf( items[ 0 ] ) );
+    assertEquals( 2, grid.indexOf( item ) );
+    assertEquals( 3, grid.indexOf( items[ 2 ] ) );
+    assertEquals( 6, grid.indexOf( items[ 5 ] ) );
+  }
+
+  @Test
+  public void testIndexOf_AfterSubItemInsert() {
+    GridItem[] items = createGridItems( grid, 3, 1 );
+
+    GridItem item = new GridItem( items[ 0 ], SWT.NONE, 0 );
+
+    assertEquals( 1, grid.indexOf( item ) );
+    assertEquals( 2, grid.indexOf( items[ 1 ] ) );
+    assertEquals( 3, grid.indexOf( items[ 2 ] ) );
+  }
+
   @Test
   public void testGetColumnCount() {
     createGridColumns( grid, 5, SWT.NONE );
@@ -721,6 +744,19 @@ public class Grid_Test {
     assertTrue( Arrays.equals( expected, grid.getCellSelection() ) );
   }
 
+  @Test
+  public void testIsCellSelected_afterColumnDisposal() {
+    createGridColumns( grid, 3, SWT.NONE );
+    createGridItems( grid, 3, 0 );
+    grid.setCellSelectionEnabled( true );
+    grid.setCellSelection( new Point[] { new Point( 2, 2 ) } );
+
+    grid.getColumn( 1 ).dispose();
+
+    assertTrue( grid.isCellSelected( new Point( 1, 2 ) ) );
+    assertFalse( grid.isCellSelected( new Point( 2, 2 ) ) );
+  }
+
   @Test
   public void testIsCellSelectionEnabled_Initial() {
     assertFalse( grid.isCellSelectionEnabled() );
@@ -779,6 +815,71 @@ public class Grid_Test {
     assertFalse( grid.isCellSelected( new Point( 2, 2 ) ) );
   }
 
+  @Test
+  public void testSelectCell_keepsSelectionWhenArgumentIsModified() {
+    grid.setCellSelectionEnabled( true );
+    createGridItems( grid, 3, 0 );
+    createGridColumns( grid, 3, SWT.NONE );
+    Point cell = new Point( 2, 1 );
+
+    grid.selectCell( cell );
+    cell.x = 0;
+
+    assertTrue( grid.isCellSelected( new Point( 2, 1 ) ) );
+    assertFalse( grid.isCellSelected( new Point( 0, 1 ) ) );
+  }
+
+  @Test
+  public void testGetCellSelection_returnsCopies() {
+    grid.setCellSelectionEnabled( true );
+    createGridItems( grid, 3, 0 );
+    createGridColumns( grid, 3, SWT.NONE );
+    grid.selectCell( new Point( 2, 1 ) );
+
+    grid.getCellSelection()[ 0 ].y = 2;
+
+    assertTrue( grid.isCellSelected( new Point( 2, 1 ) ) );
+    assertFalse( grid.isSelected( 2 ) );
+  }
+
+  @Test
+  public void testIsSelectedByIndex_withCellSelection() {
+    grid.setCellSelectionEnabled( true );
+    createGridItems( grid, 3, 0 );
+    createGridColumns( grid, 3, SWT.NONE );
+    grid.selectCells( new Point[] { new Point( 0, 1 ), new Point( 2, 1 ) } );
+
+    grid.deselectCell( new Point( 0, 1 ) );
+
+    assertTrue( grid.isSelected( 1 ) );
+    assertFalse( grid.isSelected( 0 ) );
+  }
+
+  @Test
+  public void testIsSelectedByIndex_withDeselectedCells() {
+    grid.setCellSelectionEnabled( true );
+    createGridItems( grid, 3, 0 );
+    createGridColumns( grid, 3, SWT.NONE );
+    grid.selectCells( new Point[] { new Point( 0, 1 ), new Point( 2, 1 ) } );
+
+    grid.deselectCells( new Point[] { new Point( 0, 1 ), new Point( 2, 1 ) } );
+
+    assertFalse( grid.isSelected( 1 ) );
+  }
+
+  @Test
+  public void testIsSelectedByIndex_afterColumnDisposal() {
+    createGridColumns( grid, 3, SWT.NONE );
+    createGridItems( grid, 3, 0 );
+    grid.setCellSelectionEnabled( true );
+    grid.setCellSelection( new Point[] { new Point( 1, 1 ), new Point( 2, 2 ) } );
+
+    grid.getColumn( 1 ).dispose();
+
+    assertFalse( grid.isSelected( 1 ) );
+    assertTrue( grid.isSelected( 2 ) );
+  }
+
   @Test
   public void testGetCell() {
     grid.setCellSelectionEnabled( true );
@@ -1133,6 +1234,30 @@ public class Grid_Test {
     assertTrue( Arrays.equals( expected, grid.getSelection() ) );
   }
 
+  @Test
+  public void testSelectAll_GetSelectionIndices() {
+    grid = new Grid( shell, SWT.MULTI );
+    createGridItems( grid, 3, 2 );
+
+    grid.selectAll();
+
+    assertTrue( Arrays.equals( new int[] { 0, 1, 2, 3, 4, 5, 6, 7, 8 },
+                               grid.getSelectionIndices() ) );
+  }
+
+  @Test
+  public void testSelectAll_AfterItemDisposal() {
+    grid = new Grid( shell, SWT.MULTI );
+    GridItem[] items = createGridItems( grid, 3, 2 );
+    grid.selectAll();
+
+    items[ 3 ].dispose();
+
+    assertFalse( grid.isSelected( items[ 3 ] ) );
+    assertTrue( grid.isSelected( items[ 6 ] ) );
+    assertTrue( Arrays.equals( new int[] { 0, 1, 2, 3, 4, 5 }, grid.getSelectionIndices() ) );
+  }
+
   @Test
   public void testSelectAll_AfterSelect() {
     grid = new Grid( shell, SWT.MULTI );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014 EclipseSource and others.
+ * Copyright (c) 2014, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,9 +14,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
+import org.eclipse.nebula.widgets.grid.internal.GridItemData.CellData;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
@@ -59,12 +61,12 @@ public class GridItemData_Test {
   public void testCreate_zeroCells() {
     data = new GridItemData( 0 );
 
-    assertEquals( 1, data.cellData.size() );
+    assertEquals( 1, data.cellData.length );
   }
 
   @Test
   public void testCreate_nonZeroCells() {
-    assertEquals( 3, data.cellData.size() );
+    assertEquals( 3, data.cellData.length );
   }
 
   @Test
@@ -84,8 +86,8 @@ public class GridItemData_Test {
 
     data.addCellData( -1 );
 
-    assertNotNull( data.cellData.get( 0 ) );
-    assertNull( data.cellData.get( 1 ) );
+    assertNotNull( data.cellData[ 0 ] );
+    assertNull( data.cellData[ 1 ] );
   }
 
   @Test
@@ -95,8 +97,41 @@ public class GridItemData_Test {
 
     data.addCellData( 0 );
 
-    assertNull( data.cellData.get( 0 ) );
-    assertNotNull( data.cellData.get( 1 ) );
+    assertNull( data.cellData[ 0 ] );
+    assertNotNull( data.cellData[ 1 ] );
+  }
+
+  @Test( expected = IndexOutOfBoundsException.class )
+  public void testAddCellData_invalidIndex() {
+    data.addCellData( 4 );
+  }
+
+  @Test
+  public void testFindCellData() {
+    assertNull( data.findCellData( 1 ) );
+  }
+
+  @Test
+  public void testFindCellData_afterGetCellData() {
+    CellData cellData = data.getCellData( 1 );
+
+    assertSame( cellData, data.findCellData( 1 ) );
+  }
+
+  @Test( expected = IndexOutOfBoundsException.class )
+  public void testFindCellData_invalidIndex() {
+    data.findCellData( 4 );
+  }
+
+  @Test
+  public void testRemoveCellData_atIndex() {
+    data.getCellData( 2 );
+
+    data.removeCellData( 1 );
+
+    assertEquals( 2, data.cellData.length );
+    assertNull( data.cellData[ 0 ] );
+    assertNotNull( data.cellData[ 1 ] );
   }
 
   @Test
@@ -105,7 +140,7 @@ public class GridItemData_Test {
 
     data.removeCellData( 0 );
 
-    assertEquals( 0, data.cellData.size() );
+    assertEquals( 0, data.cellData.length );
   }
 
   @Test
@@ -124,8 +159,8 @@ public class GridItemData_Test {
 
     data.clear();
 
-    assertEquals( 3, data.cellData.size() );
-    assertNull( data.cellData.get( 1 ) );
+    assertEquals( 3, data.cellData.length );
+    assertNull( data.cellData[ 1 ] );
     assertNull( data.defaultFont );
     assertNull( data.defaultBackground );
     assertNull( data.defaultForeground );
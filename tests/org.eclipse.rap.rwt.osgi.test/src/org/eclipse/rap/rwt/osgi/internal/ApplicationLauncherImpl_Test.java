@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,6 +15,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doAnswer;
@@ -27,6 +28,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.util.Dictionary;
 
 import org.eclipse.rap.rwt.application.*;
 import org.eclipse.rap.rwt.osgi.ApplicationReference;
@@ -35,6 +37,7 @@ import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.rap.service.http.HttpContext;
 import org.eclipse.rap.service.http.HttpService;
 import org.junit.*;
+import org.mockito.ArgumentMatcher;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 import org.osgi.framework.*;
@@ -337,12 +340,13 @@ public class ApplicationLauncherImpl_Test {
   private void checkAliasHasBeenRegistered( String alias, int times ) {
     try {
       verify( httpService, times( times ) ).registerServlet( eq( alias ),
+                                                             any( HttpServlet.class ),
+                                                             argThat( isAsyncSupported() ),
+                                                             any( HttpContext.class ) );
+      verify( httpService, times( times ) ).registerServlet( eq( getResourcesDirectory( alias ) ),
                                                              any( HttpServlet.class ),
                                                              isNull(),
                                                              any( HttpContext.class ) );
-      verify( httpService, times( times ) ).registerResources( eq( getResourcesDirectory( alias ) ),
-                                                               any( String.class ),
-                                                               any( HttpContext.class ) );
     } catch( Exception shouldNotHappen ) {
       throw new RuntimeException( shouldNotHappen );
     }
@@ -476,6 +480,16 @@ public class ApplicationLauncherImpl_Test {
     mockServletConfigForServletContextRetrieval( service, alias2 );
   }
 
+  private static ArgumentMatcher<Dictionary<String, String>> isAsyncSupported() {
+    return new ArgumentMatcher<Dictionary<String, String>>() {
+      @Override
+      public boolean matches( Dictionary<String, String> initParams ) {
+        return    initParams != null
+               && "true".equals( initParams.get( ApplicationReferenceImpl.ASYNC_SUPPORTED ) );
+      }
+    };
+  }
+
   private static void mockServletConfigForServletContextRetrieval( HttpService service,
                                                                    String alias )
   {
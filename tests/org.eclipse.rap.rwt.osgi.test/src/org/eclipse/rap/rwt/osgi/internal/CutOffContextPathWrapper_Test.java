@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,7 @@ import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import jakarta.servlet.*;
@@ -146,6 +147,16 @@ public class CutOffContextPathWrapper_Test {
     assertSame( servletContext, foundContext );
   }
 
+  @Test
+  public void testRequestWrapper_doesNotCreateSessionUnlessRequested() {
+    HttpServletRequest servletRequest = mock( HttpServletRequest.class );
+    ServletContext servletContext = mock( ServletContext.class );
+
+    new RequestWrapper( servletRequest, servletContext, "/foo" );
+
+    verify( servletRequest, never() ).getSession();
+  }
+
   @Test
   public void testLogWithThrowable() {
     Throwable throwable = new Throwable();
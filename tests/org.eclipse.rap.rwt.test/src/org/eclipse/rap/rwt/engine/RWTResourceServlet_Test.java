@@ -0,0 +1,421 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.engine;
+
+import static jakarta.servlet.http.HttpServletResponse.SC_NOT_FOUND;
+import static jakarta.servlet.http.HttpServletResponse.SC_NOT_MODIFIED;
+import static jakarta.servlet.http.HttpServletResponse.SC_PARTIAL_CONTENT;
+import static jakarta.servlet.http.HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE;
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.resources.ResourceDirectory;
+import org.eclipse.rap.rwt.internal.resources.ResourceManagerImpl;
+import org.eclipse.rap.rwt.internal.util.HTTP;
+import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
+import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
+import org.eclipse.rap.rwt.testfixture.internal.TestServletOutputStream;
+import org.eclipse.swt.SWT;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class RWTResourceServlet_Test {
+
+  private ResourceManagerImpl resourceManager;
+  private ApplicationContextImpl applicationContext;
+  private RWTResourceServlet servlet;
+  private TestRequest request;
+  private TestResponse response;
+
+  @Before
+  public void setUp() throws ServletException {
+    Fixture.setUp();
+    ResourceDirectory resourceDirectory = getApplicationContext().getResourceDirectory();
+    resourceManager = new ResourceManagerImpl( resourceDirectory );
+    applicationContext = mock( ApplicationContextImpl.class );
+    when( applicationContext.getResourceManager() ).thenReturn( resourceManager );
+    when( Boolean.valueOf( applicationContext.allowsRequests() ) ).thenReturn( Boolean.TRUE );
+    final ServletContext servletContext = mock( ServletContext.class );
+    when( servletContext.getAttribute( anyString() ) ).thenReturn( applicationContext );
+    when( servletContext.getMimeType( "resource.js" ) ).thenReturn( "text/javascript" );
+    servlet = new RWTResourceServlet() {
+      @Override
+      public ServletContext getServletContext() {
+        return servletContext;
+      }
+    };
+    servlet.init();
+    request = new TestRequest();
+    response = new TestResponse();
+  }
+
+  @After
+  public void tearDown() {
+    File path = new File( Fixture.WEB_CONTEXT_DIR, ResourceDirectory.DIRNAME );
+    FileUtil.delete( path );
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testDoGet() throws Exception {
+    byte[] content = new byte[] { 1, 2, 3 };
+    resourceManager.register( "path/to/resource", new ByteArrayInputStream( content ) );
+    request.setPathInfo( "/path/to/resource" );
+
+    servlet.doGet( request, response );
+
+    assertArrayEquals( content, getContent( response ) );
+    assertEquals( "application/octet-stream", response.getContentType() );
+    assertEquals( getETag( "path/to/resource" ), response.getHeader( "ETag" ) );
+    assertEquals( "no-cache", response.getHeader( "Cache-Control" ) );
+  }
+
+  @Test
+  public void testDoGet_withUnknownResource() throws Exception {
+    request.setPathInfo( "/unknown" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( SC_NOT_FOUND, response.getErrorStatus() );
+  }
+
+  @Test
+  public void testDoGet_withoutPathInfo() throws Exception {
+    request.setPathInfo( null );
+
+    servlet.doGet( request, response );
+
+    assertEquals( SC_NOT_FOUND, response.getErrorStatus() );
+  }
+
+  @Test
+  public void testDoGet_whenApplicationContextNotReady() throws Exception {
+    resourceManager.register( "resource", new ByteArrayInputStream( new byte[] { 1 } ) );
+    when( Boolean.valueOf( applicationContext.allowsRequests() ) ).thenReturn( Boolean.FALSE );
+    request.setPathInfo( "/resource" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( SC_NOT_FOUND, response.getErrorStatus() );
+  }
+
+  @Test
+  public void testDoGet_withImmutableResource() throws Exception {
+    resourceManager.registerImmutable( "generated/1234abcd.png",
+                                       new ByteArrayInputStream( new byte[] { 1 } ) );
+    request.setPathInfo( "/generated/1234abcd.png" );
+
+    servlet.doGet( request, response );
+
+    String cacheControl = response.getHeader( "Cache-Control" );
+    assertTrue( cacheControl.contains( "immutable" ) );
+    assertTrue( cacheControl.contains( "max-age=31536000" ) );
+  }
+
+  @Test
+  public void testDoGet_withVersionedClientResource() throws Exception {
+    String path = SWT.getVersion() + "/rap-client.js";
+    resourceManager.register( path, new ByteArrayInputStream( new byte[] { 1 } ) );
+    request.setPathInfo( "/" + path );
+
+    servlet.doGet( request, response );
+
+    assertEquals( "no-cache", response.getHeader( "Cache-Control" ) );
+    assertNotNull( response.getHeader( "ETag" ) );
+  }
+
+  @Test
+  public void testDoGet_withMatchingETag() throws Exception {
+    resourceManager.register( "resource", new ByteArrayInputStream( new byte[] { 1 } ) );
+    request.setPathInfo( "/resource" );
+    request.setHeader( "If-None-Match", getETag( "resource" ) );
+
+    servlet.doGet( request, response );
+
+    assertEquals( SC_NOT_MODIFIED, response.getStatus() );
+    assertEquals( 0, getContent( response ).length );
+    assertEquals( getETag( "resource" ), response.getHeader( "ETag" ) );
+  }
+
+  @Test
+  public void testDoGet_withOtherETag() throws Exception {
+    byte[] content = new byte[] { 1 };
+    resourceManager.register( "resource", new ByteArrayInputStream( content ) );
+    request.setPathInfo( "/resource" );
+    request.setHeader( "If-None-Match", "\"other\"" );
+
+    servlet.doGet( request, response );
+
+    assertArrayEquals( content, getContent( response ) );
+  }
+
+  @Test
+  public void testDoGet_withGzip() throws Exception {
+    byte[] content = createTextContent( 4096 );
+    resourceManager.register( "resource.js", new ByteArrayInputStream( content ) );
+    request.setPathInfo( "/resource.js" );
+    request.setHeader( HTTP.HEADER_ACCEPT_ENCODING, "gzip, deflate" );
+
+    servlet.doGet( request, response );
+
+    byte[] gzipContent = resourceManager.getServedResource( "resource.js" ).getGzipContent();
+    assertArrayEquals( gzipContent, getContent( response ) );
+    assertEquals( "gzip", response.getHeader( HTTP.HEADER_CONTENT_ENCODING ) );
+    assertEquals( "Accept-Encoding", response.getHeader( HTTP.HEADER_VARY ) );
+    assertEquals( "text/javascript", response.getContentType() );
+    assertEquals( getGzipETag( "resource.js" ), response.getHeader( "ETag" ) );
+  }
+
+  @Test
+  public void testDoGet_withoutGzipSupport() throws Exception {
+    byte[] content = createTextContent( 4096 );
+    resourceManager.register( "resource.js", new ByteArrayInputStream( content ) );
+    request.setPathInfo( "/resource.js" );
+
+    servlet.doGet( request, response );
+
+    assertArrayEquals( content, getContent( response ) );
+    assertNull( response.getHeader( HTTP.HEADER_CONTENT_ENCODING ) );
+    assertEquals( "Accept-Encoding", response.getHeader( HTTP.HEADER_VARY ) );
+  }
+
+  @Test
+  public void testDoGet_withGzipAndUncompressedETag() throws Exception {
+    byte[] content = createTextContent( 4096 );
+    resourceManager.register( "resource.js", new ByteArrayInputStream( content ) );
+    request.setPathInfo( "/resource.js" );
+    request.setHeader( HTTP.HEADER_ACCEPT_ENCODING, "gzip" );
+    request.setHeader( "If-None-Match", getETag( "resource.js" ) );
+
+    servlet.doGet( request, response );
+
+    assertEquals( "gzip", response.getHeader( HTTP.HEADER_CONTENT_ENCODING ) );
+  }
+
+  @Test
+  public void testDoGet_withRange() throws Exception {
+    byte[] content = new byte[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 };
+    resourceManager.register( "resource", new ByteArrayInputStream( content ) );
+    request.setPathInfo( "/resource" );
+    request.setHeader( "Range", "bytes=2-5" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( SC_PARTIAL_CONTENT, response.getStatus() );
+    assertEquals( "bytes 2-5/10", response.getHeader( "Content-Range" ) );
+    assertArrayEquals( new byte[] { 2, 3, 4, 5 }, getContent( response ) );
+  }
+
+  @Test
+  public void testDoGet_withRangeLargerThanTransferBuffer() throws Exception {
+    byte[] content = new byte[ 100000 ];
+    for( int i = 0; i < content.length; i++ ) {
+      content[ i ] = ( byte )i;
+    }
+    resourceManager.register( "resource", new ByteArrayInputStream( content ) );
+    request.setPathInfo( "/resource" );
+    request.setHeader( "Range", "bytes=1000-" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( SC_PARTIAL_CONTENT, response.getStatus() );
+    assertArrayEquals( Arrays.copyOfRange( content, 1000, content.length ), getContent( response ) );
+  }
+
+  @Test
+  public void testDoGet_transfersToChannelOfOutputStream() throws Exception {
+    byte[] content = new byte[ 100000 ];
+    for( int i = 0; i < content.length; i++ ) {
+      content[ i ] = ( byte )i;
+    }
+    resourceManager.register( "resource", new ByteArrayInputStream( content ) );
+    request.setPathInfo( "/resource" );
+    request.setHeader( "Range", "bytes=1000-" );
+    final ChannelOutputStream outputStream = new ChannelOutputStream();
+    response = new TestResponse() {
+      @Override
+      public ServletOutputStream getOutputStream() {
+        return outputStream;
+      }
+    };
+
+    servlet.doGet( request, response );
+
+    assertTrue( outputStream.isChannelWritten() );
+    byte[] expected = Arrays.copyOfRange( content, 1000, content.length );
+    assertArrayEquals( expected, outputStream.getContent().toByteArray() );
+  }
+
+  @Test
+  public void testDoGet_withUnsatisfiableRange() throws Exception {
+    resourceManager.register( "resource", new ByteArrayInputStream( new byte[ 10 ] ) );
+    request.setPathInfo( "/resource" );
+    request.setHeader( "Range", "bytes=10-" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( SC_REQUESTED_RANGE_NOT_SATISFIABLE, response.getErrorStatus() );
+    assertEquals( "bytes */10", response.getHeader( "Content-Range" ) );
+  }
+
+  @Test
+  public void testDoGet_withRangeAndMatchingIfRange() throws Exception {
+    resourceManager.register( "resource", new ByteArrayInputStream( new byte[ 10 ] ) );
+    request.setPathInfo( "/resource" );
+    request.setHeader( "Range", "bytes=0-1" );
+    request.setHeader( "If-Range", getETag( "resource" ) );
+
+    servlet.doGet( request, response );
+
+    assertEquals( SC_PARTIAL_CONTENT, response.getStatus() );
+  }
+
+  @Test
+  public void testDoGet_withRangeAndOutdatedIfRange() throws Exception {
+    byte[] content = new byte[ 10 ];
+    resourceManager.register( "resource", new ByteArrayInputStream( content ) );
+    request.setPathInfo( "/resource" );
+    request.setHeader( "Range", "bytes=0-1" );
+    request.setHeader( "If-Range", "\"outdated\"" );
+
+    servlet.doGet( request, response );
+
+    assertArrayEquals( content, getContent( response ) );
+    assertNull( response.getHeader( "Content-Range" ) );
+  }
+
+  @Test
+  public void testDoGet_withRangeOfCompressibleResource() throws Exception {
+    byte[] content = createTextContent( 4096 );
+    resourceManager.register( "resource.js", new ByteArrayInputStream( content ) );
+    request.setPathInfo( "/resource.js" );
+    request.setHeader( HTTP.HEADER_ACCEPT_ENCODING, "gzip" );
+    request.setHeader( "Range", "bytes=0-9" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( SC_PARTIAL_CONTENT, response.getStatus() );
+    assertNull( response.getHeader( HTTP.HEADER_CONTENT_ENCODING ) );
+    assertArrayEquals( Arrays.copyOf( content, 10 ), getContent( response ) );
+  }
+
+  @Test
+  public void testDoGet_advertisesRanges() throws Exception {
+    resourceManager.register( "resource", new ByteArrayInputStream( new byte[ 10 ] ) );
+    request.setPathInfo( "/resource" );
+
+    servlet.doGet( request, response );
+
+    assertEquals( "bytes", response.getHeader( "Accept-Ranges" ) );
+  }
+
+  @Test
+  public void testParseRange() {
+    assertArrayEquals( new long[] { 0, 9 }, RWTResourceServlet.parseRange( "bytes=0-9", 10 ) );
+    assertArrayEquals( new long[] { 5, 9 }, RWTResourceServlet.parseRange( "bytes=5-", 10 ) );
+    assertArrayEquals( new long[] { 7, 9 }, RWTResourceServlet.parseRange( "bytes=-3", 10 ) );
+    assertArrayEquals( new long[] { 0, 9 }, RWTResourceServlet.parseRange( "bytes=0-99", 10 ) );
+  }
+
+  @Test
+  public void testParseRange_unsatisfiable() {
+    assertEquals( 0, RWTResourceServlet.parseRange( "bytes=10-", 10 ).length );
+    assertEquals( 0, RWTResourceServlet.parseRange( "bytes=-0", 10 ).length );
+  }
+
+  @Test
+  public void testParseRange_ignored() {
+    assertNull( RWTResourceServlet.parseRange( "bytes=5-2", 10 ) );
+    assertNull( RWTResourceServlet.parseRange( "items=0-1", 10 ) );
+    assertNull( RWTResourceServlet.parseRange( "bytes=0-1,3-4", 10 ) );
+    assertNull( RWTResourceServlet.parseRange( "bytes=a-", 10 ) );
+  }
+
+  @Test
+  public void testMatches() {
+    assertTrue( RWTResourceServlet.matches( "\"abc\"", "\"abc\"" ) );
+    assertTrue( RWTResourceServlet.matches( "\"x\", \"abc\"", "\"abc\"" ) );
+    assertTrue( RWTResourceServlet.matches( "W/\"abc\"", "\"abc\"" ) );
+    assertTrue( RWTResourceServlet.matches( "*", "\"abc\"" ) );
+    assertFalse( RWTResourceServlet.matches( "\"abcd\"", "\"abc\"" ) );
+    assertFalse( RWTResourceServlet.matches( null, "\"abc\"" ) );
+  }
+
+  private String getETag( String path ) {
+    return resourceManager.getServedResource( path ).getETag();
+  }
+
+  private String getGzipETag( String path ) {
+    return resourceManager.getServedResource( path ).getGzipETag();
+  }
+
+  private static byte[] getContent( TestResponse response ) throws Exception {
+    TestServletOutputStream outputStream = ( TestServletOutputStream )response.getOutputStream();
+    return outputStream.getContent().toByteArray();
+  }
+
+  private static byte[] createTextContent( int length ) {
+    byte[] result = new byte[ length ];
+    Arrays.fill( result, ( byte )'a' );
+    return result;
+  }
+
+  private static class ChannelOutputStream extends TestServletOutputStream
+    implements WritableByteChannel
+  {
+
+    private boolean channelWritten;
+
+    @Override
+    public int write( ByteBuffer buffer ) {
+      channelWritten = true;
+      int result = buffer.remaining();
+      while( buffer.hasRemaining() ) {
+        getContent().write( buffer.get() );
+      }
+      return result;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+
+    boolean isChannelWritten() {
+      return channelWritten;
+    }
+
+  }
+
+}
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.Test;
+
+
+public class VirtualUIThread_Test {
+
+  @Test
+  public void testGetLock_isLock() {
+    VirtualUIThread uiThread = new VirtualUIThread( mock() );
+
+    assertTrue( uiThread.getLock() instanceof Lock );
+  }
+
+  @Test
+  public void testGetCurrent_outsideOfUIThread() {
+    assertNull( VirtualUIThread.getCurrent() );
+  }
+
+  @Test
+  public void testSwitchThread() {
+    final List<String> log = new ArrayList<>();
+    final VirtualUIThread[] uiThread = new VirtualUIThread[ 1 ];
+    uiThread[ 0 ] = new VirtualUIThread( new Runnable() {
+      @Override
+      public void run() {
+        RWTLifeCycle.runLocked( uiThread[ 0 ], new Runnable() {
+          @Override
+          public void run() {
+            log.add( "ui" );
+            assertSame( uiThread[ 0 ], VirtualUIThread.getCurrent() );
+            uiThread[ 0 ].switchThread();
+          }
+        } );
+      }
+    } );
+    uiThread[ 0 ].getThread().setDaemon( true );
+
+    RWTLifeCycle.runLocked( uiThread[ 0 ], new Runnable() {
+      @Override
+      public void run() {
+        uiThread[ 0 ].getThread().start();
+        uiThread[ 0 ].switchThread();
+        log.add( "request" );
+      }
+    } );
+
+    assertEquals( Arrays.asList( "ui", "request" ), log );
+  }
+
+  private static Runnable mock() {
+    return new Runnable() {
+      @Override
+      public void run() {
+      }
+    };
+  }
+
+}
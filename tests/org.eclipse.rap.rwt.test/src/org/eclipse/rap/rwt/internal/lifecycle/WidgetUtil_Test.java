@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -25,6 +25,8 @@ import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableItem;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -61,6 +63,52 @@ public class WidgetUtil_Test {
     assertNull( WidgetUtil.find( composite, shellId ) );
   }
 
+  @Test
+  public void testFind_withNullId() {
+    assertNull( WidgetUtil.find( shell, null ) );
+  }
+
+  @Test
+  public void testFind_item() {
+    Table table = new Table( shell, SWT.NONE );
+    TableItem item = new TableItem( table, SWT.NONE );
+
+    assertSame( item, WidgetUtil.find( shell, WidgetUtil.getId( item ) ) );
+  }
+
+  @Test
+  public void testFind_disposedWidget() {
+    Button button = new Button( shell, SWT.PUSH );
+    String buttonId = WidgetUtil.getId( button );
+
+    button.dispose();
+
+    assertNull( WidgetUtil.find( shell, buttonId ) );
+  }
+
+  @Test
+  public void testFind_widgetOfChildShell() {
+    Shell childShell = new Shell( shell );
+    Button button = new Button( childShell, SWT.PUSH );
+    String buttonId = WidgetUtil.getId( button );
+
+    assertNull( WidgetUtil.find( shell, buttonId ) );
+    assertSame( button, WidgetUtil.find( childShell, buttonId ) );
+  }
+
+  @Test
+  public void testFind_afterSetParent() {
+    Composite composite1 = new Composite( shell, SWT.NONE );
+    Composite composite2 = new Composite( shell, SWT.NONE );
+    Button button = new Button( composite1, SWT.PUSH );
+    String buttonId = WidgetUtil.getId( button );
+
+    button.setParent( composite2 );
+
+    assertNull( WidgetUtil.find( composite1, buttonId ) );
+    assertSame( button, WidgetUtil.find( composite2, buttonId ) );
+  }
+
   @Test
   public void testGetVariant() {
     shell.setData( RWT.CUSTOM_VARIANT, "foo" );
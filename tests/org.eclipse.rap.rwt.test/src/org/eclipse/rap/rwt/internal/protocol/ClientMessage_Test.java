@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,7 +14,10 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.rwt.internal.protocol.Operation.CallOperation;
@@ -84,6 +87,28 @@ public class ClientMessage_Test {
     assertTrue( operations.isEmpty() );
   }
 
+  @Test
+  public void testGetAllTargets_inOrderOfOperations() {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"set\", \"w4\", { \"p1\" : \"foo\" } ],"
+                + "[ \"set\", \"w3\", { \"p2\" : \"bar\" } ],"
+                + "[ \"notify\", \"w4\", \"widgetSelected\", {} ]"
+                + "] }";
+    ClientMessage message = new ClientMessage( JsonObject.readFrom( json ) );
+
+    Set<String> targets = message.getAllTargets();
+
+    assertEquals( Arrays.asList( "w4", "w3" ), new ArrayList<>( targets ) );
+  }
+
+  @Test
+  public void testGetAllTargets_withEmptyMessage() {
+    String json = "{ \"head\" : {}, \"operations\" : [] }";
+    ClientMessage message = new ClientMessage( JsonObject.readFrom( json ) );
+
+    assertTrue( message.getAllTargets().isEmpty() );
+  }
+
   @Test
   public void testGetAllOperationsFor_withoutMatchingOperations() {
     String json = "{ \"head\" : {}, \"operations\" : ["
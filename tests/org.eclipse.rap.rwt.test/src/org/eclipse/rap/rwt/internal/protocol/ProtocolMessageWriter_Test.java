@@ -1,5 +1,5 @@
 /*******************************************************************************
-* Copyright (c) 2011, 2014 EclipseSource and others.
+* Copyright (c) 2011, 2026 EclipseSource and others.
 * All rights reserved. This program and the accompanying materials
 * are made available under the terms of the Eclipse Public License v1.0
 * which accompanies this distribution, and is available at
@@ -18,6 +18,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.StringWriter;
 import java.util.List;
 
 import org.eclipse.rap.json.JsonArray;
@@ -31,6 +32,7 @@ import org.eclipse.rap.rwt.internal.protocol.Operation.DestroyOperation;
 import org.eclipse.rap.rwt.internal.protocol.Operation.ListenOperation;
 import org.eclipse.rap.rwt.internal.protocol.Operation.SetOperation;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.rap.rwt.testfixture.internal.TestMessage;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Display;
@@ -407,6 +409,71 @@ public class ProtocolMessageWriter_Test {
     assertEquals( "Hello", property.get( 1 ).asString() );
   }
 
+  @Test
+  public void testStreaming_writesSameJson() throws Exception {
+    ProtocolMessageWriter streamingWriter = new ProtocolMessageWriter( true );
+    appendOperations( writer );
+    appendOperations( streamingWriter );
+
+    assertEquals( writeToString( writer.createMessage() ),
+                  writeToString( streamingWriter.createMessage() ) );
+  }
+
+  @Test
+  public void testStreaming_mergesPendingOperations() throws Exception {
+    ProtocolMessageWriter streamingWriter = new ProtocolMessageWriter( true );
+    streamingWriter.appendSet( shellId, "foo", 23 );
+    streamingWriter.appendSet( shellId, "bar", 42 );
+
+    String json = writeToString( streamingWriter.createMessage() );
+
+    String expected = "{\"head\":{},\"operations\":[[\"set\",\"" + shellId + "\","
+                    + "{\"foo\":23,\"bar\":42}]]}";
+    assertEquals( expected, json );
+  }
+
+  @Test
+  public void testStreaming_getOperations() {
+    ProtocolMessageWriter streamingWriter = new ProtocolMessageWriter( true );
+    appendOperations( streamingWriter );
+
+    List<Operation> operations = streamingWriter.createMessage().getOperations();
+
+    assertEquals( 4, operations.size() );
+    assertTrue( operations.get( 0 ) instanceof CreateOperation );
+    CreateOperation createOperation = ( CreateOperation )operations.get( 0 );
+    assertEquals( 23, createOperation.getProperties().get( "foo" ).asInt() );
+    assertTrue( operations.get( 3 ) instanceof DestroyOperation );
+  }
+
+  @Test
+  public void testStreaming_writesModifiedOperations() throws Exception {
+    ProtocolMessageWriter streamingWriter = new ProtocolMessageWriter( true );
+    appendOperations( streamingWriter );
+    Message message = streamingWriter.createMessage();
+
+    message.getOperations().remove( 3 );
+
+    TestMessage written = new TestMessage( JsonObject.readFrom( writeToString( message ) ) );
+    assertEquals( 3, written.getOperationCount() );
+  }
+
+  private void appendOperations( ProtocolMessageWriter protocolWriter ) {
+    protocolWriter.appendHead( "requestCounter", 1 );
+    protocolWriter.appendCreate( shellId, "rwt.widgets.Shell" );
+    protocolWriter.appendSet( shellId, "foo", 23 );
+    protocolWriter.appendSet( shellId, "text", "a \"quoted\" text" );
+    protocolWriter.appendListen( shellId, "Selection", true );
+    protocolWriter.appendCall( shellId, "method", new JsonObject().add( "bar", 42 ) );
+    protocolWriter.appendDestroy( shellId );
+  }
+
+  private static String writeToString( Message message ) throws Exception {
+    StringWriter stringWriter = new StringWriter();
+    message.writeTo( stringWriter );
+    return stringWriter.toString();
+  }
+
   private Message createMessage() {
     return writer.createMessage();
   }
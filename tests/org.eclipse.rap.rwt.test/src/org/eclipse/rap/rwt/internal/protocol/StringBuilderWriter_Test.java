@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+
+import org.eclipse.rap.json.JsonObject;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class StringBuilderWriter_Test {
+
+  private StringBuilder builder;
+  private StringBuilderWriter writer;
+
+  @Before
+  public void setUp() {
+    builder = new StringBuilder( "foo" );
+    writer = new StringBuilderWriter( builder );
+  }
+
+  @Test
+  public void testWrite_appendsToBuilder() {
+    writer.write( 'a' );
+    writer.write( "bc" );
+    writer.write( "xdex", 1, 2 );
+    writer.write( new char[] { 'x', 'f', 'x' }, 1, 1 );
+    writer.append( "g" );
+
+    assertEquals( "fooabcdefg", builder.toString() );
+  }
+
+  @Test
+  public void testWrite_withJson() throws IOException {
+    new JsonObject().add( "bar", "\"baz\"" ).writeTo( writer );
+
+    assertEquals( "foo{\"bar\":\"\\\"baz\\\"\"}", builder.toString() );
+  }
+
+}
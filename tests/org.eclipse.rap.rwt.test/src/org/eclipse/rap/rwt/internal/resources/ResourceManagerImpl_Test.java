@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,7 @@ import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicatio
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -28,13 +29,19 @@ import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import org.eclipse.rap.rwt.service.ResourceLoader;
 import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -391,6 +398,154 @@ public class ResourceManagerImpl_Test {
     }
   }
 
+  @Test
+  public void testGetServedResource() {
+    resourceManager.register( "path/to/resource", createInputStream() );
+
+    ServedResource servedResource = resourceManager.getServedResource( "path/to/resource" );
+
+    assertEquals( 3, servedResource.getLength() );
+    assertEquals( getResourceCopyFile( "path/to/resource" ), servedResource.getFile() );
+    assertFalse( servedResource.isImmutable() );
+  }
+
+  @Test
+  public void testGetServedResource_withEscapedPath() {
+    resourceManager.register( "foo:bar", createInputStream() );
+
+    assertNotNull( resourceManager.getServedResource( "foo$1bar" ) );
+  }
+
+  @Test
+  public void testGetServedResource_unknown() {
+    assertNull( resourceManager.getServedResource( "unknown" ) );
+  }
+
+  @Test
+  public void testGetServedResource_afterUnregister() {
+    resourceManager.register( "path/to/resource", createInputStream() );
+
+    resourceManager.unregister( "path/to/resource" );
+
+    assertNull( resourceManager.getServedResource( "path/to/resource" ) );
+  }
+
+  @Test
+  public void testGetServedResource_eTagDependsOnContent() {
+    resourceManager.register( "resource1", new ByteArrayInputStream( new byte[] { 1, 2, 3 } ) );
+    resourceManager.register( "resource2", new ByteArrayInputStream( new byte[] { 1, 2, 3 } ) );
+    resourceManager.register( "resource3", new ByteArrayInputStream( new byte[] { 1, 2, 4 } ) );
+
+    String eTag1 = resourceManager.getServedResource( "resource1" ).getETag();
+    String eTag2 = resourceManager.getServedResource( "resource2" ).getETag();
+    String eTag3 = resourceManager.getServedResource( "resource3" ).getETag();
+
+    assertTrue( eTag1.startsWith( "\"" ) && eTag1.endsWith( "\"" ) );
+    assertEquals( eTag1, eTag2 );
+    assertNotEquals( eTag1, eTag3 );
+  }
+
+  @Test
+  public void testGetServedResource_isNotImmutableWithVersionOrGeneratedPath() {
+    String clientPath = SWT.getVersion() + "/client.js";
+    resourceManager.register( clientPath, createInputStream() );
+    resourceManager.register( "generated/1234abcd.png", createInputStream() );
+
+    assertFalse( resourceManager.getServedResource( clientPath ).isImmutable() );
+    assertFalse( resourceManager.getServedResource( "generated/1234abcd.png" ).isImmutable() );
+  }
+
+  @Test
+  public void testRegisterImmutable() {
+    resourceManager.registerImmutable( "generated/1234abcd.png", createInputStream() );
+
+    assertTrue( resourceManager.isRegistered( "generated/1234abcd.png" ) );
+    assertTrue( resourceManager.getServedResource( "generated/1234abcd.png" ).isImmutable() );
+  }
+
+  @Test
+  public void testRegisterImmutable_reregisteredAsMutable() {
+    resourceManager.registerImmutable( "resource", createInputStream() );
+
+    resourceManager.register( "resource", createInputStream() );
+
+    assertFalse( resourceManager.getServedResource( "resource" ).isImmutable() );
+  }
+
+  @Test
+  public void testGetServedResource_compressesText() throws IOException {
+    byte[] content = createTextContent( 4096 );
+    resourceManager.register( "resource.js", new ByteArrayInputStream( content ) );
+
+    ServedResource servedResource = resourceManager.getServedResource( "resource.js" );
+
+    byte[] gzipContent = servedResource.getGzipContent();
+    assertTrue( gzipContent.length < content.length );
+    assertArrayEquals( content, decompress( gzipContent ) );
+    assertNotEquals( servedResource.getETag(), servedResource.getGzipETag() );
+  }
+
+  @Test
+  public void testGetServedResource_doesNotCompressSmallText() {
+    resourceManager.register( "resource.js", new ByteArrayInputStream( createTextContent( 100 ) ) );
+
+    assertNull( resourceManager.getServedResource( "resource.js" ).getGzipContent() );
+  }
+
+  @Test
+  public void testGetServedResource_doesNotCompressBinary() {
+    byte[] content = createTextContent( 4096 );
+    resourceManager.register( "resource.png", new ByteArrayInputStream( content ) );
+
+    assertNull( resourceManager.getServedResource( "resource.png" ).getGzipContent() );
+  }
+
+  @Test
+  public void testGetServedResource_readsContentOnFirstRequest() throws IOException {
+    byte[] content = createTextContent( 4096 );
+    resourceManager.register( "resource.js", new ByteArrayInputStream( content ) );
+    // changes of the file before the first request are served
+    Arrays.fill( content, ( byte )'b' );
+    File file = getResourceCopyFile( "resource.js" );
+    try( OutputStream outputStream = new FileOutputStream( file ) ) {
+      outputStream.write( content );
+    }
+
+    ServedResource servedResource = resourceManager.getServedResource( "resource.js" );
+
+    assertArrayEquals( content, decompress( servedResource.getGzipContent() ) );
+  }
+
+  @Test
+  public void testRegisterImmutable_delegatesToRegister() {
+    final List<String> registered = new ArrayList<>();
+    resourceManager = new ResourceManagerImpl( null ) {
+      @Override
+      public void register( String path, InputStream inputStream ) {
+        registered.add( path );
+      }
+    };
+
+    resourceManager.registerImmutable( "generated/1234abcd.png", createInputStream() );
+
+    assertEquals( Arrays.asList( "generated/1234abcd.png" ), registered );
+  }
+
+  private static byte[] createTextContent( int length ) {
+    byte[] result = new byte[ length ];
+    Arrays.fill( result, ( byte )'a' );
+    return result;
+  }
+
+  private static byte[] decompress( byte[] content ) throws IOException {
+    InputStream inputStream = new GZIPInputStream( new ByteArrayInputStream( content ) );
+    try {
+      return inputStream.readAllBytes();
+    } finally {
+      inputStream.close();
+    }
+  }
+
   private static byte[] read( File file ) throws IOException {
     FileInputStream inputStream = new FileInputStream( file );
     try {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2023 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@
 package org.eclipse.rap.rwt.internal.serverpush;
 
 import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.runInThread;
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -19,6 +20,9 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -26,6 +30,8 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.servlet.http.HttpSessionBindingListener;
 
@@ -39,6 +45,7 @@ import org.eclipse.rap.rwt.internal.service.UISessionImpl;
 import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.rap.rwt.testfixture.internal.NoOpRunnable;
+import org.eclipse.rap.rwt.testfixture.internal.TestAsyncContext;
 import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
 import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
 import org.eclipse.swt.SWTException;
@@ -545,6 +552,134 @@ public class ServerPushManager_Test {
     assertNotNull( response.getHeader( "Expires" ) );
   }
 
+  @Test
+  public void testProcessAsyncRequest_doesNotBlock() {
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    manager.activateServerPushFor( HANDLE_1 );
+
+    manager.processRequest( mockAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+
+    assertTrue( manager.isCallBackRequestBlocked() );
+    verify( asyncContext, never() ).complete();
+  }
+
+  @Test
+  public void testProcessAsyncRequest_completesImmediatelyWithoutServerPush() {
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    HttpServletRequest request = mockAsyncRequest( asyncContext );
+
+    manager.processRequest( request, ContextProvider.getResponse() );
+
+    assertFalse( manager.isCallBackRequestBlocked() );
+    verify( request, never() ).startAsync();
+  }
+
+  @Test
+  public void testProcessAsyncRequest_completesOnWakeClient() {
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processRequest( mockAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+
+    manager.setHasRunnables( true );
+    manager.wakeClient();
+
+    assertFalse( manager.isCallBackRequestBlocked() );
+    verify( asyncContext ).complete();
+  }
+
+  @Test
+  public void testProcessAsyncRequest_completesOnDeactivation() {
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processRequest( mockAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+
+    manager.deactivateServerPushFor( HANDLE_1 );
+
+    assertFalse( manager.isCallBackRequestBlocked() );
+    verify( asyncContext ).complete();
+  }
+
+  @Test
+  public void testProcessAsyncRequest_completesPreviousRequest() {
+    AsyncContext asyncContext1 = mock( AsyncContext.class );
+    AsyncContext asyncContext2 = mock( AsyncContext.class );
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processRequest( mockAsyncRequest( asyncContext1 ), ContextProvider.getResponse() );
+
+    manager.processRequest( mockAsyncRequest( asyncContext2 ), ContextProvider.getResponse() );
+
+    assertTrue( manager.isCallBackRequestBlocked() );
+    verify( asyncContext1 ).complete();
+    verify( asyncContext2, never() ).complete();
+  }
+
+  @Test
+  public void testProcessAsyncRequest_completesAfterCheckInterval() throws InterruptedException {
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    manager.setRequestCheckInterval( 10 );
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processRequest( mockAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+
+    long start = System.currentTimeMillis();
+    while( manager.isCallBackRequestBlocked() && System.currentTimeMillis() - start < 5000 ) {
+      Thread.sleep( 5 );
+    }
+
+    assertFalse( manager.isCallBackRequestBlocked() );
+    verify( asyncContext ).complete();
+  }
+
+  @Test
+  public void testProcessAsyncRequest_completesWhenSessionIsDestroyed() {
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processRequest( mockAsyncRequest( asyncContext ), ContextProvider.getResponse() );
+
+    ( ( UISessionImpl )ContextProvider.getUISession() ).shutdown();
+
+    verify( asyncContext ).complete();
+  }
+
+  @Test
+  public void testProcessAsyncRequest_sessionIsSerializableWhileSuspended() throws Exception {
+    TestRequest request = createAsyncRequest();
+    manager.activateServerPushFor( "handle" );
+    manager.processRequest( request, ContextProvider.getResponse() );
+    UISessionImpl uiSession = ( UISessionImpl )ContextProvider.getUISession();
+
+    UISessionImpl deserializedUiSession = serializeAndDeserialize( uiSession );
+
+    assertNotNull( deserializedUiSession );
+    assertTrue( manager.isCallBackRequestBlocked() );
+    assertTrue( request.isAsyncStarted() );
+  }
+
+  @Test
+  public void testProcessAsyncRequest_completesAsyncContextOnWakeClient() {
+    TestRequest request = createAsyncRequest();
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.processRequest( request, ContextProvider.getResponse() );
+
+    manager.setHasRunnables( true );
+    manager.wakeClient();
+
+    assertFalse( manager.isCallBackRequestBlocked() );
+    assertTrue( ( ( TestAsyncContext )request.getAsyncContext() ).isCompleted() );
+  }
+
+  private static TestRequest createAsyncRequest() {
+    TestRequest request = new TestRequest();
+    request.setAsyncSupported( true );
+    return request;
+  }
+
+  private static HttpServletRequest mockAsyncRequest( AsyncContext asyncContext ) {
+    HttpServletRequest request = mock( HttpServletRequest.class );
+    when( Boolean.valueOf( request.isAsyncSupported() ) ).thenReturn( Boolean.TRUE );
+    when( request.startAsync() ).thenReturn( asyncContext );
+    return request;
+  }
+
   private void simulateBackgroundAddition( final ServiceContext serviceContext ) throws Throwable {
     Runnable runnable = new Runnable() {
       @Override
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+
+public class BufferedResponse_Test {
+
+  private static final int MAX_SIZE = 4 * 1024 * 1024;
+  private static final String CONTENT = "{\"head\":{}}";
+
+  @Test
+  public void testCreate_smallResponseIsNotCompressed() throws IOException {
+    BufferedResponse response = create( CONTENT, MAX_SIZE, 1024 );
+
+    assertFalse( response.isCompressed() );
+    assertEquals( CONTENT, getContent( response ) );
+  }
+
+  @Test
+  public void testCreate_largeResponseIsNotCompressedByDefault() throws IOException {
+    String content = createLargeContent();
+    byte[] bytes = content.getBytes( UTF_8 );
+
+    BufferedResponse response = BufferedResponse.create( bytes, false, bytes.length );
+
+    assertFalse( response.isCompressed() );
+    assertSame( bytes, response.getBytes() );
+    assertEquals( content, getContent( response ) );
+  }
+
+  @Test
+  public void testCreate_compressesAboveThreshold() throws IOException {
+    String content = createLargeContent();
+
+    BufferedResponse response = create( content, MAX_SIZE, 1024 );
+
+    assertTrue( response.isCompressed() );
+    assertTrue( response.getSize() < content.length() );
+    assertEquals( content, getContent( response ) );
+  }
+
+  @Test
+  public void testCreate_keepsCompressedBytes() throws IOException {
+    String content = createLargeContent();
+    byte[] bytes = content.getBytes( UTF_8 );
+    byte[] compressed = BufferedResponse.compress( bytes );
+
+    BufferedResponse response
+      = BufferedResponse.create( compressed, true, bytes.length, MAX_SIZE, -1 );
+
+    assertTrue( response.isCompressed() );
+    assertSame( compressed, response.getBytes() );
+    assertEquals( bytes.length, response.getContentLength() );
+    assertEquals( content, getContent( response ) );
+  }
+
+  @Test
+  public void testCreate_preservesNonAsciiCharacters() throws IOException {
+    BufferedResponse response = create( "äöü €", MAX_SIZE, -1 );
+
+    assertEquals( "äöü €", getContent( response ) );
+  }
+
+  @Test
+  public void testCreate_returnsNullIfResponseExceedsMaxSize() {
+    assertNull( create( CONTENT, 5, -1 ) );
+  }
+
+  @Test
+  public void testCreate_returnsNullWithoutBytes() {
+    assertNull( BufferedResponse.create( null, false, 100 ) );
+  }
+
+  @Test
+  public void testWriteTo_writesStoredBytes() throws IOException {
+    byte[] bytes = CONTENT.getBytes( UTF_8 );
+    BufferedResponse response = BufferedResponse.create( bytes, false, bytes.length );
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    response.writeTo( outputStream );
+
+    assertArrayEquals( bytes, outputStream.toByteArray() );
+  }
+
+  @Test
+  public void testSerialize() throws Exception {
+    String content = createLargeContent();
+    BufferedResponse response = create( content, MAX_SIZE, 1024 );
+
+    BufferedResponse deserialized = serializeAndDeserialize( response );
+
+    assertEquals( content, getContent( deserialized ) );
+  }
+
+  private static BufferedResponse create( String content, int maxSize, int compressionThreshold ) {
+    byte[] bytes = content.getBytes( UTF_8 );
+    return BufferedResponse.create( bytes, false, bytes.length, maxSize, compressionThreshold );
+  }
+
+  private static String getContent( BufferedResponse response ) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    response.writeTo( outputStream );
+    return new String( outputStream.toByteArray(), UTF_8 );
+  }
+
+  private static String createLargeContent() {
+    StringBuilder builder = new StringBuilder( "[" );
+    for( int i = 0; i < 2000; i++ ) {
+      builder.append( "[\"set\",\"w" ).append( i ).append( "\",{\"text\":\"foo\"}]," );
+    }
+    return builder.append( "]" ).toString();
+  }
+
+}
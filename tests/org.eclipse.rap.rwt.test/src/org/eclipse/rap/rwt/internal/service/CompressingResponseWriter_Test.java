@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
+import org.eclipse.rap.rwt.testfixture.internal.TestServletOutputStream;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class CompressingResponseWriter_Test {
+
+  private TestResponse response;
+
+  @Before
+  public void setUp() {
+    response = new TestResponse();
+  }
+
+  @Test
+  public void testWrite_withoutCompression() throws IOException {
+    CompressingResponseWriter writer = new CompressingResponseWriter( response, -1, -1 );
+
+    writer.write( "foo" );
+    writer.close();
+
+    assertFalse( writer.isCompressed() );
+    assertNull( response.getHeader( "Content-Encoding" ) );
+    assertEquals( "foo", response.getContent() );
+  }
+
+  @Test
+  public void testWrite_belowThreshold() throws IOException {
+    CompressingResponseWriter writer = new CompressingResponseWriter( response, 4, -1 );
+
+    writer.write( "foo" );
+    writer.close();
+
+    assertFalse( writer.isCompressed() );
+    assertNull( response.getHeader( "Content-Encoding" ) );
+    assertEquals( "foo", response.getContent() );
+  }
+
+  @Test
+  public void testWrite_atThreshold() throws IOException {
+    CompressingResponseWriter writer = new CompressingResponseWriter( response, 6, -1 );
+
+    writer.write( "foo" );
+    writer.write( "bar".toCharArray(), 0, 3 );
+    writer.close();
+
+    assertTrue( writer.isCompressed() );
+    assertEquals( "gzip", response.getHeader( "Content-Encoding" ) );
+    assertEquals( "Accept-Encoding", response.getHeader( "Vary" ) );
+    assertEquals( "foobar", decompress( getSentBytes() ) );
+  }
+
+  @Test
+  public void testWrite_comparesEncodedLength() throws IOException {
+    CompressingResponseWriter writer = new CompressingResponseWriter( response, 6, -1 );
+
+    writer.write( "äöü" );
+    writer.close();
+
+    assertTrue( writer.isCompressed() );
+    assertEquals( 6, writer.getContentLength() );
+    assertEquals( "äöü", decompress( getSentBytes() ) );
+  }
+
+  @Test
+  public void testGetContentLength_withSurrogatePair() throws IOException {
+    CompressingResponseWriter writer = new CompressingResponseWriter( response, -1, -1 );
+
+    writer.write( "a😀" );
+    writer.close();
+
+    assertEquals( 5, writer.getContentLength() );
+  }
+
+  @Test
+  public void testGetRecordedBytes_withoutRecording() throws IOException {
+    CompressingResponseWriter writer = new CompressingResponseWriter( response, -1, -1 );
+
+    writer.write( "foo" );
+    writer.close();
+
+    assertNull( writer.getRecordedBytes() );
+  }
+
+  @Test
+  public void testGetRecordedBytes_uncompressed() throws IOException {
+    CompressingResponseWriter writer = new CompressingResponseWriter( response, 100, 100 );
+
+    writer.write( "äöü" );
+    writer.close();
+
+    assertArrayEquals( "äöü".getBytes( UTF_8 ), writer.getRecordedBytes() );
+  }
+
+  @Test
+  public void testGetRecordedBytes_compressed() throws IOException {
+    CompressingResponseWriter writer = new CompressingResponseWriter( response, 0, 1000 );
+
+    writer.write( "foo" );
+    writer.close();
+
+    assertTrue( writer.isRecordingCompressed() );
+    assertArrayEquals( getSentBytes(), writer.getRecordedBytes() );
+  }
+
+  @Test
+  public void testGetRecordedBytes_compressesWhenExceedingLimit() throws IOException {
+    String content = createLargeContent();
+    CompressingResponseWriter writer = new CompressingResponseWriter( response, -1, 30000 );
+
+    writer.write( content );
+    writer.close();
+
+    assertFalse( writer.isCompressed() );
+    assertTrue( writer.isRecordingCompressed() );
+    assertEquals( content, decompress( writer.getRecordedBytes() ) );
+    assertEquals( content, response.getContent() );
+  }
+
+  @Test
+  public void testGetRecordedBytes_uncompressedWithinLimit() throws IOException {
+    CompressingResponseWriter writer = new CompressingResponseWriter( response, -1, 100 );
+
+    writer.write( "foo" );
+    writer.close();
+
+    assertFalse( writer.isRecordingCompressed() );
+  }
+
+  @Test
+  public void testGetRecordedBytes_exceedingLimit() throws IOException {
+    CompressingResponseWriter writer = new CompressingResponseWriter( response, -1, 2 );
+
+    writer.write( "foo" );
+    writer.close();
+
+    assertNull( writer.getRecordedBytes() );
+    assertEquals( "foo", response.getContent() );
+  }
+
+  @Test
+  public void testGetRecordedBytes_compressedExceedingLimit() throws IOException {
+    CompressingResponseWriter writer = new CompressingResponseWriter( response, 0, 2 );
+
+    writer.write( "foo" );
+    writer.close();
+
+    assertNull( writer.getRecordedBytes() );
+    assertEquals( "foo", decompress( getSentBytes() ) );
+  }
+
+  private byte[] getSentBytes() throws IOException {
+    TestServletOutputStream outputStream = ( TestServletOutputStream )response.getOutputStream();
+    return outputStream.getContent().toByteArray();
+  }
+
+  private static String decompress( byte[] bytes ) throws IOException {
+    try( InputStream inputStream = new GZIPInputStream( new ByteArrayInputStream( bytes ) ) ) {
+      return new String( inputStream.readAllBytes(), UTF_8 );
+    }
+  }
+
+  private static String createLargeContent() {
+    StringBuilder builder = new StringBuilder( "[" );
+    for( int i = 0; i < 2000; i++ ) {
+      builder.append( "[\"set\",\"w" ).append( i ).append( "\",{\"text\":\"foo\"}]," );
+    }
+    return builder.append( "]" ).toString();
+  }
+
+}
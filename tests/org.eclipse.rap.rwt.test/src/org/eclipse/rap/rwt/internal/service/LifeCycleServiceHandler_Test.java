@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -27,9 +27,13 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -38,6 +42,7 @@ import jakarta.servlet.http.HttpSession;
 import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.rwt.client.WebClient;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.lifecycle.RequestCounter;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessageConst;
 import org.eclipse.rap.rwt.internal.protocol.RequestMessage;
@@ -54,6 +59,7 @@ import org.eclipse.rap.rwt.testfixture.internal.TestMessage;
 import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
 import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
 import org.eclipse.rap.rwt.testfixture.internal.TestResponseMessage;
+import org.eclipse.rap.rwt.testfixture.internal.TestServletOutputStream;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -83,6 +89,7 @@ public class LifeCycleServiceHandler_Test {
 
   @After
   public void tearDown() {
+    System.clearProperty( RWTProperties.RESPONSE_COMPRESSION_THRESHOLD );
     Fixture.tearDown();
   }
 
@@ -274,11 +281,94 @@ public class LifeCycleServiceHandler_Test {
     simulateUiRequest();
     Fixture.fakeHeadParameter( "requestCounter", requestCounter );
     service( serviceHandler );
-    JsonObject secondResponse = JsonObject.readFrom( getResponse().getContent() );
+    JsonObject secondResponse = JsonObject.readFrom( getSentContent() );
 
     assertEquals( firstResponse, secondResponse );
   }
 
+  @Test
+  public void testCompressesResponse() throws IOException {
+    System.setProperty( RWTProperties.RESPONSE_COMPRESSION_THRESHOLD, "0" );
+    simulateUiRequest();
+    getRequest().setHeader( "Accept-Encoding", "gzip, deflate" );
+
+    service( serviceHandler );
+
+    assertEquals( "gzip", getResponse().getHeader( "Content-Encoding" ) );
+    JsonObject.readFrom( getDecompressedContent() );
+  }
+
+  @Test
+  public void testSendBufferedResponse_compressed() throws IOException {
+    System.setProperty( RWTProperties.RESPONSE_COMPRESSION_THRESHOLD, "0" );
+    simulateUiRequest();
+    getRequest().setHeader( "Accept-Encoding", "gzip" );
+    RequestCounter.getInstance().nextRequestId();
+    int requestCounter = RequestCounter.getInstance().nextRequestId();
+    Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+    service( serviceHandler );
+    JsonObject firstResponse = JsonObject.readFrom( getDecompressedContent() );
+
+    simulateUiRequest();
+    getRequest().setHeader( "Accept-Encoding", "gzip" );
+    Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+    service( serviceHandler );
+
+    assertEquals( "gzip", getResponse().getHeader( "Content-Encoding" ) );
+    assertEquals( firstResponse, JsonObject.readFrom( getDecompressedContent() ) );
+  }
+
+  @Test
+  public void testSendBufferedResponse_compressedWithoutAcceptEncoding() throws IOException {
+    System.setProperty( RWTProperties.RESPONSE_COMPRESSION_THRESHOLD, "0" );
+    simulateUiRequest();
+    getRequest().setHeader( "Accept-Encoding", "gzip" );
+    RequestCounter.getInstance().nextRequestId();
+    int requestCounter = RequestCounter.getInstance().nextRequestId();
+    Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+    service( serviceHandler );
+    JsonObject firstResponse = JsonObject.readFrom( getDecompressedContent() );
+
+    simulateUiRequest();
+    Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+    service( serviceHandler );
+
+    assertNull( getResponse().getHeader( "Content-Encoding" ) );
+    assertEquals( firstResponse, JsonObject.readFrom( getSentContent() ) );
+  }
+
+  @Test
+  public void testDoesNotCompressResponseWithoutAcceptEncoding() throws IOException {
+    System.setProperty( RWTProperties.RESPONSE_COMPRESSION_THRESHOLD, "0" );
+    simulateUiRequest();
+
+    service( serviceHandler );
+
+    assertNull( getResponse().getHeader( "Content-Encoding" ) );
+    JsonObject.readFrom( getResponse().getContent() );
+  }
+
+  @Test
+  public void testDoesNotCompressResponseBelowThreshold() throws IOException {
+    System.setProperty( RWTProperties.RESPONSE_COMPRESSION_THRESHOLD, "100000" );
+    simulateUiRequest();
+    getRequest().setHeader( "Accept-Encoding", "gzip" );
+
+    service( serviceHandler );
+
+    assertNull( getResponse().getHeader( "Content-Encoding" ) );
+  }
+
+  @Test
+  public void testDoesNotCompressResponseByDefault() throws IOException {
+    simulateUiRequest();
+    getRequest().setHeader( "Accept-Encoding", "gzip" );
+
+    service( serviceHandler );
+
+    assertNull( getResponse().getHeader( "Content-Encoding" ) );
+  }
+
   @Test
   public void testWritesValidJson() throws IOException {
     simulateUiRequest();
@@ -422,6 +512,20 @@ public class LifeCycleServiceHandler_Test {
     return ( TestResponse )ContextProvider.getResponse();
   }
 
+  private static String getSentContent() throws IOException {
+    TestServletOutputStream outputStream
+      = ( TestServletOutputStream )getResponse().getOutputStream();
+    return outputStream.getContent().toString( "UTF-8" );
+  }
+
+  private static InputStreamReader getDecompressedContent() throws IOException {
+    TestServletOutputStream outputStream
+      = ( TestServletOutputStream )getResponse().getOutputStream();
+    byte[] bytes = outputStream.getContent().toByteArray();
+    InputStream inputStream = new GZIPInputStream( new ByteArrayInputStream( bytes ) );
+    return new InputStreamReader( inputStream, "UTF-8" );
+  }
+
   private static String getError( JsonObject message ) {
     return message.get( "head" ).asObject().get( "error" ).asString();
   }
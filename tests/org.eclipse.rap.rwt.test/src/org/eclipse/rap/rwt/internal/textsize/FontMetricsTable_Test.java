@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.eclipse.swt.SWT;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class FontMetricsTable_Test {
+
+  private FontMetricsTable table;
+
+  @Before
+  public void setUp() {
+    table = new FontMetricsTable( 'a', new float[] { 50, 60, 70 }, 40 );
+  }
+
+  @Test
+  public void testGetAdvance() {
+    assertEquals( 50, table.getAdvance( 'a' ), 0 );
+    assertEquals( 70, table.getAdvance( 'c' ), 0 );
+  }
+
+  @Test
+  public void testGetAdvance_usesDefaultForUnknownCharacters() {
+    assertEquals( 40, table.getAdvance( 'Z' ), 0 );
+    assertEquals( 40, table.getAdvance( 'd' ), 0 );
+  }
+
+  @Test
+  public void testGetWidth_scalesWithSize() {
+    assertEquals( 180, table.getWidth( "abc", 100 ), 0.001 );
+    assertEquals( 18, table.getWidth( "abc", 10 ), 0.001 );
+  }
+
+  @Test
+  public void testWriteAndRead() throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    table.write( outputStream );
+    FontMetricsTable result = FontMetricsTable.read( toInputStream( outputStream ) );
+
+    assertEquals( 50, result.getAdvance( 'a' ), 0 );
+    assertEquals( 70, result.getAdvance( 'c' ), 0 );
+    assertEquals( 40, result.getAdvance( 'x' ), 0 );
+  }
+
+  @Test
+  public void testRead_failsWithInvalidData() {
+    try {
+      FontMetricsTable.read( new ByteArrayInputStream( new byte[] { 1, 2, 3, 4, 5, 6 } ) );
+      fail();
+    } catch( @SuppressWarnings( "unused" ) IOException expected ) {
+    }
+  }
+
+  @Test
+  public void testCreate() {
+    FontMetricsTable created = FontMetricsTable.create( java.awt.Font.MONOSPACED, SWT.NORMAL );
+
+    assertTrue( created.getAdvance( 'W' ) > 0 );
+    assertEquals( created.getAdvance( 'W' ), created.getAdvance( 'i' ), 0.001 );
+  }
+
+  @Test
+  public void testCreate_boldIsWider() {
+    FontMetricsTable normal = FontMetricsTable.create( java.awt.Font.SANS_SERIF, SWT.NORMAL );
+    FontMetricsTable bold = FontMetricsTable.create( java.awt.Font.SANS_SERIF, SWT.BOLD );
+
+    assertTrue( bold.getWidth( "Some Text", 10 ) >= normal.getWidth( "Some Text", 10 ) );
+  }
+
+  @Test
+  public void testGetFileName() {
+    assertEquals( "lucida_sans.metrics", FontMetricsTables.getFileName( "Lucida Sans", SWT.NONE ) );
+    assertEquals( "arial-bold-italic.metrics",
+                  FontMetricsTables.getFileName( "Arial", SWT.BOLD | SWT.ITALIC ) );
+  }
+
+  @Test
+  public void testGetFamilies() {
+    String fontName = "Verdana, 'Lucida Sans', \"Arial\" , sans-serif";
+
+    assertEquals( Arrays.asList( "Verdana", "Lucida Sans", "Arial", "sans-serif" ),
+                  FontMetricsTables.getFamilies( fontName ) );
+  }
+
+  private static ByteArrayInputStream toInputStream( ByteArrayOutputStream outputStream ) {
+    return new ByteArrayInputStream( outputStream.toByteArray() );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -26,6 +26,7 @@ import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -42,6 +43,7 @@ import org.eclipse.rap.rwt.testfixture.internal.TestMessage;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
@@ -75,6 +77,7 @@ public class MeasurementOperator_Test {
 
   @After
   public void tearDown() {
+    FontMetricsTables.clear();
     Fixture.tearDown();
   }
 
@@ -129,6 +132,42 @@ public class MeasurementOperator_Test {
     verify( listener, times( 2 ) ).handleEvent( any( Event.class ) );
   }
 
+  @Test
+  public void testOperationHandler_handleCall_skipsRecalculationForExactEstimation() {
+    FontMetricsTables.register( "arial", SWT.NONE, new FontMetricsTable( 'i', new float[ 0 ], 0 ) );
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    MeasurementItem item
+      = new MeasurementItem( TEXT_TO_MEASURE, FONT_DATA_1, SWT.DEFAULT, MODE, new Point( 12, 4 ) );
+    operator.addProbeToMeasure( FONT_DATA_1 );
+    operator.addItemToMeasure( item );
+    Shell shell = new Shell( display );
+    Listener listener = mock( Listener.class );
+    shell.addListener( SWT.Resize, listener );
+
+    JsonObject parameters = createMeasurementResult( FONT_DATA_1, item );
+    getOperationHandler( TYPE ).handleCall( METHOD_STORE_MEASUREMENTS, parameters );
+
+    verify( listener, never() ).handleEvent( any( Event.class ) );
+    assertEquals( 0, operator.getItemCount() );
+  }
+
+  @Test
+  public void testOperationHandler_handleCall_recalculatesForExactEstimationWithoutFontMetrics() {
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    MeasurementItem item
+      = new MeasurementItem( TEXT_TO_MEASURE, FONT_DATA_1, SWT.DEFAULT, MODE, new Point( 12, 4 ) );
+    operator.addProbeToMeasure( FONT_DATA_1 );
+    operator.addItemToMeasure( item );
+    Shell shell = new Shell( display );
+    Listener listener = mock( Listener.class );
+    shell.addListener( SWT.Resize, listener );
+
+    JsonObject parameters = createMeasurementResult( FONT_DATA_1, item );
+    getOperationHandler( TYPE ).handleCall( METHOD_STORE_MEASUREMENTS, parameters );
+
+    verify( listener, times( 2 ) ).handleEvent( any( Event.class ) );
+  }
+
   @Test
   public void testAddItemToMeasure() {
     operator.addItemToMeasure( MEASUREMENT_ITEM_1 );
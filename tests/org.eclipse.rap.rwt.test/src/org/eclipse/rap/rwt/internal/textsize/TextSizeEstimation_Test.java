@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -38,6 +38,7 @@ public class TextSizeEstimation_Test {
 
   @After
   public void tearDown() {
+    FontMetricsTables.clear();
     Fixture.tearDown();
   }
 
@@ -56,6 +57,28 @@ public class TextSizeEstimation_Test {
     assertEquals( 4711.0, avgCharWidth, 0.01 );
   }
 
+  @Test
+  public void testStringExtent_withFontMetricsTable() {
+    float[] advances = { 50, 100 };
+    FontMetricsTables.register( "Helvetica", SWT.NORMAL, new FontMetricsTable( 'i', advances, 80 ) );
+
+    Point extent = TextSizeEstimation.stringExtent( font10, "iijx" );
+
+    assertEquals( 28, extent.x );
+  }
+
+  @Test
+  public void testStringExtent_withFontMetricsTableCalibratedByProbe() {
+    float[] advances = { 50, 100 };
+    FontMetricsTables.register( "Helvetica", SWT.NORMAL, new FontMetricsTable( 'i', advances, 80 ) );
+    Probe probe = new Probe( "jj", font10.getFontData()[ 0 ] );
+    ProbeResultStore.getInstance().createProbeResult( probe, new Point( 40, 10 ) );
+
+    Point extent = TextSizeEstimation.stringExtent( font10, "iijx" );
+
+    assertEquals( 56, extent.x );
+  }
+
   @Test
   public void testCharHeight() {
     int charHeight = TextSizeEstimation.getCharHeight( font10 );
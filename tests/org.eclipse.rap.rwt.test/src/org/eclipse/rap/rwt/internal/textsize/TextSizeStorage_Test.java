@@ -13,11 +13,13 @@ package org.eclipse.rap.rwt.internal.textsize;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
-import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.swt.SWT;
@@ -32,9 +34,7 @@ public class TextSizeStorage_Test {
   private static final FontData FONT_DATA_1 = new FontData( "arial", 10, SWT.NORMAL );
   private static final FontData FONT_DATA_2 = new FontData( "helvetia", 12, SWT.NORMAL );
   private static final Integer KEY_FIRST = new Integer( 0 );
-  private static final Integer KEY_OVERFLOW = new Integer( Integer.MAX_VALUE );
   private static final Point SIZE_FIRST = new Point( 0, 0 );
-  private static final Point SIZE_OVERFLOW = new Point( -1, -1 );
   private static final String STORE_SIZE_SYSPROP = "org.eclipse.rap.rwt.textSizeStoreSize";
 
   private TextSizeStorage storage;
@@ -76,14 +76,70 @@ public class TextSizeStorage_Test {
 
   @Test
   public void testStorageOverflowHandling() {
-    populateUntilOverflowThresholdIsReached();
-    updateTimestampOnFirstEntry();
+    storage.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
+
+    for( int i = 0; i < TextSizeStorage.MIN_STORE_SIZE * 2; i++ ) {
+      storage.storeTextSize( i, new Point( i, i ) );
+    }
+
+    assertTrue( storage.getSize() <= TextSizeStorage.MIN_STORE_SIZE );
+    assertEquals( new Point( 1999, 1999 ), storage.lookupTextSize( 1999 ) );
+  }
+
+  @Test
+  public void testStorageOverflowHandling_sparesRecentlyUsedEntries() {
+    storage.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
+    storage.storeTextSize( KEY_FIRST, SIZE_FIRST );
+
+    for( int i = 1; i < TextSizeStorage.MIN_STORE_SIZE * 2; i++ ) {
+      storage.lookupTextSize( KEY_FIRST );
+      storage.storeTextSize( i, new Point( i, i ) );
+    }
+
+    assertEquals( SIZE_FIRST, storage.lookupTextSize( KEY_FIRST ) );
+  }
+
+  @Test
+  public void testStoreTextSize_replacesExistingEntry() {
+    storage.storeTextSize( KEY_FIRST, new Point( 1, 2 ) );
+
+    storage.storeTextSize( KEY_FIRST, new Point( 3, 4 ) );
+
+    assertEquals( new Point( 3, 4 ), storage.lookupTextSize( KEY_FIRST ) );
+    assertEquals( 1, storage.getSize() );
+  }
 
-    forceOverflow();
+  @Test
+  public void testConcurrentAccess() throws InterruptedException {
+    storage.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
+    final List<Throwable> problems = Collections.synchronizedList( new ArrayList<Throwable>() );
+    Thread[] threads = new Thread[ 4 ];
+    for( int i = 0; i < threads.length; i++ ) {
+      final int offset = i;
+      threads[ i ] = new Thread( new Runnable() {
+        @Override
+        public void run() {
+          try {
+            for( int key = offset; key < 20000; key += 3 ) {
+              Point size = storage.lookupTextSize( key );
+              if( size != null && size.x != key ) {
+                throw new IllegalStateException( "Wrong size for key " + key );
+              }
+              storage.storeTextSize( key, new Point( key, key ) );
+            }
+          } catch( Throwable throwable ) {
+            problems.add( throwable );
+          }
+        }
+      } );
+      threads[ i ].start();
+    }
+    for( Thread thread : threads ) {
+      thread.join();
+    }
 
-    checkTimestampOrdering();
-    checkLatestEntriesExist();
-    checkRangeCleanup();
+    assertTrue( problems.isEmpty() );
+    assertTrue( storage.getSize() <= TextSizeStorage.MIN_STORE_SIZE );
   }
 
   @Test
@@ -117,33 +173,4 @@ public class TextSizeStorage_Test {
     assertEquals( 20000, storage.getMaximumStoreSize() );
   }
 
-  private void populateUntilOverflowThresholdIsReached() {
-    storage.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
-    for( int i = 0; i < TextSizeStorage.MIN_STORE_SIZE - 1; i++ ) {
-      Integer key = new Integer( i );
-      Point point = new Point( i, i );
-      storage.storeTextSize( key, point );
-    }
-  }
-
-  private Point updateTimestampOnFirstEntry() {
-    return storage.lookupTextSize( KEY_FIRST );
-  }
-
-  private void checkRangeCleanup() {
-    assertNull( storage.lookupTextSize( new Integer( 99 ) ) );
-  }
-
-  private void checkLatestEntriesExist() {
-    assertEquals( SIZE_OVERFLOW, storage.lookupTextSize( KEY_OVERFLOW ) );
-    assertEquals( new Point( 101, 101 ), storage.lookupTextSize( new Integer( 101 ) ) );
-  }
-
-  private void checkTimestampOrdering() {
-    assertEquals( SIZE_FIRST, storage.lookupTextSize( KEY_FIRST ) );
-  }
-
-  private void forceOverflow() {
-    storage.storeTextSize( KEY_OVERFLOW, SIZE_OVERFLOW );
-  }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,12 +17,22 @@ import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.theme.css.ConditionalValue;
 import org.eclipse.rap.rwt.internal.theme.css.StyleRule;
 import org.eclipse.rap.rwt.internal.theme.css.StyleSheet;
+import org.eclipse.rap.rwt.service.ResourceLoader;
+import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Widget;
@@ -144,6 +154,152 @@ public class ThemeManager_Test {
     assertTrue( joinedAppearances.contains( "\"sash-handle\" : {" ) );
   }
 
+  @Test
+  public void testGetAppearances_inRegistrationOrder() {
+    int widgetCount = 8;
+    for( int i = 0; i < widgetCount; i++ ) {
+      addCustomWidget( i, widgetCount );
+    }
+
+    manager.activate();
+
+    List<String> appearances = manager.getAppearances();
+    int offset = appearances.size() - widgetCount;
+    for( int i = 0; i < widgetCount; i++ ) {
+      assertEquals( "appearance" + i, appearances.get( offset + i ) );
+    }
+  }
+
+  @Test
+  public void testDefaultStyleSheets_inRegistrationOrder() {
+    int widgetCount = 8;
+    for( int i = 0; i < widgetCount; i++ ) {
+      addCustomWidget( i, widgetCount );
+    }
+
+    manager.activate();
+
+    // rules with the same specificity that are added later take precedence
+    ConditionalValue value = getVariantValue( getFallbackTheme(), "Button", "color", ".order" );
+    assertEquals( CssColor.valueOf( getColor( widgetCount - 1 ) ), value.value );
+  }
+
+  @Test
+  public void testActivate_withFailingThemeableWidget() {
+    manager.addThemeableWidget( "test.Failing", new ResourceLoader() {
+      @Override
+      public InputStream getResourceAsStream( String resourceName ) throws IOException {
+        throw new IOException( "failed" );
+      }
+    } );
+
+    try {
+      manager.activate();
+      fail();
+    } catch( ThemeManagerException expected ) {
+      assertEquals( "Failed to initialize themeable widget: test.Failing",
+                    expected.getMessage() );
+      assertEquals( "failed", expected.getCause().getMessage() );
+    }
+  }
+
+  @Test
+  public void testActivate_initializesMultipleThemes() throws Exception {
+    String[] colors = { "red", "green", "blue", "yellow" };
+    Theme[] customThemes = new Theme[ colors.length ];
+    for( int i = 0; i < colors.length; i++ ) {
+      String css = "Button { color: " + colors[ i ] + " }";
+      StyleSheet styleSheet = ThemeTestUtil.createStyleSheet( css );
+      customThemes[ i ] = new Theme( "custom.id" + i, "Custom Theme " + i, styleSheet );
+      manager.registerTheme( customThemes[ i ] );
+    }
+    manager.initialize();
+
+    manager.activate();
+
+    for( int i = 0; i < colors.length; i++ ) {
+      ConditionalValue[] values = customThemes[ i ].getValuesMap().getValues( "Button", "color" );
+      assertEquals( CssColor.valueOf( colors[ i ] ), values[ values.length - 1 ].value );
+    }
+    Theme defaultTheme = manager.getTheme( RWT.DEFAULT_THEME_ID );
+    assertTrue( defaultTheme.getValuesMap().getAllValues().length > 0 );
+  }
+
+  @Test
+  public void testActivate_withThemeSnapshots() throws IOException {
+    File directory = Files.createTempDirectory( "rap-snapshots" ).toFile();
+    System.setProperty( RWTProperties.THEME_SNAPSHOT_DIRECTORY, directory.getAbsolutePath() );
+    try {
+      manager.initialize();
+      manager.activate();
+      int snapshotCount = directory.listFiles().length;
+      ThemeManager restoredManager = new ThemeManager();
+
+      restoredManager.initialize();
+      restoredManager.activate();
+
+      assertTrue( snapshotCount > 0 );
+      assertEquals( snapshotCount, directory.listFiles().length );
+      assertEquals( getAllValues( manager ), getAllValues( restoredManager ) );
+    } finally {
+      System.clearProperty( RWTProperties.THEME_SNAPSHOT_DIRECTORY );
+      FileUtil.delete( directory );
+    }
+  }
+
+  private static List<CssValue> getAllValues( ThemeManager themeManager ) {
+    Theme defaultTheme = themeManager.getTheme( RWT.DEFAULT_THEME_ID );
+    return Arrays.asList( defaultTheme.getValuesMap().getAllValues() );
+  }
+
+  private void addCustomWidget( final int index, final int widgetCount ) {
+    final String simpleName = "Custom" + index;
+    manager.addThemeableWidget( "test." + simpleName, new ResourceLoader() {
+      @Override
+      public InputStream getResourceAsStream( String resourceName ) throws IOException {
+        String content = null;
+        if( resourceName.endsWith( "/" + simpleName + ".appearances.js" ) ) {
+          // let earlier widgets finish later
+          sleep( ( widgetCount - index ) * 10 );
+          content = "appearance" + index;
+        } else if( resourceName.endsWith( "/" + simpleName + ".default.css" ) ) {
+          content = "Button.order { color: " + getColor( index ) + " }";
+        }
+        return content == null ? null : toStream( content );
+      }
+    } );
+  }
+
+  private static ConditionalValue getVariantValue( Theme theme,
+                                                   String elementName,
+                                                   String propertyName,
+                                                   String variant )
+  {
+    ConditionalValue[] values = theme.getValuesMap().getValues( elementName, propertyName );
+    for( ConditionalValue value : values ) {
+      if( Arrays.asList( value.constraints ).contains( variant ) ) {
+        return value;
+      }
+    }
+    throw new AssertionError( "No value found for variant " + variant );
+  }
+
+  private static String getColor( int index ) {
+    return String.format( "#0000%02x", Integer.valueOf( index ) );
+  }
+
+  private static InputStream toStream( String content ) {
+    return new ByteArrayInputStream( content.getBytes( StandardCharsets.UTF_8 ) );
+  }
+
+  private static void sleep( long millis ) {
+    try {
+      Thread.sleep( millis );
+    } catch( InterruptedException exception ) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
   private Theme getFallbackTheme() {
     return manager.getTheme( ThemeManager.FALLBACK_THEME_ID );
   }
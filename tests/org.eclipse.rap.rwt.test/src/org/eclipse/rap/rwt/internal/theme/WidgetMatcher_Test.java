@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.theme;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.theme.WidgetMatcher.Constraint;
+import org.eclipse.rap.rwt.internal.theme.css.ConditionalValue;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Widget;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class WidgetMatcher_Test {
+
+  private static final CssValue RED = CssColor.valueOf( "red" );
+  private static final CssValue GREEN = CssColor.valueOf( "green" );
+  private static final CssValue BLUE = CssColor.valueOf( "blue" );
+
+  private WidgetMatcher matcher;
+  private Widget widget;
+
+  @Before
+  public void setUp() {
+    matcher = new WidgetMatcher();
+    matcher.addStyle( "BORDER", SWT.BORDER );
+    matcher.addStyle( "FLAT", SWT.FLAT );
+    widget = mock( Widget.class );
+  }
+
+  @Test
+  public void testSelect_withoutValues() {
+    assertNull( matcher.select( widget ) );
+  }
+
+  @Test
+  public void testSelect_unconditionalValue() {
+    ConditionalValue[] values = { new ConditionalValue( RED ) };
+
+    assertSame( RED, matcher.select( widget, values ) );
+  }
+
+  @Test
+  public void testSelect_style() {
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, "[BORDER", "[FLAT" ),
+      new ConditionalValue( GREEN, "[BORDER" ),
+      new ConditionalValue( BLUE )
+    };
+
+    when( widget.getStyle() ).thenReturn( Integer.valueOf( SWT.BORDER | SWT.FLAT ) );
+    assertSame( RED, matcher.select( widget, values ) );
+    when( widget.getStyle() ).thenReturn( Integer.valueOf( SWT.BORDER ) );
+    assertSame( GREEN, matcher.select( widget, values ) );
+    when( widget.getStyle() ).thenReturn( Integer.valueOf( SWT.FLAT ) );
+    assertSame( BLUE, matcher.select( widget, values ) );
+  }
+
+  @Test
+  public void testSelect_styleWithMultipleBits() {
+    matcher.addStyle( "MODAL", SWT.APPLICATION_MODAL | SWT.SYSTEM_MODAL );
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, "[MODAL" ),
+      new ConditionalValue( BLUE )
+    };
+
+    when( widget.getStyle() ).thenReturn( Integer.valueOf( SWT.SYSTEM_MODAL ) );
+    assertSame( RED, matcher.select( widget, values ) );
+    when( widget.getStyle() ).thenReturn( Integer.valueOf( SWT.NONE ) );
+    assertSame( BLUE, matcher.select( widget, values ) );
+  }
+
+  @Test
+  public void testSelect_variant() {
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, ".special" ),
+      new ConditionalValue( BLUE )
+    };
+
+    when( widget.getData( RWT.CUSTOM_VARIANT ) ).thenReturn( "special" );
+    assertSame( RED, matcher.select( widget, values ) );
+    when( widget.getData( RWT.CUSTOM_VARIANT ) ).thenReturn( "other" );
+    assertSame( BLUE, matcher.select( widget, values ) );
+  }
+
+  @Test
+  public void testSelect_conflictingVariants() {
+    when( widget.getData( RWT.CUSTOM_VARIANT ) ).thenReturn( "special" );
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, ".special", ".other" ),
+      new ConditionalValue( BLUE )
+    };
+
+    assertSame( BLUE, matcher.select( widget, values ) );
+  }
+
+  @Test
+  public void testSelect_state() {
+    Constraint selected = mock( Constraint.class );
+    matcher.addState( "selected", selected );
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, ":selected" ),
+      new ConditionalValue( BLUE )
+    };
+
+    when( Boolean.valueOf( selected.matches( widget ) ) ).thenReturn( Boolean.TRUE );
+    assertSame( RED, matcher.select( widget, values ) );
+    when( Boolean.valueOf( selected.matches( widget ) ) ).thenReturn( Boolean.FALSE );
+    assertSame( BLUE, matcher.select( widget, values ) );
+  }
+
+  @Test
+  public void testSelect_evaluatesStateOnce() {
+    Constraint selected = mock( Constraint.class );
+    matcher.addState( "selected", selected );
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, ":selected", "[BORDER" ),
+      new ConditionalValue( GREEN, ":selected", "[FLAT" ),
+      new ConditionalValue( BLUE )
+    };
+    when( widget.getStyle() ).thenReturn( Integer.valueOf( SWT.BORDER | SWT.FLAT ) );
+
+    matcher.select( widget, values );
+
+    verify( selected, times( 1 ) ).matches( widget );
+  }
+
+  @Test
+  public void testSelect_unknownConstraint() {
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, ":unknown" ),
+      new ConditionalValue( BLUE )
+    };
+
+    assertSame( BLUE, matcher.select( widget, values ) );
+  }
+
+  @Test
+  public void testSelect_afterAddState() {
+    ConditionalValue[] values = {
+      new ConditionalValue( RED, ":selected" ),
+      new ConditionalValue( BLUE )
+    };
+    matcher.select( widget, values );
+    Constraint selected = mock( Constraint.class );
+    when( Boolean.valueOf( selected.matches( widget ) ) ).thenReturn( Boolean.TRUE );
+
+    matcher.addState( "selected", selected );
+
+    assertSame( RED, matcher.select( widget, values ) );
+  }
+
+}
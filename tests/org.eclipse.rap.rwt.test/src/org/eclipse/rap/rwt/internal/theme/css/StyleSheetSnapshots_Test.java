@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.theme.css;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.rap.rwt.internal.theme.ThemeTestUtil.RESOURCE_LOADER;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.theme.CssColor;
+import org.eclipse.rap.rwt.internal.theme.CssImage;
+import org.eclipse.rap.rwt.internal.theme.ThemeTestUtil;
+import org.eclipse.rap.rwt.service.ResourceLoader;
+import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class StyleSheetSnapshots_Test {
+
+  private static final String CSS = "Button { background-image: url( " + Fixture.IMAGE_50x100
+                                    + " ); }\n"
+                                    + "Button.special:hover { color: red; }\n";
+
+  private File directory;
+
+  @Before
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory( "rap-snapshots" ).toFile();
+  }
+
+  @After
+  public void tearDown() {
+    System.clearProperty( RWTProperties.THEME_SNAPSHOT_DIRECTORY );
+    FileUtil.delete( directory );
+  }
+
+  @Test
+  public void testGetKey_isStable() {
+    String key = StyleSheetSnapshots.getKey( "theme.css", CSS.getBytes( UTF_8 ) );
+
+    assertEquals( key, StyleSheetSnapshots.getKey( "theme.css", CSS.getBytes( UTF_8 ) ) );
+  }
+
+  @Test
+  public void testGetKey_differsForContent() {
+    String key = StyleSheetSnapshots.getKey( "theme.css", CSS.getBytes( UTF_8 ) );
+
+    assertFalse( key.equals( StyleSheetSnapshots.getKey( "theme.css", new byte[ 0 ] ) ) );
+  }
+
+  @Test
+  public void testGetKey_differsForFileName() {
+    String key = StyleSheetSnapshots.getKey( "theme.css", CSS.getBytes( UTF_8 ) );
+
+    assertFalse( key.equals( StyleSheetSnapshots.getKey( "other.css", CSS.getBytes( UTF_8 ) ) ) );
+  }
+
+  @Test
+  public void testRead_withoutSnapshot() {
+    assertNull( StyleSheetSnapshots.read( directory, "key", RESOURCE_LOADER ) );
+  }
+
+  @Test
+  public void testRead_restoresStyleSheet() throws IOException {
+    StyleSheet styleSheet = ThemeTestUtil.createStyleSheet( CSS );
+    StyleSheetSnapshots.write( directory, "key", styleSheet, RESOURCE_LOADER );
+
+    StyleSheet restored = StyleSheetSnapshots.read( directory, "key", RESOURCE_LOADER );
+
+    assertEquals( styleSheet.toString(), restored.toString() );
+    assertEquals( getValue( styleSheet, "background-image" ),
+                  getValue( restored, "background-image" ) );
+    assertEquals( CssColor.valueOf( "red" ), getValue( restored, "color" ) );
+  }
+
+  @Test
+  public void testRead_restoresSelectorOrder() throws IOException {
+    StyleSheet styleSheet = ThemeTestUtil.createStyleSheet( CSS );
+    StyleSheetSnapshots.write( directory, "key", styleSheet, RESOURCE_LOADER );
+
+    StyleSheet restored = StyleSheetSnapshots.read( directory, "key", RESOURCE_LOADER );
+
+    ConditionalValue[] values = restored.getValues( "Button", "color" );
+    assertEquals( 1, values.length );
+    assertEquals( 2, values[ 0 ].constraints.length );
+  }
+
+  @Test
+  public void testRead_bindsGivenLoader() throws IOException {
+    ResourceLoader otherLoader = ThemeTestUtil.createResourceLoader( Fixture.class );
+    StyleSheet styleSheet = ThemeTestUtil.createStyleSheet( CSS );
+    StyleSheetSnapshots.write( directory, "key", styleSheet, RESOURCE_LOADER );
+
+    StyleSheet restored = StyleSheetSnapshots.read( directory, "key", otherLoader );
+
+    CssImage image = ( CssImage )getValue( restored, "background-image" );
+    assertSame( otherLoader, image.loader );
+    assertEquals( 50, image.getSize().width );
+    assertEquals( 100, image.getSize().height );
+  }
+
+  @Test
+  public void testRead_withCorruptSnapshot() throws IOException {
+    Files.write( new File( directory, "key.snapshot" ).toPath(), new byte[] { 1, 2, 3 } );
+
+    assertNull( StyleSheetSnapshots.read( directory, "key", RESOURCE_LOADER ) );
+  }
+
+  @Test
+  public void testWrite_withUnknownLoader() throws IOException {
+    StyleSheet styleSheet = ThemeTestUtil.createStyleSheet( CSS );
+
+    StyleSheetSnapshots.write( directory, "key", styleSheet, null );
+
+    assertNull( StyleSheetSnapshots.read( directory, "key", RESOURCE_LOADER ) );
+    assertEquals( 0, directory.listFiles().length );
+  }
+
+  @Test
+  public void testReadStyleSheet_writesSnapshot() throws IOException {
+    System.setProperty( RWTProperties.THEME_SNAPSHOT_DIRECTORY, directory.getAbsolutePath() );
+
+    readStyleSheet( CSS );
+
+    String key = StyleSheetSnapshots.getKey( "theme.css", CSS.getBytes( UTF_8 ) );
+    assertNotNull( StyleSheetSnapshots.read( directory, key, RESOURCE_LOADER ) );
+  }
+
+  @Test
+  public void testReadStyleSheet_readsSnapshot() throws IOException {
+    System.setProperty( RWTProperties.THEME_SNAPSHOT_DIRECTORY, directory.getAbsolutePath() );
+    String key = StyleSheetSnapshots.getKey( "theme.css", CSS.getBytes( UTF_8 ) );
+    StyleSheet snapshot = ThemeTestUtil.createStyleSheet( "Button { color: blue; }" );
+    StyleSheetSnapshots.write( directory, key, snapshot, RESOURCE_LOADER );
+
+    StyleSheet styleSheet = readStyleSheet( CSS );
+
+    assertEquals( CssColor.valueOf( "blue" ), getValue( styleSheet, "color" ) );
+  }
+
+  @Test
+  public void testReadStyleSheet_withoutSnapshotDirectory() throws IOException {
+    readStyleSheet( CSS );
+
+    assertEquals( 0, directory.listFiles().length );
+  }
+
+  private static StyleSheet readStyleSheet( String css ) throws IOException {
+    InputStream inputStream = new ByteArrayInputStream( css.getBytes( UTF_8 ) );
+    return CssFileReader.readStyleSheet( inputStream, "theme.css", RESOURCE_LOADER );
+  }
+
+  private static Object getValue( StyleSheet styleSheet, String property ) {
+    return styleSheet.getValues( "Button", property )[ 0 ].value;
+  }
+
+}
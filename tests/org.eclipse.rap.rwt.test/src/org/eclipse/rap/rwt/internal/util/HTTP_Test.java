@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2025 EclipseSource and others.
+ * Copyright (c) 2025, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,11 +10,14 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.util;
 
+import static org.eclipse.rap.rwt.internal.util.HTTP.acceptsEncoding;
 import static org.eclipse.rap.rwt.internal.util.HTTP.getMediaType;
 import static org.eclipse.rap.rwt.internal.util.HTTP.getParameter;
 import static org.eclipse.rap.rwt.internal.util.HTTP.getParameterMap;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.List;
 import java.util.Map;
@@ -91,4 +94,32 @@ public class HTTP_Test {
     assertEquals( "2", getParameter( request, "b" ) );
   }
 
+  @Test
+  public void testAcceptsEncoding() {
+    assertTrue( acceptsEncoding( createRequest( "gzip" ), "gzip" ) );
+    assertTrue( acceptsEncoding( createRequest( "deflate, GZIP;q=0.5, br" ), "gzip" ) );
+  }
+
+  @Test
+  public void testAcceptsEncoding_withoutHeader() {
+    assertFalse( acceptsEncoding( new TestRequest(), "gzip" ) );
+  }
+
+  @Test
+  public void testAcceptsEncoding_withOtherEncodings() {
+    assertFalse( acceptsEncoding( createRequest( "deflate, br" ), "gzip" ) );
+  }
+
+  @Test
+  public void testAcceptsEncoding_withZeroQuality() {
+    assertFalse( acceptsEncoding( createRequest( "gzip;q=0, br" ), "gzip" ) );
+    assertFalse( acceptsEncoding( createRequest( "gzip; q=0.000" ), "gzip" ) );
+  }
+
+  private static TestRequest createRequest( String acceptEncoding ) {
+    TestRequest request = new TestRequest();
+    request.setHeader( HTTP.HEADER_ACCEPT_ENCODING, acceptEncoding );
+    return request;
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,14 +10,24 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.util;
 
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
 import org.junit.Before;
 import org.junit.Test;
@@ -106,6 +116,91 @@ public class SharedInstanceBuffer_Test {
     assertSame( value, removed );
   }
 
+  @Test
+  public void testGet_doesNotBlockOtherKeysDuringCreation() throws Exception {
+    final CountDownLatch creationStarted = new CountDownLatch( 1 );
+    final CountDownLatch finishCreation = new CountDownLatch( 1 );
+    Thread thread = new Thread( new Runnable() {
+      @Override
+      public void run() {
+        keyValueStore.get( key, new InstanceCreator<Object, Object>() {
+          @Override
+          public Object createInstance( Object key ) {
+            creationStarted.countDown();
+            awaitQuietly( finishCreation );
+            return value;
+          }
+        } );
+      }
+    } );
+    thread.start();
+    creationStarted.await();
+
+    Object otherValue = new Object();
+    Object returnedValue = keyValueStore.get( new Object(), mockInstanceCreator( otherValue ) );
+
+    finishCreation.countDown();
+    thread.join();
+    assertSame( otherValue, returnedValue );
+    assertSame( value, keyValueStore.get( key, mockInstanceCreator( new Object() ) ) );
+  }
+
+  @Test
+  public void testGet_createsInstanceOnceForConcurrentCalls() throws Exception {
+    final AtomicInteger creationCount = new AtomicInteger();
+    final InstanceCreator<Object, Object> instanceCreator = new InstanceCreator<Object, Object>() {
+      @Override
+      public Object createInstance( Object key ) {
+        creationCount.incrementAndGet();
+        return new Object();
+      }
+    };
+    final List<Object> results = Collections.synchronizedList( new ArrayList<>() );
+    Thread[] threads = new Thread[ 8 ];
+    for( int i = 0; i < threads.length; i++ ) {
+      threads[ i ] = new Thread( new Runnable() {
+        @Override
+        public void run() {
+          results.add( keyValueStore.get( key, instanceCreator ) );
+        }
+      } );
+      threads[ i ].start();
+    }
+    for( Thread thread : threads ) {
+      thread.join();
+    }
+
+    assertEquals( 1, creationCount.get() );
+    assertEquals( 1, new HashSet<>( results ).size() );
+  }
+
+  @Test
+  public void testGet_retriesFailedCreation() {
+    InstanceCreator<Object, Object> failingCreator = mockInstanceCreator( value );
+    when( failingCreator.createInstance( any() ) ).thenThrow( new IllegalStateException() );
+    try {
+      keyValueStore.get( key, failingCreator );
+      fail();
+    } catch( @SuppressWarnings( "unused" ) IllegalStateException expected ) {
+    }
+
+    Object returnedValue = keyValueStore.get( key, mockInstanceCreator( value ) );
+
+    assertSame( value, returnedValue );
+  }
+
+  @Test
+  public void testSerialization() throws Exception {
+    SharedInstanceBuffer<Object, Object> buffer = new SharedInstanceBuffer<>();
+    buffer.get( "key", mockInstanceCreator( "value" ) );
+    buffer.get( null, mockInstanceCreator( "null value" ) );
+
+    SharedInstanceBuffer<Object, Object> deserialized = serializeAndDeserialize( buffer );
+
+    assertEquals( "value", deserialized.get( "key", mockInstanceCreator( "other" ) ) );
+    assertEquals( "null value", deserialized.get( null, mockInstanceCreator( "other" ) ) );
+  }
+
   @SuppressWarnings( "unchecked" )
   private static InstanceCreator<Object, Object> mockInstanceCreator( Object value ) {
     InstanceCreator mock = mock( InstanceCreator.class );
@@ -113,4 +208,12 @@ public class SharedInstanceBuffer_Test {
     return mock;
   }
 
+  private static void awaitQuietly( CountDownLatch latch ) {
+    try {
+      latch.await();
+    } catch( @SuppressWarnings( "unused" ) InterruptedException exception ) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
 }
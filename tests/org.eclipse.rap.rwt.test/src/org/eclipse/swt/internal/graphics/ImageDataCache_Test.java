@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,8 +13,10 @@
 package org.eclipse.swt.internal.graphics;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
@@ -54,7 +56,7 @@ public class ImageDataCache_Test {
 
   @Test
   public void testBigImageIsNotCached() throws IOException {
-    ImageDataCache cache = new ImageDataCache();
+    ImageDataCache cache = new ImageDataCache( 8 * 1024 );
     ImageData imageData = getImageData( Fixture.IMAGE_100x50 ); // 1281 bytes
     InternalImage internalImage
       = new InternalImage( "testpath", imageData.width, imageData.height, false );
@@ -88,6 +90,90 @@ public class ImageDataCache_Test {
     assertEqualsImageData( copyData1, copyData2 );
   }
 
+  @Test
+  public void testBigImageIsCachedWithDefaultSize() throws IOException {
+    ImageDataCache cache = new ImageDataCache();
+    ImageData imageData = getImageData( Fixture.IMAGE_100x50 );
+    InternalImage internalImage
+      = new InternalImage( "testpath", imageData.width, imageData.height, false );
+    cache.putImageData( internalImage, imageData );
+    assertEqualsImageData( imageData, cache.getImageData( internalImage ) );
+  }
+
+  @Test
+  public void testLeastRecentlyUsedImageIsEvicted() throws IOException {
+    ImageData imageData = getImageData( Fixture.IMAGE1 );
+    // room for exactly eight images
+    ImageDataCache cache = new ImageDataCache( imageData.data.length * 8 );
+    InternalImage[] internalImages = new InternalImage[ 9 ];
+    for( int i = 0; i < internalImages.length; i++ ) {
+      internalImages[ i ] = new InternalImage( "path" + i, 1, 1, false );
+    }
+    for( int i = 0; i < 8; i++ ) {
+      cache.putImageData( internalImages[ i ], imageData );
+    }
+    cache.getImageData( internalImages[ 0 ] );
+
+    cache.putImageData( internalImages[ 8 ], imageData );
+
+    assertNotNull( cache.getImageData( internalImages[ 0 ] ) );
+    assertNull( cache.getImageData( internalImages[ 1 ] ) );
+    assertNotNull( cache.getImageData( internalImages[ 8 ] ) );
+    assertEquals( 1, cache.getEvictionCount() );
+  }
+
+  @Test
+  public void testSizeIsBounded() throws IOException {
+    ImageData imageData = getImageData( Fixture.IMAGE1 );
+    ImageDataCache cache = new ImageDataCache( imageData.data.length * 10 );
+    for( int i = 0; i < 100; i++ ) {
+      cache.putImageData( new InternalImage( "path" + i, 1, 1, false ), imageData );
+    }
+    assertTrue( cache.getSize() <= cache.getMaxSize() );
+    assertTrue( cache.getSize() > 0 );
+  }
+
+  @Test
+  public void testReplaceDoesNotCountTwice() throws IOException {
+    ImageDataCache cache = new ImageDataCache();
+    ImageData imageData = getImageData( Fixture.IMAGE1 );
+    InternalImage internalImage
+      = new InternalImage( "testpath", imageData.width, imageData.height, false );
+    cache.putImageData( internalImage, imageData );
+    long size = cache.getSize();
+
+    cache.putImageData( internalImage, imageData );
+
+    assertEquals( size, cache.getSize() );
+  }
+
+  @Test
+  public void testHitAndMissCounts() throws IOException {
+    ImageDataCache cache = new ImageDataCache();
+    ImageData imageData = getImageData( Fixture.IMAGE1 );
+    InternalImage internalImage
+      = new InternalImage( "testpath", imageData.width, imageData.height, false );
+    cache.getImageData( internalImage );
+    cache.putImageData( internalImage, imageData );
+    cache.getImageData( internalImage );
+    cache.getSharedImageData( internalImage );
+
+    assertEquals( 2, cache.getHitCount() );
+    assertEquals( 1, cache.getMissCount() );
+  }
+
+  @Test
+  public void testSharedImageDataIsNotCopied() throws IOException {
+    ImageDataCache cache = new ImageDataCache();
+    ImageData imageData = getImageData( Fixture.IMAGE1 );
+    InternalImage internalImage
+      = new InternalImage( "testpath", imageData.width, imageData.height, false );
+    cache.putSharedImageData( internalImage, imageData );
+
+    assertSame( imageData, cache.getSharedImageData( internalImage ) );
+    assertNotSame( imageData, cache.getImageData( internalImage ) );
+  }
+
   private ImageData getImageData( String resource ) throws IOException {
     InputStream inputStream = getClass().getClassLoader().getResourceAsStream( resource );
     try {
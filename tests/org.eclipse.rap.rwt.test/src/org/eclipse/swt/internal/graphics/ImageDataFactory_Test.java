@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,12 +19,16 @@ import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.service.ResourceManager;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.widgets.Display;
@@ -85,6 +89,23 @@ public class ImageDataFactory_Test {
     assertEquals( 1, blankData.height );
   }
 
+  @Test
+  public void testFindImageDataWithCorruptPixelData() throws IOException {
+    InputStream stream = CLASS_LOADER.getResourceAsStream( Fixture.IMAGE_50x100 );
+    byte[] bytes = stream.readAllBytes();
+    stream.close();
+    Arrays.fill( bytes, 40, bytes.length, ( byte )0x55 );
+    Image image = new Image( display, new ByteArrayInputStream( bytes ) );
+    assertEquals( 50, image.getBounds().width );
+    assertEquals( 100, image.getBounds().height );
+    try {
+      imageDataFactory.findImageData( image.internalImage );
+      fail( "Must not accept corrupt pixel data" );
+    } catch( SWTException expected ) {
+      assertEquals( SWT.ERROR_INVALID_IMAGE, expected.code );
+    }
+  }
+
   @Test
   public void testFindImageDataWithNull() {
     try {
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.graphics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+import org.junit.Test;
+
+
+public class ImageHeader_Test {
+
+  @Test
+  public void testRead_png() throws IOException {
+    ImageHeader header = ImageHeader.read( readResource( Fixture.IMAGE_100x50 ) );
+
+    assertHeader( SWT.IMAGE_PNG, 100, 50, header );
+  }
+
+  @Test
+  public void testRead_gif() throws IOException {
+    ImageHeader header = ImageHeader.read( readResource( Fixture.IMAGE1 ) );
+
+    assertHeader( SWT.IMAGE_GIF, 58, 12, header );
+  }
+
+  @Test
+  public void testRead_jpeg() {
+    ImageHeader header = ImageHeader.read( encode( createDirectImageData(), SWT.IMAGE_JPEG ) );
+
+    assertHeader( SWT.IMAGE_JPEG, 30, 20, header );
+  }
+
+  @Test
+  public void testRead_bmp() {
+    ImageHeader header = ImageHeader.read( encode( createDirectImageData(), SWT.IMAGE_BMP ) );
+
+    assertHeader( SWT.IMAGE_BMP, 30, 20, header );
+  }
+
+  @Test
+  public void testRead_generatedGif() {
+    PaletteData palette = new PaletteData( new RGB[] { new RGB( 1, 2, 3 ), new RGB( 4, 5, 6 ) } );
+    ImageData imageData = new ImageData( 30, 20, 8, palette );
+
+    ImageHeader header = ImageHeader.read( encode( imageData, SWT.IMAGE_GIF ) );
+
+    assertHeader( SWT.IMAGE_GIF, 30, 20, header );
+  }
+
+  @Test
+  public void testRead_matchesDecodedImageData() throws IOException {
+    byte[] bytes = readResource( Fixture.IMAGE_50x100 );
+    ImageData imageData = new ImageData( new ByteArrayInputStream( bytes ) );
+
+    ImageHeader header = ImageHeader.read( bytes );
+
+    assertHeader( imageData.type, imageData.width, imageData.height, header );
+  }
+
+  @Test
+  public void testRead_unknownFormat() {
+    assertNull( ImageHeader.read( new byte[] { 1, 2, 3, 4 } ) );
+  }
+
+  @Test
+  public void testRead_emptyData() {
+    assertNull( ImageHeader.read( new byte[ 0 ] ) );
+  }
+
+  @Test
+  public void testRead_truncatedData() throws IOException {
+    byte[] bytes = readResource( Fixture.IMAGE_100x50 );
+
+    assertNull( ImageHeader.read( Arrays.copyOf( bytes, 18 ) ) );
+  }
+
+  private static void assertHeader( int type, int width, int height, ImageHeader header ) {
+    assertEquals( type, header.getType() );
+    assertEquals( width, header.getWidth() );
+    assertEquals( height, header.getHeight() );
+  }
+
+  private static ImageData createDirectImageData() {
+    return new ImageData( 30, 20, 24, new PaletteData( 0xFF0000, 0xFF00, 0xFF ) );
+  }
+
+  private static byte[] encode( ImageData imageData, int format ) {
+    ImageLoader imageLoader = new ImageLoader();
+    imageLoader.data = new ImageData[] { imageData };
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    imageLoader.save( outputStream, format );
+    return outputStream.toByteArray();
+  }
+
+  private static byte[] readResource( String name ) throws IOException {
+    ClassLoader classLoader = ImageHeader_Test.class.getClassLoader();
+    try( InputStream inputStream = classLoader.getResourceAsStream( name ) ) {
+      return inputStream.readAllBytes();
+    }
+  }
+
+}
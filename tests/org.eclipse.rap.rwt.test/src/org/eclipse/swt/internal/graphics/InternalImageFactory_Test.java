@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2023 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -27,7 +27,9 @@ import java.io.IOException;
 import java.io.InputStream;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.resources.ResourceManagerImpl;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.PaletteData;
@@ -101,6 +103,35 @@ public class InternalImageFactory_Test {
     assertSame( internalImage1, internalImage2 );
   }
 
+  @Test
+  public void testInternalImageFromInputStream_isRegisteredImmutable() throws IOException {
+    InputStream stream = CLASS_LOADER.getResourceAsStream( Fixture.IMAGE_100x50 );
+    InternalImage internalImage = internalImageFactory.findInternalImage( stream );
+    stream.close();
+
+    ResourceManagerImpl resourceManager = ( ResourceManagerImpl )RWT.getResourceManager();
+    String path = internalImage.getResourceName();
+    assertTrue( resourceManager.getServedResource( path ).isImmutable() );
+  }
+
+  @Test
+  public void testInternalImageFromInputStream_hasSizeFromHeader() throws IOException {
+    InputStream stream = CLASS_LOADER.getResourceAsStream( Fixture.IMAGE_100x50 );
+    InternalImage internalImage = internalImageFactory.findInternalImage( stream );
+    stream.close();
+
+    assertEquals( 100, internalImage.getBounds().width );
+    assertEquals( 50, internalImage.getBounds().height );
+    assertEquals( 100, internalImage.getImageData().width );
+  }
+
+  @Test( expected = SWTException.class )
+  public void testInternalImageFromInputStream_withUnknownFormat() {
+    InputStream stream = new ByteArrayInputStream( new byte[] { 1, 2, 3, 4 } );
+
+    internalImageFactory.findInternalImage( stream );
+  }
+
   @Test
   public void testInternalImagesFromFilenameAreCached() throws IOException {
     File imageFile = new File( Fixture.TEMP_DIR, "test.gif" );
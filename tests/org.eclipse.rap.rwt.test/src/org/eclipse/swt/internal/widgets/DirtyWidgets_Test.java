@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getAdapter;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableItem;
+import org.eclipse.swt.widgets.Widget;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class DirtyWidgets_Test {
+
+  private Display display;
+  private Shell shell;
+  private DirtyWidgets dirtyWidgets;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    display = new Display();
+    shell = new Shell( display );
+    dirtyWidgets = new DirtyWidgets( true );
+  }
+
+  @After
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testIsEnabled() {
+    assertTrue( dirtyWidgets.isEnabled() );
+    assertFalse( new DirtyWidgets( false ).isEnabled() );
+  }
+
+  @Test
+  public void testAdd_withoutTracking() {
+    Button button = new Button( shell, SWT.PUSH );
+    Fixture.markInitialized( shell );
+    Fixture.markInitialized( button );
+
+    dirtyWidgets.add( button );
+
+    assertTrue( dirtyWidgets.getWidgets().isEmpty() );
+    assertFalse( isDirty( button ) );
+  }
+
+  @Test
+  public void testAdd_doesNotMarkParentOfControl() {
+    Composite composite = new Composite( shell, SWT.NONE );
+    Button button = new Button( composite, SWT.PUSH );
+    Fixture.markInitialized( shell );
+    Fixture.markInitialized( composite );
+    Fixture.markInitialized( button );
+    dirtyWidgets.startTracking();
+
+    dirtyWidgets.add( button );
+
+    assertEquals( Arrays.asList( button ), dirtyWidgets.getWidgets() );
+    assertTrue( isDirty( button ) );
+    assertFalse( isDirty( composite ) );
+    assertFalse( isDirty( shell ) );
+  }
+
+  @Test
+  public void testAdd_marksOwnerOfItem() {
+    Table table = new Table( shell, SWT.NONE );
+    TableItem item = new TableItem( table, SWT.NONE );
+    Fixture.markInitialized( shell );
+    Fixture.markInitialized( table );
+    Fixture.markInitialized( item );
+    dirtyWidgets.startTracking();
+
+    dirtyWidgets.add( item );
+
+    assertEquals( Arrays.asList( table, item ), dirtyWidgets.getWidgets() );
+    assertFalse( isDirty( shell ) );
+  }
+
+  @Test
+  public void testAdd_preservesValues() {
+    Button button = new Button( shell, SWT.PUSH );
+    button.setText( "foo" );
+    Fixture.markInitialized( shell );
+    Fixture.markInitialized( button );
+    dirtyWidgets.startTracking();
+
+    dirtyWidgets.add( button );
+
+    assertEquals( "foo", getAdapter( button ).getPreserved( "text" ) );
+  }
+
+  @Test
+  public void testAdd_ignoresUninitializedWidgets() {
+    Button button = new Button( shell, SWT.PUSH );
+    dirtyWidgets.startTracking();
+
+    dirtyWidgets.add( button );
+
+    assertTrue( dirtyWidgets.getWidgets().isEmpty() );
+  }
+
+  @Test
+  public void testAdd_marksWidgetOnlyOnce() {
+    Button button = new Button( shell, SWT.PUSH );
+    Fixture.markInitialized( shell );
+    Fixture.markInitialized( button );
+    dirtyWidgets.startTracking();
+
+    dirtyWidgets.add( button );
+    dirtyWidgets.add( button );
+
+    assertEquals( Arrays.asList( button ), dirtyWidgets.getWidgets() );
+  }
+
+  @Test
+  public void testClear() {
+    Button button = new Button( shell, SWT.PUSH );
+    button.setText( "foo" );
+    Fixture.markInitialized( shell );
+    Fixture.markInitialized( button );
+    dirtyWidgets.startTracking();
+    dirtyWidgets.add( button );
+
+    dirtyWidgets.clear();
+
+    assertFalse( dirtyWidgets.isTracking() );
+    assertTrue( dirtyWidgets.getWidgets().isEmpty() );
+    assertFalse( isDirty( button ) );
+    assertNull( getAdapter( button ).getPreserved( "text" ) );
+  }
+
+  private static boolean isDirty( Widget widget ) {
+    return ( ( WidgetRemoteAdapter )getAdapter( widget ) ).isDirty();
+  }
+
+}
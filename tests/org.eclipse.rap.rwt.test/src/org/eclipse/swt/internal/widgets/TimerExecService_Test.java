@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class TimerExecService_Test {
+
+  private TimerExecService service;
+
+  @Before
+  public void setUp() {
+    service = new TimerExecService();
+  }
+
+  @Test
+  public void testGetExecutor_returnsSameInstance() {
+    ScheduledExecutorService executor = service.getExecutor();
+
+    assertSame( executor, service.getExecutor() );
+  }
+
+  @Test
+  public void testShutdown_shutsDownExecutor() {
+    ScheduledExecutorService executor = service.getExecutor();
+
+    service.shutdown();
+
+    assertTrue( executor.isShutdown() );
+  }
+
+  @Test( expected = IllegalStateException.class )
+  public void testGetExecutor_afterShutdown() {
+    service.getExecutor();
+    service.shutdown();
+
+    service.getExecutor();
+  }
+
+  @Test( expected = IllegalStateException.class )
+  public void testGetExecutor_afterShutdownWithoutExecutor() {
+    service.shutdown();
+
+    service.getExecutor();
+  }
+
+  @Test
+  public void testFindExecutor_returnsSharedExecutor() {
+    assertSame( service.getExecutor(), service.findExecutor() );
+  }
+
+  @Test
+  public void testFindExecutor_afterShutdown() {
+    service.getExecutor();
+    service.shutdown();
+
+    assertNull( service.findExecutor() );
+  }
+
+  @Test
+  public void testGetExecutor_afterReactivation() {
+    ScheduledExecutorService executor = service.getExecutor();
+    service.shutdown();
+
+    service.activate();
+
+    assertNotSame( executor, service.getExecutor() );
+    assertFalse( service.getExecutor().isShutdown() );
+  }
+
+}
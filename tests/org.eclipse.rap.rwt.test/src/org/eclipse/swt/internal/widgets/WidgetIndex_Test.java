@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import org.eclipse.swt.widgets.Widget;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class WidgetIndex_Test {
+
+  private WidgetIndex widgetIndex;
+
+  @Before
+  public void setUp() {
+    widgetIndex = new WidgetIndex();
+  }
+
+  @Test
+  public void testGet_unknownId() {
+    assertNull( widgetIndex.get( "w2" ) );
+  }
+
+  @Test
+  public void testAdd() {
+    Widget widget = mock( Widget.class );
+
+    widgetIndex.add( "w2", widget );
+
+    assertSame( widget, widgetIndex.get( "w2" ) );
+  }
+
+  @Test
+  public void testAdd_replacesWidget() {
+    Widget widget = mock( Widget.class );
+    widgetIndex.add( "w2", mock( Widget.class ) );
+
+    widgetIndex.add( "w2", widget );
+
+    assertSame( widget, widgetIndex.get( "w2" ) );
+  }
+
+  @Test
+  public void testRemove() {
+    widgetIndex.add( "w2", mock( Widget.class ) );
+
+    widgetIndex.remove( "w2" );
+
+    assertNull( widgetIndex.get( "w2" ) );
+  }
+
+  @Test
+  public void testRemove_unknownId() {
+    widgetIndex.remove( "w2" );
+
+    assertNull( widgetIndex.get( "w2" ) );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2022 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -38,6 +38,7 @@ import java.lang.reflect.Field;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
@@ -46,9 +47,11 @@ import org.eclipse.rap.rwt.application.EntryPoint;
 import org.eclipse.rap.rwt.client.WebClient;
 import org.eclipse.rap.rwt.client.service.ExitConfirmation;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.lifecycle.ControlLCAUtil;
 import org.eclipse.rap.rwt.internal.lifecycle.DisplayUtil;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleUtil;
+import org.eclipse.rap.rwt.internal.lifecycle.PhaseId;
 import org.eclipse.rap.rwt.internal.lifecycle.RWTLifeCycle;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.lifecycle.UITestUtil;
@@ -59,23 +62,31 @@ import org.eclipse.rap.rwt.internal.protocol.Operation.CreateOperation;
 import org.eclipse.rap.rwt.internal.protocol.Operation.DestroyOperation;
 import org.eclipse.rap.rwt.internal.protocol.Operation.SetOperation;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
+import org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory;
 import org.eclipse.rap.rwt.internal.remote.DeferredRemoteObject;
 import org.eclipse.rap.rwt.internal.remote.RemoteObjectImpl;
 import org.eclipse.rap.rwt.internal.remote.RemoteObjectRegistry;
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeUtil;
+import org.eclipse.rap.rwt.remote.AbstractOperationHandler;
 import org.eclipse.rap.rwt.remote.OperationHandler;
+import org.eclipse.rap.rwt.remote.RemoteObject;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.rap.rwt.testfixture.internal.TestMessage;
 import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.events.PaintEvent;
+import org.eclipse.swt.events.PaintListener;
 import org.eclipse.swt.events.SelectionAdapter;
 import org.eclipse.swt.events.SelectionEvent;
+import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.internal.widgets.DirtyWidgets;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
 import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Canvas;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
@@ -165,13 +176,57 @@ public class DisplayLCA_Test {
     Composite shell = new CustomLCAShell( display, lca );
     Widget button = new CustomLCAWidget( shell, lca );
     Widget text = new CustomLCAWidget( shell, lca );
+    new CustomLCAWidget( shell, lca );
+    Fixture.fakeSetProperty( getId( text ), "foo", "bar" );
+    Fixture.fakeSetProperty( getId( button ), "foo", "bar" );
 
     displayLCA.readData( display );
 
     InOrder inOrder = inOrder( lca );
     inOrder.verify( lca ).readData( shell );
-    inOrder.verify( lca ).readData( button );
     inOrder.verify( lca ).readData( text );
+    inOrder.verify( lca ).readData( button );
+    verifyNoMoreInteractions( lca );
+  }
+
+  @Test
+  public void testReadData_withCustomOperationHandler() {
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Composite shell = new CustomLCAShell( display, lca );
+    Widget button = new CustomLCAWidget( shell, lca );
+    RemoteObject remoteObject = RemoteObjectFactory.createRemoteObject( button, "rwt.Test" );
+    remoteObject.setHandler( new AbstractOperationHandler() {} );
+    Fixture.fakeSetProperty( getId( button ), "foo", "bar" );
+
+    displayLCA.readData( display );
+
+    verify( lca ).readData( button );
+  }
+
+  @Test
+  public void testReadData_withoutIndexedWidget() {
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Composite shell = new CustomLCAShell( display, lca );
+    Widget button = new CustomLCAWidget( shell, lca );
+    display.getAdapter( IDisplayAdapter.class ).getWidgetIndex().remove( getId( button ) );
+    Fixture.fakeSetProperty( getId( button ), "foo", "bar" );
+
+    displayLCA.readData( display );
+
+    verify( lca ).readData( button );
+  }
+
+  @Test
+  public void testReadData_skipsDisposedWidgets() {
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Composite shell = new CustomLCAShell( display, lca );
+    Widget button = new CustomLCAWidget( shell, lca );
+    Fixture.fakeSetProperty( getId( button ), "foo", "bar" );
+    button.dispose();
+
+    displayLCA.readData( display );
+
+    verify( lca ).readData( shell );
     verifyNoMoreInteractions( lca );
   }
 
@@ -666,6 +721,251 @@ public class DisplayLCA_Test {
     assertNull( message.findSetOperation( displayId, "disableShutdownRequest" ) );
   }
 
+  @Test
+  public void testDirtyRendering_rendersChangedWidgetOnly() throws IOException {
+    enableDirtyRendering();
+    Shell shell = new Shell( display );
+    Button button1 = new Button( shell, SWT.PUSH );
+    Button button2 = new Button( shell, SWT.PUSH );
+    markInitialized( display, shell, button1, button2 );
+    displayLCA.preserveValues( display );
+
+    button1.setText( "foo" );
+    displayLCA.render( display );
+
+    TestMessage message = getProtocolMessage();
+    assertEquals( "foo", message.findSetProperty( button1, "text" ).asString() );
+    assertEquals( 1, getDirtyWidgets().getWidgets().size() );
+    assertTrue( isDirty( button1 ) );
+    assertFalse( isDirty( button2 ) );
+    assertFalse( isDirty( shell ) );
+  }
+
+  @Test
+  public void testDirtyRendering_gettersDoNotMarkWidgets() throws IOException {
+    enableDirtyRendering();
+    Shell shell = new Shell( display );
+    Button button = new Button( shell, SWT.PUSH );
+    markInitialized( display, shell, button );
+    displayLCA.preserveValues( display );
+
+    button.getText();
+    button.getBounds();
+    shell.getChildren();
+    displayLCA.render( display );
+
+    assertTrue( getDirtyWidgets().getWidgets().isEmpty() );
+    assertEquals( 0, getProtocolMessage().getOperationCount() );
+  }
+
+  @Test
+  public void testDirtyRendering_rendersCreatedWidget() throws IOException {
+    enableDirtyRendering();
+    Shell shell = new Shell( display );
+    Button button1 = new Button( shell, SWT.PUSH );
+    ControlLCAUtil.updateTabIndices( shell );
+    markInitialized( display, shell, button1 );
+    displayLCA.preserveValues( display );
+
+    Button button2 = new Button( shell, SWT.PUSH );
+    button2.setText( "foo" );
+    displayLCA.render( display );
+
+    TestMessage message = getProtocolMessage();
+    assertNotNull( message.findCreateOperation( button2 ) );
+    assertEquals( "foo", message.findCreateProperty( button2, "text" ).asString() );
+    assertNotNull( message.findSetOperation( shell, "children" ) );
+    assertFalse( isDirty( button1 ) );
+  }
+
+  @Test
+  public void testDirtyRendering_rendersChangedTabIndex() throws IOException {
+    enableDirtyRendering();
+    Shell shell = new Shell( display );
+    Button button1 = new Button( shell, SWT.PUSH );
+    ControlLCAUtil.updateTabIndices( shell );
+    markInitialized( display, shell, button1 );
+    displayLCA.preserveValues( display );
+
+    Button button0 = new Button( shell, SWT.PUSH );
+    button0.moveAbove( button1 );
+    displayLCA.render( display );
+
+    TestMessage message = getProtocolMessage();
+    assertEquals( 1, message.findCreateProperty( button0, "tabIndex" ).asInt() );
+    assertEquals( 2, message.findSetProperty( button1, "tabIndex" ).asInt() );
+  }
+
+  @Test
+  public void testDirtyRendering_rendersChangedTabList() throws IOException {
+    enableDirtyRendering();
+    Shell shell = new Shell( display );
+    Button button1 = new Button( shell, SWT.PUSH );
+    Button button2 = new Button( shell, SWT.PUSH );
+    ControlLCAUtil.updateTabIndices( shell );
+    markInitialized( display, shell, button1, button2 );
+    displayLCA.preserveValues( display );
+
+    shell.setTabList( new Control[] { button2, button1 } );
+    displayLCA.render( display );
+
+    TestMessage message = getProtocolMessage();
+    assertEquals( 1, message.findSetProperty( button2, "tabIndex" ).asInt() );
+    assertEquals( 2, message.findSetProperty( button1, "tabIndex" ).asInt() );
+  }
+
+  @Test
+  public void testDirtyRendering_rendersTabIndexAfterDispose() throws IOException {
+    enableDirtyRendering();
+    Shell shell = new Shell( display );
+    Button button1 = new Button( shell, SWT.PUSH );
+    Button button2 = new Button( shell, SWT.PUSH );
+    ControlLCAUtil.updateTabIndices( shell );
+    markInitialized( display, shell, button1, button2 );
+    displayLCA.preserveValues( display );
+
+    button1.dispose();
+    displayLCA.render( display );
+
+    assertEquals( 1, getProtocolMessage().findSetProperty( button2, "tabIndex" ).asInt() );
+  }
+
+  @Test
+  public void testDirtyRendering_tracksTabOrderOfReparentedControl() {
+    enableDirtyRendering();
+    Shell shell1 = new Shell( display );
+    Shell shell2 = new Shell( display );
+    Button button = new Button( shell1, SWT.PUSH );
+    markInitialized( display, shell1, shell2, button );
+    displayLCA.preserveValues( display );
+
+    button.setParent( shell2 );
+
+    Set<Shell> shells = getDirtyWidgets().getTabOrderChangedShells();
+    assertEquals( 2, shells.size() );
+    assertTrue( shells.contains( shell1 ) );
+    assertTrue( shells.contains( shell2 ) );
+  }
+
+  @Test
+  public void testDirtyRendering_ignoresTabOrderOfUnchangedChildren() {
+    enableDirtyRendering();
+    Shell shell = new Shell( display );
+    Button button = new Button( shell, SWT.PUSH );
+    markInitialized( display, shell, button );
+    displayLCA.preserveValues( display );
+
+    shell.setText( "foo" );
+    button.setText( "bar" );
+
+    assertTrue( isDirty( shell ) );
+    assertTrue( getDirtyWidgets().getTabOrderChangedShells().isEmpty() );
+  }
+
+  @Test
+  public void testDirtyRendering_rendersRedrawnCanvas() throws IOException {
+    enableDirtyRendering();
+    Shell shell = new Shell( display );
+    Canvas canvas = new Canvas( shell, SWT.NONE );
+    canvas.setSize( 100, 100 );
+    canvas.addPaintListener( new PaintListener() {
+      @Override
+      public void paintControl( PaintEvent event ) {
+        event.gc.drawLine( 1, 2, 3, 4 );
+      }
+    } );
+    markInitialized( display, shell, canvas );
+    displayLCA.preserveValues( display );
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+
+    canvas.redraw();
+    displayLCA.render( display );
+
+    assertTrue( isDirty( canvas ) );
+    assertNotNull( getProtocolMessage().findCallOperation( getId( canvas ) + ".gc", "draw" ) );
+  }
+
+  @Test
+  public void testDirtyRendering_rendersGCOperations() throws IOException {
+    enableDirtyRendering();
+    Shell shell = new Shell( display );
+    Canvas canvas = new Canvas( shell, SWT.NONE );
+    canvas.setSize( 100, 100 );
+    markInitialized( display, shell, canvas );
+    displayLCA.preserveValues( display );
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+
+    GC gc = new GC( canvas );
+    gc.drawLine( 1, 2, 3, 4 );
+    gc.dispose();
+    displayLCA.render( display );
+
+    assertTrue( isDirty( canvas ) );
+    assertNotNull( getProtocolMessage().findCallOperation( getId( canvas ) + ".gc", "draw" ) );
+  }
+
+  @Test
+  public void testDirtyRendering_fullCycle() throws IOException {
+    enableDirtyRendering();
+    Shell shell = new Shell( display );
+    Button button = new Button( shell, SWT.PUSH );
+    markInitialized( display, shell, button );
+    displayLCA.preserveValues( display );
+    button.setText( "foo" );
+    displayLCA.render( display );
+
+    displayLCA.clearPreserved( display );
+
+    assertFalse( getDirtyWidgets().isTracking() );
+    assertTrue( getDirtyWidgets().getWidgets().isEmpty() );
+    assertFalse( isDirty( button ) );
+    assertNull( getAdapter( button ).getPreserved( "text" ) );
+  }
+
+  @Test
+  public void testDirtyRendering_secondCycle() throws IOException {
+    enableDirtyRendering();
+    Shell shell = new Shell( display );
+    Button button = new Button( shell, SWT.PUSH );
+    markInitialized( display, shell, button );
+    displayLCA.preserveValues( display );
+    button.setText( "foo" );
+    displayLCA.render( display );
+    displayLCA.clearPreserved( display );
+    Fixture.fakeNewRequest();
+
+    displayLCA.preserveValues( display );
+    button.setText( "bar" );
+    displayLCA.render( display );
+
+    assertEquals( "bar", getProtocolMessage().findSetProperty( button, "text" ).asString() );
+  }
+
+  private void enableDirtyRendering() {
+    try {
+      Field field = Display.class.getDeclaredField( "dirtyWidgets" );
+      field.setAccessible( true );
+      field.set( display, new DirtyWidgets( true ) );
+    } catch( Exception e ) {
+      throw new RuntimeException( "Failed to set dirtyWidgets field", e );
+    }
+  }
+
+  private DirtyWidgets getDirtyWidgets() {
+    return display.getAdapter( IDisplayAdapter.class ).getDirtyWidgets();
+  }
+
+  private static void markInitialized( Display display, Widget... widgets ) {
+    Fixture.markInitialized( display );
+    for( Widget widget : widgets ) {
+      Fixture.markInitialized( widget );
+    }
+  }
+
+  private static boolean isDirty( Widget widget ) {
+    return ( ( WidgetRemoteAdapter )getAdapter( widget ) ).isDirty();
+  }
+
   private static void setEnableUiTests( boolean value ) {
     Field field;
     try {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,12 +10,15 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
 import static org.eclipse.swt.internal.events.EventLCAUtil.containsEvent;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
+import java.io.ObjectStreamClass;
+
 import org.eclipse.rap.rwt.scripting.ClientListener;
 import org.junit.Before;
 import org.junit.Test;
@@ -147,4 +150,51 @@ public class EventTable_Test {
     assertFalse( containsEvent( eventList, EVENT_1 ) );
   }
 
+  @Test
+  public void testSerialization_withoutListeners() throws Exception {
+    EventTable deserializedTable = serializeAndDeserialize( eventTable );
+
+    assertEquals( 0, deserializedTable.size() );
+    assertFalse( deserializedTable.hooks( EVENT_1 ) );
+  }
+
+  @Test
+  public void testSerialization_keepsHookedListeners() throws Exception {
+    Listener listener = new TestListener();
+    eventTable.hook( EVENT_1, listener );
+    eventTable.hook( EVENT_2, new TestListener() );
+    eventTable.hook( EVENT_2, new TestListener() );
+    eventTable.unhook( EVENT_1, listener );
+
+    EventTable deserializedTable = serializeAndDeserialize( eventTable );
+
+    assertEquals( 2, deserializedTable.size() );
+    assertFalse( deserializedTable.hooks( EVENT_1 ) );
+    assertEquals( 2, deserializedTable.getListeners( EVENT_2 ).length );
+  }
+
+  @Test
+  public void testSerialization_hookAfterDeserialization() throws Exception {
+    eventTable.hook( EVENT_1, new TestListener() );
+    EventTable deserializedTable = serializeAndDeserialize( eventTable );
+
+    deserializedTable.hook( EVENT_2, new TestListener() );
+
+    assertEquals( 2, deserializedTable.size() );
+    assertTrue( deserializedTable.hooks( EVENT_2 ) );
+  }
+
+  @Test
+  public void testSerialVersionUID() {
+    long serialVersionUID = ObjectStreamClass.lookup( EventTable.class ).getSerialVersionUID();
+
+    assertEquals( 1L, serialVersionUID );
+  }
+
+  private static class TestListener implements Listener {
+    @Override
+    public void handleEvent( Event event ) {
+    }
+  }
+
 }
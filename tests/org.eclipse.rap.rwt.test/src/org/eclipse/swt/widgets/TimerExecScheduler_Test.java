@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,25 +13,32 @@ package org.eclipse.swt.widgets;
 import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.joinThreads;
 import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.startThreads;
 import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serialize;
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
-import java.util.Timer;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
 
+import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.rap.rwt.testfixture.internal.NoOpRunnable;
 import org.junit.After;
 import org.junit.Before;
+import org.eclipse.swt.internal.widgets.TimerExecService;
 import org.junit.Test;
-import org.mockito.ArgumentCaptor;
 
 
 public class TimerExecScheduler_Test {
@@ -39,22 +46,25 @@ public class TimerExecScheduler_Test {
   private TimerExecScheduler scheduler;
   private Display display;
   private Collection<Throwable> exceptions;
-  private Timer timer;
+  private ScheduledExecutorService executor;
+  private List<TimerExecTask> tasks;
 
   @Before
   public void setUp() {
     Fixture.setUp();
     display = new Display();
-    timer = mock( Timer.class );
+    executor = mock( ScheduledExecutorService.class );
+    tasks = new ArrayList<>();
     scheduler = new TimerExecScheduler( display ) {
       @Override
-      Timer createTimer() {
-        return timer;
+      ScheduledExecutorService getExecutor() {
+        return executor;
       }
       @Override
       TimerExecTask createTask( Runnable runnable ) {
         TimerExecTask task = mock( TimerExecTask.class );
         when( task.getRunnable() ).thenReturn( runnable );
+        tasks.add( task );
         return task;
       }
     };
@@ -72,9 +82,9 @@ public class TimerExecScheduler_Test {
 
     scheduler.schedule( 23, runnable );
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    assertSame( runnable, taskCaptor.getValue().getRunnable() );
+    assertEquals( 1, tasks.size() );
+    assertSame( runnable, tasks.get( 0 ).getRunnable() );
+    verify( tasks.get( 0 ) ).schedule( same( executor ), eq( 23L ) );
   }
 
   @Test
@@ -84,10 +94,40 @@ public class TimerExecScheduler_Test {
     scheduler.schedule( 23, runnable );
     scheduler.schedule( 42, runnable );
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 42L ) );
-    assertSame( taskCaptor.getAllValues().get( 0 ), taskCaptor.getAllValues().get( 1 ) );
+    assertEquals( 1, tasks.size() );
+    verify( tasks.get( 0 ) ).schedule( same( executor ), eq( 23L ) );
+    verify( tasks.get( 0 ) ).schedule( same( executor ), eq( 42L ) );
+  }
+
+  @Test
+  public void testSchedule_withDifferentRunnables() {
+    scheduler.schedule( 23, mock( Runnable.class ) );
+    scheduler.schedule( 42, mock( Runnable.class ) );
+
+    assertEquals( 2, tasks.size() );
+  }
+
+  @Test
+  public void testSchedule_withoutExecutor() {
+    executor = null;
+
+    scheduler.schedule( 23, mock( Runnable.class ) );
+
+    assertEquals( 0, tasks.size() );
+  }
+
+  @Test
+  public void testSchedule_afterShutdown() {
+    TimerExecService timerExecService = getApplicationContext().getTimerExecService();
+    scheduler = new TimerExecScheduler( display );
+    timerExecService.shutdown();
+    try {
+      scheduler.schedule( 23, new NoOpRunnable() );
+
+      assertFalse( ServerPushManager.getInstance().isServerPushActive() );
+    } finally {
+      timerExecService.activate();
+    }
   }
 
   @Test
@@ -97,9 +137,7 @@ public class TimerExecScheduler_Test {
 
     scheduler.cancel( runnable );
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( taskCaptor.getValue() ).cancel();
+    verify( tasks.get( 0 ) ).cancel();
   }
 
   @Test
@@ -115,10 +153,30 @@ public class TimerExecScheduler_Test {
     scheduler.cancel( runnable );
     scheduler.schedule( 42, runnable );
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 42L ) );
-    assertNotSame( taskCaptor.getAllValues().get( 0 ), taskCaptor.getAllValues().get( 1 ) );
+    assertEquals( 2, tasks.size() );
+    assertNotSame( tasks.get( 0 ), tasks.get( 1 ) );
+    verify( tasks.get( 1 ) ).schedule( same( executor ), eq( 42L ) );
+  }
+
+  @Test
+  public void testRemoveTask_ignoresOutdatedTask() {
+    Runnable runnable = mock( Runnable.class );
+    scheduler.schedule( 23, runnable );
+    scheduler.cancel( runnable );
+    scheduler.schedule( 42, runnable );
+
+    scheduler.removeTask( tasks.get( 0 ) );
+    scheduler.cancel( runnable );
+
+    verify( tasks.get( 1 ) ).cancel();
+  }
+
+  @Test
+  public void testGetExecutor_isSharedBetweenSchedulers() {
+    TimerExecScheduler scheduler1 = new TimerExecScheduler( display );
+    TimerExecScheduler scheduler2 = new TimerExecScheduler( display );
+
+    assertSame( scheduler1.getExecutor(), scheduler2.getExecutor() );
   }
 
   @Test
@@ -151,10 +209,8 @@ public class TimerExecScheduler_Test {
 
     scheduler.dispose();
 
-    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
-    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
-    verify( timer ).cancel();
-    verify( taskCaptor.getValue() ).cancel();
+    verify( tasks.get( 0 ) ).cancel();
+    verify( executor, never() ).shutdown();
   }
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -1475,6 +1475,82 @@ public class Tree_Test {
     assertEquals( 30, item.getFlatIndex() );
   }
 
+  @Test
+  public void testGetFlatIndex_afterExpandAndCollapse() {
+    TreeItem[] items = createTreeItems( tree, 3, 3 );
+
+    items[ 1 ].setExpanded( true );
+
+    assertEquals( 0, items[ 0 ].getFlatIndex() );
+    assertEquals( 1, items[ 1 ].getFlatIndex() );
+    assertEquals( 4, items[ 1 ].getItem( 2 ).getFlatIndex() );
+    assertEquals( 5, items[ 2 ].getFlatIndex() );
+    items[ 1 ].setExpanded( false );
+    assertEquals( 2, items[ 2 ].getFlatIndex() );
+  }
+
+  @Test
+  public void testGetFlatIndex_withNestedItems() {
+    TreeItem[] items = createTreeItems( tree, 3, 3 );
+    TreeItem subItem = items[ 0 ].getItem( 1 );
+    new TreeItem( subItem, SWT.NONE );
+    new TreeItem( subItem, SWT.NONE );
+
+    subItem.setExpanded( true );
+    items[ 0 ].setExpanded( true );
+
+    assertEquals( 2, subItem.getFlatIndex() );
+    assertEquals( 4, subItem.getItem( 1 ).getFlatIndex() );
+    assertEquals( 5, items[ 0 ].getItem( 2 ).getFlatIndex() );
+    assertEquals( 6, items[ 1 ].getFlatIndex() );
+  }
+
+  @Test
+  public void testGetFlatIndex_afterItemsChanged() {
+    TreeItem[] items = createTreeItems( tree, 3, 3 );
+    items[ 0 ].setExpanded( true );
+
+    new TreeItem( items[ 0 ], SWT.NONE, 0 );
+    assertEquals( 5, items[ 1 ].getFlatIndex() );
+
+    items[ 0 ].getItem( 0 ).dispose();
+    items[ 0 ].getItem( 0 ).dispose();
+    assertEquals( 3, items[ 1 ].getFlatIndex() );
+
+    items[ 0 ].setItemCount( 5 );
+    assertEquals( 6, items[ 1 ].getFlatIndex() );
+
+    items[ 0 ].removeAll();
+    assertEquals( 1, items[ 1 ].getFlatIndex() );
+  }
+
+  @Test
+  public void testGetFlatIndex_inVirtualTree() {
+    tree = new Tree( shell, SWT.VIRTUAL );
+    tree.setItemCount( 100 );
+    TreeItem item = tree.getItem( 10 );
+    item.setItemCount( 20 );
+
+    item.setExpanded( true );
+
+    assertEquals( 31, tree.getItem( 11 ).getFlatIndex() );
+    assertEquals( 15, item.getItem( 4 ).getFlatIndex() );
+  }
+
+  @Test
+  public void testGetItemByPoint_inVirtualTree() {
+    tree = new Tree( shell, SWT.VIRTUAL );
+    tree.setSize( 100, 100 );
+    tree.setItemCount( 100 );
+    TreeItem item = tree.getItem( 0 );
+    item.setItemCount( 20 );
+    item.setExpanded( true );
+
+    Point point = new Point( 10, 3 * tree.getItemHeight() + 1 );
+
+    assertSame( item.getItem( 2 ), tree.getItem( point ) );
+  }
+
   @Test
   public void testTopItem() {
     tree.setSize( 300, 85 );
@@ -2341,6 +2417,16 @@ public class Tree_Test {
     return result;
   }
 
+  private static TreeItem[] createTreeItems( Tree tree, int number, int subItemNumber ) {
+    TreeItem[] result = createTreeItems( tree, number );
+    for( TreeItem item : result ) {
+      for( int i = 0; i < subItemNumber; i++ ) {
+        new TreeItem( item, SWT.NONE );
+      }
+    }
+    return result;
+  }
+
   private static Listener createSetDataListener() {
     return new Listener() {
       @Override
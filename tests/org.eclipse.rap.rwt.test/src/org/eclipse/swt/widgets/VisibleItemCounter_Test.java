@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class VisibleItemCounter_Test {
+
+  private static final int COUNT = 10;
+
+  private TreeItem[] items;
+  private VisibleItemCounter counter;
+
+  @Before
+  public void setUp() {
+    items = new TreeItem[ COUNT ];
+    counter = new VisibleItemCounter();
+  }
+
+  @Test
+  public void testInitialTotal() {
+    assertEquals( 0, counter.getTotal() );
+  }
+
+  @Test
+  public void testRecount_countsItemsNotCreatedAsOneRow() {
+    int delta = counter.recount( items, COUNT );
+
+    assertEquals( COUNT, delta );
+    assertEquals( COUNT, counter.getTotal() );
+  }
+
+  @Test
+  public void testItemsChanged() {
+    counter.recount( items, COUNT );
+
+    counter.itemsChanged( -2 );
+
+    assertEquals( COUNT - 2, counter.getTotal() );
+  }
+
+  @Test
+  public void testGetRowsBefore() {
+    counter.recount( items, COUNT );
+
+    assertEquals( 0, counter.getRowsBefore( items, COUNT, 0 ) );
+    assertEquals( 7, counter.getRowsBefore( items, COUNT, 7 ) );
+    assertEquals( COUNT, counter.getRowsBefore( items, COUNT, COUNT ) );
+  }
+
+  @Test
+  public void testItemChanged() {
+    counter.recount( items, COUNT );
+
+    counter.itemChanged( 3, 5 );
+
+    assertEquals( COUNT + 5, counter.getTotal() );
+    assertEquals( 3, counter.getRowsBefore( items, COUNT, 3 ) );
+    assertEquals( 9, counter.getRowsBefore( items, COUNT, 4 ) );
+  }
+
+  @Test
+  public void testFindIndex() {
+    counter.recount( items, COUNT );
+    counter.itemChanged( 3, 5 );
+
+    assertEquals( 0, counter.findIndex( items, COUNT, 0 ) );
+    assertEquals( 2, counter.findIndex( items, COUNT, 2 ) );
+    assertEquals( 3, counter.findIndex( items, COUNT, 3 ) );
+    assertEquals( 3, counter.findIndex( items, COUNT, 8 ) );
+    assertEquals( 4, counter.findIndex( items, COUNT, 9 ) );
+    assertEquals( COUNT - 1, counter.findIndex( items, COUNT, COUNT + 4 ) );
+  }
+
+  @Test
+  public void testFindIndex_matchesGetRowsBefore() {
+    counter.recount( items, COUNT );
+    for( int i = 0; i < COUNT; i++ ) {
+      counter.itemChanged( i, i % 3 );
+    }
+
+    for( int index = 0; index < COUNT; index++ ) {
+      int rowsBefore = counter.getRowsBefore( items, COUNT, index );
+      assertEquals( index, counter.findIndex( items, COUNT, rowsBefore ) );
+    }
+  }
+
+  @Test
+  public void testGetRowsBefore_afterItemCountChanged() {
+    counter.recount( items, COUNT );
+    counter.itemChanged( 0, 5 );
+
+    counter.itemsChanged( -1 );
+
+    // row counts are taken from the items again
+    assertEquals( 4, counter.getRowsBefore( items, COUNT - 1, 4 ) );
+    assertEquals( COUNT - 1, counter.getTotal() );
+  }
+
+}
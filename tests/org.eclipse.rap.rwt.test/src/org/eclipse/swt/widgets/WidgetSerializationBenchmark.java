@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.deserialize;
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serialize;
+
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.events.SelectionAdapter;
+
+
+/**
+ * Measures the stream size and the time to serialize and deserialize a UI session with many
+ * widgets, as replicated on session failover. Run as a Java application, the number of widgets can
+ * be passed as the first argument.
+ */
+public class WidgetSerializationBenchmark {
+
+  private static final int DEFAULT_WIDGET_COUNT = 10000;
+  private static final int WARM_UP_RUNS = 5;
+  private static final int RUNS = 10;
+
+  public static void main( String[] args ) throws Exception {
+    int widgetCount = args.length > 0 ? Integer.parseInt( args[ 0 ] ) : DEFAULT_WIDGET_COUNT;
+    Fixture.setUp();
+    try {
+      Display display = createSession( widgetCount );
+      run( display, WARM_UP_RUNS );
+      Result result = run( display, RUNS );
+      System.out.println( "widgets:     " + widgetCount );
+      System.out.println( "stream size: " + result.size / 1024 + " KB" );
+      System.out.println( "write time:  " + result.writeNanos / RUNS / 1000000d + " ms" );
+      System.out.println( "read time:   " + result.readNanos / RUNS / 1000000d + " ms" );
+    } finally {
+      Fixture.tearDown();
+    }
+  }
+
+  private static Display createSession( int widgetCount ) {
+    Display display = new Display();
+    Shell shell = new Shell( display );
+    for( int i = 0; i < widgetCount; i++ ) {
+      Button button = new Button( shell, SWT.PUSH );
+      button.setText( "Button " + i );
+      button.addListener( SWT.MouseDown, new BenchmarkListener() );
+      button.addSelectionListener( new BenchmarkSelectionListener() );
+    }
+    return display;
+  }
+
+  private static Result run( Display display, int runs ) throws Exception {
+    Result result = new Result();
+    for( int i = 0; i < runs; i++ ) {
+      long start = System.nanoTime();
+      byte[] bytes = serialize( display );
+      long written = System.nanoTime();
+      deserialize( bytes );
+      long read = System.nanoTime();
+      result.size = bytes.length;
+      result.writeNanos += written - start;
+      result.readNanos += read - written;
+    }
+    return result;
+  }
+
+  private static class Result {
+    int size;
+    long writeNanos;
+    long readNanos;
+  }
+
+  private static class BenchmarkListener implements Listener {
+    @Override
+    public void handleEvent( Event event ) {
+    }
+  }
+
+  private static class BenchmarkSelectionListener extends SelectionAdapter {
+  }
+
+}
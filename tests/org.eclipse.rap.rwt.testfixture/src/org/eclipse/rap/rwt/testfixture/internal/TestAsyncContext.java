@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.testfixture.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+
+
+/**
+ * <p>
+ * <strong>IMPORTANT:</strong> This class is <em>not</em> part the public RAP
+ * API. It may change or disappear without further notice. Use this class at
+ * your own risk.
+ * </p>
+ */
+public final class TestAsyncContext implements AsyncContext {
+
+  private final ServletRequest request;
+  private final ServletResponse response;
+  private final List<AsyncListener> listeners;
+  private long timeout;
+  private boolean completed;
+
+  public TestAsyncContext( ServletRequest request, ServletResponse response ) {
+    this.request = request;
+    this.response = response;
+    listeners = new ArrayList<>();
+    timeout = 30000;
+  }
+
+  @Override
+  public ServletRequest getRequest() {
+    return request;
+  }
+
+  @Override
+  public ServletResponse getResponse() {
+    return response;
+  }
+
+  @Override
+  public boolean hasOriginalRequestAndResponse() {
+    return true;
+  }
+
+  @Override
+  public void dispatch() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void dispatch( String path ) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void dispatch( ServletContext context, String path ) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void complete() {
+    if( completed ) {
+      throw new IllegalStateException( "Async context already completed" );
+    }
+    completed = true;
+    for( AsyncListener listener : new ArrayList<>( listeners ) ) {
+      try {
+        listener.onComplete( new AsyncEvent( this, request, response ) );
+      } catch( Exception exception ) {
+        throw new RuntimeException( exception );
+      }
+    }
+  }
+
+  public boolean isCompleted() {
+    return completed;
+  }
+
+  @Override
+  public void start( Runnable runnable ) {
+    runnable.run();
+  }
+
+  @Override
+  public void addListener( AsyncListener listener ) {
+    listeners.add( listener );
+  }
+
+  @Override
+  public void addListener( AsyncListener listener,
+                           ServletRequest servletRequest,
+                           ServletResponse servletResponse )
+  {
+    listeners.add( listener );
+  }
+
+  @Override
+  public <T extends AsyncListener> T createListener( Class<T> clazz ) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void setTimeout( long timeout ) {
+    this.timeout = timeout;
+  }
+
+  @Override
+  public long getTimeout() {
+    return timeout;
+  }
+
+}
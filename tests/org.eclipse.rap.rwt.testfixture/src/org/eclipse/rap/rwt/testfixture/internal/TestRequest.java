@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2025 EclipseSource and others.
+ * Copyright (c) 2009, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -76,6 +76,8 @@ public final class TestRequest implements HttpServletRequest {
   private String body;
   private String method;
   private Locale[] locales;
+  private boolean asyncSupported;
+  private TestAsyncContext asyncContext;
 
   public TestRequest() {
     requestURL = new StringBuffer();
@@ -509,29 +511,40 @@ public final class TestRequest implements HttpServletRequest {
 
   @Override
   public AsyncContext startAsync() throws IllegalStateException {
-    return null;
+    return startAsync( this, null );
   }
 
   @Override
   public AsyncContext startAsync( ServletRequest servletRequest, ServletResponse servletResponse )
     throws IllegalStateException
   {
-    return null;
+    if( !asyncSupported ) {
+      throw new IllegalStateException( "Async not supported" );
+    }
+    asyncContext = new TestAsyncContext( servletRequest, servletResponse );
+    return asyncContext;
   }
 
   @Override
   public boolean isAsyncStarted() {
-    return false;
+    return asyncContext != null && !asyncContext.isCompleted();
+  }
+
+  public void setAsyncSupported( boolean asyncSupported ) {
+    this.asyncSupported = asyncSupported;
   }
 
   @Override
   public boolean isAsyncSupported() {
-    return false;
+    return asyncSupported;
   }
 
   @Override
   public AsyncContext getAsyncContext() {
-    return null;
+    if( asyncContext == null ) {
+      throw new IllegalStateException( "Async not started" );
+    }
+    return asyncContext;
   }
 
   @Override
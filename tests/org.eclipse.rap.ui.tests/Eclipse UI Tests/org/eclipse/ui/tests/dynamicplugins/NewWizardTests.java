@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2006 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,8 +10,10 @@
  *******************************************************************************/
 package org.eclipse.ui.tests.dynamicplugins;
 
+import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.internal.WorkbenchPlugin;
 import org.eclipse.ui.internal.registry.IWorkbenchRegistryConstants;
+import org.eclipse.ui.internal.wizards.SharedWizardElements;
 import org.eclipse.ui.wizards.IWizardRegistry;
 import org.eclipse.ui.wizards.IWizardDescriptor;
 
@@ -47,6 +49,47 @@ public class NewWizardTests extends DynamicTestCase {
 		}
 	}
 
+	public void testSharedWizardElements() {
+		SharedWizardElements.Snapshot snapshot = getSharedSnapshot();
+
+		assertSame(snapshot, getSharedSnapshot());
+		assertFalse(snapshot.isStale());
+		assertSame(snapshot.getWizardElements(), WorkbenchPlugin.getDefault()
+				.getNewWizardRegistry().getRootCategory());
+	}
+
+	public void testSharedWizardElementsAfterBundleAddition() {
+		IWizardRegistry registry = WorkbenchPlugin.getDefault().getNewWizardRegistry();
+		SharedWizardElements.Snapshot snapshot = getSharedSnapshot();
+		assertNull(snapshot.getWizardElements().findWizard(WIZARD_ID, true));
+
+		getBundle();
+
+		assertTrue(snapshot.isStale());
+		SharedWizardElements.Snapshot reloaded = getSharedSnapshot();
+		assertNotSame(snapshot, reloaded);
+		assertNotNull(reloaded.getWizardElements().findWizard(WIZARD_ID, true));
+		assertNotNull(registry.findWizard(WIZARD_ID));
+	}
+
+	public void testSharedWizardElementsAfterBundleRemoval() {
+		IWizardRegistry registry = WorkbenchPlugin.getDefault().getNewWizardRegistry();
+		getBundle();
+		SharedWizardElements.Snapshot snapshot = getSharedSnapshot();
+
+		removeBundle();
+
+		assertTrue(snapshot.isStale());
+		assertNull(getSharedSnapshot().getWizardElements().findWizard(WIZARD_ID, true));
+		assertNull(registry.findWizard(WIZARD_ID));
+	}
+
+	private SharedWizardElements.Snapshot getSharedSnapshot() {
+		// RAP [bm]: namespace
+		return SharedWizardElements.getInstance().getSnapshot(
+				PlatformUI.PLUGIN_EXTENSION_NAME_SPACE, getExtensionPoint());
+	}
+
 	/**
 	 * @param wizard
 	 */